@@ -10,10 +10,12 @@ import android.view.Window;
 import android.view.WindowManager;
 import android.widget.RelativeLayout;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.backends.android.AndroidApplication;
 import com.badlogic.gdx.backends.android.AndroidApplicationConfiguration;
 
 import io.github.patpatchpatrick.alphapigeon.resources.DatabaseManager;
+import io.github.patpatchpatrick.alphapigeon.resources.GameLog;
 import io.github.patpatchpatrick.alphapigeon.resources.MobileCallbacks;
 import io.github.patpatchpatrick.alphapigeon.resources.PlayServices;
 
@@ -32,6 +34,9 @@ public class AndroidLauncher extends AndroidApplication implements PlayServices,
     // Interface to send callbacks back to libgdx from mobile device
     private MobileCallbacks mobileCallbacks;
 
+    // The libgdx game
+    private AlphaPigeon game;
+
     //Database tools
     protected static ContentResolver contentResolver;
 
@@ -49,6 +54,7 @@ public class AndroidLauncher extends AndroidApplication implements PlayServices,
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        printRecentLogMessagesOnCrash();
         AndroidApplicationConfiguration config = new AndroidApplicationConfiguration();
         //Set up config for Android App
         config.useCompass = false;
@@ -68,7 +74,8 @@ public class AndroidLauncher extends AndroidApplication implements PlayServices,
         getWindow().clearFlags(WindowManager.LayoutParams.FLAG_FORCE_NOT_FULLSCREEN);
 
         // Create view for libgdx
-        View gameView = initializeForView(new AlphaPigeon(this, this), config);
+        game = new AlphaPigeon(this, this);
+        View gameView = initializeForView(game, config);
 
         // Add the libgdx view
         layout.addView(gameView);
@@ -106,6 +113,22 @@ public class AndroidLauncher extends AndroidApplication implements PlayServices,
     }
 
 
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+
+        //When android is running low on memory, free the menu screens that are kept alive by the game
+        //The screens are disposed on the libgdx render thread since they own GL resources
+        if (level >= TRIM_MEMORY_RUNNING_LOW && game != null && game.screens != null) {
+            Gdx.app.postRunnable(new Runnable() {
+                @Override
+                public void run() {
+                    game.screens.trim();
+                }
+            });
+        }
+    }
+
     @Override
     protected void onResume() {
         super.onResume();
@@ -178,4 +201,21 @@ public class AndroidLauncher extends AndroidApplication implements PlayServices,
     }
 
 
+
+    private void printRecentLogMessagesOnCrash() {
+        //When the game crashes, print the most recent log messages before the stack trace
+        final Thread.UncaughtExceptionHandler defaultHandler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+            @Override
+            public void uncaughtException(Thread thread, Throwable exception) {
+                StringBuilder recentMessages = new StringBuilder("Recent log messages:\n");
+                GameLog.appendRecentMessages(recentMessages);
+                System.err.print(recentMessages);
+                if (defaultHandler != null) {
+                    defaultHandler.uncaughtException(thread, exception);
+                }
+            }
+        });
+    }
+
 }
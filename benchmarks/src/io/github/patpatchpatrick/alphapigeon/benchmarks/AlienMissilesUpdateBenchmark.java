@@ -0,0 +1,24 @@
+package io.github.patpatchpatrick.alphapigeon.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import io.github.patpatchpatrick.alphapigeon.dodgeables.AlienMissiles;
+
+public class AlienMissilesUpdateBenchmark extends DodgeableBenchmark {
+
+    //Measures the per-frame update of all active alien missiles
+
+    @Override
+    protected void spawn() {
+        AlienMissiles alienMissiles = dodgeables.getAlienMissiles();
+        for (int i = 0; i < activeObjects; i++) {
+            alienMissiles.spawnAlienMissile(alienMissiles.SPAWN_DIRECTION_LEFTWARD, 2);
+        }
+    }
+
+    @Benchmark
+    public void update() {
+        dodgeables.getAlienMissiles().update();
+    }
+
+}
@@ -0,0 +1,50 @@
+package io.github.patpatchpatrick.alphapigeon.benchmarks;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.math.MathUtils;
+
+import io.github.patpatchpatrick.alphapigeon.Screens.GameScreen;
+import io.github.patpatchpatrick.alphapigeon.desktop.NoOpGL20;
+import io.github.patpatchpatrick.alphapigeon.resources.Assets;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
+
+public class BenchmarkEnvironment {
+
+    //Sets up libGDX once per benchmark fork without a window or GL context
+    //The application loop is never started, so runnables posted by the game are only run when a benchmark runs them
+
+    private static HeadlessApplication application;
+
+    public static synchronized void initialize(long seed) {
+
+        if (application == null) {
+            HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+            //A negative render interval means the application never calls render
+            config.renderInterval = -1;
+            application = new HeadlessApplication(new ApplicationAdapter() {
+            }, config);
+
+            //The gameplay classes log every frame, only show errors
+            Gdx.app.setLogLevel(Application.LOG_ERROR);
+
+            //Textures are uploaded to a GL implementation that does nothing
+            Gdx.gl = Gdx.gl20 = new NoOpGL20();
+
+            //Load the sprite atlas, sounds and game screen assets before any dodgeable is created
+            Assets.loadNow(GameScreen.ASSETS);
+        }
+
+        //Every trial spawns the same dodgeables and makes the same random choices
+        GameRandom.setSeed(seed);
+        MathUtils.random.setSeed(seed);
+    }
+
+    public static void executeRunnables() {
+        application.executeRunnables();
+    }
+
+}
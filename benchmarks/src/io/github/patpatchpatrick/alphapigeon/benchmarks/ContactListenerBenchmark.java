@@ -0,0 +1,106 @@
+package io.github.patpatchpatrick.alphapigeon.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
+import io.github.patpatchpatrick.alphapigeon.Screens.GameScreen;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ContactListenerBenchmark {
+
+    //Measures the game screen contact listener handling the given number of pigeon-bird contacts
+    //Box2D only creates contacts while the world is stepped, so contacts are faked with the fixtures of real bodies
+    //The pigeon is invincible so the contacts don't end the game
+    //Runnables posted by the listener (bird sounds) are run as part of the benchmark
+
+    @Param({"10", "100", "1000"})
+    public int activeObjects;
+
+    private GameScreen gameScreen;
+    private ContactListener contactListener;
+    private final Array<Contact> contacts = new Array<Contact>();
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+
+        BenchmarkEnvironment.initialize(0);
+
+        gameScreen = new GameScreen(new AlphaPigeon(), null, null);
+        gameScreen.setPigeonInvincible(true);
+        contactListener = gameScreen.getContactListener();
+
+        Fixture pigeonFixture = gameScreen.getPigeon().getBody().getFixtureList().first();
+        for (int i = 0; i < activeObjects; i++) {
+            gameScreen.dodgeables.getBirds().spawnLevelOneBird(0);
+        }
+        for (Dodgeable dodgeable : gameScreen.dodgeables.activeDodgeables) {
+            Fixture birdFixture = dodgeable.dodgeableBody.getFixtureList().first();
+            //Alternate which fixture is the pigeon, as Box2D does not order the fixtures of a contact
+            if (MathUtils.randomBoolean()) {
+                contacts.add(new FakeContact(gameScreen.getWorld(), pigeonFixture, birdFixture));
+            } else {
+                contacts.add(new FakeContact(gameScreen.getWorld(), birdFixture, pigeonFixture));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        gameScreen.dispose();
+    }
+
+    @Benchmark
+    public void beginContact() {
+        for (int i = 0, n = contacts.size; i < n; i++) {
+            contactListener.beginContact(contacts.get(i));
+        }
+        BenchmarkEnvironment.executeRunnables();
+    }
+
+    private static class FakeContact extends Contact {
+
+        //Contact that is not backed by a native Box2D contact
+        //Only the fixtures can be read from it
+
+        private final Fixture fixtureA;
+        private final Fixture fixtureB;
+
+        FakeContact(World world, Fixture fixtureA, Fixture fixtureB) {
+            super(world, 0);
+            this.fixtureA = fixtureA;
+            this.fixtureB = fixtureB;
+        }
+
+        @Override
+        public Fixture getFixtureA() {
+            return fixtureA;
+        }
+
+        @Override
+        public Fixture getFixtureB() {
+            return fixtureB;
+        }
+    }
+
+}
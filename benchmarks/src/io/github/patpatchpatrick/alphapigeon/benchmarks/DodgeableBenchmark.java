@@ -0,0 +1,63 @@
+package io.github.patpatchpatrick.alphapigeon.benchmarks;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.Dodgeables;
+import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
+import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public abstract class DodgeableBenchmark {
+
+    //Base state for benchmarks of the dodgeable classes
+    //Creates a world and a full set of dodgeables (without a pigeon or game screen)
+    //and spawns the requested number of active objects before each trial
+
+    @Param({"10", "100", "1000"})
+    public int activeObjects;
+
+    protected World world;
+    protected OrthographicCamera camera;
+    protected Dodgeables dodgeables;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+
+        BenchmarkEnvironment.initialize(0);
+
+        world = new World(new Vector2(0, 0), true);
+        camera = new OrthographicCamera();
+        camera.setToOrtho(false, GameVariables.WORLD_WIDTH, GameVariables.WORLD_HEIGHT);
+        Gameplay.totalGameTime = 0;
+        dodgeables = new Dodgeables(null, world, new AlphaPigeon(), camera);
+
+        spawn();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        dodgeables.dispose();
+        world.dispose();
+    }
+
+    //Spawn the dodgeables used by the benchmark
+    protected abstract void spawn();
+
+}
@@ -0,0 +1,22 @@
+package io.github.patpatchpatrick.alphapigeon.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class DodgeableSystemsBenchmark extends DodgeableBenchmark {
+
+    //Measures one update of the dodgeable systems (dead body sweep, off-screen checks, holds...) over all active birds
+    //Birds are spawned on the right edge of the screen and the world is never stepped, so none are freed
+
+    @Override
+    protected void spawn() {
+        for (int i = 0; i < activeObjects; i++) {
+            dodgeables.getBirds().spawnLevelOneBird(0);
+        }
+    }
+
+    @Benchmark
+    public void updateSystems() {
+        dodgeables.updateSystems(0);
+    }
+
+}
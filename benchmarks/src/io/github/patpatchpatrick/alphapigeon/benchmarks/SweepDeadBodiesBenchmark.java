@@ -0,0 +1,34 @@
+package io.github.patpatchpatrick.alphapigeon.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
+
+public class SweepDeadBodiesBenchmark extends DodgeableBenchmark {
+
+    //Measures freeing dodgeables that were flagged for deletion after collisions (by the dodgeable systems)
+    //Before every invocation, the requested number of birds are spawned (reusing pooled birds) and flagged for deletion
+
+    @Override
+    protected void spawn() {
+    }
+
+    @Setup(Level.Invocation)
+    public void spawnFlaggedBirds() {
+        for (int i = 0; i < activeObjects; i++) {
+            dodgeables.getBirds().spawnLevelOneBird(0);
+        }
+        for (Dodgeable dodgeable : dodgeables.activeDodgeables) {
+            dodgeable.flagForDeletion = true;
+        }
+    }
+
+    @Benchmark
+    public void sweepDeadBodies() {
+        dodgeables.updateSystems(0);
+        dodgeables.compactActiveSets();
+    }
+
+}
@@ -0,0 +1,24 @@
+package io.github.patpatchpatrick.alphapigeon.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import io.github.patpatchpatrick.alphapigeon.dodgeables.UFOs;
+
+public class UFOsUpdateBenchmark extends DodgeableBenchmark {
+
+    //Measures the per-frame update of all active UFOs and their energy balls
+
+    @Override
+    protected void spawn() {
+        UFOs ufos = dodgeables.getUfos();
+        for (int i = 0; i < activeObjects; i++) {
+            ufos.spawnUfo(ufos.ENERGY_BEAM_RANDOM, 2);
+        }
+    }
+
+    @Benchmark
+    public void update() {
+        dodgeables.getUfos().update();
+    }
+
+}
@@ -8,7 +8,10 @@ import de.golfgl.gdxgamesvcs.NoGameServiceClient;
 import de.tomgrill.gdxdialogs.core.GDXDialogs;
 import de.tomgrill.gdxdialogs.core.GDXDialogsSystem;
 import io.github.patpatchpatrick.alphapigeon.Screens.MainMenuScreen;
+import io.github.patpatchpatrick.alphapigeon.Screens.ScreenRegistry;
 import io.github.patpatchpatrick.alphapigeon.resources.AppleGameCenterManager;
+import io.github.patpatchpatrick.alphapigeon.resources.Assets;
+import io.github.patpatchpatrick.alphapigeon.resources.CollisionShapes;
 import io.github.patpatchpatrick.alphapigeon.resources.DatabaseManager;
 import io.github.patpatchpatrick.alphapigeon.resources.PlayServices;
 import io.github.patpatchpatrick.alphapigeon.resources.SettingsManager;
@@ -23,6 +26,8 @@ public class AlphaPigeon extends Game{
     public GDXDialogs dialogs;
     private PlayServices playServices;
     private DatabaseManager databaseManager;
+    //Menu screens that are kept alive between visits
+    public ScreenRegistry screens;
 
     public AlphaPigeon(PlayServices playServices, DatabaseManager databaseManager){
         //ANDROID CONSTRUCTOR FOR GAME
@@ -44,10 +49,21 @@ public class AlphaPigeon extends Game{
 
         batch = new SpriteBatch();
         font = new BitmapFont();
+        //Parse the collision shapes once at startup so creating dodgeables doesn't read any files
+        CollisionShapes.load();
         //Set the mobile device database and pref manager on the SettingsManager class
         SettingsManager.databaseManager = databaseManager;
-        this.setScreen(new MainMenuScreen(this, playServices, databaseManager));
 
+        //Load the sounds, sprites and main menu in the background while the loading screen is shown
+        Assets.loadGlobalAssets();
+        screens = new ScreenRegistry(this, playServices, databaseManager);
+        showFirstScreen();
+
+    }
+
+    protected void showFirstScreen() {
+        //The game starts on the main menu (the desktop benchmark starts straight into a game instead)
+        screens.show(MainMenuScreen.class);
     }
 
     private void initializeAppleGameServices(){
@@ -89,6 +105,9 @@ public class AlphaPigeon extends Game{
         batch.dispose();
         font.dispose();
         Sounds.dispose();
+        CollisionShapes.dispose();
+        screens.dispose();
+        Assets.dispose();
     }
 
 }
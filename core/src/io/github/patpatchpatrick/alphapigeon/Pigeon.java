@@ -1,33 +1,37 @@
 package io.github.patpatchpatrick.alphapigeon;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Pool;
 
 import io.github.patpatchpatrick.alphapigeon.Screens.GameScreen;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Teleport;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.PowerUps;
+import io.github.patpatchpatrick.alphapigeon.resources.Assets;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyData;
-import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
+import io.github.patpatchpatrick.alphapigeon.resources.CollisionShapes;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
-import io.github.patpatchpatrick.alphapigeon.resources.SettingsManager;
+import io.github.patpatchpatrick.alphapigeon.resources.NumberText;
+import io.github.patpatchpatrick.alphapigeon.resources.SoundMixer;
 import io.github.patpatchpatrick.alphapigeon.resources.Sounds;
+import io.github.patpatchpatrick.alphapigeon.resources.SpriteAtlas;
 
 public class Pigeon {
 
-    private Texture pigeonFlySheet;
+    private TextureRegion pigeonFlySheet;
     private Animation<TextureRegion> pigeonFlyAnimation;
     private static final int FRAME_COLS = 4, FRAME_ROWS = 2;
     Body pigeonBody;
@@ -39,17 +43,34 @@ public class Pigeon {
     //Power Up Variables
     private int currentPowerUp;
     private float currentPowerUpTime = 0;
-    private String powerUpShieldTimeRemaining = "";
+    private NumberText powerUpShieldTimeRemaining;
 
     //Power Up Shield Animation Variables
-    private Texture powerUpShieldSheet;
+    private TextureRegion powerUpShieldSheet;
     private Animation<TextureRegion> powerUpShieldAnimation;
 
+    //Render interpolation variables
+    //The pigeon position before the most recent physics step, used to draw the pigeon between physics steps
+    private final Vector2 previousPosition = new Vector2();
+    private final Vector2 renderPosition = new Vector2();
+    private boolean previousPositionIsSaved = false;
+
+    //Pooled runnables that move the pigeon to the opposite teleport after the world has stepped
+    //The pool is filled when the pigeon is created, with more commands than there are teleports in a frame
+    private static final int TELEPORT_COMMAND_CAPACITY = 4;
+    private final Pool<TeleportCommand> teleportCommands = new Pool<TeleportCommand>() {
+        @Override
+        protected TeleportCommand newObject() {
+            return new TeleportCommand();
+        }
+    };
+
     //Fonts and text to display on pigeon
+    public static final AssetDescriptor<BitmapFont> FONT = new AssetDescriptor<BitmapFont>("fonts/arial-15.fnt", BitmapFont.class);
             private BitmapFont font;
 
     //Sound
-    private Sound powerUpShieldSound = Sounds.powerUpShieldSound;
+    private long powerUpShieldVoice = SoundMixer.NO_VOICE;
 
 
     public Pigeon(World world, AlphaPigeon game, GameScreen gameScreen) {
@@ -67,7 +88,6 @@ public class Pigeon {
         pigeonBodyDef.type = BodyDef.BodyType.DynamicBody;
         pigeonBodyDef.position.set(10, 10);
         pigeonBody = world.createBody(pigeonBodyDef);
-        BodyEditorLoader loader = new BodyEditorLoader(Gdx.files.internal("json/AlphaPigeonBody.json"));
         FixtureDef pigeonFixtureDef = new FixtureDef();
         pigeonFixtureDef.density = 0.001f;
         pigeonFixtureDef.friction = 0.5f;
@@ -76,18 +96,23 @@ public class Pigeon {
         pigeonFixtureDef.filter.categoryBits = GameVariables.CATEGORY_PIGEON;
         pigeonFixtureDef.filter.maskBits = GameVariables.MASK_PIGEON;
         //pigeonFixtureDef.isSensor =  true;
-        loader.attachFixture(pigeonBody, "AlphaPigeon", pigeonFixtureDef, 10);
+        CollisionShapes.attachFixture(pigeonBody, "json/AlphaPigeonBody.json", "AlphaPigeon", pigeonFixtureDef, 10);
         //Set fixed rotation to body... pigeon should not rotate
         pigeonBody.setFixedRotation(true);
 
         initializePowerUpShieldAnimation();
 
         //Initialize FONTS
-        font = new BitmapFont(Gdx.files.internal("fonts/arial-15.fnt"),
-                Gdx.files.internal("fonts/arial-15.png"), false);
+        font = Assets.get(FONT);
         font.getData().setScale(0.1f);
         font.setUseIntegerPositions(false);
         font.setColor(Color.RED);
+        powerUpShieldTimeRemaining = new NumberText(font, "", "", 0);
+
+        //Fill the teleport command pool
+        for (int i = 0; i < TELEPORT_COMMAND_CAPACITY; i++) {
+            teleportCommands.free(new TeleportCommand());
+        }
 
 
     }
@@ -103,16 +128,15 @@ public class Pigeon {
             case PowerUps.POWER_UP_TYPE_SHIELD:
                 //Play powerUp sounds
                 this.currentPowerUp = PowerUps.POWER_UP_TYPE_SHIELD;
-                powerUpShieldSound = Sounds.powerUpShieldSound;
-                powerUpShieldSound.loop(SettingsManager.gameVolume);
-                Sounds.activeSounds.add(powerUpShieldSound);
+                SoundMixer.stop(powerUpShieldVoice);
+                powerUpShieldVoice = SoundMixer.loop(Sounds.powerUpShieldSound, SoundMixer.PRIORITY_IMPORTANT);
                 break;
             case PowerUps.POWER_UP_TYPE_SKULL:
                 //Play powerUp sounds
                 this.currentPowerUp = PowerUps.POWER_UP_TYPE_SKULL;
                 //Kill all active dodgeables when a skull power up is grabbed
                 gameScreen.dodgeables.getPowerUps().killAllActiveDodgeables();
-                Sounds.powerUpSkullSound.play(SettingsManager.gameVolume);
+                SoundMixer.play(Sounds.powerUpSkullSound, SoundMixer.PRIORITY_IMPORTANT);
                 break;
 
         }
@@ -120,7 +144,7 @@ public class Pigeon {
         this.currentPowerUpTime = this.stateTime;
 
         //Destroy the power up after the pigeon power ups
-        powerUpBody.setUserData(new BodyData(true));
+        BodyData.flagForDelete(powerUpBody);
 
 
     }
@@ -130,13 +154,13 @@ public class Pigeon {
         //Set the powerUp back to its default of PIGEON
         this.currentPowerUp = PowerUps.POWER_UP_TYPE_NONE;
         //Stop the power up sounds
-        powerUpShieldSound.stop();
-        Sounds.activeSounds.remove(powerUpShieldSound);
+        SoundMixer.stop(powerUpShieldVoice);
+        powerUpShieldVoice = SoundMixer.NO_VOICE;
 
     }
 
     public void zapEnemy() {
-        Sounds.powerUpShieldZapSound.play(SettingsManager.gameVolume);
+        SoundMixer.play(Sounds.powerUpShieldZapSound, SoundMixer.PRIORITY_IMPORTANT);
     }
 
     public int getPowerUpType() {
@@ -146,36 +170,23 @@ public class Pigeon {
 
     public void teleport(Fixture teleportFixture) {
         //Get the teleport data from the teleport fixture that contacted the pigeon
-        final Body teleport = teleportFixture.getBody();
+        Body teleport = teleportFixture.getBody();
         BodyData teleportData = (BodyData) teleport.getUserData();
         if (teleportData != null) {
-            final Teleport oppositeTeleport = teleportData.getOppositeTeleport();
+            Teleport oppositeTeleport = teleportData.getOppositeTeleport();
             if (oppositeTeleport != null) {
 
-                final float positionX = oppositeTeleport.getPosition().x;
-                final float positionY = oppositeTeleport.getPosition().y;
-                final float angle = oppositeTeleport.getAngle();
-
-                final BodyData deleteObjectOne = new BodyData(true);
-                final BodyData deleteObjectTwo = new BodyData(true);
-
                 //Play the teleport sound
-                Sounds.teleportSound.play(SettingsManager.gameVolume);
+                SoundMixer.play(Sounds.teleportSound, SoundMixer.PRIORITY_IMPORTANT);
 
                 //Move the pigeon to the opposite teleport's location and then destroy both teleports
                 //This must be done using Runnable app.postRunnable so it occurs in the rendering thread which is currently locked
                 //while the world is still stepping
                 //Everything in the postRunnable Runnable is called on the render thread before the game render method is called
 
-                Gdx.app.postRunnable(new Runnable() {
-
-                    @Override
-                    public void run() {
-                        pigeonBody.setTransform(positionX, positionY, angle);
-                        oppositeTeleport.dodgeableBody.setUserData(deleteObjectOne);
-                        teleport.setUserData(deleteObjectTwo);
-                    }
-                });
+                TeleportCommand teleportCommand = teleportCommands.obtain();
+                teleportCommand.init(teleport, oppositeTeleport);
+                Gdx.app.postRunnable(teleportCommand);
             }
 
 
@@ -184,17 +195,50 @@ public class Pigeon {
 
     }
 
+    private class TeleportCommand implements Runnable, Pool.Poolable {
+
+        private Body teleport;
+        private Teleport oppositeTeleport;
+        private float positionX;
+        private float positionY;
+        private float angle;
+
+        public void init(Body teleport, Teleport oppositeTeleport) {
+            this.teleport = teleport;
+            this.oppositeTeleport = oppositeTeleport;
+            this.positionX = oppositeTeleport.getPosition().x;
+            this.positionY = oppositeTeleport.getPosition().y;
+            this.angle = oppositeTeleport.getAngle();
+        }
+
+        @Override
+        public void run() {
+            pigeonBody.setTransform(positionX, positionY, angle);
+            //Don't interpolate the teleport, the pigeon should appear at the new location immediately
+            resetRenderInterpolation();
+            BodyData.flagForDelete(oppositeTeleport.dodgeableBody);
+            BodyData.flagForDelete(teleport);
+            teleportCommands.free(this);
+        }
+
+        @Override
+        public void reset() {
+            teleport = null;
+            oppositeTeleport = null;
+        }
+    }
+
     private void initializePigeonAnimation() {
 
-        // load the pigeon sprite sheet as a Texture
-        pigeonFlySheet = new Texture(Gdx.files.internal("sprites/AlphaPigeon_SpriteSheet.png"));
+        // get the pigeon sprite sheet from the sprite atlas
+        pigeonFlySheet = SpriteAtlas.findRegion("AlphaPigeon_SpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmp = TextureRegion.split(pigeonFlySheet,
-                pigeonFlySheet.getWidth() / FRAME_COLS,
-                pigeonFlySheet.getHeight() / FRAME_ROWS);
+        TextureRegion[][] tmp = pigeonFlySheet.split(
+                pigeonFlySheet.getRegionWidth() / FRAME_COLS,
+                pigeonFlySheet.getRegionHeight() / FRAME_ROWS);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -213,15 +257,15 @@ public class Pigeon {
 
     private void initializePowerUpShieldAnimation() {
 
-        // load the PowerUp shield sprite sheet as a Texture
-        powerUpShieldSheet = new Texture(Gdx.files.internal("sprites/PUShieldSpriteSheet.png"));
+        // get the PowerUp shield sprite sheet from the sprite atlas
+        powerUpShieldSheet = SpriteAtlas.findRegion("PUShieldSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmp = TextureRegion.split(powerUpShieldSheet,
-                powerUpShieldSheet.getWidth() / 3,
-                powerUpShieldSheet.getHeight() / 1);
+        TextureRegion[][] tmp = powerUpShieldSheet.split(
+                powerUpShieldSheet.getRegionWidth() / 3,
+                powerUpShieldSheet.getRegionHeight() / 1);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -243,17 +287,18 @@ public class Pigeon {
 
         // Get current frame of animation for the current stateTime and render it
         TextureRegion pigeonCurrentFrame = pigeonFlyAnimation.getKeyFrame(stateTime, true);
-        batch.draw(pigeonCurrentFrame, pigeonBody.getPosition().x, pigeonBody.getPosition().y, 0, 0, 10, 5f, 1, 1, MathUtils.radiansToDegrees * pigeonBody.getAngle());
+        Vector2 position = getRenderPosition();
+        batch.draw(pigeonCurrentFrame, position.x, position.y, 0, 0, 10, 5f, 1, 1, MathUtils.radiansToDegrees * pigeonBody.getAngle());
 
         if (this.currentPowerUp == PowerUps.POWER_UP_TYPE_SHIELD) {
             // If the pigeon is powered up with a shield, draw the shield around it and also draw the shield time remaining
             // Get current frame of animation for the current stateTime and render it
             TextureRegion powUpShieldCurrentFrame = powerUpShieldAnimation.getKeyFrame(stateTime, true);
-            batch.draw(powUpShieldCurrentFrame, pigeonBody.getPosition().x - 2.5f, pigeonBody.getPosition().y - 2.5f, 0, 0, 15f, 10f, 1, 1, MathUtils.radiansToDegrees * pigeonBody.getAngle());
+            batch.draw(powUpShieldCurrentFrame, position.x - 2.5f, position.y - 2.5f, 0, 0, 15f, 10f, 1, 1, MathUtils.radiansToDegrees * pigeonBody.getAngle());
             // display power up remaining time
 
             //Font
-            font.draw(batch, powerUpShieldTimeRemaining, pigeonBody.getPosition().x, pigeonBody.getPosition().y);
+            powerUpShieldTimeRemaining.draw(batch, position.x, position.y);
 
         }
 
@@ -268,7 +313,8 @@ public class Pigeon {
         if (this.stateTime - this.currentPowerUpTime > PowerUps.POWER_UP_SHIELD_DURATION) {
             removePowerUps();
         } else if (this.currentPowerUp == PowerUps.POWER_UP_TYPE_SHIELD) {
-            powerUpShieldTimeRemaining = "" + MathUtils.floor(PowerUps.POWER_UP_SHIELD_DURATION - (this.stateTime - this.currentPowerUpTime) + 1);
+            int shieldTimeRemaining = MathUtils.floor(PowerUps.POWER_UP_SHIELD_DURATION - (this.stateTime - this.currentPowerUpTime) + 1);
+            powerUpShieldTimeRemaining.setValue(shieldTimeRemaining);
         }
 
     }
@@ -277,10 +323,27 @@ public class Pigeon {
         return pigeonBody;
     }
 
+    public void savePreviousPosition() {
+        //Save the pigeon position before the world is stepped so the pigeon can be interpolated when rendered
+        previousPosition.set(pigeonBody.getPosition());
+        previousPositionIsSaved = true;
+    }
+
+    public void resetRenderInterpolation() {
+        //Draw the pigeon at its current body position until it is stepped again
+        //Used when the pigeon is moved directly instead of by the physics simulation
+        previousPositionIsSaved = false;
+    }
+
+    private Vector2 getRenderPosition() {
+        //Return the pigeon position interpolated between the previous and current physics step
+        if (!previousPositionIsSaved) {
+            return pigeonBody.getPosition();
+        }
+        return renderPosition.set(previousPosition).lerp(pigeonBody.getPosition(), GameVariables.physicsInterpolationAlpha);
+    }
+
 
     public void dispose() {
-        pigeonFlySheet.dispose();
-        powerUpShieldSheet.dispose();
-        font.dispose();
     }
 }
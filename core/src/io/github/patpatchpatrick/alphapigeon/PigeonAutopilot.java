@@ -0,0 +1,122 @@
+package io.github.patpatchpatrick.alphapigeon;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+
+import io.github.patpatchpatrick.alphapigeon.dodgeables.Dodgeables;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
+import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
+
+public class PigeonAutopilot {
+
+    //Flies the pigeon without user input
+    //Used by the desktop headless simulation and benchmark modes to play full games without a player
+    //The AI mode steers the pigeon towards the lane with the fewest dodgeables ahead of it
+    //The scripted mode sweeps the pigeon up and down the screen on a fixed path
+
+    public static final int MODE_AI = 0;
+    public static final int MODE_SCRIPTED = 1;
+
+    private final int mode;
+    private final Body pigeonBody;
+    private final Dodgeables dodgeables;
+
+    //Lanes that the AI pilot can choose between
+    private final int NUMBER_OF_LANES = 12;
+    private final float PIGEON_WIDTH = 10f;
+    private final float PIGEON_HEIGHT = 5f;
+    private final float HOME_X_POSITION = 10f;
+    //Dodgeables further than this distance in front of the pigeon are ignored
+    private final float LOOK_AHEAD_DISTANCE = 35f;
+    //Dodgeables further than this vertical distance from a lane don't make the lane dangerous
+    private final float DANGER_HEIGHT = 8f;
+    //Amount a lane must be safer than the current target lane before the pilot switches lanes
+    private final float LANE_SWITCH_THRESHOLD = 0.1f;
+    private final float MAX_SPEED = 30f;
+    private final float STEERING_GAIN = 4f;
+
+    //Scripted path variables
+    private final float SCRIPTED_SWEEP_SPEED = 0.8f; //radians per second
+
+    private float targetY;
+    private final Vector2 velocity = new Vector2();
+
+    public PigeonAutopilot(Pigeon pigeon, Dodgeables dodgeables, int mode) {
+        this.pigeonBody = pigeon.getBody();
+        this.dodgeables = dodgeables;
+        this.mode = mode;
+        this.targetY = pigeonBody.getPosition().y;
+    }
+
+    public void update(float totalGameTime) {
+
+        //Called once before every physics step
+        //Determine the height the pigeon should fly at and steer the pigeon towards it
+
+        float maxY = GameVariables.WORLD_HEIGHT - PIGEON_HEIGHT;
+
+        if (mode == MODE_SCRIPTED) {
+            targetY = maxY / 2 + maxY / 2 * MathUtils.sin(totalGameTime * SCRIPTED_SWEEP_SPEED);
+        } else {
+            targetY = findSafestLane(maxY);
+        }
+
+        Vector2 position = pigeonBody.getPosition();
+        velocity.set((HOME_X_POSITION - position.x) * STEERING_GAIN, (targetY - position.y) * STEERING_GAIN);
+        velocity.limit(MAX_SPEED);
+        pigeonBody.setLinearVelocity(velocity);
+
+    }
+
+    public int getMode() {
+        return mode;
+    }
+
+    private float findSafestLane(float maxY) {
+
+        //Score every lane by how close the dodgeables in front of the pigeon are to it
+        //Closer dodgeables (horizontally and vertically) make a lane more dangerous
+        //Keep the current lane unless another lane is clearly safer
+
+        float pigeonX = pigeonBody.getPosition().x;
+        float laneSpacing = maxY / (NUMBER_OF_LANES - 1);
+        float safestLaneY = targetY;
+        float safestLaneDanger = getLaneDanger(targetY, pigeonX) - LANE_SWITCH_THRESHOLD;
+
+        for (int lane = 0; lane < NUMBER_OF_LANES; lane++) {
+            float laneY = lane * laneSpacing;
+            float laneDanger = getLaneDanger(laneY, pigeonX);
+            if (laneDanger < safestLaneDanger) {
+                safestLaneDanger = laneDanger;
+                safestLaneY = laneY;
+            }
+        }
+
+        return safestLaneY;
+    }
+
+    private float getLaneDanger(float laneY, float pigeonX) {
+
+        float danger = 0;
+        float laneCenterY = laneY + PIGEON_HEIGHT / 2;
+
+        for (Dodgeable dodgeable : dodgeables.activeDodgeables) {
+            Vector2 dodgeablePosition = dodgeable.getPosition();
+            float distanceX = dodgeablePosition.x - (pigeonX + PIGEON_WIDTH);
+            if (distanceX > LOOK_AHEAD_DISTANCE || distanceX < -PIGEON_WIDTH * 2) {
+                continue;
+            }
+            float distanceY = Math.abs(dodgeablePosition.y - laneCenterY);
+            if (distanceY > DANGER_HEIGHT) {
+                continue;
+            }
+            float horizontalCloseness = 1 - Math.max(distanceX, 0) / LOOK_AHEAD_DISTANCE;
+            float verticalCloseness = 1 - distanceY / DANGER_HEIGHT;
+            danger += horizontalCloseness * verticalCloseness;
+        }
+
+        return danger;
+    }
+
+}
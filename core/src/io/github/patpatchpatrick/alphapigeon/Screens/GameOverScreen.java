@@ -6,22 +6,26 @@ import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.Net;
 import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
+import io.github.patpatchpatrick.alphapigeon.resources.Assets;
 import io.github.patpatchpatrick.alphapigeon.resources.DatabaseManager;
+import io.github.patpatchpatrick.alphapigeon.resources.Fonts;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 import io.github.patpatchpatrick.alphapigeon.resources.HighScore;
 import io.github.patpatchpatrick.alphapigeon.resources.PlayServices;
 import io.github.patpatchpatrick.alphapigeon.resources.SettingsManager;
+import io.github.patpatchpatrick.alphapigeon.resources.SoundMixer;
 import io.github.patpatchpatrick.alphapigeon.resources.Sounds;
 
 public class GameOverScreen implements Screen, Net.HttpResponseListener {
@@ -36,6 +40,13 @@ public class GameOverScreen implements Screen, Net.HttpResponseListener {
     //High Scores
     private float totalNumGames = 0;
     private boolean newHighScoreEarned = false;
+    private long newHighScoreVoice = SoundMixer.NO_VOICE;
+
+    //Assets
+    private static final AssetDescriptor<Texture> GAME_OVER_BACKGROUND = new AssetDescriptor<Texture>("textures/gameoverscreen/GameOverScreen.png", Texture.class);
+    private static final AssetDescriptor<Texture> NEW_HIGH_SCORE = new AssetDescriptor<Texture>("textures/gameoverscreen/NewHighScore.png", Texture.class);
+    private static final AssetDescriptor<BitmapFont> SCORE_FONT = Fonts.UNIVERS_20;
+    public static final AssetDescriptor<?>[] ASSETS = {GAME_OVER_BACKGROUND, NEW_HIGH_SCORE, SCORE_FONT};
 
     //Textures
     private Texture gameOverBackground;
@@ -53,8 +64,9 @@ public class GameOverScreen implements Screen, Net.HttpResponseListener {
 
     //Fonts
     private String gameOverString;
+    //The text doesn't change, it is laid out once instead of every frame
+    private final GlyphLayout gameOverLayout = new GlyphLayout();
     private BitmapFont scoreFont;
-    FreeTypeFontGenerator generator;
 
     public GameOverScreen(AlphaPigeon game, PlayServices playServices, DatabaseManager databaseManager, HighScore highScore) {
 
@@ -77,16 +89,11 @@ public class GameOverScreen implements Screen, Net.HttpResponseListener {
             viewport = new FitViewport(GameVariables.WORLD_WIDTH, GameVariables.WORLD_HEIGHT, camera);
         }
 
-        gameOverBackground = new Texture(Gdx.files.internal("textures/gameoverscreen/GameOverScreen.png"));
-        newHighScoreTexture = new Texture(Gdx.files.internal("textures/gameoverscreen/NewHighScore.png"));
-
-        //Initialize font generator
-        generator = new FreeTypeFontGenerator(Gdx.files.internal("fonts/univers.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 20;
-        parameter.minFilter = Texture.TextureFilter.Linear;
-        parameter.magFilter = Texture.TextureFilter.Linear;
-        scoreFont = generator.generateFont(parameter);
+        //Get the textures and font (loaded by the loading screen)
+        Assets.loadNow(ASSETS);
+        gameOverBackground = Assets.get(GAME_OVER_BACKGROUND);
+        newHighScoreTexture = Assets.get(NEW_HIGH_SCORE);
+        scoreFont = Assets.get(SCORE_FONT);
         scoreFont.setColor(1.0f, 1.0f, 1.0f, 1.0f);
         scoreFont.getData().setScale(0.1f);
         scoreFont.setUseIntegerPositions(false);
@@ -101,6 +108,7 @@ public class GameOverScreen implements Screen, Net.HttpResponseListener {
         float  formattedHighScore = Math.round(highScore.currentHighScore * 100f) / 100f;
         gameOverString = "Distance: " + formattedScore + " m"
                 + "\nHigh Score: " + formattedHighScore + " m" + "\nTotal Games: " + (int) totalNumGames;
+        gameOverLayout.setText(scoreFont, gameOverString);
 
         //Create input processor for user controls
         createInputProcessor();
@@ -111,7 +119,7 @@ public class GameOverScreen implements Screen, Net.HttpResponseListener {
 
         if (newHighScoreEarned && SettingsManager.gameSoundsSettingIsOn){
             //If there is a new high score and the game sounds are enabled by user, play the new high score sound
-            Sounds.newHighScoreSound.loop(SettingsManager.gameVolume);
+            newHighScoreVoice = SoundMixer.loop(Sounds.newHighScoreSound, SoundMixer.PRIORITY_IMPORTANT);
         }
 
         if (playServices != null){
@@ -145,7 +153,7 @@ public class GameOverScreen implements Screen, Net.HttpResponseListener {
         game.batch.draw(gameOverBackground, 0, 0, camera.viewportWidth, camera.viewportHeight);
 
         //Font
-        scoreFont.draw(game.batch, gameOverString, 29, 30);
+        scoreFont.draw(game.batch, gameOverLayout, 29, 30);
 
         //If a new high score was achieved, draw the new high score texture (then when the back button is pushed,
         //reset the newHighScoreEarned boolean to false
@@ -204,9 +212,9 @@ public class GameOverScreen implements Screen, Net.HttpResponseListener {
                             playServices.showOrLoadInterstitialAd();
                         }
                         newHighScoreEarned = false; //Reset the high score
-                        Sounds.newHighScoreSound.stop(); //Stop playing the high score sound
+                        SoundMixer.stop(newHighScoreVoice); //Stop playing the high score sound
+                        game.screens.show(MainMenuScreen.class);
                         dispose();
-                        game.setScreen(new MainMenuScreen(game, playServices, databaseManager));
                         return true;
                     }
                 }
@@ -265,10 +273,8 @@ public class GameOverScreen implements Screen, Net.HttpResponseListener {
     @Override
     public void dispose() {
 
-        gameOverBackground.dispose();
-
-        //Fonts
-        scoreFont.dispose();
+        //Release the textures and fonts
+        Assets.unload(ASSETS);
     }
 
 
@@ -4,44 +4,61 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.Contact;
-import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.badlogic.gdx.physics.box2d.ContactListener;
 import com.badlogic.gdx.physics.box2d.Fixture;
-import com.badlogic.gdx.physics.box2d.Manifold;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.Pigeon;
+import io.github.patpatchpatrick.alphapigeon.PigeonAutopilot;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.Dodgeables;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.Notifications;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.PoolCapacityProfile;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.PowerUps;
 import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
 import io.github.patpatchpatrick.alphapigeon.resources.AccelerometerController;
+import io.github.patpatchpatrick.alphapigeon.resources.Assets;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyData;
+import io.github.patpatchpatrick.alphapigeon.resources.CollisionDispatcher;
 import io.github.patpatchpatrick.alphapigeon.resources.DatabaseManager;
+import io.github.patpatchpatrick.alphapigeon.resources.FrameProfiler;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 import io.github.patpatchpatrick.alphapigeon.resources.HighScore;
+import io.github.patpatchpatrick.alphapigeon.resources.LaunchImpulse;
+import io.github.patpatchpatrick.alphapigeon.resources.ParallaxBackground;
+import io.github.patpatchpatrick.alphapigeon.resources.PerformanceHud;
 import io.github.patpatchpatrick.alphapigeon.resources.PlayServices;
-import io.github.patpatchpatrick.alphapigeon.resources.ScrollingBackground;
+import io.github.patpatchpatrick.alphapigeon.resources.QualityGovernor;
+import io.github.patpatchpatrick.alphapigeon.resources.ReplayPlayer;
+import io.github.patpatchpatrick.alphapigeon.resources.ReplayRecorder;
 import io.github.patpatchpatrick.alphapigeon.resources.SettingsManager;
+import io.github.patpatchpatrick.alphapigeon.resources.SoundMixer;
 import io.github.patpatchpatrick.alphapigeon.resources.Sounds;
+import io.github.patpatchpatrick.alphapigeon.resources.SpriteAtlas;
 
 public class GameScreen implements Screen {
     AlphaPigeon game;
 
+    //Assets used by the game screen (the sprites are in the global sprite atlas)
+    public static final AssetDescriptor<?>[] ASSETS = {ParallaxBackground.CLOUDS, HighScore.FONT, Pigeon.FONT};
+
     //GAME STATE
     public enum State {
         PAUSE,
@@ -55,20 +72,36 @@ public class GameScreen implements Screen {
     private PlayServices playServices;
     private DatabaseManager databaseManager;
     private InputProcessor inputProcessor;
+    private CollisionDispatcher collisionDispatcher;
 
     private OrthographicCamera camera;
     private Viewport viewport;
     private AccelerometerController accelerometerController;
     private Pigeon pigeon;
     public Dodgeables dodgeables;
-    public ScrollingBackground scrollingBackground;
+    public ParallaxBackground background;
     public HighScore highScore;
+    private PerformanceHud performanceHud;
+    //Created when the quality governor lowers the render resolution
+    private FrameBuffer lowResolutionBuffer;
     private float stateTime;
     private float deltaTime;
+    private float physicsAccumulator = 0f;
     private Body pigeonBody;
     private Gameplay gameplay;
     World world;
 
+    //Autopilot and invincibility are only used by the desktop simulation/benchmark modes
+    private PigeonAutopilot autopilot;
+    private boolean pigeonIsInvincible = false;
+
+    //Replays
+    //While a replay is recorded, the input and frame times are recorded before they are used
+    //While a replay is played, the recorded input and frame times are used instead of the player's
+    private ReplayRecorder replayRecorder;
+    private ReplayPlayer replayPlayer;
+    private ReplayPlayer.InputListener replayInputListener;
+
     //Variables
     final float PIGEON_WIDTH = 10.0f;
     final float PIGEON_HEIGHT = 5.0f;
@@ -76,13 +109,33 @@ public class GameScreen implements Screen {
     private final float PIGEON_TOUCH_INPUT_FORCE = 10.0f;
 
     //Textures
-    private Texture pauseButton;
-    private Texture resumeButton;
+    private TextureRegion pauseButton;
+    private TextureRegion resumeButton;
     private final float PAUSE_RESUME_BUTTON_WIDTH = 2.7f;
     private final float PAUSE_RESUME_BUTTON_HEIGHT = 2.9f;
     private final float PAUSE_RESUME_BUTTON_X1 = 0.8f;
     private final float PAUSE_RESUME_BUTTON_Y1 = 44.4f;
 
+    //Reused every frame so the game loop doesn't allocate
+    private final Vector3 touchPosition = new Vector3();
+
+    //World changes from collisions are posted as runnables because the world is locked while it is stepping
+    //The runnables are pooled, so collisions don't create garbage
+    //The pool is filled when the game screen is created, with more commands than there are rocket hits in a frame
+    private static final int ROCKET_EXPLOSION_COMMAND_CAPACITY = 8;
+    private final Pool<RocketExplosionCommand> rocketExplosionCommands = new Pool<RocketExplosionCommand>() {
+        @Override
+        protected RocketExplosionCommand newObject() {
+            return new RocketExplosionCommand();
+        }
+    };
+    private final Runnable playBirdSound = new Runnable() {
+        @Override
+        public void run() {
+            SoundMixer.play(Sounds.birdSound, SoundMixer.PRIORITY_EFFECT);
+        }
+    };
+
     public GameScreen(AlphaPigeon game, PlayServices playServices, DatabaseManager databaseManager) {
         this.game = game;
         this.playServices = playServices;
@@ -109,12 +162,22 @@ public class GameScreen implements Screen {
 
 
         // initialize game resources
-        this.scrollingBackground = new ScrollingBackground();
+        Assets.loadNow(ASSETS);
+        this.background = new ParallaxBackground();
+        // the clouds image fills the world once and scrolls at the pigeon's speed
+        this.background.addLayer(ParallaxBackground.CLOUDS, 1f, GameVariables.WORLD_WIDTH);
         this.highScore = new HighScore(game);
         this.pigeon = new Pigeon(world, game, this);
         this.dodgeables = new Dodgeables(this.pigeon, world, game, camera);
+        this.performanceHud = new PerformanceHud(world, this.dodgeables);
         pigeonBody = this.pigeon.getBody();
 
+        // measure the frame times of this game from scratch, the quality level of the last game is kept
+        QualityGovernor.reset();
+
+        // create the dodgeables needed by the levels now, instead of during the first wave of each level
+        dodgeables.prewarmPools(PoolCapacityProfile.load(Gdx.files.internal(PoolCapacityProfile.PROFILE_FILE)));
+
         // Create the accelerometerController class and input processor to read user input
         accelerometerController = new AccelerometerController(this.pigeon);
         createInputProcessor();
@@ -125,6 +188,9 @@ public class GameScreen implements Screen {
         // create contact listener to listen for if the Pigeon collides with another object
         // if the pigeon collides with another object, the game is over
         createContactListener();
+        for (int i = 0; i < ROCKET_EXPLOSION_COMMAND_CAPACITY; i++) {
+            rocketExplosionCommands.free(new RocketExplosionCommand());
+        }
 
         //Get most recent updated user settings from mobile device db/prefs
         SettingsManager.updateSettings();
@@ -135,8 +201,8 @@ public class GameScreen implements Screen {
         }
 
         //Initialize pause and play button textures
-        pauseButton = new Texture(Gdx.files.internal("textures/icons/PauseButton.png"));
-        resumeButton = new Texture(Gdx.files.internal("textures/icons/ResumeButton.png"));
+        pauseButton = SpriteAtlas.findRegion("PauseButton");
+        resumeButton = SpriteAtlas.findRegion("ResumeButton");
 
     }
 
@@ -148,46 +214,130 @@ public class GameScreen implements Screen {
     @Override
     public void render(float delta) {
 
-        // clear the screen with a dark blue color
-        Gdx.gl.glClearColor(0, 0, 0.2f, 1);
-        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-
-        // update the state time
-        // if game is paused, there is no change in time
-        // statetime and delta time use units of seconds, the primary time unit used in this game
-        deltaTime = state == State.PAUSE ? 0 : Gdx.graphics.getDeltaTime();
-        stateTime += deltaTime;
+        // update the game before rendering
+        long frameStartTime = TimeUtils.nanoTime();
+        simulate(Gdx.graphics.getDeltaTime());
+        draw();
 
-        // tell the camera to update its matrices
-        camera.update();
+        // the frame is complete, update the performance overlay (when it is shown)
+        FrameProfiler.endFrame(Gdx.graphics.getDeltaTime());
+        performanceHud.update(Gdx.graphics.getDeltaTime());
 
-        //Update method called before rendering
-        if (state != State.PAUSE) {
-            update();
+        // lower or raise the quality if the frames are over or well under budget (a replay sets the quality itself)
+        if (replayPlayer == null) {
+            QualityGovernor.update(Gdx.graphics.getDeltaTime(), (TimeUtils.nanoTime() - frameStartTime) / 1000000000f);
         }
 
-        if (gameIsOver) {
-            gameOver();
+    }
+
+    public void draw() {
+
+        // Draw the game as it was left by the last simulate call
+        // Called every frame after simulating, and directly by the desktop headless simulation when it renders
+
+        // at the lowest quality levels, the game is drawn into a smaller frame buffer that is stretched over the screen
+        boolean drawsAtLowResolution = GameVariables.renderScale < 1;
+        if (drawsAtLowResolution) {
+            beginLowResolution();
         }
 
+        // clear the screen with a dark blue color
+        Gdx.gl.glClearColor(0, 0, 0.2f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
         //debugRenderer.render(world, camera.combined);
         // tell the SpriteBatch to render in the
         // coordinate system specified by the camera
         game.batch.setProjectionMatrix(camera.combined);
         // begin a new batch and draw the game world and objects within it
+        FrameProfiler.begin(FrameProfiler.SECTION_RENDER);
         game.batch.begin();
-        scrollingBackground.render(game.batch);
+        background.render(game.batch);
         highScore.render(game.batch);
         gameplay.render(game.batch);
-        pigeon.render(stateTime, game.batch);
+        pigeon.render(QualityGovernor.getAnimationTime(stateTime), game.batch);
         if (state == State.PAUSE) {
             game.batch.draw(resumeButton, PAUSE_RESUME_BUTTON_X1, PAUSE_RESUME_BUTTON_Y1, PAUSE_RESUME_BUTTON_WIDTH, PAUSE_RESUME_BUTTON_HEIGHT);
         } else {
             game.batch.draw(pauseButton, PAUSE_RESUME_BUTTON_X1, PAUSE_RESUME_BUTTON_Y1, PAUSE_RESUME_BUTTON_WIDTH, PAUSE_RESUME_BUTTON_HEIGHT);
         }
+        performanceHud.render(game.batch);
         game.batch.end();
+        if (drawsAtLowResolution) {
+            endLowResolution();
+        }
+        FrameProfiler.end(FrameProfiler.SECTION_RENDER);
+
+    }
+
+    private void beginLowResolution() {
 
+        // (re)create the frame buffer at the render scale of the viewport's size, and draw into it
 
+        int width = Math.max(1, Math.round(viewport.getScreenWidth() * GameVariables.renderScale));
+        int height = Math.max(1, Math.round(viewport.getScreenHeight() * GameVariables.renderScale));
+        if (lowResolutionBuffer == null || lowResolutionBuffer.getWidth() != width || lowResolutionBuffer.getHeight() != height) {
+            if (lowResolutionBuffer != null) {
+                lowResolutionBuffer.dispose();
+            }
+            lowResolutionBuffer = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+            lowResolutionBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        }
+        lowResolutionBuffer.begin();
+
+    }
+
+    private void endLowResolution() {
+
+        // stretch the frame buffer over the viewport (the frame buffer resets the GL viewport to the whole screen)
+
+        lowResolutionBuffer.end();
+        viewport.apply();
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        game.batch.begin();
+        game.batch.draw(lowResolutionBuffer.getColorBufferTexture(), 0, 0, GameVariables.WORLD_WIDTH, GameVariables.WORLD_HEIGHT, 0, 0, 1, 1);
+        game.batch.end();
+
+    }
+
+    public void simulate(float delta) {
+
+        // Advance the game by delta seconds without drawing anything
+        // Called every frame before rendering, and directly by the desktop headless simulation
+
+        // record the input of the frame, or replace it with the input of the replay that is played
+        if (replayPlayer != null) {
+            if (replayPlayer.isFinished()) {
+                // the replay is over, the game stays on its last frame
+                return;
+            }
+            replayPlayer.nextFrame(replayInputListener, accelerometerController);
+            delta = replayPlayer.getDelta();
+            state = replayPlayer.frameIsPaused() ? State.PAUSE : State.RUN;
+        } else {
+            accelerometerController.sampleAccelerometer();
+            if (replayRecorder != null) {
+                replayRecorder.recordFrame(delta, state == State.PAUSE, accelerometerController);
+            }
+        }
+
+        // update the state time
+        // if game is paused, there is no change in time
+        // statetime and delta time use units of seconds, the primary time unit used in this game
+        deltaTime = state == State.PAUSE ? 0 : delta;
+        stateTime += deltaTime;
+
+        // tell the camera to update its matrices
+        camera.update();
+
+        //Update method called before rendering
+        if (state != State.PAUSE) {
+            update();
+        }
+
+        if (gameIsOver) {
+            gameOver();
+        }
 
     }
 
@@ -195,7 +345,6 @@ public class GameScreen implements Screen {
     public void resize(int width, int height) {
 
         viewport.update(width, height, true);
-        this.scrollingBackground.resize(width, height);
 
 
     }
@@ -226,33 +375,71 @@ public class GameScreen implements Screen {
     public void dispose() {
 
         // dispose of all the native resources... CALL THIS METHOD MANUALLY WHEN YOU EXIT A SCREEN
-        resumeButton.dispose();
-        pauseButton.dispose();
         pigeon.dispose();
         dodgeables.dispose();
+        performanceHud.dispose();
+        if (lowResolutionBuffer != null) {
+            lowResolutionBuffer.dispose();
+        }
         highScore.dispose();
-        scrollingBackground.dispose();
+        background.dispose();
         world.dispose();
+        Assets.unload(ASSETS);
 
     }
 
     public void update() {
 
         // step the world
-        world.step(1 / 60f, 6, 2);
+        // the frame time is accumulated and the world is stepped in fixed increments of 1 / physicsStepRate seconds
+        // so the simulation runs at the same speed regardless of the display refresh rate
+        // the number of steps per frame is capped so that a slow frame can't cause an ever growing backlog of steps
+        float physicsTimeStep = 1 / GameVariables.physicsStepRate;
+        physicsAccumulator += deltaTime;
+        int physicsSteps = 0;
+        FrameProfiler.begin(FrameProfiler.SECTION_PHYSICS);
+        while (physicsAccumulator >= physicsTimeStep && physicsSteps < GameVariables.MAX_PHYSICS_STEPS_PER_FRAME) {
+            // save the transforms before the step so bodies can be drawn between the previous and current step
+            pigeon.savePreviousPosition();
+            dodgeables.savePreviousTransforms();
+
+            // forces are cleared after every step, so continuous accelerometer input is applied once per step
+            accelerometerController.processAccelerometerInput();
+            if (autopilot != null) {
+                autopilot.update(Gameplay.totalGameTime);
+            }
+
+            world.step(physicsTimeStep, GameVariables.physicsVelocityIterations, GameVariables.physicsPositionIterations);
+            physicsAccumulator -= physicsTimeStep;
+            physicsSteps++;
+        }
+        if (physicsAccumulator >= physicsTimeStep) {
+            // the step cap was reached, drop the time that could not be simulated this frame
+            physicsAccumulator = physicsAccumulator % physicsTimeStep;
+        }
+        FrameProfiler.end(FrameProfiler.SECTION_PHYSICS);
+        // the fraction of a step left in the accumulator determines how far to interpolate rendered bodies
+        GameVariables.physicsInterpolationAlpha = physicsAccumulator / physicsTimeStep;
 
 
-        sweepDeadBodies();
+        // free dead and off screen dodgeables and run the other dodgeable systems
+        FrameProfiler.begin(FrameProfiler.SECTION_SYSTEMS);
+        dodgeables.updateSystems(deltaTime);
+        FrameProfiler.end(FrameProfiler.SECTION_SYSTEMS);
 
         // update all the game resources
-        scrollingBackground.update(deltaTime);
+        background.update(deltaTime);
         highScore.update(deltaTime);
+        FrameProfiler.begin(FrameProfiler.SECTION_GAMEPLAY);
         gameplay.update(stateTime);
+        FrameProfiler.end(FrameProfiler.SECTION_GAMEPLAY);
         pigeon.update(stateTime);
 
+        // remove the dodgeables that were freed during this tick from the active dodgeable sets
+        dodgeables.compactActiveSets();
+
         // process user input
         Gdx.input.setInputProcessor(inputProcessor);
-        accelerometerController.processAccelerometerInput();
 
 
         // make sure the pigeon stays within the screen bounds
@@ -260,171 +447,137 @@ public class GameScreen implements Screen {
             Vector2 vel = pigeonBody.getLinearVelocity();
             vel.x = 0f;
             pigeonBody.setLinearVelocity(vel);
-            pigeonBody.setTransform(new Vector2(0, pigeonBody.getPosition().y), pigeonBody.getAngle());
+            pigeonBody.setTransform(0, pigeonBody.getPosition().y, pigeonBody.getAngle());
         }
         if (pigeonBody.getPosition().x > camera.viewportWidth - PIGEON_WIDTH) {
             Vector2 vel = pigeonBody.getLinearVelocity();
             vel.x = 0f;
             pigeonBody.setLinearVelocity(vel);
-            pigeonBody.setTransform(new Vector2(camera.viewportWidth - PIGEON_WIDTH, pigeonBody.getPosition().y), pigeonBody.getAngle());
+            pigeonBody.setTransform(camera.viewportWidth - PIGEON_WIDTH, pigeonBody.getPosition().y, pigeonBody.getAngle());
         }
         if (pigeonBody.getPosition().y < 0) {
             Vector2 vel = pigeonBody.getLinearVelocity();
             vel.y = 0f;
             pigeonBody.setLinearVelocity(vel);
-            pigeonBody.setTransform(new Vector2(pigeonBody.getPosition().x, 0), pigeonBody.getAngle());
+            pigeonBody.setTransform(pigeonBody.getPosition().x, 0, pigeonBody.getAngle());
         }
         if (pigeonBody.getPosition().y > camera.viewportHeight - PIGEON_HEIGHT) {
             Vector2 vel = pigeonBody.getLinearVelocity();
             vel.y = 0f;
             pigeonBody.setLinearVelocity(vel);
-            pigeonBody.setTransform(new Vector2(pigeonBody.getPosition().x, camera.viewportHeight - PIGEON_HEIGHT), pigeonBody.getAngle());
+            pigeonBody.setTransform(pigeonBody.getPosition().x, camera.viewportHeight - PIGEON_HEIGHT, pigeonBody.getAngle());
         }
 
     }
 
     private void createContactListener() {
 
-        world.setContactListener(new ContactListener() {
+        //Register what happens when fixtures of each pair of collision categories begin to touch
+        //The first fixture given to a handler has the first category it is registered with
+        //The dispatcher checks at startup that every pair of categories that can collide has a handler
 
-            @Override
-            public void beginContact(Contact contact) {
-
-                //Get fixures and bodies
-                final Fixture fixtureA = contact.getFixtureA();
-                final Fixture fixtureB = contact.getFixtureB();
-                final Body fixtureABody = fixtureA.getBody();
-                Body fixtureBBody = fixtureB.getBody();
-
-                //Get the category of fixtures involved in collision
-                short fixtureACategory = fixtureA.getFilterData().categoryBits;
-                short fixtureBCategory = fixtureB.getFilterData().categoryBits;
-
-                //Boolean collision checks used to determine action to take
-                Boolean pigeonInvolvedInCollision = fixtureACategory == GameVariables.CATEGORY_PIGEON || fixtureBCategory == GameVariables.CATEGORY_PIGEON;
-                Boolean birdInvolvedInCollision = fixtureACategory == GameVariables.CATEGORY_LEVEL_ONE_BIRD || fixtureACategory == GameVariables.CATEGORY_LEVEL_TWO_BIRD
-                        || fixtureBCategory == GameVariables.CATEGORY_LEVEL_ONE_BIRD || fixtureBCategory == GameVariables.CATEGORY_LEVEL_TWO_BIRD;
-                Boolean meteorInvolvedInCollision = fixtureACategory == GameVariables.CATEGORY_METEOR || fixtureBCategory == GameVariables.CATEGORY_METEOR;
-                Boolean powerUpShieldInvolvedInCollision = fixtureACategory == GameVariables.CATEGORY_POWERUP || fixtureBCategory == GameVariables.CATEGORY_POWERUP;
-                Boolean powerUpInvolvedInCollision = powerUpShieldInvolvedInCollision;
-                Boolean teleportInvolvedInCollision = fixtureACategory == GameVariables.CATEGORY_TELEPORT || fixtureBCategory == GameVariables.CATEGORY_TELEPORT;
-                Boolean rocketInvolvedInCollision = fixtureACategory == GameVariables.CATEGORY_ROCKET || fixtureBCategory == GameVariables.CATEGORY_ROCKET;
-
-                short powerUpType = GameVariables.CATEGORY_PIGEON;
-
-                //Collision logic for pigeon:
-                //First, check if a power up is involved
-                //If so, get the power-up type and power-up the pigeon
-                //If pigeon contacts teleport,  teleport it
-                //If pigeon already has a power-up applied, apply appropriate action depending on the power-up applied
-                //If pigeon has normal contact with an enemy, the game is over
-                if (pigeonInvolvedInCollision) {
-                    if (powerUpInvolvedInCollision) {
-                        Fixture powerUpFixture;
-                        Fixture collidedEnemyFixture;
-                        if (fixtureA.getFilterData().categoryBits == GameVariables.CATEGORY_POWERUP) {
-                            powerUpFixture = fixtureA;
-                            collidedEnemyFixture = fixtureB;
-
-                        } else {
-                            powerUpFixture = fixtureB;
-                            collidedEnemyFixture = fixtureA;
-                        }
-                        pigeon.powerUp(powerUpFixture);
-                    } else if (teleportInvolvedInCollision) {
-                        Fixture teleportFixture;
-                        if (fixtureA.getFilterData().categoryBits == GameVariables.CATEGORY_TELEPORT) {
-                            teleportFixture = fixtureA;
-                        } else {
-                            teleportFixture = fixtureB;
-                        }
-                        pigeon.teleport(teleportFixture);
-                    } else if (pigeon.getPowerUpType() == PowerUps.POWER_UP_TYPE_SHIELD) {
-                        //If bird has a shield power up, destroy the dodgeable it collides with
-                        destroyNonPigeonBody(fixtureA, fixtureB);
-                    } else {
-                        // If the pigeon is involved in the collision and does not have a shield applied, the game is over
-                        gameIsOver = true;
-                    }
-                }
-
-                //Collision logic for rocket
-                //If a rocket is involved in a collision, and the pigeon is not involved, then the
-                //rocket collided with an enemy so it should explode
-                //Spawn a rocket explosion in the position of the fixture that is not the rocket, since
-                //the enemy will explode at collision. Then, destroy the rocket and the enemy it collided with
-                //The spawned rocket and destroyed bodies must be run on a separate thread so the world isn't locked
-                if (rocketInvolvedInCollision) {
-                    if (!pigeonInvolvedInCollision) {
-                        final Body fixtureAExplosionBody = fixtureABody;
-                        final Body fixtureBExplosionBody = fixtureBBody;
-                        if (fixtureA.getFilterData().categoryBits == GameVariables.CATEGORY_ROCKET) {
-                            //POST RUNNABLE
-                            Gdx.app.postRunnable(new Runnable() {
-                                @Override
-                                public void run() {
-                                    dodgeables.spawnRocketExplosion(fixtureBExplosionBody.getWorldCenter().x, fixtureBExplosionBody.getWorldCenter().y);
-                                    destroyBody(fixtureA);
-                                    destroyBody(fixtureB);
-                                }
-                            });
-
-                        } else {
-
-                            //POST RUNNABLE
-                            Gdx.app.postRunnable(new Runnable() {
-                                @Override
-                                public void run() {
-                                    dodgeables.spawnRocketExplosion(fixtureAExplosionBody.getWorldCenter().x, fixtureAExplosionBody.getWorldCenter().y);
-                                    destroyBody(fixtureA);
-                                    destroyBody(fixtureB);
-                                }
-                            });
-                        }
-                    }
-                }
-
-                if (birdInvolvedInCollision) {
-                    //if bird is involved in any collision, play a chirp sound
-                    Gdx.app.postRunnable(new Runnable() {
-                        @Override
-                        public void run() {
-                            Sounds.birdSound.play(SettingsManager.gameVolume);
-                        }
-                    });
+        collisionDispatcher = new CollisionDispatcher();
 
+        //Collision logic for pigeon:
+        //If pigeon contacts a power up, power-up the pigeon
+        //If pigeon contacts teleport,  teleport it
+        //If pigeon already has a power-up applied, apply appropriate action depending on the power-up applied
+        //If pigeon has normal contact with an enemy, the game is over
+        CollisionDispatcher.CollisionHandler pigeonHitsPowerUp = new CollisionDispatcher.CollisionHandler() {
+            @Override
+            public void handle(Fixture pigeonFixture, Fixture powerUpFixture) {
+                pigeon.powerUp(powerUpFixture);
+            }
+        };
+        CollisionDispatcher.CollisionHandler pigeonHitsTeleport = new CollisionDispatcher.CollisionHandler() {
+            @Override
+            public void handle(Fixture pigeonFixture, Fixture teleportFixture) {
+                pigeon.teleport(teleportFixture);
+            }
+        };
+        final CollisionDispatcher.CollisionHandler pigeonHitsEnemy = new CollisionDispatcher.CollisionHandler() {
+            @Override
+            public void handle(Fixture pigeonFixture, Fixture enemyFixture) {
+                if (pigeon.getPowerUpType() == PowerUps.POWER_UP_TYPE_SHIELD) {
+                    //If bird has a shield power up, destroy the dodgeable it collides with
+                    destroyNonPigeonBody(enemyFixture);
+                } else if (!pigeonIsInvincible) {
+                    // If the pigeon is involved in the collision and does not have a shield applied, the game is over
+                    gameIsOver = true;
                 }
-
-
             }
-
+        };
+        //If bird is involved in any collision, play a chirp sound
+        CollisionDispatcher.CollisionHandler pigeonHitsBird = new CollisionDispatcher.CollisionHandler() {
             @Override
-            public void endContact(Contact contact) {
-                //Gdx.app.log("endContact", "between " + fixtureA.toString() + " and " + fixtureB.toString());
+            public void handle(Fixture pigeonFixture, Fixture birdFixture) {
+                pigeonHitsEnemy.handle(pigeonFixture, birdFixture);
+                Gdx.app.postRunnable(playBirdSound);
             }
-
+        };
+        CollisionDispatcher.CollisionHandler meteorHitsBird = new CollisionDispatcher.CollisionHandler() {
             @Override
-            public void preSolve(Contact contact, Manifold oldManifold) {
+            public void handle(Fixture meteorFixture, Fixture birdFixture) {
+                Gdx.app.postRunnable(playBirdSound);
             }
+        };
 
+        //Collision logic for rocket
+        //If a rocket collides with an enemy (not the pigeon), it should explode
+        //Spawn a rocket explosion in the position of the fixture that is not the rocket, since
+        //the enemy will explode at collision. Then, destroy the rocket and the enemy it collided with
+        //The spawned rocket and destroyed bodies must be run on a separate thread so the world isn't locked
+        CollisionDispatcher.CollisionHandler rocketHitsBird = new CollisionDispatcher.CollisionHandler() {
             @Override
-            public void postSolve(Contact contact, ContactImpulse impulse) {
+            public void handle(Fixture rocketFixture, Fixture birdFixture) {
+                RocketExplosionCommand rocketExplosion = rocketExplosionCommands.obtain();
+                rocketExplosion.init(birdFixture.getBody(), rocketFixture, birdFixture);
+                //POST RUNNABLE
+                Gdx.app.postRunnable(rocketExplosion);
+                Gdx.app.postRunnable(playBirdSound);
             }
+        };
 
-        });
+        collisionDispatcher.register(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_POWERUP, pigeonHitsPowerUp);
+        collisionDispatcher.register(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_TELEPORT, pigeonHitsTeleport);
+        collisionDispatcher.register(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_LEVEL_ONE_BIRD, pigeonHitsBird);
+        collisionDispatcher.register(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_LEVEL_TWO_BIRD, pigeonHitsBird);
+        collisionDispatcher.register(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_METEOR, pigeonHitsEnemy);
+        collisionDispatcher.register(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_ROCKET, pigeonHitsEnemy);
+        collisionDispatcher.register(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_ROCKET_EXPLOSION, pigeonHitsEnemy);
+        collisionDispatcher.register(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_ALIEN_MISSILE, pigeonHitsEnemy);
+        collisionDispatcher.register(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_UFO, pigeonHitsEnemy);
+        collisionDispatcher.register(GameVariables.CATEGORY_ROCKET, GameVariables.CATEGORY_LEVEL_ONE_BIRD, rocketHitsBird);
+        collisionDispatcher.register(GameVariables.CATEGORY_ROCKET, GameVariables.CATEGORY_LEVEL_TWO_BIRD, rocketHitsBird);
+        collisionDispatcher.register(GameVariables.CATEGORY_METEOR, GameVariables.CATEGORY_LEVEL_ONE_BIRD, meteorHitsBird);
+        collisionDispatcher.register(GameVariables.CATEGORY_METEOR, GameVariables.CATEGORY_LEVEL_TWO_BIRD, meteorHitsBird);
+
+        //The handler each pair of categories must have, the registrations above are validated against this table
+        collisionDispatcher.expect(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_POWERUP, pigeonHitsPowerUp);
+        collisionDispatcher.expect(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_TELEPORT, pigeonHitsTeleport);
+        collisionDispatcher.expect(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_LEVEL_ONE_BIRD, pigeonHitsBird);
+        collisionDispatcher.expect(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_LEVEL_TWO_BIRD, pigeonHitsBird);
+        collisionDispatcher.expect(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_METEOR, pigeonHitsEnemy);
+        collisionDispatcher.expect(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_ROCKET, pigeonHitsEnemy);
+        collisionDispatcher.expect(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_ROCKET_EXPLOSION, pigeonHitsEnemy);
+        collisionDispatcher.expect(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_ALIEN_MISSILE, pigeonHitsEnemy);
+        collisionDispatcher.expect(GameVariables.CATEGORY_PIGEON, GameVariables.CATEGORY_UFO, pigeonHitsEnemy);
+        collisionDispatcher.expect(GameVariables.CATEGORY_ROCKET, GameVariables.CATEGORY_LEVEL_ONE_BIRD, rocketHitsBird);
+        collisionDispatcher.expect(GameVariables.CATEGORY_ROCKET, GameVariables.CATEGORY_LEVEL_TWO_BIRD, rocketHitsBird);
+        collisionDispatcher.expect(GameVariables.CATEGORY_METEOR, GameVariables.CATEGORY_LEVEL_ONE_BIRD, meteorHitsBird);
+        collisionDispatcher.expect(GameVariables.CATEGORY_METEOR, GameVariables.CATEGORY_LEVEL_TWO_BIRD, meteorHitsBird);
+
+        collisionDispatcher.validate();
+        world.setContactListener(collisionDispatcher);
 
     }
 
-    private void destroyNonPigeonBody(Fixture fixtureA, Fixture fixtureB) {
+    private void destroyNonPigeonBody(Fixture enemyFixture) {
 
         // Pigeon is charged and hits a dodgeable enemy
         // destroy the body that the pigeon touches
 
-        if (fixtureA.getFilterData().categoryBits == GameVariables.CATEGORY_PIGEON) {
-            fixtureB.getBody().setUserData(new BodyData(true));
-        } else if (fixtureB.getFilterData().categoryBits == GameVariables.CATEGORY_PIGEON) {
-            fixtureA.getBody().setUserData(new BodyData(true));
-        }
+        BodyData.flagForDelete(enemyFixture.getBody());
 
         // zap the enemy that pigeon touches while charged... play zap sound effect
         pigeon.zapEnemy();
@@ -433,7 +586,38 @@ public class GameScreen implements Screen {
 
 
     private void destroyBody(Fixture fixture) {
-        fixture.getBody().setUserData(new BodyData(true));
+        BodyData.flagForDelete(fixture.getBody());
+    }
+
+    private class RocketExplosionCommand implements Runnable, Pool.Poolable {
+
+        //Explode the body that a rocket collided with, and destroy the rocket and the body
+        //The command is returned to its pool once it has run
+
+        private Body explodedBody;
+        private Fixture fixtureA;
+        private Fixture fixtureB;
+
+        public void init(Body explodedBody, Fixture fixtureA, Fixture fixtureB) {
+            this.explodedBody = explodedBody;
+            this.fixtureA = fixtureA;
+            this.fixtureB = fixtureB;
+        }
+
+        @Override
+        public void run() {
+            dodgeables.spawnRocketExplosion(explodedBody.getWorldCenter().x, explodedBody.getWorldCenter().y);
+            destroyBody(fixtureA);
+            destroyBody(fixtureB);
+            rocketExplosionCommands.free(this);
+        }
+
+        @Override
+        public void reset() {
+            explodedBody = null;
+            fixtureA = null;
+            fixtureB = null;
+        }
     }
 
     private void gameOver() {
@@ -450,17 +634,17 @@ public class GameScreen implements Screen {
 
             @Override
             public void run() {
-                Sounds.gameOverSound.play(SettingsManager.gameVolume);
                 highScore.stopCounting();
+                if (replayRecorder != null) {
+                    saveReplay();
+                }
                 for (Dodgeable dodgeable : dodgeables.activeDodgeables) {
                     dodgeable.reset();
                 }
                 dodgeables.resetSpawnTimes();
-                for (Sound sound : Sounds.activeSounds){
-                    //Stop all sounds currently playing
-                    sound.stop();
-                    Sounds.activeSounds.remove(sound);
-                }
+                //Stop all sounds currently playing, then play the game over sound
+                SoundMixer.stopAll();
+                SoundMixer.play(Sounds.gameOverSound, SoundMixer.PRIORITY_IMPORTANT);
                 //Reset all notifications that are active so they stop displaying
                 Notifications.ExclamationMark.resetNotifications();
                 Array<Body> bodies = new Array<Body>();
@@ -468,8 +652,13 @@ public class GameScreen implements Screen {
                 for (int i = 0; i < bodies.size; i++) {
                     world.destroyBody(bodies.get(i));
                 }
+                game.setScreen(new LoadingScreen(game, GameOverScreen.ASSETS, new LoadingScreen.NextScreen() {
+                    @Override
+                    public Screen create() {
+                        return new GameOverScreen(game, playServices, databaseManager, highScore);
+                    }
+                }));
                 dispose();
-                game.setScreen(new GameOverScreen(game, playServices, databaseManager, highScore));
 
             }
         });
@@ -486,25 +675,20 @@ public class GameScreen implements Screen {
             @Override
             public boolean keyDown(int keycode) {
 
-                //If the user has touch controls turned on, apply a force on the bird depending on which button is pushed
-                if (SettingsManager.touchSettingIsOn) {
-                    switch (keycode) {
-                        case Input.Keys.LEFT:
-                            pigeonBody.applyForceToCenter(-PIGEON_KEY_INPUT_FORCE * SettingsManager.touchSensitivity, 0, true);
-                            break;
-                        case Input.Keys.RIGHT:
-                            pigeonBody.applyForceToCenter(PIGEON_KEY_INPUT_FORCE * SettingsManager.touchSensitivity, 0, true);
-                            break;
-                        case Input.Keys.DOWN:
-                            pigeonBody.applyForceToCenter(0, -PIGEON_KEY_INPUT_FORCE * SettingsManager.touchSensitivity, true);
-                            break;
-                        case Input.Keys.UP:
-                            pigeonBody.applyForceToCenter(0, PIGEON_KEY_INPUT_FORCE * SettingsManager.touchSensitivity, true);
-                            break;
-                    }
+                //F3 shows or hides the performance overlay
+                if (keycode == Input.Keys.F3) {
+                    performanceHud.toggle();
                     return true;
                 }
-                return false;
+
+                //The input of a replay is played instead of the player's
+                if (replayPlayer != null) {
+                    return false;
+                }
+                if (replayRecorder != null) {
+                    replayRecorder.recordKeyDown(keycode);
+                }
+                return handleKeyDown(keycode);
             }
 
             @Override
@@ -519,31 +703,18 @@ public class GameScreen implements Screen {
 
             @Override
             public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+                if (replayPlayer != null || button != Input.Buttons.LEFT) {
+                    return false;
+                }
+
                 //Get the mouse coordinates and unproject to the world coordinates
-                Vector3 mousePos = new Vector3(screenX, screenY, 0);
+                //Touches are recorded in world coordinates so a replay doesn't depend on the screen size
+                Vector3 mousePos = touchPosition.set(screenX, screenY, 0);
                 camera.unproject(mousePos, viewport.getScreenX(), viewport.getScreenY(), viewport.getScreenWidth(), viewport.getScreenHeight());
-
-                if (mousePos.x > PAUSE_RESUME_BUTTON_X1 && mousePos.x < PAUSE_RESUME_BUTTON_X1 + PAUSE_RESUME_BUTTON_WIDTH &&
-                        mousePos.y > PAUSE_RESUME_BUTTON_Y1 && mousePos.y < PAUSE_RESUME_BUTTON_Y1 + PAUSE_RESUME_BUTTON_HEIGHT) {
-                    if (button == Input.Buttons.LEFT) {
-                        //Toggle Pause/Resume game if the Pause/Resume button is pushed
-                        if (state == State.RUN) {
-                            pause();
-                        } else {
-                            resume();
-                        }
-                        return true;
-                    }
-                } else if (SettingsManager.touchSettingIsOn && button == Input.Buttons.LEFT) {
-                    //If the user has touch controls turned on, apply a force on the bird proportional to
-                    //the distance from the bird that the user touched
-                    pigeonBody.applyForceToCenter(PIGEON_TOUCH_INPUT_FORCE * SettingsManager.touchSensitivity * (mousePos.x - pigeonBody.getPosition().x),
-                            PIGEON_TOUCH_INPUT_FORCE * SettingsManager.touchSensitivity * (mousePos.y - pigeonBody.getPosition().y), true);
-                    return true;
+                if (replayRecorder != null) {
+                    replayRecorder.recordTouchDown(mousePos.x, mousePos.y);
                 }
-
-
-                return false;
+                return handleTouchDown(mousePos.x, mousePos.y);
             }
 
             @Override
@@ -567,12 +738,112 @@ public class GameScreen implements Screen {
             }
         };
 
+        replayInputListener = new ReplayPlayer.InputListener() {
+            @Override
+            public void keyDown(int keycode) {
+                handleKeyDown(keycode);
+            }
+
+            @Override
+            public void touchDown(float worldX, float worldY) {
+                handleTouchDown(worldX, worldY);
+            }
+        };
+
+    }
+
+    private boolean handleKeyDown(int keycode) {
+
+        //If the user has touch controls turned on, apply a force on the bird depending on which button is pushed
+        if (SettingsManager.touchSettingIsOn) {
+            switch (keycode) {
+                case Input.Keys.LEFT:
+                    LaunchImpulse.applyToCenter(pigeonBody, -PIGEON_KEY_INPUT_FORCE * SettingsManager.touchSensitivity, 0);
+                    break;
+                case Input.Keys.RIGHT:
+                    LaunchImpulse.applyToCenter(pigeonBody, PIGEON_KEY_INPUT_FORCE * SettingsManager.touchSensitivity, 0);
+                    break;
+                case Input.Keys.DOWN:
+                    LaunchImpulse.applyToCenter(pigeonBody, 0, -PIGEON_KEY_INPUT_FORCE * SettingsManager.touchSensitivity);
+                    break;
+                case Input.Keys.UP:
+                    LaunchImpulse.applyToCenter(pigeonBody, 0, PIGEON_KEY_INPUT_FORCE * SettingsManager.touchSensitivity);
+                    break;
+            }
+            return true;
+        }
+        return false;
+
+    }
+
+    private boolean handleTouchDown(float worldX, float worldY) {
+
+        if (worldX > PAUSE_RESUME_BUTTON_X1 && worldX < PAUSE_RESUME_BUTTON_X1 + PAUSE_RESUME_BUTTON_WIDTH &&
+                worldY > PAUSE_RESUME_BUTTON_Y1 && worldY < PAUSE_RESUME_BUTTON_Y1 + PAUSE_RESUME_BUTTON_HEIGHT) {
+            //Toggle Pause/Resume game if the Pause/Resume button is pushed
+            if (state == State.RUN) {
+                pause();
+            } else {
+                resume();
+            }
+            return true;
+        } else if (SettingsManager.touchSettingIsOn) {
+            //If the user has touch controls turned on, apply a force on the bird proportional to
+            //the distance from the bird that the user touched
+            LaunchImpulse.applyToCenter(pigeonBody, PIGEON_TOUCH_INPUT_FORCE * SettingsManager.touchSensitivity * (worldX - pigeonBody.getPosition().x),
+                    PIGEON_TOUCH_INPUT_FORCE * SettingsManager.touchSensitivity * (worldY - pigeonBody.getPosition().y));
+            return true;
+        }
+        return false;
+
+    }
+
+    public void recordReplay(ReplayRecorder replayRecorder) {
+        // Record the game, the recorder must be created just before the game screen (see ReplayRecorder)
+        this.replayRecorder = replayRecorder;
+    }
+
+    public void saveReplay() {
+        // Save the replay of the game so far
+        replayRecorder.autopilotMode = autopilot == null ? ReplayRecorder.NO_AUTOPILOT : autopilot.getMode();
+        replayRecorder.pigeonIsInvincible = pigeonIsInvincible;
+        replayRecorder.save();
+    }
+
+    public void playReplay(ReplayPlayer replayPlayer) {
+        // Play a recorded game instead of the player's input, the player must be created just before the game screen
+        this.replayPlayer = replayPlayer;
+        replayPlayer.applySettings();
+        if (replayPlayer.autopilotMode != ReplayRecorder.NO_AUTOPILOT) {
+            setAutopilot(replayPlayer.autopilotMode);
+        }
+        setPigeonInvincible(replayPlayer.pigeonIsInvincible);
+    }
+
+    public boolean isReplayFinished() {
+        return replayPlayer != null && replayPlayer.isFinished();
+    }
+
+    public void setAutopilot(int autopilotMode) {
+        // Fly the pigeon automatically instead of using player input
+        autopilot = new PigeonAutopilot(pigeon, dodgeables, autopilotMode);
     }
 
-    public void sweepDeadBodies() {
+    public void setPigeonInvincible(boolean isInvincible) {
+        // If the pigeon is invincible, collisions with dodgeables do not end the game
+        pigeonIsInvincible = isInvincible;
+    }
 
-        this.dodgeables.sweepDeadBodies();
+    public World getWorld() {
+        return world;
+    }
+
+    public ContactListener getContactListener() {
+        return collisionDispatcher;
+    }
 
+    public Pigeon getPigeon() {
+        return pigeon;
     }
 
 }
@@ -6,6 +6,7 @@ import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.Net;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
@@ -26,6 +27,7 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import java.util.ArrayList;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
+import io.github.patpatchpatrick.alphapigeon.resources.Assets;
 import io.github.patpatchpatrick.alphapigeon.resources.DatabaseManager;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 import io.github.patpatchpatrick.alphapigeon.resources.MobileCallbacks;
@@ -44,6 +46,16 @@ public class HighScoreScreen implements Screen, MobileCallbacks, Net.HttpRespons
     // -- Input Multiplexer to handle both the scrollpane(stage) and screen input processors
     private InputMultiplexer inputMultiplexer = new InputMultiplexer();
 
+    //Assets
+    private static final AssetDescriptor<Texture> HIGH_SCORE_BACKGROUND_TEXTURE = new AssetDescriptor<Texture>("textures/highscoresscreen/HighScoresScreen.png", Texture.class);
+    private static final AssetDescriptor<Texture> BACK_BUTTON_TEXTURE = new AssetDescriptor<Texture>("textures/BackArrow.png", Texture.class);
+    private static final AssetDescriptor<Texture> GLOBAL_BUTTON_TEXTURE = new AssetDescriptor<Texture>("textures/highscoresscreen/GlobalLocalButtonsGSelected.png", Texture.class);
+    private static final AssetDescriptor<Texture> LOCAL_BUTTON_TEXTURE = new AssetDescriptor<Texture>("textures/highscoresscreen/GlobalLocalButtonsLSelected.png", Texture.class);
+    private static final AssetDescriptor<Texture> RANK_BUTTON_TEXTURE = new AssetDescriptor<Texture>("textures/highscoresscreen/RankTopButtonRank.png", Texture.class);
+    private static final AssetDescriptor<Texture> TOP_ALL_TIME_BUTTON_TEXTURE = new AssetDescriptor<Texture>("textures/highscoresscreen/RankTopButtonTopAllTime.png", Texture.class);
+    public static final AssetDescriptor<?>[] ASSETS = {HIGH_SCORE_BACKGROUND_TEXTURE, BACK_BUTTON_TEXTURE, GLOBAL_BUTTON_TEXTURE, LOCAL_BUTTON_TEXTURE, RANK_BUTTON_TEXTURE,
+            TOP_ALL_TIME_BUTTON_TEXTURE, Assets.SKIN};
+
     //Textures and Buttons
     private Texture highScoreBackground;
     private Texture backButton;
@@ -114,9 +126,6 @@ public class HighScoreScreen implements Screen, MobileCallbacks, Net.HttpRespons
         this.game = game;
         this.playServices = playServices;
         this.databaseManager = databaseManager;
-        if (playServices != null) {
-            playServices.setMobileCallbacks(this);
-        }
 
         // create the camera
         camera = new OrthographicCamera();
@@ -124,6 +133,30 @@ public class HighScoreScreen implements Screen, MobileCallbacks, Net.HttpRespons
         //the viewport object will handle camera's attributes
         //the aspect provided (worldWidth/worldHeight) will be kept
 
+        //Get the textures (loaded by the loading screen)
+        Assets.loadNow(ASSETS);
+        highScoreBackground = Assets.get(HIGH_SCORE_BACKGROUND_TEXTURE);
+        backButton = Assets.get(BACK_BUTTON_TEXTURE);
+        globalButtonTexture = Assets.get(GLOBAL_BUTTON_TEXTURE);
+        localButtonTexture = Assets.get(LOCAL_BUTTON_TEXTURE);
+        rankButtonTexture = Assets.get(RANK_BUTTON_TEXTURE);
+        //topDayButtonTexture = new Texture(Gdx.files.internal("textures/highscoresscreen/RankTopButtonTopDay.png"));
+        //topWeekButtonTexture = new Texture(Gdx.files.internal("textures/highscoresscreen/RankTopButtonTopWeek.png"));
+        topAllTimeButtonTexture = Assets.get(TOP_ALL_TIME_BUTTON_TEXTURE);
+
+        //Create input processor for user controls
+        createInputProcessor();
+
+    }
+
+    @Override
+    public void show() {
+
+        //The high scores screen is kept alive by the screen registry, set it up again each time it is shown
+
+        if (playServices != null) {
+            playServices.setMobileCallbacks(this);
+        }
 
         //Set viewport to stretch or fit viewport depending on whether user has enabled full screen mode setting
         if (SettingsManager.fullScreenModeIsOn) {
@@ -132,32 +165,23 @@ public class HighScoreScreen implements Screen, MobileCallbacks, Net.HttpRespons
             viewport = new FitViewport(GameVariables.WORLD_WIDTH, GameVariables.WORLD_HEIGHT, camera);
         }
 
-        highScoreBackground = new Texture(Gdx.files.internal("textures/highscoresscreen/HighScoresScreen.png"));
-        backButton = new Texture(Gdx.files.internal("textures/BackArrow.png"));
-        globalButtonTexture = new Texture(Gdx.files.internal("textures/highscoresscreen/GlobalLocalButtonsGSelected.png"));
-        localButtonTexture = new Texture(Gdx.files.internal("textures/highscoresscreen/GlobalLocalButtonsLSelected.png"));
-        rankButtonTexture = new Texture(Gdx.files.internal("textures/highscoresscreen/RankTopButtonRank.png"));
-        //topDayButtonTexture = new Texture(Gdx.files.internal("textures/highscoresscreen/RankTopButtonTopDay.png"));
-        //topWeekButtonTexture = new Texture(Gdx.files.internal("textures/highscoresscreen/RankTopButtonTopWeek.png"));
-        topAllTimeButtonTexture = new Texture(Gdx.files.internal("textures/highscoresscreen/RankTopButtonTopAllTime.png"));
+        //Listen to the scroll pane (once it is created) and screen controls again
+        if (scrollPaneCreated) {
+            Gdx.input.setInputProcessor(inputMultiplexer);
+        } else {
+            Gdx.input.setInputProcessor(inputProcessorScreen);
+        }
 
         //Request local scores from database by default
+        currentButtonSelected = LOCAL_BUTTON;
+        scoresRequestNeeded = false;
         createInitialScoreRequest();
 
-        //Create input processor for user controls
-        createInputProcessor();
-
         if (playServices != null) {
             //Hide ads on high scores screen
             playServices.showBannerAds(false);
         }
 
-
-    }
-
-    @Override
-    public void show() {
-
     }
 
     @Override
@@ -412,14 +436,8 @@ public class HighScoreScreen implements Screen, MobileCallbacks, Net.HttpRespons
     @Override
     public void dispose() {
 
-        highScoreBackground.dispose();
-        backButton.dispose();
-        globalButtonTexture.dispose();
-        localButtonTexture.dispose();
-        rankButtonTexture.dispose();
-      //  topDayButtonTexture.dispose();
-      //  topWeekButtonTexture.dispose();
-        topAllTimeButtonTexture.dispose();
+        //Release the textures and skin
+        Assets.unload(ASSETS);
 
     }
 
@@ -482,8 +500,7 @@ public class HighScoreScreen implements Screen, MobileCallbacks, Net.HttpRespons
                 //If the mouse is in bounds of the back button, go back to the main menu
                 if (mousePos.x > BACK_BUTTON_X1 && mousePos.x < BACK_BUTTON_X2 && mousePos.y > BACK_BUTTON_Y1 && mousePos.y < BACK_BUTTON_Y2) {
                     if (button == Input.Buttons.LEFT) {
-                        dispose();
-                        game.setScreen(new MainMenuScreen(game, playServices, databaseManager));
+                        game.screens.show(MainMenuScreen.class);
                         return true;
                     }
                 } else if (mousePos.x > LOCAL_BUTTON_X1 && mousePos.x < LOCAL_BUTTON_ENDPOINT && mousePos.y > GLOBAL_AND_LOCAL_BUTTON_Y1 && mousePos.y < GLOBAL_AND_LOCAL_BUTTON_Y1 + GLOBAL_LOCAL_BUTTON_HEIGHT) {
@@ -621,7 +638,7 @@ public class HighScoreScreen implements Screen, MobileCallbacks, Net.HttpRespons
 
 
             stage = new Stage(scrollPaneViewport);
-            scrollableSkin = new Skin(Gdx.files.internal("skin/uiskin.json"));
+            scrollableSkin = Assets.get(Assets.SKIN);
 
         } else {
             stage.clear();
@@ -668,8 +685,7 @@ public class HighScoreScreen implements Screen, MobileCallbacks, Net.HttpRespons
 
             @Override
             public void run() {
-                dispose();
-                game.setScreen(new HighScoreScreen(game, playServices, databaseManager));
+                game.screens.recreate(HighScoreScreen.this);
             }
         });
     }
@@ -0,0 +1,140 @@
+package io.github.patpatchpatrick.alphapigeon.Screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.badlogic.gdx.utils.viewport.StretchViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
+import io.github.patpatchpatrick.alphapigeon.resources.Assets;
+import io.github.patpatchpatrick.alphapigeon.resources.GameLog;
+import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
+import io.github.patpatchpatrick.alphapigeon.resources.SettingsManager;
+
+public class LoadingScreen implements Screen {
+
+    //Screen shown while the assets of the next screen are loaded in the background
+    //A progress bar is drawn every frame, and the asset manager only uses a part of each frame to load assets
+    //When all of the assets are loaded, the next screen is created and shown
+
+    public interface NextScreen {
+        //Create the screen to show once its assets are loaded
+        Screen create();
+    }
+
+    private AlphaPigeon game;
+    private AssetDescriptor<?>[] assets;
+    private NextScreen nextScreen;
+    private OrthographicCamera camera;
+    private Viewport viewport;
+    private ShapeRenderer shapeRenderer;
+    private long loadingStartTime;
+
+    //Progress Bar Dimensions
+    private final float PROGRESS_BAR_WIDTH = 40f;
+    private final float PROGRESS_BAR_HEIGHT = 2f;
+
+    public LoadingScreen(AlphaPigeon game, AssetDescriptor<?>[] assets, NextScreen nextScreen) {
+
+        this.game = game;
+        this.assets = assets;
+        this.nextScreen = nextScreen;
+
+        //Take a reference to the next screen's assets so they are loaded (or kept loaded if the previous screen used them)
+        Assets.load(assets);
+        loadingStartTime = TimeUtils.millis();
+
+        // create the camera
+        camera = new OrthographicCamera();
+        camera.setToOrtho(false, GameVariables.WORLD_WIDTH, GameVariables.WORLD_HEIGHT);
+
+        //Set viewport to stretch or fit viewport depending on whether user has enabled full screen mode setting
+        if (SettingsManager.fullScreenModeIsOn) {
+            viewport = new StretchViewport(GameVariables.WORLD_WIDTH, GameVariables.WORLD_HEIGHT, camera);
+        } else {
+            viewport = new FitViewport(GameVariables.WORLD_WIDTH, GameVariables.WORLD_HEIGHT, camera);
+        }
+
+        shapeRenderer = new ShapeRenderer();
+
+    }
+
+    @Override
+    public void show() {
+
+    }
+
+    @Override
+    public void render(float delta) {
+
+        //Continue loading, and show the next screen as soon as its assets are loaded
+        Assets.update();
+        if (Assets.globalAssetsAreLoaded() && Assets.isLoaded(assets)) {
+            showNextScreen();
+            return;
+        }
+
+        Gdx.gl.glClearColor(0, 0, 0.2f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        camera.update();
+        shapeRenderer.setProjectionMatrix(camera.combined);
+
+        //Draw the progress bar in the center of the screen
+        float progressBarX = (GameVariables.WORLD_WIDTH - PROGRESS_BAR_WIDTH) / 2;
+        float progressBarY = (GameVariables.WORLD_HEIGHT - PROGRESS_BAR_HEIGHT) / 2;
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(0.2f, 0.2f, 0.4f, 1);
+        shapeRenderer.rect(progressBarX, progressBarY, PROGRESS_BAR_WIDTH, PROGRESS_BAR_HEIGHT);
+        shapeRenderer.setColor(1, 1, 1, 1);
+        shapeRenderer.rect(progressBarX, progressBarY, PROGRESS_BAR_WIDTH * Assets.getProgress(), PROGRESS_BAR_HEIGHT);
+        shapeRenderer.end();
+
+    }
+
+    private void showNextScreen() {
+
+        //The next screen takes its own reference to its assets when it is created, so this screen's reference
+        //is released afterwards and the assets stay loaded
+
+        Screen screen = nextScreen.create();
+        if (GameLog.ENABLED) GameLog.info("LoadingScreen", "{} loaded in {} ms", screen.getClass().getSimpleName(), TimeUtils.timeSinceMillis(loadingStartTime));
+        Assets.unload(assets);
+        game.setScreen(screen);
+        dispose();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+
+        //Update viewport to match screen size
+        viewport.update(width, height, true);
+
+    }
+
+    @Override
+    public void pause() {
+
+    }
+
+    @Override
+    public void resume() {
+
+    }
+
+    @Override
+    public void hide() {
+
+    }
+
+    @Override
+    public void dispose() {
+        shapeRenderer.dispose();
+    }
+}
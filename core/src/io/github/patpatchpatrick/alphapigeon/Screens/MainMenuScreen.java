@@ -5,6 +5,7 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
@@ -24,14 +25,25 @@ import java.util.ArrayList;
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.LevelOneBird;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.LevelTwoBird;
+import io.github.patpatchpatrick.alphapigeon.resources.Assets;
 import io.github.patpatchpatrick.alphapigeon.resources.DatabaseManager;
+import io.github.patpatchpatrick.alphapigeon.resources.GameLog;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 import io.github.patpatchpatrick.alphapigeon.resources.MobileCallbacks;
 import io.github.patpatchpatrick.alphapigeon.resources.PlayServices;
+import io.github.patpatchpatrick.alphapigeon.resources.ReplayRecorder;
 import io.github.patpatchpatrick.alphapigeon.resources.SettingsManager;
 import io.github.patpatchpatrick.alphapigeon.resources.Sounds;
+import io.github.patpatchpatrick.alphapigeon.resources.SpriteAtlas;
 
 public class MainMenuScreen implements Screen, MobileCallbacks {
+
+    //Assets
+    private static final AssetDescriptor<Texture> MAIN_MENU_BACKGROUND = new AssetDescriptor<Texture>("textures/mainmenuscreen/MainMenuScreen.png", Texture.class);
+    private static final AssetDescriptor<Texture> MAIN_MENU_LOGO_AND_TEXT = new AssetDescriptor<Texture>("textures/mainmenuscreen/MainMenuScreenTransparent.png", Texture.class);
+    private static final AssetDescriptor<Texture> ENTER_NAME = new AssetDescriptor<Texture>("textures/mainmenuscreen/EnterName.png", Texture.class);
+    public static final AssetDescriptor<?>[] ASSETS = {MAIN_MENU_BACKGROUND, MAIN_MENU_LOGO_AND_TEXT, ENTER_NAME, Assets.SKIN};
+
     private AlphaPigeon game;
     private OrthographicCamera camera;
     private Viewport viewport;
@@ -48,11 +60,11 @@ public class MainMenuScreen implements Screen, MobileCallbacks {
     private float mainMenuDeltaTime;
 
     //Icons
-    private Texture soundOnIcon;
-    private Texture soundOffIcon;
+    private TextureRegion soundOnIcon;
+    private TextureRegion soundOffIcon;
     private final float SOUND_ICON_WIDTH = 8;
     private final float SOUND_ICON_HEIGHT = SOUND_ICON_WIDTH;
-    private Texture adRemoval;
+    private TextureRegion adRemoval;
     private final float AD_REMOVAL_WIDTH = 9.5f;
     private final float AD_REMOVAL_HEIGHT = 4.5f;
     private final float AD_REMOVAL_X2 = 80 - 1.8f;
@@ -85,7 +97,7 @@ public class MainMenuScreen implements Screen, MobileCallbacks {
     //Animations
     //---LevelOneBird
     private Animation<TextureRegion> levelOneBirdAnimation;
-    private Texture levelOneBirdFlySheet;
+    private TextureRegion levelOneBirdFlySheet;
     private boolean levelOneBirdPositionSet = false;
     private float levelOneBirdXPosition = 0;
     private float levelOneBirdYPosition = 0;
@@ -95,7 +107,7 @@ public class MainMenuScreen implements Screen, MobileCallbacks {
 
     //---LevelTwoBird
     private Animation<TextureRegion> levelTwoBirdAnimation;
-    private Texture levelTwoBirdFlySheet;
+    private TextureRegion levelTwoBirdFlySheet;
     private boolean levelTwoBirdPositionSet = false;
     private float levelTwoBirdXPosition = 0;
     private float levelTwoBirdYPosition = 0;
@@ -126,10 +138,6 @@ public class MainMenuScreen implements Screen, MobileCallbacks {
         this.game = game;
         this.playServices = playServices;
         this.databaseManager = databaseManager;
-        //Set mobile callbacks on this screen to receive any callbacks from mobile device
-        if (playServices != null) {
-            playServices.setMobileCallbacks(this);
-        }
 
         //Initialize World
 
@@ -138,6 +146,37 @@ public class MainMenuScreen implements Screen, MobileCallbacks {
         camera.setToOrtho(false, GameVariables.WORLD_WIDTH, GameVariables.WORLD_HEIGHT);
         //the viewport object will handle camera's attributes
         //the aspect provided (worldWidth/worldHeight) will be kept
+        //The viewport is created each time the screen is shown (see show)
+
+        // Get textures (loaded by the loading screen)
+        Assets.loadNow(ASSETS);
+        mainMenuBackground = Assets.get(MAIN_MENU_BACKGROUND);
+        mainMenuLogoAndText = Assets.get(MAIN_MENU_LOGO_AND_TEXT);
+        soundOnIcon = SpriteAtlas.findRegion("SoundOnIcon");
+        soundOffIcon = SpriteAtlas.findRegion("SoundOffIcon");
+        adRemoval = SpriteAtlas.findRegion("AdRemoval");
+        enterNameTexture = Assets.get(ENTER_NAME);
+
+
+        initializeLevelOneBirdAnimation();
+        initializeLevelTwoBirdAnimation();
+
+        createInputProcessor();
+
+        createTextField();
+
+    }
+
+    @Override
+    public void show() {
+
+        //The main menu is kept alive by the screen registry, so everything that can change while another screen
+        //is shown is set up again each time the main menu is shown
+
+        //Set mobile callbacks on this screen to receive any callbacks from mobile device
+        if (playServices != null) {
+            playServices.setMobileCallbacks(this);
+        }
 
         //Update/refresh the user settings from mobile device shared preferences
         SettingsManager.updateSettings();
@@ -149,20 +188,17 @@ public class MainMenuScreen implements Screen, MobileCallbacks {
             viewport = new FitViewport(GameVariables.WORLD_WIDTH, GameVariables.WORLD_HEIGHT, camera);
         }
 
+        //Start the birds from the right side of the screen again
+        mainMenuStateTime = 0;
+        levelOneBirdPositionSet = false;
+        levelOneBirdTwoPositionSet = false;
+        levelTwoBirdPositionSet = false;
+        levelTwoBirdTwoPositionSet = false;
 
-        // Load textures
-        mainMenuBackground = new Texture(Gdx.files.internal("textures/mainmenuscreen/MainMenuScreen.png"));
-        mainMenuLogoAndText = new Texture(Gdx.files.internal("textures/mainmenuscreen/MainMenuScreenTransparent.png"));
-        soundOnIcon = new Texture(Gdx.files.internal("textures/icons/SoundOnIcon.png"));
-        soundOffIcon = new Texture(Gdx.files.internal("textures/icons/SoundOffIcon.png"));
-        adRemoval = new Texture(Gdx.files.internal("textures/icons/AdRemoval.png"));
-        enterNameTexture = new Texture(Gdx.files.internal("textures/mainmenuscreen/EnterName.png"));
-
-
-        initializeLevelOneBirdAnimation();
-        initializeLevelTwoBirdAnimation();
-
-        createInputProcessor();
+        //Show the current user name in the text field, and listen to the text field and screen controls again
+        userNameTextField.setText(SettingsManager.userName);
+        userNameIsEmpty = SettingsManager.userName.isEmpty();
+        Gdx.input.setInputProcessor(inputMultiplexer);
 
         //Initialize background music after updating user settings (retrieving settings from mobile device db/prefs)
         Sounds.initializeBackgroundMusic();
@@ -177,16 +213,8 @@ public class MainMenuScreen implements Screen, MobileCallbacks {
             }
         }
 
-        createTextField();
-
         Gdx.graphics.setFullscreenMode(Gdx.graphics.getDisplayMode());
 
-
-    }
-
-    @Override
-    public void show() {
-
     }
 
     @Override
@@ -246,7 +274,7 @@ public class MainMenuScreen implements Screen, MobileCallbacks {
     @Override
     public void resize(int width, int height) {
 
-        Gdx.app.log("RESIZE", "W" + width + "H" + height);
+        if (GameLog.ENABLED) GameLog.info("RESIZE", "W{}H{}", width, height);
 
         //Update viewport to match screen size
         viewport.update(width, height, true);
@@ -271,12 +299,8 @@ public class MainMenuScreen implements Screen, MobileCallbacks {
 
     @Override
     public void dispose() {
-        mainMenuBackground.dispose();
-        levelOneBirdFlySheet.dispose();
-        soundOnIcon.dispose();
-        soundOffIcon.dispose();
-        adRemoval.dispose();
-        enterNameTexture.dispose();
+        //Release the textures and skin
+        Assets.unload(ASSETS);
     }
 
     private void update() {
@@ -337,15 +361,15 @@ public class MainMenuScreen implements Screen, MobileCallbacks {
 
     private void initializeLevelOneBirdAnimation() {
 
-        // Load the level one bird sprite sheet as a Texture
-        levelOneBirdFlySheet = new Texture(Gdx.files.internal("sprites/LevelOneBirdBlueSpriteSheet.png"));
+        // Get the level one bird sprite sheet from the sprite atlas
+        levelOneBirdFlySheet = SpriteAtlas.findRegion("LevelOneBirdBlueSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmpDiving = TextureRegion.split(levelOneBirdFlySheet,
-                levelOneBirdFlySheet.getWidth() / 3,
-                levelOneBirdFlySheet.getHeight() / 2);
+        TextureRegion[][] tmpDiving = levelOneBirdFlySheet.split(
+                levelOneBirdFlySheet.getRegionWidth() / 3,
+                levelOneBirdFlySheet.getRegionHeight() / 2);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -363,15 +387,15 @@ public class MainMenuScreen implements Screen, MobileCallbacks {
 
     private void initializeLevelTwoBirdAnimation() {
 
-        // Load the level two bird sprite sheet as a Texture
-        levelTwoBirdFlySheet = new Texture(Gdx.files.internal("sprites/LevelTwoBirdBlueSpriteSheet.png"));
+        // Get the level two bird sprite sheet from the sprite atlas
+        levelTwoBirdFlySheet = SpriteAtlas.findRegion("LevelTwoBirdBlueSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmpLevelTwo = TextureRegion.split(levelTwoBirdFlySheet,
-                levelTwoBirdFlySheet.getWidth() / 4,
-                levelTwoBirdFlySheet.getHeight() / 2);
+        TextureRegion[][] tmpLevelTwo = levelTwoBirdFlySheet.split(
+                levelTwoBirdFlySheet.getRegionWidth() / 4,
+                levelTwoBirdFlySheet.getRegionHeight() / 2);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -415,8 +439,21 @@ public class MainMenuScreen implements Screen, MobileCallbacks {
                 //If the mouse is in bounds of any of the buttons on the screen and the buttons are clicked, open corresponding screen
                 if (mousePos.x > PLAY_BUTTON_X1 && mousePos.x < PLAY_BUTTON_X2 && mousePos.y > PLAY_BUTTON_Y1 && mousePos.y < PLAY_BUTTON_Y2) {
                     if (button == Input.Buttons.LEFT) {
-                        dispose();
-                        game.setScreen(new GameScreen(game, playServices, databaseManager));
+                        game.setScreen(new LoadingScreen(game, GameScreen.ASSETS, new LoadingScreen.NextScreen() {
+                            @Override
+                            public Screen create() {
+                                //Record every game so the last game can be replayed (see ReplayPlayer)
+                                ReplayRecorder replayRecorder = null;
+                                if (Gdx.files.isLocalStorageAvailable()) {
+                                    replayRecorder = new ReplayRecorder(Gdx.files.local(ReplayRecorder.LAST_GAME_FILE));
+                                }
+                                GameScreen gameScreen = new GameScreen(game, playServices, databaseManager);
+                                if (replayRecorder != null) {
+                                    gameScreen.recordReplay(replayRecorder);
+                                }
+                                return gameScreen;
+                            }
+                        }));
                         return true;
                     }
                 } else if (mousePos.x > HIGH_SCORES_BUTTON_X1 && mousePos.x < HIGH_SCORES_BUTTON_X2 && mousePos.y > HIGH_SCORES_BUTTON_Y1 && mousePos.y < HIGH_SCORES_BUTTON_Y2) {
@@ -427,8 +464,7 @@ public class MainMenuScreen implements Screen, MobileCallbacks {
                     }
                 } else if (mousePos.x > SETTINGS_BUTTON_X1 && mousePos.x < SETTINGS_BUTTON_X2 && mousePos.y > SETTINGS_BUTTON_Y1 && mousePos.y < SETTINGS_BUTTON_Y2) {
                     if (button == Input.Buttons.LEFT) {
-                        dispose();
-                        game.setScreen(new SettingsScreen(game, playServices, databaseManager));
+                        game.screens.show(SettingsScreen.class);
                         return true;
                     }
                 } else if (mousePos.x > SOUND_BUTTON_X1 && mousePos.x < SOUND_BUTTON_X1 + SOUND_ICON_WIDTH &&
@@ -492,8 +528,7 @@ public class MainMenuScreen implements Screen, MobileCallbacks {
     }
 
     private void resetScreen() {
-        dispose();
-        game.setScreen(new MainMenuScreen(game, playServices, databaseManager));
+        game.screens.recreate(this);
     }
 
     private void removeAds() {
@@ -517,7 +552,7 @@ public class MainMenuScreen implements Screen, MobileCallbacks {
 
 
             stage = new Stage(textFieldViewport);
-            textFieldSkin = new Skin(Gdx.files.internal("skin/uiskin.json"));
+            textFieldSkin = Assets.get(Assets.SKIN);
 
         } else {
             stage.clear();
@@ -0,0 +1,118 @@
+package io.github.patpatchpatrick.alphapigeon.Screens;
+
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
+import io.github.patpatchpatrick.alphapigeon.resources.DatabaseManager;
+import io.github.patpatchpatrick.alphapigeon.resources.PlayServices;
+
+public class ScreenRegistry {
+
+    //Keeps the menu screens alive after they are first shown, so going back and forth between menus doesn't
+    //rebuild their stages, animations and viewports (and reload their textures) every time
+    //A cached screen resets its state in show() each time it is shown again
+    //Cached screens are only disposed when memory runs low (see trim) or when the game is closed
+    //The game and game over screens are created for each game and are not cached
+
+    private AlphaPigeon game;
+    private PlayServices playServices;
+    private DatabaseManager databaseManager;
+
+    //How to create each type of cached screen, and the assets to load before it is created
+    private final ObjectMap<Class<? extends Screen>, LoadingScreen.NextScreen> screenCreators = new ObjectMap<Class<? extends Screen>, LoadingScreen.NextScreen>();
+    private final ObjectMap<Class<? extends Screen>, AssetDescriptor<?>[]> screenAssets = new ObjectMap<Class<? extends Screen>, AssetDescriptor<?>[]>();
+    private final ObjectMap<Class<? extends Screen>, Screen> cachedScreens = new ObjectMap<Class<? extends Screen>, Screen>();
+
+    public ScreenRegistry(final AlphaPigeon game, final PlayServices playServices, final DatabaseManager databaseManager) {
+
+        this.game = game;
+        this.playServices = playServices;
+        this.databaseManager = databaseManager;
+
+        register(MainMenuScreen.class, MainMenuScreen.ASSETS, new LoadingScreen.NextScreen() {
+            @Override
+            public Screen create() {
+                return new MainMenuScreen(game, playServices, databaseManager);
+            }
+        });
+        register(SettingsScreen.class, SettingsScreen.ASSETS, new LoadingScreen.NextScreen() {
+            @Override
+            public Screen create() {
+                return new SettingsScreen(game, playServices, databaseManager);
+            }
+        });
+        register(HighScoreScreen.class, HighScoreScreen.ASSETS, new LoadingScreen.NextScreen() {
+            @Override
+            public Screen create() {
+                return new HighScoreScreen(game, playServices, databaseManager);
+            }
+        });
+
+    }
+
+    private void register(Class<? extends Screen> screenType, AssetDescriptor<?>[] assets, LoadingScreen.NextScreen screenCreator) {
+        screenCreators.put(screenType, screenCreator);
+        screenAssets.put(screenType, assets);
+    }
+
+    public void show(final Class<? extends Screen> screenType) {
+
+        //Show the cached screen of this type
+        //If it isn't cached yet, load its assets and create it behind a loading screen
+
+        Screen cachedScreen = cachedScreens.get(screenType);
+        if (cachedScreen != null) {
+            game.setScreen(cachedScreen);
+            return;
+        }
+
+        final LoadingScreen.NextScreen screenCreator = screenCreators.get(screenType);
+        if (screenCreator == null) throw new IllegalArgumentException(screenType.getSimpleName() + " is not a registered screen.");
+
+        game.setScreen(new LoadingScreen(game, screenAssets.get(screenType), new LoadingScreen.NextScreen() {
+            @Override
+            public Screen create() {
+                Screen screen = screenCreator.create();
+                cachedScreens.put(screenType, screen);
+                return screen;
+            }
+        }));
+    }
+
+    public void recreate(Screen screen) {
+
+        //Replace a cached screen with a new one and show it
+        //The new screen takes its reference to the assets before the old screen releases them, so nothing is reloaded
+
+        Class<? extends Screen> screenType = screen.getClass();
+        cachedScreens.remove(screenType);
+        show(screenType);
+        screen.dispose();
+    }
+
+    public void trim() {
+
+        //Dispose every cached screen that is not currently shown, to free their textures and stages
+        //Called when the device is running low on memory
+
+        Screen currentScreen = game.getScreen();
+        ObjectMap.Entries<Class<? extends Screen>, Screen> entries = cachedScreens.entries();
+        while (entries.hasNext()) {
+            Screen cachedScreen = entries.next().value;
+            if (cachedScreen != currentScreen) {
+                cachedScreen.dispose();
+                entries.remove();
+            }
+        }
+    }
+
+    public void dispose() {
+        for (Screen cachedScreen : cachedScreens.values()) {
+            cachedScreen.dispose();
+        }
+        cachedScreens.clear();
+    }
+
+}
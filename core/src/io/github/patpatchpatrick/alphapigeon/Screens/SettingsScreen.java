@@ -5,6 +5,7 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
@@ -23,6 +24,7 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import java.util.ArrayList;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
+import io.github.patpatchpatrick.alphapigeon.resources.Assets;
 import io.github.patpatchpatrick.alphapigeon.resources.DatabaseManager;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 import io.github.patpatchpatrick.alphapigeon.resources.MobileCallbacks;
@@ -55,6 +57,13 @@ public class SettingsScreen implements Screen, MobileCallbacks {
     private final float ACCEL_SENSITIVITY_SLIDER_X1 = MUSIC_VOLUME_SLIDER_X1;
     private final float ACCEL_SENSITIVITY_SLIDER_Y1 = 39;
 
+    //Assets
+    private static final AssetDescriptor<Texture> SETTINGS_BACKGROUND = new AssetDescriptor<Texture>("textures/settingsscreen/SettingsScreen.png", Texture.class);
+    private static final AssetDescriptor<Texture> ON_OFF_BUTTON_ON_SELECTED = new AssetDescriptor<Texture>("textures/settingsscreen/OnOffButtonOnSelected.png", Texture.class);
+    private static final AssetDescriptor<Texture> ON_OFF_BUTTON_OFF_SELECTED = new AssetDescriptor<Texture>("textures/settingsscreen/OnOffButtonOffSelected.png", Texture.class);
+    private static final AssetDescriptor<Texture> FULL_SCREEN_HEADER = new AssetDescriptor<Texture>("textures/settingsscreen/FullScreenHeader.png", Texture.class);
+    public static final AssetDescriptor<?>[] ASSETS = {SETTINGS_BACKGROUND, ON_OFF_BUTTON_ON_SELECTED, ON_OFF_BUTTON_OFF_SELECTED, FULL_SCREEN_HEADER, Assets.SKIN};
+
     //Textures
     private Texture settingsBackground;
 
@@ -98,29 +107,18 @@ public class SettingsScreen implements Screen, MobileCallbacks {
         this.playServices = playServices;
         this.databaseManager = databaseManager;
 
-        if (playServices != null) {
-            //Set the current device mobile callbacks to include this screen specific interface so
-            // it can receive callbacks from the mobile device
-            playServices.setMobileCallbacks(this);
-        }
-
         // create the camera
         camera = new OrthographicCamera();
         camera.setToOrtho(false, GameVariables.WORLD_WIDTH, GameVariables.WORLD_HEIGHT);
         //the viewport object will handle camera's attributes
         //the aspect provided (worldWidth/worldHeight) will be kept
 
-        //Set viewport to stretch or fit viewport depending on whether user has enabled full screen mode setting
-        if (SettingsManager.fullScreenModeIsOn) {
-            viewport = new StretchViewport(GameVariables.WORLD_WIDTH, GameVariables.WORLD_HEIGHT, camera);
-        } else {
-            viewport = new FitViewport(GameVariables.WORLD_WIDTH, GameVariables.WORLD_HEIGHT, camera);
-        }
-
-        settingsBackground = new Texture(Gdx.files.internal("textures/settingsscreen/SettingsScreen.png"));
-        onOffButtonOnSelected = new Texture(Gdx.files.internal("textures/settingsscreen/OnOffButtonOnSelected.png"));
-        onOffButtonOffSelected = new Texture(Gdx.files.internal("textures/settingsscreen/OnOffButtonOffSelected.png"));
-        fullScreenHeader = new Texture(Gdx.files.internal("textures/settingsscreen/FullScreenHeader.png"));
+        //Get the textures (loaded by the loading screen)
+        Assets.loadNow(ASSETS);
+        settingsBackground = Assets.get(SETTINGS_BACKGROUND);
+        onOffButtonOnSelected = Assets.get(ON_OFF_BUTTON_ON_SELECTED);
+        onOffButtonOffSelected = Assets.get(ON_OFF_BUTTON_OFF_SELECTED);
+        fullScreenHeader = Assets.get(FULL_SCREEN_HEADER);
 
 
         //Create input processor for user controls
@@ -131,16 +129,34 @@ public class SettingsScreen implements Screen, MobileCallbacks {
 
         initializeSliders();
 
-        if (playServices != null) {
-            //Hide ads on settings screen
-            playServices.showBannerAds(false);
-        }
-
     }
 
     @Override
     public void show() {
 
+        //The settings screen is kept alive by the screen registry, set it up again each time it is shown
+
+        if (playServices != null) {
+            //Set the current device mobile callbacks to include this screen specific interface so
+            // it can receive callbacks from the mobile device
+            playServices.setMobileCallbacks(this);
+        }
+
+        //Set viewport to stretch or fit viewport depending on whether user has enabled full screen mode setting
+        if (SettingsManager.fullScreenModeIsOn) {
+            viewport = new StretchViewport(GameVariables.WORLD_WIDTH, GameVariables.WORLD_HEIGHT, camera);
+        } else {
+            viewport = new FitViewport(GameVariables.WORLD_WIDTH, GameVariables.WORLD_HEIGHT, camera);
+        }
+
+        //Listen to the sliders and screen controls again
+        Gdx.input.setInputProcessor(inputMultiplexer);
+
+        if (playServices != null) {
+            //Hide ads on settings screen
+            playServices.showBannerAds(false);
+        }
+
     }
 
     @Override
@@ -230,10 +246,8 @@ public class SettingsScreen implements Screen, MobileCallbacks {
     @Override
     public void dispose() {
 
-        settingsBackground.dispose();
-        fullScreenHeader.dispose();
-        onOffButtonOffSelected.dispose();
-        onOffButtonOnSelected.dispose();
+        //Release the textures and skin
+        Assets.unload(ASSETS);
 
     }
 
@@ -264,8 +278,7 @@ public class SettingsScreen implements Screen, MobileCallbacks {
                 //If the mouse is in bounds of the back button, go back to the main menu
                 if (mousePos.x > BACK_BUTTON_X1 && mousePos.x < BACK_BUTTON_X2 && mousePos.y > BACK_BUTTON_Y1 && mousePos.y < BACK_BUTTON_Y2) {
                     if (button == Input.Buttons.LEFT) {
-                        dispose();
-                        game.setScreen(new MainMenuScreen(game, playServices, databaseManager));
+                        game.screens.show(MainMenuScreen.class);
                         return true;
                     }
                 } else if (mousePos.x > MUSIC_BUTTON_X1 && mousePos.x < MUSIC_BUTTON_X1 + ON_OFF_BUTTON_WIDTH && mousePos.y > MUSIC_BUTTON_Y1 && mousePos.y < MUSIC_BUTTON_Y1 + ON_OFF_BUTTON_HEIGHT) {
@@ -368,7 +381,7 @@ public class SettingsScreen implements Screen, MobileCallbacks {
         sliderViewport = new FitViewport(800, 480);
         stage = new Stage(sliderViewport);
 
-        Skin skin = new Skin(Gdx.files.internal("skin/uiskin.json"));
+        Skin skin = Assets.get(Assets.SKIN);
 
         createMusicVolumeSlider(skin);
         createGameVolumeSlider(skin);
@@ -507,8 +520,7 @@ public class SettingsScreen implements Screen, MobileCallbacks {
 
             @Override
             public void run() {
-                dispose();
-                game.setScreen(new SettingsScreen(game, playServices, databaseManager));
+                game.screens.recreate(SettingsScreen.this);
             }
         });
     }
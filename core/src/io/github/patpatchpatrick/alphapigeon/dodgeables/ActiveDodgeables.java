@@ -0,0 +1,134 @@
+package io.github.patpatchpatrick.alphapigeon.dodgeables;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
+
+public class ActiveDodgeables<T extends Dodgeable> implements Iterable<T> {
+
+    //Dense list of the dodgeables that are in use (spawned and not freed yet)
+    //Every dodgeable type has its own set, and every type set also adds its dodgeables to the set of all
+    //active dodgeables (Dodgeables.activeDodgeables), so a dodgeable only needs to be added and removed once
+    //
+    //Removing a dodgeable only flags it, which takes constant time and is safe while the set is being iterated
+    //The flagged dodgeables are skipped when iterating, and are compacted out of every set in a single linear
+    //pass once per tick (see Dodgeables.compactActiveSets), keeping the order of the remaining dodgeables
+    //so they are still drawn in the order they were spawned
+
+    private final Array<T> items = new Array<T>();
+    //Set of all active dodgeables that this set also adds its dodgeables to (null for that set itself)
+    private final ActiveDodgeables<Dodgeable> allActiveDodgeables;
+    private boolean hasRemovals = false;
+
+    //Iterators are reused so iterating doesn't allocate, two of them allow one nested iteration
+    private final ActiveIterator iterator1 = new ActiveIterator();
+    private final ActiveIterator iterator2 = new ActiveIterator();
+    private boolean lastIteratorWasOne = false;
+
+    ActiveDodgeables(ActiveDodgeables<Dodgeable> allActiveDodgeables) {
+        this.allActiveDodgeables = allActiveDodgeables;
+    }
+
+    public void add(T dodgeable) {
+
+        //A dodgeable that was removed and is added again before the sets are compacted is still in every set,
+        //so it only needs to be unflagged
+
+        if (dodgeable.isRemovedFromActiveSet) {
+            dodgeable.isRemovedFromActiveSet = false;
+            return;
+        }
+        if (dodgeable.isInActiveSet) {
+            return;
+        }
+        dodgeable.isInActiveSet = true;
+        items.add(dodgeable);
+        if (allActiveDodgeables != null) {
+            allActiveDodgeables.items.add(dodgeable);
+        }
+    }
+
+    public void remove(T dodgeable) {
+        if (!dodgeable.isInActiveSet || dodgeable.isRemovedFromActiveSet) {
+            return;
+        }
+        dodgeable.isRemovedFromActiveSet = true;
+        hasRemovals = true;
+        if (allActiveDodgeables != null) {
+            allActiveDodgeables.hasRemovals = true;
+        }
+    }
+
+    void compact() {
+
+        //Move the dodgeables that are still active to the front of the list, keeping their order
+        //The set of all active dodgeables is compacted last, and it clears the flags of the removed dodgeables
+
+        if (!hasRemovals) {
+            return;
+        }
+        int activeCount = 0;
+        for (int i = 0, n = items.size; i < n; i++) {
+            T dodgeable = items.get(i);
+            if (!dodgeable.isRemovedFromActiveSet) {
+                items.set(activeCount++, dodgeable);
+            } else if (allActiveDodgeables == null) {
+                dodgeable.isRemovedFromActiveSet = false;
+                dodgeable.isInActiveSet = false;
+            }
+        }
+        items.truncate(activeCount);
+        hasRemovals = false;
+    }
+
+    public int size() {
+        //Number of dodgeables in the set, including the removed dodgeables that are not compacted out yet
+        return items.size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        //The two iterators are used in turn, like the iterators of a libGDX Array
+        ActiveIterator iterator = lastIteratorWasOne ? iterator2 : iterator1;
+        lastIteratorWasOne = !lastIteratorWasOne;
+        iterator.reset();
+        return iterator;
+    }
+
+    private class ActiveIterator implements Iterator<T> {
+
+        private int index;
+
+        private void reset() {
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            //Skip the dodgeables that were removed, including the ones removed during this iteration
+            while (index < items.size && items.get(index).isRemovedFromActiveSet) {
+                index++;
+            }
+            return index < items.size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException(String.valueOf(index));
+            }
+            return items.get(index++);
+        }
+
+        @Override
+        public void remove() {
+            throw new GdxRuntimeException("Remove not allowed, use ActiveDodgeables.remove.");
+        }
+
+    }
+
+}
@@ -1,23 +1,17 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.IntFloatMap;
 import com.badlogic.gdx.utils.TimeUtils;
 
-import java.util.HashMap;
-
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.Screens.GameScreen;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.AlienMissile;
@@ -26,12 +20,18 @@ import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.AlienMissi
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.AlienMissileExplosion;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.LevelOneBird;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.LevelTwoBird;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.CullingComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.LifetimeComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.SpriteComponent;
 import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyData;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 import io.github.patpatchpatrick.alphapigeon.resources.SettingsManager;
+import io.github.patpatchpatrick.alphapigeon.resources.SoundMixer;
 import io.github.patpatchpatrick.alphapigeon.resources.Sounds;
+import io.github.patpatchpatrick.alphapigeon.resources.SpriteAtlas;
 
 public class AlienMissiles {
 
@@ -41,34 +41,33 @@ public class AlienMissiles {
     private  Dodgeables dodgeables;
 
     //Alien Missile variables
-    private final Array<AlienMissile> activeAlienMissiles = new Array<AlienMissile>();
-    private final Pool<AlienMissile> alienMissilePool;
+    private final ActiveDodgeables<AlienMissile> activeAlienMissiles;
+    private final DodgeablePool<AlienMissile> alienMissilePool;
     private Animation<TextureRegion> alienMissileAnimation;
-    private Texture alienMissileSheet;
+    private TextureRegion alienMissileSheet;
     private float lastAlienMissileSpawnTime;
-    private HashMap<Float, Float> lastSpawnTimeByLevel = new HashMap<Float, Float>();
+    private final IntFloatMap lastSpawnTimeByLevel = new IntFloatMap();
     public final float SPAWN_DIRECTION_LEFTWARD = 0f;
     public final float SPAWN_DIRECTION_UPWARD = 1f;
     public final float SPAWN_DIRECTION_RIGHTWARD = 2f;
     public final float SPAWN_DIRECTION_DOWNWARD = 3f;
 
     //Alien Missile Explosion variables
-    private final Array<AlienMissileExplosion> activeAlienMissileExplosions = new Array<AlienMissileExplosion>();
-    private final Pool<AlienMissileExplosion> alienMissileExplosionsPool;
+    private final DodgeablePool<AlienMissileExplosion> alienMissileExplosionsPool;
     private Array<Body> alienMissileExplosionArray = new Array<Body>();
     private Animation<TextureRegion> alienMissileExplosionAnimation;
-    private Texture alienMissileExplosionSheet;
+    private TextureRegion alienMissileExplosionSheet;
+    private final float EXPLOSION_DURATION = 0.5f; //seconds
 
     //Alien Missile Corner variables
-    private final Array<AlienMissileCorner> activeAlienMissileCorners = new Array<AlienMissileCorner>();
-    private final Pool<AlienMissileCorner> alienMissileCornersPool;
+    private final ActiveDodgeables<AlienMissileCorner> activeAlienMissileCorners;
+    private final DodgeablePool<AlienMissileCorner> alienMissileCornersPool;
     private Animation<TextureRegion> alienMissileCornerAnimation;
-    private Texture alienMissileCornerSheet;
+    private TextureRegion alienMissileCornerSheet;
     private final float ALIEN_MISSILE_CORNER_EXPLOSION_FUSE_TIME = 1f;  //seconds
 
     //Alien Missile Corner Explosion variables
-    private final Array<AlienMissileCornerExplosion> activeAlienMissileCornerExplosions = new Array<AlienMissileCornerExplosion>();
-    private final Pool<AlienMissileCornerExplosion> alienMissileCornerExplosionsPool;
+    private final DodgeablePool<AlienMissileCornerExplosion> alienMissileCornerExplosionsPool;
     private Animation<TextureRegion> alienMissileCornerExplosionAnimation;
 
 
@@ -82,85 +81,77 @@ public class AlienMissiles {
         initializeAlienMissileExplosionAnimation();
         initializeAlienMissileCornerAnimation();
 
-        alienMissilePool = new Pool<AlienMissile>() {
+        alienMissilePool = new DodgeablePool<AlienMissile>("AlienMissile", dodgeables) {
             @Override
-            protected AlienMissile newObject() {
+            protected AlienMissile newDodgeable() {
                 return new AlienMissile(gameWorld, game, camera);
             }
-        };
 
-        alienMissileExplosionsPool = new Pool<AlienMissileExplosion>() {
             @Override
-            protected AlienMissileExplosion newObject() {
-                return new AlienMissileExplosion(gameWorld, game, camera);
+            protected void addComponents(AlienMissile alienMissile) {
+                //The missile spins around its center
+                SpriteComponent sprite = new SpriteComponent(alienMissileAnimation, Dodgeables.LAYER_ALIEN_MISSILES, alienMissile.WIDTH, alienMissile.HEIGHT);
+                sprite.originX = alienMissile.WIDTH / 2;
+                sprite.originY = alienMissile.HEIGHT / 2;
+                alienMissile.entity.add(sprite);
+                alienMissile.entity.add(new CullingComponent(alienMissile.WIDTH, alienMissile.HEIGHT));
             }
         };
 
-        alienMissileCornersPool = new Pool<AlienMissileCorner>() {
+        activeAlienMissiles = alienMissilePool.activeDodgeables;
+
+        alienMissileExplosionsPool = new DodgeablePool<AlienMissileExplosion>("AlienMissileExplosion", dodgeables) {
             @Override
-            protected AlienMissileCorner newObject() {
-                return new AlienMissileCorner(gameWorld, game, camera);
+            protected AlienMissileExplosion newDodgeable() {
+                return new AlienMissileExplosion(gameWorld, game, camera);
             }
-        };
 
-        alienMissileCornerExplosionsPool = new Pool<AlienMissileCornerExplosion>() {
             @Override
-            protected AlienMissileCornerExplosion newObject() {
-                return new AlienMissileCornerExplosion(gameWorld, game, camera);
+            protected void addComponents(AlienMissileExplosion alienMissileExplosion) {
+                SpriteComponent sprite = new SpriteComponent(alienMissileExplosionAnimation, Dodgeables.LAYER_ALIEN_MISSILES, alienMissileExplosion.WIDTH, alienMissileExplosion.HEIGHT);
+                sprite.rotates = false;
+                alienMissileExplosion.entity.add(sprite);
+                alienMissileExplosion.entity.add(new LifetimeComponent(EXPLOSION_DURATION));
+                alienMissileExplosion.entity.add(new CullingComponent(alienMissileExplosion.WIDTH, alienMissileExplosion.HEIGHT));
             }
         };
 
-    }
-
-
-    public void render(float stateTime, SpriteBatch batch){
-
-        TextureRegion alienMissileCurrentFrame = alienMissileAnimation.getKeyFrame(stateTime, true);
-        TextureRegion alienMissileExplosionCurrentFrame = alienMissileExplosionAnimation.getKeyFrame(stateTime, true);
-        TextureRegion alienCornerCurrentFrame = alienMissileCornerAnimation.getKeyFrame(stateTime, true);
-
-        // Render all active alien missiles
-        for (AlienMissile alienMissile : activeAlienMissiles) {
-            if (alienMissile.alive) {
-                batch.draw(alienMissileCurrentFrame, alienMissile.getPosition().x, alienMissile.getPosition().y, alienMissile.WIDTH / 2, alienMissile.HEIGHT / 2, alienMissile.WIDTH, alienMissile.HEIGHT, 1, 1, alienMissile.getAngle());
-            } else {
-                activeAlienMissiles.removeValue(alienMissile, false);
-                dodgeables.activeDodgeables.removeValue(alienMissile, false);
+        alienMissileCornersPool = new DodgeablePool<AlienMissileCorner>("AlienMissileCorner", dodgeables) {
+            @Override
+            protected AlienMissileCorner newDodgeable() {
+                return new AlienMissileCorner(gameWorld, game, camera);
             }
-        }
 
-        // Render all active alien missile explosions
-        for (AlienMissileExplosion alienMissileExplosion : activeAlienMissileExplosions) {
-            if (alienMissileExplosion.alive) {
-                batch.draw(alienMissileExplosionCurrentFrame, alienMissileExplosion.getPosition().x, alienMissileExplosion.getPosition().y, 0, 0, alienMissileExplosion.WIDTH, alienMissileExplosion.HEIGHT, 1, 1, 0);
-            } else {
-                activeAlienMissileExplosions.removeValue(alienMissileExplosion, false);
-                dodgeables.activeDodgeables.removeValue(alienMissileExplosion, false);
+            @Override
+            protected void addComponents(AlienMissileCorner alienMissileCorner) {
+                SpriteComponent sprite = new SpriteComponent(alienMissileCornerAnimation, Dodgeables.LAYER_ALIEN_MISSILES, alienMissileCorner.WIDTH, alienMissileCorner.HEIGHT);
+                sprite.rotates = false;
+                alienMissileCorner.entity.add(sprite);
+                alienMissileCorner.entity.add(new CullingComponent(alienMissileCorner.WIDTH, alienMissileCorner.HEIGHT));
             }
-        }
+        };
 
-        // Render all active alien missile corners
-        for (AlienMissileCorner alienMissileCorner : activeAlienMissileCorners) {
-            if (alienMissileCorner.alive) {
-                batch.draw(alienCornerCurrentFrame, alienMissileCorner.getPosition().x, alienMissileCorner.getPosition().y, 0, 0, alienMissileCorner.WIDTH, alienMissileCorner.HEIGHT, 1, 1, 0);
-            } else {
-                activeAlienMissileCorners.removeValue(alienMissileCorner, false);
-                dodgeables.activeDodgeables.removeValue(alienMissileCorner, false);
+        activeAlienMissileCorners = alienMissileCornersPool.activeDodgeables;
+
+        alienMissileCornerExplosionsPool = new DodgeablePool<AlienMissileCornerExplosion>("AlienMissileCornerExplosion", dodgeables) {
+            @Override
+            protected AlienMissileCornerExplosion newDodgeable() {
+                return new AlienMissileCornerExplosion(gameWorld, game, camera);
             }
-        }
 
-        // Render all active alien missile corner explosions
-        for (AlienMissileCornerExplosion alienMissileCornerExplosion : activeAlienMissileCornerExplosions) {
-            if (alienMissileCornerExplosion.alive) {
-                batch.draw(alienMissileExplosionCurrentFrame, alienMissileCornerExplosion.getPosition().x, alienMissileCornerExplosion.getPosition().y, 0, 0, alienMissileCornerExplosion.WIDTH, alienMissileCornerExplosion.HEIGHT, 1, 1, 0);
-            } else {
-                activeAlienMissileCornerExplosions.removeValue(alienMissileCornerExplosion, false);
-                dodgeables.activeDodgeables.removeValue(alienMissileCornerExplosion, false);
+            @Override
+            protected void addComponents(AlienMissileCornerExplosion alienMissileCornerExplosion) {
+                SpriteComponent sprite = new SpriteComponent(alienMissileExplosionAnimation, Dodgeables.LAYER_ALIEN_MISSILES, alienMissileCornerExplosion.WIDTH, alienMissileCornerExplosion.HEIGHT);
+                sprite.rotates = false;
+                alienMissileCornerExplosion.entity.add(sprite);
+                alienMissileCornerExplosion.entity.add(new LifetimeComponent(EXPLOSION_DURATION));
+                alienMissileCornerExplosion.entity.add(new CullingComponent(alienMissileCornerExplosion.WIDTH, alienMissileCornerExplosion.HEIGHT));
             }
-        }
+        };
 
     }
 
+
     public void update(){
 
         float currentTime = Gameplay.totalGameTime;
@@ -179,24 +170,7 @@ public class AlienMissiles {
                     spawnAlienMissileCorners(alienMissile.getPosition().x, alienMissile.getPosition().y);
                 }
             } else {
-                BodyData setFlagForDelete = new BodyData(true);
-                alienMissile.dodgeableBody.setUserData(setFlagForDelete);
-            }
-        }
-
-        // Alien Missile Explosions
-        // If missiles explosions are spawned , destroy them after a set amount of time.
-
-        for (AlienMissileExplosion alienMissileExplosion : activeAlienMissileExplosions){
-            BodyData missileExplosionData = (BodyData) alienMissileExplosion.dodgeableBody.getUserData();
-            if (missileExplosionData != null) {
-                float missileExplosionSpawnTime = missileExplosionData.getSpawnTime();
-                if (currentTime - missileExplosionSpawnTime > 0.5f) {
-                    missileExplosionData.setFlaggedForDelete(true);
-                }
-            } else {
-                BodyData setFlagForDelete = new BodyData(true);
-                alienMissileExplosion.dodgeableBody.setUserData(setFlagForDelete);
+                BodyData.flagForDelete(alienMissile.dodgeableBody);
             }
         }
 
@@ -212,28 +186,10 @@ public class AlienMissiles {
                     spawnAlienMissileCornerExplosions(alienMissileCorner.getPosition().x, alienMissileCorner.getPosition().y);
                 }
             } else {
-                BodyData setFlagForDelete = new BodyData(true);
-                alienMissileCorner.dodgeableBody.setUserData(setFlagForDelete);
-            }
-        }
-
-        // Alien Corner Missile Explosions
-        // If missiles explosions are spawned , destroy them after a set amount of time.
-
-        for (AlienMissileCornerExplosion alienMissileCornerExplosion : activeAlienMissileCornerExplosions){
-            BodyData missileExplosionData = (BodyData) alienMissileCornerExplosion.dodgeableBody.getUserData();
-            if (missileExplosionData != null) {
-                float missileExplosionSpawnTime = missileExplosionData.getSpawnTime();
-                if (currentTime - missileExplosionSpawnTime > 0.5f) {
-                    missileExplosionData.setFlaggedForDelete(true);
-                }
-            } else {
-                BodyData setFlagForDelete = new BodyData(true);
-                alienMissileCornerExplosion.dodgeableBody.setUserData(setFlagForDelete);
+                BodyData.flagForDelete(alienMissileCorner.dodgeableBody);
             }
         }
 
-
     }
 
     public void spawnAlienMissile(float direction, float level) {
@@ -252,12 +208,10 @@ public class AlienMissiles {
         } else {
             alienMissile.initLeftward();
         }
-        activeAlienMissiles.add(alienMissile);
-        dodgeables.activeDodgeables.add(alienMissile);
 
         //keep track of time the bird was spawned
         lastAlienMissileSpawnTime = Gameplay.totalGameTime;
-        lastSpawnTimeByLevel.put(level, lastAlienMissileSpawnTime);
+        lastSpawnTimeByLevel.put((int) level, lastAlienMissileSpawnTime);
 
     }
 
@@ -267,11 +221,9 @@ public class AlienMissiles {
 
         AlienMissileExplosion alienMissileExplosion = alienMissileExplosionsPool.obtain();
         alienMissileExplosion.init(explosionPositionX, explosionPositionY);
-        activeAlienMissileExplosions.add(alienMissileExplosion);
-        dodgeables.activeDodgeables.add(alienMissileExplosion);
 
         //play explosion sound
-        Sounds.alienMissileExplosionSound.play(SettingsManager.gameVolume);
+        SoundMixer.play(Sounds.alienMissileExplosionSound, SoundMixer.PRIORITY_EFFECT);
 
     }
 
@@ -282,29 +234,21 @@ public class AlienMissiles {
         //they travel in 4 different opposite directions away from the main missile
         //generate a random angle theta and send the missiles in 4 opposite directions depending on random angle theta
 
-        float theta = MathUtils.random(0, 90);
+        float theta = GameRandom.random(0, 90);
 
         // Spawn(obtain) a four alien missile corners from the alien corners pool and add to list of active corners
 
         AlienMissileCorner alienMissileCorner = alienMissileCornersPool.obtain();
         alienMissileCorner.initFirstCorner(explosionPositionX, explosionPositionY, theta);
-        activeAlienMissileCorners.add(alienMissileCorner);
-        dodgeables.activeDodgeables.add(alienMissileCorner);
 
         AlienMissileCorner alienMissileCornerTwo = alienMissileCornersPool.obtain();
         alienMissileCornerTwo.initSecondCorner(explosionPositionX, explosionPositionY, theta);
-        activeAlienMissileCorners.add(alienMissileCornerTwo);
-        dodgeables.activeDodgeables.add(alienMissileCornerTwo);
 
         AlienMissileCorner alienMissileCornerThree = alienMissileCornersPool.obtain();
         alienMissileCornerThree.initThirdCorner(explosionPositionX, explosionPositionY, theta);
-        activeAlienMissileCorners.add(alienMissileCornerThree);
-        dodgeables.activeDodgeables.add(alienMissileCornerThree);
 
         AlienMissileCorner alienMissileCornerFour = alienMissileCornersPool.obtain();
         alienMissileCornerFour.initFourthCorner(explosionPositionX, explosionPositionY, theta);
-        activeAlienMissileCorners.add(alienMissileCornerFour);
-        dodgeables.activeDodgeables.add(alienMissileCornerFour);
     }
 
     public void spawnAlienMissileCornerExplosions(float explosionPositionX, float explosionPositionY){
@@ -313,11 +257,9 @@ public class AlienMissiles {
 
         AlienMissileCornerExplosion alienMissileCornerExplosion = alienMissileCornerExplosionsPool.obtain();
         alienMissileCornerExplosion.init(explosionPositionX, explosionPositionY);
-        activeAlienMissileCornerExplosions.add(alienMissileCornerExplosion);
-        dodgeables.activeDodgeables.add(alienMissileCornerExplosion);
 
         //play explosion sound
-        Sounds.alienMissileExplosionSound.play(SettingsManager.gameVolume);
+        SoundMixer.play(Sounds.alienMissileExplosionSound, SoundMixer.PRIORITY_EFFECT);
 
 
     }
@@ -325,15 +267,15 @@ public class AlienMissiles {
 
     private void initializeAlienMissileAnimation() {
 
-        // Load the alien missile sprite sheet as a Texture
-        alienMissileSheet = new Texture(Gdx.files.internal("sprites/AlienGrenadeSpriteSheet.png"));
+        // Get the alien missile sprite sheet from the sprite atlas
+        alienMissileSheet = SpriteAtlas.findRegion("AlienGrenadeSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmp = TextureRegion.split(alienMissileSheet,
-                alienMissileSheet.getWidth() / 4,
-                alienMissileSheet.getHeight() / 1);
+        TextureRegion[][] tmp = alienMissileSheet.split(
+                alienMissileSheet.getRegionWidth() / 4,
+                alienMissileSheet.getRegionHeight() / 1);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -351,15 +293,15 @@ public class AlienMissiles {
 
     private void initializeAlienMissileExplosionAnimation() {
 
-        // Load the alien missile explosion sprite sheet as a Texture
-        alienMissileExplosionSheet = new Texture(Gdx.files.internal("sprites/AlienMissileExplosionSpriteSheet.png"));
+        // Get the alien missile explosion sprite sheet from the sprite atlas
+        alienMissileExplosionSheet = SpriteAtlas.findRegion("AlienMissileExplosionSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmp = TextureRegion.split(alienMissileExplosionSheet,
-                alienMissileExplosionSheet.getWidth() / 7,
-                alienMissileExplosionSheet.getHeight() / 1);
+        TextureRegion[][] tmp = alienMissileExplosionSheet.split(
+                alienMissileExplosionSheet.getRegionWidth() / 7,
+                alienMissileExplosionSheet.getRegionHeight() / 1);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -378,15 +320,15 @@ public class AlienMissiles {
 
     private void initializeAlienMissileCornerAnimation() {
 
-        // Load the alien missile sprite sheet as a Texture
-        alienMissileCornerSheet = new Texture(Gdx.files.internal("sprites/AlienMissileCorner.png"));
+        // Get the alien missile sprite sheet from the sprite atlas
+        alienMissileCornerSheet = SpriteAtlas.findRegion("AlienMissileCorner");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmp = TextureRegion.split(alienMissileCornerSheet,
-                alienMissileCornerSheet.getWidth() / 1,
-                alienMissileCornerSheet.getHeight() / 1);
+        TextureRegion[][] tmp = alienMissileCornerSheet.split(
+                alienMissileCornerSheet.getRegionWidth() / 1,
+                alienMissileCornerSheet.getRegionHeight() / 1);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -404,49 +346,10 @@ public class AlienMissiles {
 
     public float getLastAlienMissileSpawnTime(float level){
         //Return the last spawn time for the given level
-        if (lastSpawnTimeByLevel.get(level) == null){
+        if (!lastSpawnTimeByLevel.containsKey((int) level)){
             return 0;
         } else {
-        return lastSpawnTimeByLevel.get(level);}
-    }
-
-    public void sweepDeadBodies(){
-
-        // If the alien missile is flagged for deletion due to a collision, free the alien missile from the pool
-        // so that it moves off the screen and can be reused
-
-        for (AlienMissile alienMissile : activeAlienMissiles){
-            if (!alienMissile.isActive()){
-                activeAlienMissiles.removeValue(alienMissile, false);
-                dodgeables.activeDodgeables.removeValue(alienMissile, false);
-                alienMissilePool.free(alienMissile);
-            }
-        }
-
-        for (AlienMissileExplosion alienMissileExplosion : activeAlienMissileExplosions){
-            if (!alienMissileExplosion.isActive()){
-                activeAlienMissileExplosions.removeValue(alienMissileExplosion, false);
-                dodgeables.activeDodgeables.removeValue(alienMissileExplosion, false);
-                alienMissileExplosionsPool.free(alienMissileExplosion);
-            }
-        }
-
-        for (AlienMissileCorner alienMissileCorner : activeAlienMissileCorners){
-            if (!alienMissileCorner.isActive()){
-                activeAlienMissileCorners.removeValue(alienMissileCorner, false);
-                dodgeables.activeDodgeables.removeValue(alienMissileCorner, false);
-                alienMissileCornersPool.free(alienMissileCorner);
-            }
-        }
-
-        for (AlienMissileCornerExplosion alienMissileCornerExplosion : activeAlienMissileCornerExplosions){
-            if (!alienMissileCornerExplosion.isActive()){
-                activeAlienMissileCornerExplosions.removeValue(alienMissileCornerExplosion, false);
-                dodgeables.activeDodgeables.removeValue(alienMissileCornerExplosion, false);
-                alienMissileCornerExplosionsPool.free(alienMissileCornerExplosion);
-            }
-        }
-
+        return lastSpawnTimeByLevel.get((int) level, 0);}
     }
 
     public void resetSpawnTimes(){
@@ -457,9 +360,6 @@ public class AlienMissiles {
 
     public void dispose(){
 
-        alienMissileSheet.dispose();
-        alienMissileExplosionSheet.dispose();
-        alienMissileCornerSheet.dispose();
     }
 
 }
@@ -1,18 +1,13 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.World;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.TimeUtils;
 
 import java.util.HashMap;
@@ -22,9 +17,13 @@ import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.LevelOneBi
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.LevelOneBirdReverse;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.LevelTwoBird;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.LevelTwoBirdReverse;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.CullingComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.OffscreenComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.SpriteComponent;
 import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
+import io.github.patpatchpatrick.alphapigeon.resources.SpriteAtlas;
 
 public class Birds {
 
@@ -37,30 +36,26 @@ public class Birds {
     public final static float VERT_POSITION_RANDOM = -1;
 
     //Level One Bird variables
-    private final Array<LevelOneBird> activeLevelOneBirds = new Array<LevelOneBird>();
-    private final Pool<LevelOneBird> levelOneBirdPool;
+    private final DodgeablePool<LevelOneBird> levelOneBirdPool;
     private Animation<TextureRegion> levelOneBirdAnimation;
-    private Texture levelOneBirdFlySheet;
+    private TextureRegion levelOneBirdFlySheet;
     private float lastLevelOneBirdSpawnTime;
 
 
     //Level One Bird (Reverse) variables
-    private final Array<LevelOneBirdReverse> activeLevelOneBirdReverses = new Array<LevelOneBirdReverse>();
-    private final Pool<LevelOneBirdReverse> levelOneBirdReversePool;
+    private final DodgeablePool<LevelOneBirdReverse> levelOneBirdReversePool;
     private float lastLevelOneBirdReverseSpawnTime;
 
 
     //Level Two Bird variables
-    private Array<LevelTwoBird> activeLevelTwoBirds = new Array<LevelTwoBird>();
-    private final Pool<LevelTwoBird> levelTwoBirdPool;
+    private final DodgeablePool<LevelTwoBird> levelTwoBirdPool;
     private Animation<TextureRegion> levelTwoBirdAnimation;
-    private Texture levelTwoBirdFlySheet;
+    private TextureRegion levelTwoBirdFlySheet;
     private float lastLevelTwoBirdSpawnTime;
 
 
     //Level Two Bird (Reverse) variables
-    private final Array<LevelTwoBirdReverse> activeLevelTwoBirdReverses = new Array<LevelTwoBirdReverse>();
-    private final Pool<LevelTwoBirdReverse> levelTwoBirdReversePool;
+    private final DodgeablePool<LevelTwoBirdReverse> levelTwoBirdReversePool;
     private float lastLevelTwoBirdReverseSpawnTime;
 
 
@@ -75,124 +70,75 @@ public class Birds {
         initializeLevelOneBirdAnimation();
         initializeLevelTwoBirdAnimation();
 
-        levelOneBirdPool = new Pool<LevelOneBird>() {
+        levelOneBirdPool = new DodgeablePool<LevelOneBird>("LevelOneBird", dodgeables) {
             @Override
-            protected LevelOneBird newObject() {
+            protected LevelOneBird newDodgeable() {
                 return new LevelOneBird(gameWorld, game, camera);
             }
-        };
 
-        levelOneBirdReversePool = new Pool<LevelOneBirdReverse>() {
             @Override
-            protected LevelOneBirdReverse newObject() {
-                return new LevelOneBirdReverse(gameWorld, game, camera);
+            protected void addComponents(LevelOneBird levelOneBird) {
+                levelOneBird.entity.add(new SpriteComponent(levelOneBirdAnimation, Dodgeables.LAYER_BIRDS, LevelOneBird.WIDTH, LevelOneBird.HEIGHT));
+                levelOneBird.entity.add(new OffscreenComponent(LevelOneBird.WIDTH, LevelOneBird.WIDTH, 2 * LevelOneBird.HEIGHT, OffscreenComponent.NO_LIMIT));
+                levelOneBird.entity.add(new CullingComponent(LevelOneBird.WIDTH, LevelOneBird.HEIGHT));
             }
         };
 
-        levelTwoBirdPool = new Pool<LevelTwoBird>() {
+        levelOneBirdReversePool = new DodgeablePool<LevelOneBirdReverse>("LevelOneBirdReverse", dodgeables) {
             @Override
-            protected LevelTwoBird newObject() {
-                return new LevelTwoBird(gameWorld, game, camera);
+            protected LevelOneBirdReverse newDodgeable() {
+                return new LevelOneBirdReverse(gameWorld, game, camera);
             }
-        };
 
-        levelTwoBirdReversePool = new Pool<LevelTwoBirdReverse>() {
             @Override
-            protected LevelTwoBirdReverse newObject() {
-                return new LevelTwoBirdReverse(gameWorld, game, camera);
-            }
-        };
-
-
-
-    }
-
-    public void render(float stateTime, SpriteBatch batch) {
-
-        // Get the animation frames for the level one and level two birds
-        TextureRegion levelOneCurrentFrame = levelOneBirdAnimation.getKeyFrame(stateTime, true);
-        TextureRegion levelTwoCurrentFrame = levelTwoBirdAnimation.getKeyFrame(stateTime, true);
-
-        // Render all active level one birds
-        for (LevelOneBird levelOneBird : activeLevelOneBirds) {
-            if (levelOneBird.alive) {
-                batch.draw(levelOneCurrentFrame, levelOneBird.getPosition().x, levelOneBird.getPosition().y, 0, 0, levelOneBird.WIDTH, levelOneBird.HEIGHT, 1, 1, levelOneBird.getAngle());
-            } else {
-                activeLevelOneBirds.removeValue(levelOneBird, false);
-                dodgeables.activeDodgeables.removeValue(levelOneBird, false);
-            }
-        }
-
-        // Render all active level one birds(reversed)
-        for (LevelOneBirdReverse levelOneBirdReverse : activeLevelOneBirdReverses) {
-            if (levelOneBirdReverse.alive) {
+            protected void addComponents(LevelOneBirdReverse levelOneBirdReverse) {
                 //X scale is -1 because bird is reversed
-                batch.draw(levelOneCurrentFrame, levelOneBirdReverse.getPosition().x + levelOneBirdReverse.WIDTH, levelOneBirdReverse.getPosition().y, 0, 0, levelOneBirdReverse.WIDTH, levelOneBirdReverse.HEIGHT, -1, 1, levelOneBirdReverse.getAngle());
-            } else {
-                activeLevelOneBirdReverses.removeValue(levelOneBirdReverse, false);
-                dodgeables.activeDodgeables.removeValue(levelOneBirdReverse, false);
-            }
-        }
-
-        // Render all active level two birds
-        for (LevelTwoBird levelTwoBird : activeLevelTwoBirds) {
-            if (levelTwoBird.alive) {
-                batch.draw(levelTwoCurrentFrame, levelTwoBird.getPosition().x, levelTwoBird.getPosition().y - 2f, 0, 2, levelTwoBird.WIDTH, levelTwoBird.HEIGHT, 1, 1, levelTwoBird.getAngle());
-            } else {
-                activeLevelTwoBirds.removeValue(levelTwoBird, false);
-                dodgeables.activeDodgeables.removeValue(levelTwoBird, false);
+                SpriteComponent sprite = new SpriteComponent(levelOneBirdAnimation, Dodgeables.LAYER_BIRDS, levelOneBirdReverse.WIDTH, levelOneBirdReverse.HEIGHT);
+                sprite.offsetX = levelOneBirdReverse.WIDTH;
+                sprite.scaleX = -1;
+                levelOneBirdReverse.entity.add(sprite);
+                levelOneBirdReverse.entity.add(new OffscreenComponent(levelOneBirdReverse.WIDTH, levelOneBirdReverse.WIDTH, 2 * levelOneBirdReverse.HEIGHT, OffscreenComponent.NO_LIMIT));
+                levelOneBirdReverse.entity.add(new CullingComponent(levelOneBirdReverse.WIDTH, levelOneBirdReverse.HEIGHT));
             }
-        }
+        };
 
-        // Render all active level two birds (reversed)
-        for (LevelTwoBirdReverse levelTwoBirdReverse : activeLevelTwoBirdReverses) {
-            if (levelTwoBirdReverse.alive) {
-                //X scale is -1 because bird if reversed
-                batch.draw(levelTwoCurrentFrame, levelTwoBirdReverse.getPosition().x + levelTwoBirdReverse.WIDTH, levelTwoBirdReverse.getPosition().y - 2f, 0, 2, levelTwoBirdReverse.WIDTH, levelTwoBirdReverse.HEIGHT, -1, 1, levelTwoBirdReverse.getAngle());
-            } else {
-                activeLevelTwoBirdReverses.removeValue(levelTwoBirdReverse, false);
-                dodgeables.activeDodgeables.removeValue(levelTwoBirdReverse, false);
+        levelTwoBirdPool = new DodgeablePool<LevelTwoBird>("LevelTwoBird", dodgeables) {
+            @Override
+            protected LevelTwoBird newDodgeable() {
+                return new LevelTwoBird(gameWorld, game, camera);
             }
-        }
-
-    }
-
-    public void update() {
-
-        // For all level one and level two birds that are off the game screen, free the birds in the pool
-        // so that they can be reused 
 
-        for (LevelOneBird levelOneBird : activeLevelOneBirds) {
-            if (levelOneBird.getPosition().x < 0 - levelOneBird.WIDTH || levelOneBird.getPosition().x > camera.viewportWidth + levelOneBird.WIDTH || levelOneBird.getPosition().y < 0 - 2 * levelOneBird.HEIGHT) {
-                activeLevelOneBirds.removeValue(levelOneBird, false);
-                dodgeables.activeDodgeables.removeValue(levelOneBird, false);
-                levelOneBirdPool.free(levelOneBird);
+            @Override
+            protected void addComponents(LevelTwoBird levelTwoBird) {
+                SpriteComponent sprite = new SpriteComponent(levelTwoBirdAnimation, Dodgeables.LAYER_BIRDS, LevelTwoBird.WIDTH, LevelTwoBird.HEIGHT);
+                sprite.offsetY = -2f;
+                sprite.originY = 2;
+                levelTwoBird.entity.add(sprite);
+                levelTwoBird.entity.add(new OffscreenComponent(LevelTwoBird.WIDTH, LevelTwoBird.WIDTH, 2 * LevelTwoBird.HEIGHT, OffscreenComponent.NO_LIMIT));
+                levelTwoBird.entity.add(new CullingComponent(LevelTwoBird.WIDTH, LevelTwoBird.HEIGHT));
             }
-        }
+        };
 
-        for (LevelOneBirdReverse levelOneBirdReverse : activeLevelOneBirdReverses) {
-            if (levelOneBirdReverse.getPosition().x < 0 - levelOneBirdReverse.WIDTH || levelOneBirdReverse.getPosition().x > camera.viewportWidth + levelOneBirdReverse.WIDTH || levelOneBirdReverse.getPosition().y < 0 - 2 * levelOneBirdReverse.HEIGHT) {
-                activeLevelOneBirdReverses.removeValue(levelOneBirdReverse, false);
-                dodgeables.activeDodgeables.removeValue(levelOneBirdReverse, false);
-                levelOneBirdReversePool.free(levelOneBirdReverse);
+        levelTwoBirdReversePool = new DodgeablePool<LevelTwoBirdReverse>("LevelTwoBirdReverse", dodgeables) {
+            @Override
+            protected LevelTwoBirdReverse newDodgeable() {
+                return new LevelTwoBirdReverse(gameWorld, game, camera);
             }
-        }
 
-        for (LevelTwoBird levelTwoBird : activeLevelTwoBirds) {
-            if (levelTwoBird.getPosition().x < 0 - levelTwoBird.WIDTH || levelTwoBird.getPosition().x > camera.viewportWidth + levelTwoBird.WIDTH || levelTwoBird.getPosition().y < 0 - 2 * levelTwoBird.HEIGHT) {
-                activeLevelTwoBirds.removeValue(levelTwoBird, false);
-                dodgeables.activeDodgeables.removeValue(levelTwoBird, false);
-                levelTwoBirdPool.free(levelTwoBird);
+            @Override
+            protected void addComponents(LevelTwoBirdReverse levelTwoBirdReverse) {
+                //X scale is -1 because bird is reversed
+                SpriteComponent sprite = new SpriteComponent(levelTwoBirdAnimation, Dodgeables.LAYER_BIRDS, levelTwoBirdReverse.WIDTH, levelTwoBirdReverse.HEIGHT);
+                sprite.offsetX = levelTwoBirdReverse.WIDTH;
+                sprite.offsetY = -2f;
+                sprite.originY = 2;
+                sprite.scaleX = -1;
+                levelTwoBirdReverse.entity.add(sprite);
+                levelTwoBirdReverse.entity.add(new OffscreenComponent(levelTwoBirdReverse.WIDTH, levelTwoBirdReverse.WIDTH, 2 * levelTwoBirdReverse.HEIGHT, OffscreenComponent.NO_LIMIT));
+                levelTwoBirdReverse.entity.add(new CullingComponent(levelTwoBirdReverse.WIDTH, levelTwoBirdReverse.HEIGHT));
             }
-        }
+        };
 
-        for (LevelTwoBirdReverse levelTwoBirdReverse : activeLevelTwoBirdReverses) {
-            if (levelTwoBirdReverse.getPosition().x < 0 - levelTwoBirdReverse.WIDTH || levelTwoBirdReverse.getPosition().x > camera.viewportWidth + levelTwoBirdReverse.WIDTH || levelTwoBirdReverse.getPosition().y < 0 - 2 * levelTwoBirdReverse.HEIGHT) {
-                activeLevelTwoBirdReverses.removeValue(levelTwoBirdReverse, false);
-                dodgeables.activeDodgeables.removeValue(levelTwoBirdReverse, false);
-                levelTwoBirdReversePool.free(levelTwoBirdReverse);
-            }
-        }
 
 
     }
@@ -203,8 +149,6 @@ public class Birds {
 
         LevelOneBird levelOneBird = levelOneBirdPool.obtain();
         levelOneBird.init(totalGameTime, VERT_POSITION_RANDOM);
-        activeLevelOneBirds.add(levelOneBird);
-        dodgeables.activeDodgeables.add(levelOneBird);
 
         //keep track of time the bird was spawned
         lastLevelOneBirdSpawnTime = Gameplay.totalGameTime;
@@ -218,8 +162,6 @@ public class Birds {
 
         LevelOneBirdReverse levelOneBirdReverse = levelOneBirdReversePool.obtain();
         levelOneBirdReverse.init(totalGameTime);
-        activeLevelOneBirdReverses.add(levelOneBirdReverse);
-        dodgeables.activeDodgeables.add(levelOneBirdReverse);
 
         //keep track of time the bird was spawned
         lastLevelOneBirdReverseSpawnTime = Gameplay.totalGameTime;
@@ -232,8 +174,6 @@ public class Birds {
 
         LevelTwoBird levelTwoBird = levelTwoBirdPool.obtain();
         levelTwoBird.init(totalGameTime);
-        activeLevelTwoBirds.add(levelTwoBird);
-        dodgeables.activeDodgeables.add(levelTwoBird);
 
         //keep track of time the bird was spawned
         lastLevelTwoBirdSpawnTime = Gameplay.totalGameTime;
@@ -245,8 +185,6 @@ public class Birds {
 
         LevelTwoBirdReverse levelTwoBirdReverse = levelTwoBirdReversePool.obtain();
         levelTwoBirdReverse.init(totalGameTime);
-        activeLevelTwoBirdReverses.add(levelTwoBirdReverse);
-        dodgeables.activeDodgeables.add(levelTwoBirdReverse);
 
         //keep track of time the bird was spawned
         lastLevelTwoBirdReverseSpawnTime = Gameplay.totalGameTime;
@@ -264,8 +202,6 @@ public class Birds {
 
             LevelOneBird levelOneBird = levelOneBirdPool.obtain();
             levelOneBird.init(totalGameTime, spawnHeight);
-            activeLevelOneBirds.add(levelOneBird);
-            dodgeables.activeDodgeables.add(levelOneBird);
 
             spawnHeight -= levelOneBird.HEIGHT;
 
@@ -280,15 +216,15 @@ public class Birds {
 
     private void initializeLevelOneBirdAnimation() {
 
-        // Load the level one bird sprite sheet as a Texture
-        levelOneBirdFlySheet = new Texture(Gdx.files.internal("sprites/DivingPigeonSpriteSheet.png"));
+        // Get the level one bird sprite sheet from the sprite atlas
+        levelOneBirdFlySheet = SpriteAtlas.findRegion("DivingPigeonSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmpDiving = TextureRegion.split(levelOneBirdFlySheet,
-                levelOneBirdFlySheet.getWidth() / 3,
-                levelOneBirdFlySheet.getHeight() / 2);
+        TextureRegion[][] tmpDiving = levelOneBirdFlySheet.split(
+                levelOneBirdFlySheet.getRegionWidth() / 3,
+                levelOneBirdFlySheet.getRegionHeight() / 2);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -308,15 +244,15 @@ public class Birds {
 
     private void initializeLevelTwoBirdAnimation() {
 
-        // Load the level two bird sprite sheet as a Texture
-        levelTwoBirdFlySheet = new Texture(Gdx.files.internal("sprites/SpeedBirdSpriteSheet.png"));
+        // Get the level two bird sprite sheet from the sprite atlas
+        levelTwoBirdFlySheet = SpriteAtlas.findRegion("SpeedBirdSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmpLevelTwo = TextureRegion.split(levelTwoBirdFlySheet,
-                levelTwoBirdFlySheet.getWidth() / 4,
-                levelTwoBirdFlySheet.getHeight() / 2);
+        TextureRegion[][] tmpLevelTwo = levelTwoBirdFlySheet.split(
+                levelTwoBirdFlySheet.getRegionWidth() / 4,
+                levelTwoBirdFlySheet.getRegionHeight() / 2);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -353,46 +289,6 @@ public class Birds {
         return lastLevelTwoBirdReverseSpawnTime;
     }
 
-    public void sweepDeadBodies() {
-
-        // If the bird is flagged for deletion due to a collision, free the bird from the pool
-        // so that it moves off the screen and can be reused
-
-        for (LevelOneBird levelOneBird : activeLevelOneBirds) {
-            if (!levelOneBird.isActive()) {
-                activeLevelOneBirds.removeValue(levelOneBird, false);
-                dodgeables.activeDodgeables.removeValue(levelOneBird, false);
-                levelOneBirdPool.free(levelOneBird);
-            }
-        }
-
-        for (LevelOneBirdReverse levelOneBirdReverse : activeLevelOneBirdReverses) {
-            if (!levelOneBirdReverse.isActive()) {
-                activeLevelOneBirdReverses.removeValue(levelOneBirdReverse, false);
-                dodgeables.activeDodgeables.removeValue(levelOneBirdReverse, false);
-                levelOneBirdReversePool.free(levelOneBirdReverse);
-            }
-        }
-
-        for (LevelTwoBird levelTwoBird : activeLevelTwoBirds) {
-            if (!levelTwoBird.isActive()) {
-                activeLevelTwoBirds.removeValue(levelTwoBird, false);
-                dodgeables.activeDodgeables.removeValue(levelTwoBird, false);
-                levelTwoBirdPool.free(levelTwoBird);
-            }
-        }
-
-        for (LevelTwoBirdReverse levelTwoBirdReverse : activeLevelTwoBirdReverses) {
-            if (!levelTwoBirdReverse.isActive()) {
-                activeLevelTwoBirdReverses.removeValue(levelTwoBirdReverse, false);
-                dodgeables.activeDodgeables.removeValue(levelTwoBirdReverse, false);
-                levelTwoBirdReversePool.free(levelTwoBirdReverse);
-            }
-        }
-
-
-    }
-
     public void resetSpawnTimes(){
 
         lastLevelOneBirdSpawnTime = 0;
@@ -403,8 +299,6 @@ public class Birds {
     }
 
     public void dispose() {
-        levelOneBirdFlySheet.dispose();
-        levelTwoBirdFlySheet.dispose();
     }
 
 }
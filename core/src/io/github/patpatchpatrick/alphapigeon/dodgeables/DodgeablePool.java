@@ -0,0 +1,130 @@
+package io.github.patpatchpatrick.alphapigeon.dodgeables;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.gdx.utils.Pool;
+
+import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.DodgeableComponent;
+import io.github.patpatchpatrick.alphapigeon.resources.BodyData;
+
+public abstract class DodgeablePool<T extends Dodgeable> extends Pool<T> {
+
+    //Pool used for all dodgeable objects
+    //Keeps track of how many objects the pool has created and the most objects that were in use at the same time
+    //so that pool sizes can be reported and tuned
+    //
+    //Every dodgeable has an entity that is created with the dodgeable (with the components given by addComponents)
+    //An obtained dodgeable is added to the active dodgeables of the pool and its entity is added to the engine,
+    //so the dodgeable systems process it until it is freed
+
+    public final String name;
+    //The dodgeables obtained from this pool that are not freed yet
+    public final ActiveDodgeables<T> activeDodgeables;
+    private final Engine engine;
+    private int totalCreated = 0;
+    private int inUse = 0;
+    private int peakInUse = 0;
+    //The most objects in use at the same time since the recent peak was last taken
+    private int recentPeakInUse = 0;
+
+    public DodgeablePool(String name, Dodgeables dodgeables) {
+        this.name = name;
+        this.activeDodgeables = dodgeables.createActiveSet();
+        this.engine = dodgeables.engine;
+        dodgeables.pools.add(this);
+    }
+
+    //Create a new dodgeable
+    protected abstract T newDodgeable();
+
+    //Add the components of a new dodgeable's entity (other than its DodgeableComponent)
+    protected void addComponents(T dodgeable) {
+    }
+
+    @Override
+    protected final T newObject() {
+        T dodgeable = newDodgeable();
+        //Attach the body data now, instead of the first time the dodgeable is spawned
+        BodyData.reset(dodgeable.dodgeableBody);
+        dodgeable.entity.add(new DodgeableComponent(dodgeable, this));
+        addComponents(dodgeable);
+        return dodgeable;
+    }
+
+    @Override
+    public T obtain() {
+        //If there are no free objects, the pool will create a new one
+        if (getFree() == 0) {
+            totalCreated++;
+        }
+        inUse++;
+        if (inUse > peakInUse) {
+            peakInUse = inUse;
+        }
+        if (inUse > recentPeakInUse) {
+            recentPeakInUse = inUse;
+        }
+        T dodgeable = super.obtain();
+        activeDodgeables.add(dodgeable);
+        engine.addEntity(dodgeable.entity);
+        return dodgeable;
+    }
+
+    @Override
+    public void free(T dodgeable) {
+        //A dodgeable can be found dead and off the screen in the same tick, it is only freed once
+        if (!dodgeable.isInActiveSet || dodgeable.isRemovedFromActiveSet) {
+            return;
+        }
+        activeDodgeables.remove(dodgeable);
+        engine.removeEntity(dodgeable.entity);
+        super.free(dodgeable);
+        if (inUse > 0) {
+            inUse--;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void freeDodgeable(Dodgeable dodgeable) {
+        //Free a dodgeable of this pool when its type is not known (used by the dodgeable systems)
+        free((T) dodgeable);
+    }
+
+    public void prewarm(int capacity) {
+        //Create objects until the pool has created the given number of objects
+        //so that they don't need to be created (with their Box2D bodies and fixtures) during gameplay
+        while (totalCreated < capacity) {
+            T object = newObject();
+            totalCreated++;
+            super.free(object);
+        }
+    }
+
+    public int getTotalCreated() {
+        //Total number of objects that this pool has created (in use and free)
+        return totalCreated;
+    }
+
+    public int getInUse() {
+        return inUse;
+    }
+
+    public int getPeakInUse() {
+        //The most objects from this pool that were in use at the same time
+        return peakInUse;
+    }
+
+    void resetPeakInUse() {
+        //Forget the objects that were in use before the game started (see Dodgeables.prewarmPools)
+        peakInUse = inUse;
+        recentPeakInUse = inUse;
+    }
+
+    public int takeRecentPeakInUse() {
+        //Return the most objects that were in use at the same time since this method was last called
+        int peak = recentPeakInUse;
+        recentPeakInUse = inUse;
+        return peak;
+    }
+
+}
@@ -1,5 +1,7 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables;
 
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.EntitySystem;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -12,16 +14,58 @@ import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.Pigeon;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.UFO;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.Mappers;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.systems.CullingSystem;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.systems.DeadBodySweepSystem;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.systems.HoldSystem;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.systems.InterpolationSystem;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.systems.LifetimeSystem;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.systems.OffscreenReapingSystem;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.systems.SpriteRenderSystem;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 
 public class Dodgeables {
 
     //Class to define objects that the player should dodge
+    //
+    //Every dodgeable is an entity in the dodgeable engine while it is in use, and the behaviour shared by all
+    //dodgeables is done by the dodgeable systems, each in one pass over all dodgeables:
+    //interpolation (before every physics step), lifetime, dead body sweeping, culling, offscreen reaping, holding
+    //and sprite rendering
+    //The dodgeable classes (Birds, Rockets, ...) spawn the dodgeables and handle the behaviour specific to their types
+
+    //Sprite layers, sprites are drawn from the lowest to the highest layer (and UFOs are drawn above all of them)
+    public static final int LAYER_BIRDS = 0;
+    public static final int LAYER_ROCKETS = 1;
+    public static final int LAYER_ALIEN_MISSILES = 2;
+    public static final int LAYER_TELEPORTS = 3;
+    public static final int LAYER_POWER_UPS = 4;
+    public static final int LAYER_METEORS = 5;
+
+    //System priorities, systems with a lower priority are updated first
+    private static final int PRIORITY_LIFETIME = 0;
+    private static final int PRIORITY_DEAD_BODY_SWEEP = 1;
+    private static final int PRIORITY_CULLING = 2;
+    private static final int PRIORITY_OFFSCREEN_REAPING = 3;
+    private static final int PRIORITY_HOLD = 4;
 
     World gameWorld;
     private AlphaPigeon game;
     private OrthographicCamera camera;
-    public final Array<Dodgeable> activeDodgeables = new Array<Dodgeable>();
+    public final Engine engine = new Engine();
+    private final InterpolationSystem interpolationSystem;
+    private final SpriteRenderSystem spriteRenderSystem;
+    private final CullingSystem cullingSystem;
+    //Number of dodgeables drawn and culled (outside of the camera view) during the last render
+    public int drawnCount = 0;
+    public int culledCount = 0;
+    public final ActiveDodgeables<Dodgeable> activeDodgeables = new ActiveDodgeables<Dodgeable>(null);
+    //Active dodgeables of every type, created by the dodgeable pools with createActiveSet
+    private final Array<ActiveDodgeables<?>> activeSets = new Array<ActiveDodgeables<?>>();
+    //Pools for every type of dodgeable, the pools register themselves so pool sizes can be reported
+    public final Array<DodgeablePool<?>> pools = new Array<DodgeablePool<?>>();
+    //Most dodgeables of each type in use at the same time in each level of the current game
+    public final PoolCapacityProfile poolUsage = new PoolCapacityProfile();
 
     //Dodgeable variables
     private Birds birds;
@@ -48,6 +92,17 @@ public class Dodgeables {
         ufos = new UFOs(gameWorld, game, camera, this);
         notifications = new Notifications(gameWorld, game, camera, this);
 
+        interpolationSystem = new InterpolationSystem();
+        spriteRenderSystem = new SpriteRenderSystem(camera);
+        cullingSystem = new CullingSystem(camera, PRIORITY_CULLING);
+        engine.addSystem(interpolationSystem);
+        engine.addSystem(spriteRenderSystem);
+        engine.addSystem(new LifetimeSystem(PRIORITY_LIFETIME));
+        engine.addSystem(new DeadBodySweepSystem(PRIORITY_DEAD_BODY_SWEEP));
+        engine.addSystem(cullingSystem);
+        engine.addSystem(new OffscreenReapingSystem(camera, PRIORITY_OFFSCREEN_REAPING));
+        engine.addSystem(new HoldSystem(PRIORITY_HOLD));
+
     }
 
 
@@ -86,43 +141,99 @@ public class Dodgeables {
 
     public void render(float totalGameTime, SpriteBatch batch) {
 
-        //Render all dodgeable classes
+        //Render the sprites of all dodgeables, then the UFOs and the notifications
 
-        birds.render(totalGameTime, batch);
-        rockets.render(totalGameTime, batch);
-        alienMissiles.render(totalGameTime, batch);
-        teleports.render(totalGameTime, batch);
-        powerUps.render(totalGameTime, batch);
-        meteors.render(totalGameTime, batch);
+        spriteRenderSystem.render(totalGameTime, batch);
         ufos.render(totalGameTime, batch);
         notifications.render(totalGameTime, batch);
 
+        drawnCount = spriteRenderSystem.drawnCount + ufos.drawnCount;
+        culledCount = spriteRenderSystem.culledCount + ufos.culledCount;
 
     }
 
     public void update() {
 
-        //Update all dodgeable classes
-        birds.update();
+        //Update the type specific behaviour of the dodgeables (the shared behaviour is done by the systems)
         rockets.update();
         alienMissiles.update();
-        teleports.update();
-        powerUps.update();
-        meteors.update();
         ufos.update();
         notifications.update();
 
     }
 
-    public void sweepDeadBodies() {
-        this.birds.sweepDeadBodies();
-        this.rockets.sweepDeadBodies();
-        this.powerUps.sweepDeadBodies();
-        this.meteors.sweepDeadBodies();
-        this.alienMissiles.sweepDeadBodies();
-        this.ufos.sweepDeadBodies();
-        this.teleports.sweepDeadBodies();
+    public void updateSystems(float deltaTime) {
+        //Update the dodgeable systems, which free dead and off screen dodgeables and release held dodgeables
+        engine.update(deltaTime);
+    }
+
+    public int getSleepingBodyCount() {
+        //Number of dodgeables whose bodies were put to sleep because they are leaving the screen
+        return cullingSystem.sleepingCount;
+    }
+
+    <T extends Dodgeable> ActiveDodgeables<T> createActiveSet() {
+        //Create a set for the active dodgeables of one type, its dodgeables are also added to activeDodgeables
+        ActiveDodgeables<T> activeSet = new ActiveDodgeables<T>(activeDodgeables);
+        activeSets.add(activeSet);
+        return activeSet;
+    }
+
+    public void compactActiveSets() {
+        //Remove the dodgeables that were removed during this tick from the active sets
+        //The set of all active dodgeables must be compacted last
+        for (int i = 0, n = activeSets.size; i < n; i++) {
+            activeSets.get(i).compact();
+        }
+        activeDodgeables.compact();
+    }
+
+    public void prewarmPools(PoolCapacityProfile profile) {
+        //Create the dodgeables that the profile expects to be needed before the game starts
+        profile.prewarm(pools);
+        prewarmEngine();
+    }
+
+    private void prewarmEngine() {
+
+        //Obtain every dodgeable of the pools at once, then free them all during an engine update
+        //The active sets and the engine's entity arrays grow to hold all of the dodgeables, and the engine creates
+        //a pending removal for each of them (entities removed while the engine is updating are removed after the
+        //system that removed them), so none of these grow when the dodgeables are spawned and freed during the game
+
+        final Array<Dodgeable> obtainedDodgeables = new Array<Dodgeable>();
+        for (int i = 0; i < pools.size; i++) {
+            DodgeablePool<?> pool = pools.get(i);
+            for (int j = pool.getTotalCreated(); j > 0; j--) {
+                obtainedDodgeables.add(pool.obtain());
+            }
+        }
+
+        //The system is updated before the other systems, which then have no dodgeables to process
+        EntitySystem freeingSystem = new EntitySystem(Integer.MIN_VALUE) {
+            @Override
+            public void update(float deltaTime) {
+                for (int i = 0; i < obtainedDodgeables.size; i++) {
+                    Dodgeable dodgeable = obtainedDodgeables.get(i);
+                    Mappers.dodgeable.get(dodgeable.entity).pool.freeDodgeable(dodgeable);
+                }
+            }
+        };
+        engine.addSystem(freeingSystem);
+        engine.update(0);
+        engine.removeSystem(freeingSystem);
+        compactActiveSets();
+
+        for (int i = 0; i < pools.size; i++) {
+            pools.get(i).resetPeakInUse();
+        }
+
+    }
 
+    public void savePreviousTransforms() {
+        //Save the transforms of all active dodgeables before the world is stepped
+        //so they can be interpolated when rendered
+        interpolationSystem.update(0);
     }
 
     public void resetSpawnTimes(){
@@ -138,7 +249,7 @@ public class Dodgeables {
 
     public void dispose() {
 
-        //Dispose all dodgeable classes' textures
+        //Dispose all dodgeable classes (their sprite sheets are owned by the SpriteAtlas)
         notifications.dispose();
         birds.dispose();
         rockets.dispose();
@@ -1,19 +1,14 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.World;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.TimeUtils;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
@@ -21,9 +16,13 @@ import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.LevelOneBird;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.LevelTwoBird;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Meteor;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.CullingComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.OffscreenComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.SpriteComponent;
 import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
+import io.github.patpatchpatrick.alphapigeon.resources.SpriteAtlas;
 
 public class Meteors {
 
@@ -33,9 +32,8 @@ public class Meteors {
     private Dodgeables dodgeables;
 
     //Meteor global variables
-    private final Array<Meteor> activeMeteors = new Array<Meteor>();
-    private final Pool<Meteor> meteorsPool;
-    private Texture meteorTextureSpriteSheet;
+    private final DodgeablePool<Meteor> meteorsPool;
+    private TextureRegion meteorTextureSpriteSheet;
     private Animation<TextureRegion> meteorAnimation;
     private float lastMeteorSpawnTime;
     private final float METEOR_WIDTH = 80f;
@@ -51,40 +49,19 @@ public class Meteors {
         // initialize meteor animations
         initializeMeteorAnimation();
 
-        meteorsPool = new Pool<Meteor>() {
+        meteorsPool = new DodgeablePool<Meteor>("Meteor", dodgeables) {
             @Override
-            protected Meteor newObject() {
+            protected Meteor newDodgeable() {
                 return new Meteor(gameWorld, game, camera);
             }
-        };
-
-    }
-
-    public void render(float stateTime, SpriteBatch batch){
-
-        TextureRegion meteorCurrentFrame = meteorAnimation.getKeyFrame(stateTime, true);
-
-        // Render all active meteors
-        for (Meteor meteor : activeMeteors) {
-            if (meteor.alive) {
-                batch.draw(meteorCurrentFrame, meteor.getPosition().x, meteor.getPosition().y, 0, 0, meteor.WIDTH, meteor.HEIGHT, 1, 1, meteor.getAngle());
-            } else {
-                activeMeteors.removeValue(meteor, false);
-                dodgeables.activeDodgeables.removeValue(meteor, false);
-            }
-        }
-
-    }
-
-    public void update(){
 
-        for (Meteor meteor : activeMeteors){
-            if (meteor.getPosition().x < 0 - meteor.WIDTH){
-                activeMeteors.removeValue(meteor, false);
-                dodgeables.activeDodgeables.removeValue(meteor, false);
-                meteorsPool.free(meteor);
+            @Override
+            protected void addComponents(Meteor meteor) {
+                meteor.entity.add(new SpriteComponent(meteorAnimation, Dodgeables.LAYER_METEORS, meteor.WIDTH, meteor.HEIGHT));
+                meteor.entity.add(new OffscreenComponent(meteor.WIDTH, OffscreenComponent.NO_LIMIT, OffscreenComponent.NO_LIMIT, OffscreenComponent.NO_LIMIT));
+                meteor.entity.add(new CullingComponent(meteor.WIDTH, meteor.HEIGHT));
             }
-        }
+        };
 
     }
 
@@ -94,8 +71,6 @@ public class Meteors {
 
         Meteor meteor = meteorsPool.obtain();
         meteor.init();
-        activeMeteors.add(meteor);
-        dodgeables.activeDodgeables.add(meteor);
 
         //keep track of time the meteor was spawned
         lastMeteorSpawnTime = Gameplay.totalGameTime;
@@ -105,14 +80,14 @@ public class Meteors {
 
     private void initializeMeteorAnimation() {
 
-        meteorTextureSpriteSheet = new Texture(Gdx.files.internal("sprites/MeteorSpriteSheet.png"));
+        meteorTextureSpriteSheet = SpriteAtlas.findRegion("MeteorSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmpMeteor = TextureRegion.split(meteorTextureSpriteSheet,
-                meteorTextureSpriteSheet.getWidth() / 8,
-                meteorTextureSpriteSheet.getHeight() / 8);
+        TextureRegion[][] tmpMeteor = meteorTextureSpriteSheet.split(
+                meteorTextureSpriteSheet.getRegionWidth() / 8,
+                meteorTextureSpriteSheet.getRegionHeight() / 8);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -140,28 +115,11 @@ public class Meteors {
         return lastMeteorSpawnTime;
     }
 
-    public void sweepDeadBodies(){
-
-        // If the meteor is flagged for deletion due to a collision, free the meteor from the pool
-        // so that it moves off the screen and can be reused
-
-        for (Meteor meteor : activeMeteors){
-            if (!meteor.isActive()){
-                activeMeteors.removeValue(meteor, false);
-                dodgeables.activeDodgeables.removeValue(meteor, false);
-                meteorsPool.free(meteor);
-            }
-        }
-
-
-    }
-
     public void resetSpawnTimes(){
         lastMeteorSpawnTime = 0;
     }
 
     public void dispose(){
-        meteorTextureSpriteSheet.dispose();
     }
 
 }
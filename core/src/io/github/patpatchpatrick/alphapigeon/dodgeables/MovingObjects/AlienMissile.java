@@ -1,8 +1,6 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
@@ -12,7 +10,8 @@ import com.badlogic.gdx.utils.TimeUtils;
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyData;
-import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
+import io.github.patpatchpatrick.alphapigeon.resources.CollisionShapes;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 
 public class AlienMissile extends Dodgeable {
@@ -30,9 +29,8 @@ public class AlienMissile extends Dodgeable {
         alienMissileBodyDef.type = BodyDef.BodyType.DynamicBody;
 
         //spawn alien missile at random height
-        alienMissileBodyDef.position.set(camera.viewportWidth, MathUtils.random(0, camera.viewportHeight - HEIGHT / 2));
+        alienMissileBodyDef.position.set(camera.viewportWidth, GameRandom.random(0, camera.viewportHeight - HEIGHT / 2));
         dodgeableBody = gameWorld.createBody(alienMissileBodyDef);
-        BodyEditorLoader loader = new BodyEditorLoader(Gdx.files.internal("json/AlienMissile.json"));
         FixtureDef alienMissileFixtureDef = new FixtureDef();
         alienMissileFixtureDef.density = 0.001f;
         alienMissileFixtureDef.friction = 0.5f;
@@ -40,20 +38,19 @@ public class AlienMissile extends Dodgeable {
         // set the alien missile filter categories and masks for collisions
         alienMissileFixtureDef.filter.categoryBits = GameVariables.CATEGORY_ALIEN_MISSILE;
         alienMissileFixtureDef.filter.maskBits = GameVariables.MASK_ALIEN_MISSILE;
-        loader.attachFixture(dodgeableBody, "Alien Missile", alienMissileFixtureDef, HEIGHT);
+        CollisionShapes.attachFixture(dodgeableBody, "json/AlienMissile.json", "Alien Missile", alienMissileFixtureDef, HEIGHT);
 
     }
 
     public void initLeftward() {
 
         dodgeableBody.setActive(true);
-        dodgeableBody.setTransform(camera.viewportWidth, MathUtils.random(0, camera.viewportHeight - HEIGHT / 2), dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(FORCE_X, 0, true);
+        dodgeableBody.setTransform(camera.viewportWidth, GameRandom.random(0, camera.viewportHeight - HEIGHT / 2), dodgeableBody.getAngle());
+        applyLaunchForce(FORCE_X, 0);
         this.alive = true;
 
-        BodyData missileData = new BodyData(false);
+        BodyData missileData = BodyData.reset(dodgeableBody);
         missileData.setSpawnTime(Gameplay.totalGameTime);
-        dodgeableBody.setUserData(missileData);
 
     }
 
@@ -61,13 +58,12 @@ public class AlienMissile extends Dodgeable {
 
         //Initialize an alien missile that moves rightward
         dodgeableBody.setActive(true);
-        dodgeableBody.setTransform(0 - WIDTH, MathUtils.random(0, camera.viewportHeight - HEIGHT / 2), dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(-FORCE_X, 0, true);
+        dodgeableBody.setTransform(0 - WIDTH, GameRandom.random(0, camera.viewportHeight - HEIGHT / 2), dodgeableBody.getAngle());
+        applyLaunchForce(-FORCE_X, 0);
         this.alive = true;
 
-        BodyData missileData = new BodyData(false);
+        BodyData missileData = BodyData.reset(dodgeableBody);
         missileData.setSpawnTime(Gameplay.totalGameTime);
-        dodgeableBody.setUserData(missileData);
 
     }
 
@@ -75,13 +71,12 @@ public class AlienMissile extends Dodgeable {
 
         //Initialize an alien missile that moves upward
         dodgeableBody.setActive(true);
-        dodgeableBody.setTransform(MathUtils.random(0, camera.viewportWidth - WIDTH / 2), 0 - HEIGHT, dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(0, FORCE_Y, true);
+        dodgeableBody.setTransform(GameRandom.random(0, camera.viewportWidth - WIDTH / 2), 0 - HEIGHT, dodgeableBody.getAngle());
+        applyLaunchForce(0, FORCE_Y);
         this.alive = true;
 
-        BodyData missileData = new BodyData(false);
+        BodyData missileData = BodyData.reset(dodgeableBody);
         missileData.setSpawnTime(Gameplay.totalGameTime);
-        dodgeableBody.setUserData(missileData);
 
     }
 
@@ -89,13 +84,12 @@ public class AlienMissile extends Dodgeable {
 
         //Initialize an alien missile that moves downward
         dodgeableBody.setActive(true);
-        dodgeableBody.setTransform(MathUtils.random(0, camera.viewportWidth - WIDTH / 2), camera.viewportHeight + HEIGHT, dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(0, -FORCE_Y, true);
+        dodgeableBody.setTransform(GameRandom.random(0, camera.viewportWidth - WIDTH / 2), camera.viewportHeight + HEIGHT, dodgeableBody.getAngle());
+        applyLaunchForce(0, -FORCE_Y);
         this.alive = true;
 
-        BodyData missileData = new BodyData(false);
+        BodyData missileData = BodyData.reset(dodgeableBody);
         missileData.setSpawnTime(Gameplay.totalGameTime);
-        dodgeableBody.setUserData(missileData);
 
     }
 
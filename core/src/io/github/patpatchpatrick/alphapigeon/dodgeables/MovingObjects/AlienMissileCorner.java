@@ -1,6 +1,5 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.Body;
@@ -12,7 +11,7 @@ import com.badlogic.gdx.utils.TimeUtils;
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyData;
-import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
+import io.github.patpatchpatrick.alphapigeon.resources.CollisionShapes;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 
 public class AlienMissileCorner extends Dodgeable {
@@ -30,7 +29,6 @@ public class AlienMissileCorner extends Dodgeable {
         alienCornerBodyDef.type = BodyDef.BodyType.DynamicBody;
         alienCornerBodyDef.position.set(-100,-100);
         dodgeableBody = gameWorld.createBody(alienCornerBodyDef);
-        BodyEditorLoader loader = new BodyEditorLoader(Gdx.files.internal("json/AlienMissileCorner.json"));
         FixtureDef alienCornerFixtureDef = new FixtureDef();
         alienCornerFixtureDef.density = 0.001f;
         alienCornerFixtureDef.friction = 0.5f;
@@ -38,8 +36,8 @@ public class AlienMissileCorner extends Dodgeable {
         // set the alien corner filter categories and masks for collisions
         alienCornerFixtureDef.filter.categoryBits = GameVariables.CATEGORY_ROCKET_EXPLOSION;
         alienCornerFixtureDef.filter.maskBits = GameVariables.MASK_ROCKET_EXPLOSION;
-        loader.attachFixture(dodgeableBody, "AlienMissileCorner", alienCornerFixtureDef, HEIGHT);
-        dodgeableBody.applyForceToCenter(0,0, true);
+        CollisionShapes.attachFixture(dodgeableBody, "json/AlienMissileCorner.json", "AlienMissileCorner", alienCornerFixtureDef, HEIGHT);
+        applyLaunchForce(0,0);
 
     }
 
@@ -47,14 +45,13 @@ public class AlienMissileCorner extends Dodgeable {
 
         dodgeableBody.setActive(true);
         dodgeableBody.setTransform(explosionPositionX + WIDTH/2 * MathUtils.cosDeg(theta), explosionPositionY + HEIGHT/2 * MathUtils.sinDeg(theta), dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(FORCE* MathUtils.cosDeg(theta), FORCE* MathUtils.sinDeg(theta), true);
+        applyLaunchForce(FORCE* MathUtils.cosDeg(theta), FORCE* MathUtils.sinDeg(theta));
         this.alive = true;
 
         //Set the time the corner was spawned on the corner body.  This is used in the update method
         //to destroy the missile explosion body after a set amount of time
-        BodyData alienCornerData = new BodyData(false);
+        BodyData alienCornerData = BodyData.reset(dodgeableBody);
         alienCornerData.setSpawnTime(Gameplay.totalGameTime);
-        dodgeableBody.setUserData(alienCornerData);
 
     }
 
@@ -62,14 +59,13 @@ public class AlienMissileCorner extends Dodgeable {
 
         dodgeableBody.setActive(true);
         dodgeableBody.setTransform(explosionPositionX + WIDTH/2* MathUtils.sinDeg(theta), explosionPositionY - HEIGHT/2* MathUtils.cosDeg(theta), dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(FORCE* MathUtils.sinDeg(theta), -FORCE* MathUtils.cosDeg(theta), true);
+        applyLaunchForce(FORCE* MathUtils.sinDeg(theta), -FORCE* MathUtils.cosDeg(theta));
         this.alive = true;
 
         //Set the time the corner was spawned on the corner body.  This is used in the update method
         //to destroy the missile explosion body after a set amount of time
-        BodyData alienCornerData = new BodyData(false);
+        BodyData alienCornerData = BodyData.reset(dodgeableBody);
         alienCornerData.setSpawnTime(Gameplay.totalGameTime);
-        dodgeableBody.setUserData(alienCornerData);
 
 
     }
@@ -78,14 +74,13 @@ public class AlienMissileCorner extends Dodgeable {
 
         dodgeableBody.setActive(true);
         dodgeableBody.setTransform(explosionPositionX - WIDTH/2* MathUtils.cosDeg(theta), explosionPositionY - HEIGHT/2* MathUtils.sinDeg(theta), dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(-FORCE* MathUtils.cosDeg(theta), -FORCE* MathUtils.sinDeg(theta), true);
+        applyLaunchForce(-FORCE* MathUtils.cosDeg(theta), -FORCE* MathUtils.sinDeg(theta));
         this.alive = true;
 
         //Set the time the corner was spawned on the corner body.  This is used in the update method
         //to destroy the missile explosion body after a set amount of time
-        BodyData alienCornerData = new BodyData(false);
+        BodyData alienCornerData = BodyData.reset(dodgeableBody);
         alienCornerData.setSpawnTime(Gameplay.totalGameTime);
-        dodgeableBody.setUserData(alienCornerData);
 
 
     }
@@ -94,14 +89,13 @@ public class AlienMissileCorner extends Dodgeable {
 
         dodgeableBody.setActive(true);
         dodgeableBody.setTransform(explosionPositionX - WIDTH/2* MathUtils.sinDeg(theta), explosionPositionY + HEIGHT/2* MathUtils.cosDeg(theta), dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(-FORCE* MathUtils.sinDeg(theta), FORCE* MathUtils.cosDeg(theta), true);
+        applyLaunchForce(-FORCE* MathUtils.sinDeg(theta), FORCE* MathUtils.cosDeg(theta));
         this.alive = true;
 
         //Set the time the corner was spawned on the corner body.  This is used in the update method
         //to destroy the missile explosion body after a set amount of time
-        BodyData alienCornerData = new BodyData(false);
+        BodyData alienCornerData = BodyData.reset(dodgeableBody);
         alienCornerData.setSpawnTime(Gameplay.totalGameTime);
-        dodgeableBody.setUserData(alienCornerData);
 
     }
 
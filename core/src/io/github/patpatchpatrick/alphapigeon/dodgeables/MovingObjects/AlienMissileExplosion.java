@@ -1,6 +1,5 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.Body;
@@ -12,7 +11,7 @@ import com.badlogic.gdx.utils.TimeUtils;
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyData;
-import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
+import io.github.patpatchpatrick.alphapigeon.resources.CollisionShapes;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 
 public class AlienMissileExplosion extends Dodgeable {
@@ -30,7 +29,6 @@ public class AlienMissileExplosion extends Dodgeable {
         //spawn alien explosion at the input position (this will be the position of the center of the alien missile.
         alienExplosionBodyDef.position.set(0,0);
         dodgeableBody = gameWorld.createBody(alienExplosionBodyDef);
-        BodyEditorLoader loader = new BodyEditorLoader(Gdx.files.internal("json/AlienMissileExplosion.json"));
         FixtureDef alienExplosionFixtureDef = new FixtureDef();
         alienExplosionFixtureDef.density = 0.001f;
         alienExplosionFixtureDef.friction = 0.5f;
@@ -38,8 +36,8 @@ public class AlienMissileExplosion extends Dodgeable {
         // set the alien explosion filter categories and masks for collisions
         alienExplosionFixtureDef.filter.categoryBits = GameVariables.CATEGORY_ROCKET_EXPLOSION;
         alienExplosionFixtureDef.filter.maskBits = GameVariables.MASK_ROCKET_EXPLOSION;
-        loader.attachFixture(dodgeableBody, "Alien Missile Explosion", alienExplosionFixtureDef, HEIGHT);
-        dodgeableBody.applyForceToCenter(0, 0, true);
+        CollisionShapes.attachFixture(dodgeableBody, "json/AlienMissileExplosion.json", "Alien Missile Explosion", alienExplosionFixtureDef, HEIGHT);
+        applyLaunchForce(0, 0);
 
     }
 
@@ -47,14 +45,13 @@ public class AlienMissileExplosion extends Dodgeable {
 
         dodgeableBody.setActive(true);
         dodgeableBody.setTransform(explosionPositionX - WIDTH/2, explosionPositionY - HEIGHT/2, dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(0, 0, true);
+        applyLaunchForce(0, 0);
         this.alive = true;
 
         //Set the time the missile was exploded on the missile explosion  body.  This is used in the update method
         //to destroy the missile explosion body after a set amount of time
-        BodyData alienMissileExplosionData = new BodyData(false);
+        BodyData alienMissileExplosionData = BodyData.reset(dodgeableBody);
         alienMissileExplosionData.setSpawnTime(Gameplay.totalGameTime);
-        dodgeableBody.setUserData(alienMissileExplosionData);
 
     }
 
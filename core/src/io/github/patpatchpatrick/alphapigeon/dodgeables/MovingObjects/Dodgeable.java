@@ -1,5 +1,6 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
@@ -13,6 +14,7 @@ import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyData;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
+import io.github.patpatchpatrick.alphapigeon.resources.LaunchImpulse;
 
 public abstract class Dodgeable implements Pool.Poolable {
 
@@ -23,6 +25,11 @@ public abstract class Dodgeable implements Pool.Poolable {
     //Boolean to manually delete dodgeables
     public boolean flagForDeletion = false;
     public Body dodgeableBody;
+    //Entity of the dodgeable, processed by the dodgeable systems while the dodgeable is in use (see DodgeablePool)
+    public final Entity entity = new Entity();
+    //Membership of the active dodgeable sets, maintained by ActiveDodgeables
+    public boolean isInActiveSet = false;
+    public boolean isRemovedFromActiveSet = false;
 
     protected float forceMultiplier = 1f;
 
@@ -38,6 +45,18 @@ public abstract class Dodgeable implements Pool.Poolable {
     protected float forceXApplyAfterHold = 0f;
     protected float forceYApplyAfterHold = 0f;
 
+    // RENDER INTERPOLATION
+    // The transform of the body before the most recent physics step
+    // Used to draw the body between physics steps when the render rate differs from the physics step rate
+    private final Vector2 previousPosition = new Vector2();
+    private final Vector2 renderPosition = new Vector2();
+    private float previousAngle = 0;
+    private boolean previousTransformIsSaved = false;
+
+    // KINEMATIC MOTION
+    // Mass of the body while it is dynamic, used to convert launch forces into velocities when it is kinematic
+    private float dynamicMass = 0;
+
 
     public Dodgeable(World gameWorld, AlphaPigeon game, OrthographicCamera camera){
 
@@ -56,6 +75,31 @@ public abstract class Dodgeable implements Pool.Poolable {
         return MathUtils.radiansToDegrees * dodgeableBody.getAngle();
     }
 
+    public void savePreviousTransform(){
+        //Save the body transform before the world is stepped so the body can be interpolated when rendered
+        previousPosition.set(dodgeableBody.getPosition());
+        previousAngle = dodgeableBody.getAngle();
+        previousTransformIsSaved = true;
+    }
+
+    public Vector2 getRenderPosition(){
+        //Return the position of the body interpolated between the previous and current physics step
+        //If the body has not been stepped since it was spawned, there is nothing to interpolate from
+        if (!previousTransformIsSaved){
+            return dodgeableBody.getPosition();
+        }
+        return renderPosition.set(previousPosition).lerp(dodgeableBody.getPosition(), GameVariables.physicsInterpolationAlpha);
+    }
+
+    public float getRenderAngle(){
+        //Return the angle of the body (in degrees) interpolated between the previous and current physics step
+        if (!previousTransformIsSaved){
+            return getAngle();
+        }
+        float angle = previousAngle + (dodgeableBody.getAngle() - previousAngle) * GameVariables.physicsInterpolationAlpha;
+        return MathUtils.radiansToDegrees * angle;
+    }
+
     public boolean isActive(){
         //Determine if the body is active or not
         //Bodies that should be removed from the screen are no longer active
@@ -79,8 +123,7 @@ public abstract class Dodgeable implements Pool.Poolable {
         this.forceYApplyAfterHold = forceYToApplyAfterHold;
 
         //Set velocity to 0 when dodgeable is held
-        Vector2 vel = new Vector2(0f, 0f);
-        dodgeableBody.setLinearVelocity(vel);
+        dodgeableBody.setLinearVelocity(0, 0);
 
         // Set times for when hold should be initiated and be released in seconds
         float currentTime = Gameplay.totalGameTime;
@@ -95,12 +138,37 @@ public abstract class Dodgeable implements Pool.Poolable {
 
         float currentTime = Gameplay.totalGameTime;
         if (this.timeHoldWillBeReleased <= currentTime){
-            this.dodgeableBody.applyForceToCenter(this.forceXApplyAfterHold, this.forceYApplyAfterHold,true);
+            applyLaunchForce(this.forceXApplyAfterHold, this.forceYApplyAfterHold);
             this.isHeld = false;
         }
 
     }
 
+    protected void applyLaunchForce(float forceX, float forceY) {
+
+        //Launch the dodgeable with a force acting for one reference step (see LaunchImpulse)
+        //There is no gravity or damping, so a dodgeable keeps the velocity it is given: force / mass * reference step
+        //If dodgeables are kinematic (see GameVariables), the body is made kinematic and given that velocity right away,
+        //from the same reference step, so its trajectory doesn't depend on the physics step rate either
+
+        if (!GameVariables.kinematicDodgeables) {
+            if (dodgeableBody.getType() != BodyDef.BodyType.DynamicBody) {
+                dodgeableBody.setType(BodyDef.BodyType.DynamicBody);
+            }
+            LaunchImpulse.applyToCenter(dodgeableBody, forceX, forceY);
+            return;
+        }
+
+        if (dodgeableBody.getType() != BodyDef.BodyType.KinematicBody) {
+            dynamicMass = dodgeableBody.getMass();
+            dodgeableBody.setType(BodyDef.BodyType.KinematicBody);
+        }
+        Vector2 velocity = dodgeableBody.getLinearVelocity();
+        dodgeableBody.setLinearVelocity(velocity.x + forceX * GameVariables.PHYSICS_REFERENCE_STEP / dynamicMass,
+                velocity.y + forceY * GameVariables.PHYSICS_REFERENCE_STEP / dynamicMass);
+
+    }
+
 
     @Override
     public void reset() {
@@ -111,8 +179,7 @@ public abstract class Dodgeable implements Pool.Poolable {
 
         dodgeableBody.setActive(false);
         dodgeableBody.setTransform(300, 300, 0);
-        Vector2 vel = new Vector2(0f, 0f);
-        dodgeableBody.setLinearVelocity(vel);
+        dodgeableBody.setLinearVelocity(0, 0);
         dodgeableBody.setAngularVelocity(0);
         this.alive = false;
         this.flagForDeletion = false;
@@ -122,6 +189,10 @@ public abstract class Dodgeable implements Pool.Poolable {
         this.timeHoldWillBeReleased = 0;
         this.forceXApplyAfterHold = 0f;
         this.forceYApplyAfterHold = 0f;
+
+        //Reset render interpolation so the body is not drawn moving from its old position when reused
+        this.previousTransformIsSaved = false;
+
         BodyData data = (BodyData) dodgeableBody.getUserData();
         if (data != null){
             data.setFlaggedForDelete(false);
@@ -1,8 +1,7 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects;
 
-import com.badlogic.gdx.audio.Sound;
 
-import io.github.patpatchpatrick.alphapigeon.resources.SettingsManager;
+import io.github.patpatchpatrick.alphapigeon.resources.SoundMixer;
 import io.github.patpatchpatrick.alphapigeon.resources.Sounds;
 
 public class EnergyBall implements MovingObject {
@@ -16,7 +15,7 @@ public class EnergyBall implements MovingObject {
     private boolean animationIsComplete = false;
     private float direction;
     private boolean energyBeamIsSpawned = false;
-    private Sound energyBallSound;
+    private long energyBallVoice = SoundMixer.NO_VOICE;
 
     //Variables to track the energy ball positions and positions of the beam associated with the energy ball
     //These are all updated in the UFOs class update method
@@ -31,12 +30,27 @@ public class EnergyBall implements MovingObject {
     }
 
     public EnergyBall(float width, float height, float direction) {
+        init(width, height, direction);
+    }
+
+    public void init(float width, float height, float direction) {
+
+        //Energy balls are pooled by the UFOs, so all values from the previous energy ball are set again
+
         this.width = width;
         this.height = height;
         this.direction = direction;
-        this.energyBallSound = Sounds.ufoEnergyBallSound;
-        this.energyBallSound.loop(SettingsManager.gameVolume);
-        Sounds.activeSounds.add(Sounds.ufoEnergyBallSound);
+        this.isCharged = false;
+        this.frameNumber = 0;
+        this.animationIsComplete = false;
+        this.energyBeamIsSpawned = false;
+        this.energyBeamXPosition = 0;
+        this.energyBeamYPosition = 0;
+        this.energyBeamXScale = 1;
+        this.energyBallXPosition = 0;
+        this.energyBallYPosition = 0;
+        this.energyBeamRotation = 0;
+        this.energyBallVoice = SoundMixer.loop(Sounds.ufoEnergyBallSound, SoundMixer.PRIORITY_AMBIENT);
     }
 
     public void setEnergyBeamIsSpawned(Boolean energyBeamSpawned){
@@ -103,8 +117,8 @@ public class EnergyBall implements MovingObject {
     }
 
     public void reset(){
-        this.energyBallSound.stop();
-        Sounds.activeSounds.remove(this.energyBallSound);
+        SoundMixer.stop(this.energyBallVoice);
+        this.energyBallVoice = SoundMixer.NO_VOICE;
     }
 
 }
@@ -1,15 +1,15 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.World;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.Birds;
-import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
+import io.github.patpatchpatrick.alphapigeon.resources.CollisionShapes;
+import io.github.patpatchpatrick.alphapigeon.resources.GameLog;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 
 public class LevelOneBird extends Dodgeable {
@@ -28,9 +28,8 @@ public class LevelOneBird extends Dodgeable {
         levelOneBirdBodyDef.type = BodyDef.BodyType.DynamicBody;
 
         //spawn bird at random height
-        levelOneBirdBodyDef.position.set(camera.viewportWidth, MathUtils.random(0, camera.viewportHeight - HEIGHT));
+        levelOneBirdBodyDef.position.set(camera.viewportWidth, GameRandom.random(0, camera.viewportHeight - HEIGHT));
         dodgeableBody = gameWorld.createBody(levelOneBirdBodyDef);
-        BodyEditorLoader loader = new BodyEditorLoader(Gdx.files.internal("json/LevelOnePigeon.json"));
         FixtureDef levelOneBirdFixtureDef = new FixtureDef();
         levelOneBirdFixtureDef.density = 0.001f;
         levelOneBirdFixtureDef.friction = 0.5f;
@@ -38,7 +37,7 @@ public class LevelOneBird extends Dodgeable {
         // set the bird filter categories and masks for collisions
         levelOneBirdFixtureDef.filter.categoryBits = GameVariables.CATEGORY_LEVEL_ONE_BIRD;
         levelOneBirdFixtureDef.filter.maskBits = GameVariables.MASK_LEVEL_ONE_BIRD;
-        loader.attachFixture(dodgeableBody, "BackwardsPigeon", levelOneBirdFixtureDef, HEIGHT);
+        CollisionShapes.attachFixture(dodgeableBody, "json/LevelOnePigeon.json", "BackwardsPigeon", levelOneBirdFixtureDef, HEIGHT);
 
 
     }
@@ -55,15 +54,15 @@ public class LevelOneBird extends Dodgeable {
         if (verticalPosition == Birds.VERT_POSITION_RANDOM){
             //Initiate the object
             dodgeableBody.setActive(true);
-            dodgeableBody.setTransform(camera.viewportWidth, MathUtils.random(0, camera.viewportHeight - HEIGHT), dodgeableBody.getAngle());
-            dodgeableBody.applyForceToCenter(this.forceMultiplier * FORCE_X, 0, true);
+            dodgeableBody.setTransform(camera.viewportWidth, GameRandom.random(0, camera.viewportHeight - HEIGHT), dodgeableBody.getAngle());
+            applyLaunchForce(this.forceMultiplier * FORCE_X, 0);
             this.alive = true;
         } else {
 
             //Initiate the object
             dodgeableBody.setActive(true);
             dodgeableBody.setTransform(camera.viewportWidth, verticalPosition, dodgeableBody.getAngle());
-            dodgeableBody.applyForceToCenter(this.forceMultiplier * FORCE_X, 0, true);
+            applyLaunchForce(this.forceMultiplier * FORCE_X, 0);
             this.alive = true;
         }
 
@@ -81,7 +80,7 @@ public class LevelOneBird extends Dodgeable {
 
         this.forceMultiplier = (3f / 97f) * GameVariables.pigeonSpeed + (70f / 97f);
 
-        Gdx.app.log("L1ForceMulti", "" + this.forceMultiplier);
+        if (GameLog.ENABLED) GameLog.debug("L1ForceMulti", "{}", this.forceMultiplier);
 
     }
 
@@ -1,14 +1,13 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.World;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
-import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
+import io.github.patpatchpatrick.alphapigeon.resources.CollisionShapes;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 
 public class LevelOneBirdReverse extends Dodgeable {
@@ -27,9 +26,8 @@ public class LevelOneBirdReverse extends Dodgeable {
         levelOneBirdBodyDef.type = BodyDef.BodyType.DynamicBody;
 
         //spawn bird at random height
-        levelOneBirdBodyDef.position.set(camera.viewportWidth, MathUtils.random(0, camera.viewportHeight - HEIGHT));
+        levelOneBirdBodyDef.position.set(camera.viewportWidth, GameRandom.random(0, camera.viewportHeight - HEIGHT));
         dodgeableBody = gameWorld.createBody(levelOneBirdBodyDef);
-        BodyEditorLoader loader = new BodyEditorLoader(Gdx.files.internal("json/LevelOneBirdReverse.json"));
         FixtureDef levelOneBirdFixtureDef = new FixtureDef();
         levelOneBirdFixtureDef.density = 0.001f;
         levelOneBirdFixtureDef.friction = 0.5f;
@@ -37,7 +35,7 @@ public class LevelOneBirdReverse extends Dodgeable {
         // set the bird filter categories and masks for collisions
         levelOneBirdFixtureDef.filter.categoryBits = GameVariables.CATEGORY_LEVEL_ONE_BIRD;
         levelOneBirdFixtureDef.filter.maskBits = GameVariables.MASK_LEVEL_ONE_BIRD;
-        loader.attachFixture(dodgeableBody, "LevelOneBird", levelOneBirdFixtureDef, HEIGHT);
+        CollisionShapes.attachFixture(dodgeableBody, "json/LevelOneBirdReverse.json", "LevelOneBird", levelOneBirdFixtureDef, HEIGHT);
     }
 
     public void init(float totalGameTime) {
@@ -48,8 +46,8 @@ public class LevelOneBirdReverse extends Dodgeable {
         //Initiate the object
         dodgeableBody.setActive(true);
         dodgeableBody.setFixedRotation(true);
-        dodgeableBody.setTransform(0 - WIDTH, MathUtils.random(0, camera.viewportHeight - HEIGHT), dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(this.forceMultiplier * FORCE_X, 0, true);
+        dodgeableBody.setTransform(0 - WIDTH, GameRandom.random(0, camera.viewportHeight - HEIGHT), dodgeableBody.getAngle());
+        applyLaunchForce(this.forceMultiplier * FORCE_X, 0);
         this.alive = true;
 
     }
@@ -1,16 +1,16 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects;
 
 import com.badlogic.gdx.Game;
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.World;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
-import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
+import io.github.patpatchpatrick.alphapigeon.resources.CollisionShapes;
+import io.github.patpatchpatrick.alphapigeon.resources.GameLog;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 
 public class LevelTwoBird extends Dodgeable {
@@ -27,9 +27,8 @@ public class LevelTwoBird extends Dodgeable {
         levelTwoBirdBodyDef.type = BodyDef.BodyType.DynamicBody;
 
         //spawn bird at random height
-        levelTwoBirdBodyDef.position.set(camera.viewportWidth, MathUtils.random(0, camera.viewportHeight - HEIGHT));
+        levelTwoBirdBodyDef.position.set(camera.viewportWidth, GameRandom.random(0, camera.viewportHeight - HEIGHT));
         dodgeableBody = gameWorld.createBody(levelTwoBirdBodyDef);
-        BodyEditorLoader loader = new BodyEditorLoader(Gdx.files.internal("json/LevelTwoBird.json"));
         FixtureDef levelTwoBirdFixtureDef = new FixtureDef();
         levelTwoBirdFixtureDef.density = 0.001f;
         levelTwoBirdFixtureDef.friction = 0.5f;
@@ -37,7 +36,7 @@ public class LevelTwoBird extends Dodgeable {
         // set the bird filter categories and masks for collisions
         levelTwoBirdFixtureDef.filter.categoryBits = GameVariables.CATEGORY_LEVEL_TWO_BIRD;
         levelTwoBirdFixtureDef.filter.maskBits = GameVariables.MASK_LEVEL_TWO_BIRD;
-        loader.attachFixture(dodgeableBody, "LevelTwoBird", levelTwoBirdFixtureDef, WIDTH);
+        CollisionShapes.attachFixture(dodgeableBody, "json/LevelTwoBird.json", "LevelTwoBird", levelTwoBirdFixtureDef, WIDTH);
     }
 
     public void init(float totalGameTime) {
@@ -47,8 +46,8 @@ public class LevelTwoBird extends Dodgeable {
 
         //Initiate the object
         dodgeableBody.setActive(true);
-        dodgeableBody.setTransform(camera.viewportWidth, MathUtils.random(0, camera.viewportHeight - HEIGHT), dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(this.forceMultiplier * FORCE_X, 0, true);
+        dodgeableBody.setTransform(camera.viewportWidth, GameRandom.random(0, camera.viewportHeight - HEIGHT), dodgeableBody.getAngle());
+        applyLaunchForce(this.forceMultiplier * FORCE_X, 0);
         this.alive = true;
 
     }
@@ -62,7 +61,7 @@ public class LevelTwoBird extends Dodgeable {
         //the force multiplier is 4f when pigeon's max speed of 300 (m/s) is reached.
 
         this.forceMultiplier = (1f / 97f) * GameVariables.pigeonSpeed + (88f / 97f);
-        Gdx.app.log("L2ForceMulti", "" + this.forceMultiplier);
+        if (GameLog.ENABLED) GameLog.debug("L2ForceMulti", "{}", this.forceMultiplier);
 
     }
 }
@@ -1,14 +1,13 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.World;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
-import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
+import io.github.patpatchpatrick.alphapigeon.resources.CollisionShapes;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 
 public class LevelTwoBirdReverse extends Dodgeable {
@@ -28,9 +27,8 @@ public class LevelTwoBirdReverse extends Dodgeable {
         levelTwoBirdBodyDef.type = BodyDef.BodyType.DynamicBody;
 
         //spawn bird at random height
-        levelTwoBirdBodyDef.position.set(0 - WIDTH, MathUtils.random(0, camera.viewportHeight - HEIGHT));
+        levelTwoBirdBodyDef.position.set(0 - WIDTH, GameRandom.random(0, camera.viewportHeight - HEIGHT));
         dodgeableBody = gameWorld.createBody(levelTwoBirdBodyDef);
-        BodyEditorLoader loader = new BodyEditorLoader(Gdx.files.internal("json/LevelTwoBirdReverse.json"));
         FixtureDef levelTwoBirdFixtureDef = new FixtureDef();
         levelTwoBirdFixtureDef.density = 0.001f;
         levelTwoBirdFixtureDef.friction = 0.5f;
@@ -38,7 +36,7 @@ public class LevelTwoBirdReverse extends Dodgeable {
         // set the bird filter categories and masks for collisions
         levelTwoBirdFixtureDef.filter.categoryBits = GameVariables.CATEGORY_LEVEL_TWO_BIRD;
         levelTwoBirdFixtureDef.filter.maskBits = GameVariables.MASK_LEVEL_TWO_BIRD;
-        loader.attachFixture(dodgeableBody, "LevelTwoBird", levelTwoBirdFixtureDef, WIDTH);
+        CollisionShapes.attachFixture(dodgeableBody, "json/LevelTwoBirdReverse.json", "LevelTwoBird", levelTwoBirdFixtureDef, WIDTH);
     }
 
     public void init(float totalGameTime) {
@@ -49,8 +47,8 @@ public class LevelTwoBirdReverse extends Dodgeable {
         //Initiate the object
         dodgeableBody.setActive(true);
         dodgeableBody.setFixedRotation(true);
-        dodgeableBody.setTransform(0 - WIDTH, MathUtils.random(0, camera.viewportHeight - HEIGHT), dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(this.forceMultiplier * FORCE_X, 0, true);
+        dodgeableBody.setTransform(0 - WIDTH, GameRandom.random(0, camera.viewportHeight - HEIGHT), dodgeableBody.getAngle());
+        applyLaunchForce(this.forceMultiplier * FORCE_X, 0);
         this.alive = true;
 
     }
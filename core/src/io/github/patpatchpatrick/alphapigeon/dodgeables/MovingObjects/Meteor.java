@@ -1,7 +1,5 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.Body;
@@ -10,9 +8,11 @@ import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.World;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
-import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
+import io.github.patpatchpatrick.alphapigeon.resources.CollisionShapes;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
-import io.github.patpatchpatrick.alphapigeon.resources.SettingsManager;
+import io.github.patpatchpatrick.alphapigeon.resources.LaunchImpulse;
+import io.github.patpatchpatrick.alphapigeon.resources.SoundMixer;
 import io.github.patpatchpatrick.alphapigeon.resources.Sounds;
 
 public class Meteor extends Dodgeable {
@@ -21,7 +21,7 @@ public class Meteor extends Dodgeable {
     public final float HEIGHT = WIDTH / 2;
     private final float FORCE_X = -3000.0f;
     private final float FORCE_Y = -3000.0f;
-    private Sound meteorSound;
+    private long meteorVoice = SoundMixer.NO_VOICE;
 
     public Meteor(World gameWorld, AlphaPigeon game, OrthographicCamera camera) {
         super(gameWorld, game, camera);
@@ -31,10 +31,9 @@ public class Meteor extends Dodgeable {
         meteorBodyDef.type = BodyDef.BodyType.DynamicBody;
 
         //spawn meteor at random width
-        meteorBodyDef.position.set(MathUtils.random(0 - WIDTH/2, camera.viewportWidth), camera.viewportHeight + HEIGHT/2);
+        meteorBodyDef.position.set(GameRandom.random(0 - WIDTH/2, camera.viewportWidth), camera.viewportHeight + HEIGHT/2);
         dodgeableBody = gameWorld.createBody(meteorBodyDef);
         dodgeableBody.setTransform(dodgeableBody.getPosition().x, dodgeableBody.getPosition().y, MathUtils.degreesToRadians*-15);
-        BodyEditorLoader loader = new BodyEditorLoader(Gdx.files.internal("json/Meteor.json"));
         FixtureDef meteorFixtureDef = new FixtureDef();
         meteorFixtureDef.density = 0.05f;
         meteorFixtureDef.friction = 0.5f;
@@ -42,22 +41,20 @@ public class Meteor extends Dodgeable {
         // set the meteor filter categories and masks for collisions
         meteorFixtureDef.filter.categoryBits = GameVariables.CATEGORY_METEOR;
         meteorFixtureDef.filter.maskBits = GameVariables.MASK_METEOR;
-        loader.attachFixture(dodgeableBody, "Meteor", meteorFixtureDef, WIDTH);
-        dodgeableBody.applyForceToCenter(FORCE_X, FORCE_Y, true);
+        CollisionShapes.attachFixture(dodgeableBody, "json/Meteor.json", "Meteor", meteorFixtureDef, WIDTH);
+        LaunchImpulse.applyToCenter(dodgeableBody, FORCE_X, FORCE_Y);
 
     }
 
     public void init() {
 
         dodgeableBody.setActive(true);
-        dodgeableBody.setTransform(MathUtils.random(0 - WIDTH/2, camera.viewportWidth), camera.viewportHeight + HEIGHT/2, dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(FORCE_X, FORCE_Y, true);
+        dodgeableBody.setTransform(GameRandom.random(0 - WIDTH/2, camera.viewportWidth), camera.viewportHeight + HEIGHT/2, dodgeableBody.getAngle());
+        LaunchImpulse.applyToCenter(dodgeableBody, FORCE_X, FORCE_Y);
         this.alive = true;
 
         //Play spawn sound
-        this.meteorSound = Sounds.meteorSound;
-        this.meteorSound.loop(SettingsManager.gameVolume);
-        Sounds.activeSounds.add(this.meteorSound);
+        this.meteorVoice = SoundMixer.loop(Sounds.meteorSound, SoundMixer.PRIORITY_AMBIENT);
 
 
     }
@@ -67,7 +64,7 @@ public class Meteor extends Dodgeable {
         super.reset();
 
         //Stop playing sound
-        this.meteorSound.stop();
-        Sounds.activeSounds.remove(this.meteorSound);
+        SoundMixer.stop(this.meteorVoice);
+        this.meteorVoice = SoundMixer.NO_VOICE;
     }
 }
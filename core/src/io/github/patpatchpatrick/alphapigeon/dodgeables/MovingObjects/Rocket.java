@@ -1,10 +1,8 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
@@ -12,8 +10,10 @@ import com.badlogic.gdx.physics.box2d.World;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyData;
-import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
+import io.github.patpatchpatrick.alphapigeon.resources.CollisionShapes;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
+import io.github.patpatchpatrick.alphapigeon.resources.LaunchImpulse;
 
 public class Rocket extends Dodgeable {
 
@@ -28,10 +28,9 @@ public class Rocket extends Dodgeable {
         rocketBodyDef.type = BodyDef.BodyType.DynamicBody;
 
         //spawn rocket at random height and subtract the width of the rocket since the rocket is rotated 90 degrees
-        float rocketSpawnHeight = MathUtils.random(WIDTH, camera.viewportHeight);
+        float rocketSpawnHeight = GameRandom.random(WIDTH, camera.viewportHeight);
         rocketBodyDef.position.set(camera.viewportWidth, rocketSpawnHeight);
         dodgeableBody = gameWorld.createBody(rocketBodyDef);
-        BodyEditorLoader loader = new BodyEditorLoader(Gdx.files.internal("json/Rocket.json"));
         FixtureDef rocketFixtureDef = new FixtureDef();
         rocketFixtureDef.density = 0.001f;
         rocketFixtureDef.friction = 0.5f;
@@ -39,7 +38,7 @@ public class Rocket extends Dodgeable {
         // set the rocket filter categories and masks for collisions
         rocketFixtureDef.filter.categoryBits = GameVariables.CATEGORY_ROCKET;
         rocketFixtureDef.filter.maskBits = GameVariables.MASK_ROCKET;
-        loader.attachFixture(dodgeableBody, "Rocket", rocketFixtureDef, 10);
+        CollisionShapes.attachFixture(dodgeableBody, "json/Rocket.json", "Rocket", rocketFixtureDef, 10);
         dodgeableBody.setTransform(dodgeableBody.getPosition(), -90 * MathUtils.degreesToRadians);
 
         //Determine which torque to apply to rocket depending on if it is spawned on bottom half or top half of screen
@@ -49,19 +48,18 @@ public class Rocket extends Dodgeable {
         float rocketTorque;
         boolean rocketSpawnedInBottomHalfScreen = rocketSpawnHeight < camera.viewportHeight / 2;
         if (rocketSpawnedInBottomHalfScreen) {
-            rocketTorque = MathUtils.random(-4f, -2f);
+            rocketTorque = GameRandom.random(-4f, -2f);
         } else {
-            rocketTorque = MathUtils.random(-1f, 0f);
+            rocketTorque = GameRandom.random(-1f, 0f);
         }
 
         //Set torque and spawn data on the rocket body so it can be used in the update method
-        BodyData rocketData = new BodyData(false);
+        BodyData rocketData = BodyData.reset(dodgeableBody);
         rocketData.setRocketData(rocketTorque, rocketSpawnedInBottomHalfScreen);
-        dodgeableBody.setUserData(rocketData);
-        dodgeableBody.applyTorque(rocketTorque, true);
+        LaunchImpulse.applyTorque(dodgeableBody, rocketTorque);
         // apply the force to the rocket at the height it was spawned and at the end of the rocket
         // ROCKET_HEIGHT is used  for x coordinate of force instead of ROCKET_WIDTH because the rocket is rotated 90 degrees
-        dodgeableBody.applyForce(-15.0f, 0, camera.viewportWidth + HEIGHT, rocketSpawnHeight - 5, true);
+        LaunchImpulse.apply(dodgeableBody, -15.0f, 0, camera.viewportWidth + HEIGHT, rocketSpawnHeight - 5);
 
     }
 
@@ -72,31 +70,29 @@ public class Rocket extends Dodgeable {
         //If spawned on bottom half, rotate rocket CW and move it upwards (done in the update method)
         //If spawned on top half, rotate rocket CCW and move it downwards (done in the update method)
         //Randomize the magnitude of the torque
-        float rocketSpawnHeight = MathUtils.random(WIDTH, camera.viewportHeight);
+        float rocketSpawnHeight = GameRandom.random(WIDTH, camera.viewportHeight);
         float rocketTorque;
         boolean rocketSpawnedInBottomHalfScreen = rocketSpawnHeight < camera.viewportHeight / 2;
         if (rocketSpawnedInBottomHalfScreen) {
-            rocketTorque = MathUtils.random(-4f, -2f);
+            rocketTorque = GameRandom.random(-4f, -2f);
         } else {
-            rocketTorque = MathUtils.random(-1f, 0f);
+            rocketTorque = GameRandom.random(-1f, 0f);
         }
 
         //Set torque and spawn data on the rocket body so it can be used in the update method
-        BodyData rocketData = new BodyData(false);
+        BodyData rocketData = BodyData.reset(dodgeableBody);
         rocketData.setRocketData(rocketTorque, rocketSpawnedInBottomHalfScreen);
 
         dodgeableBody.setActive(true);
 
         //Ensure the rocket speed and angular velocity are set back to 0
-        Vector2 vel = new Vector2(0f, 0f);
-        dodgeableBody.setLinearVelocity(vel);
+        dodgeableBody.setLinearVelocity(0, 0);
         dodgeableBody.setAngularVelocity(0);
-        dodgeableBody.setUserData(rocketData);
         dodgeableBody.setTransform(camera.viewportWidth, rocketSpawnHeight, -90 * MathUtils.degreesToRadians);
-        dodgeableBody.applyTorque(rocketTorque, true);
+        LaunchImpulse.applyTorque(dodgeableBody, rocketTorque);
         // apply the force to the rocket at the height it was spawned and at the end of the rocket
         // ROCKET_HEIGHT is used  for x coordinate of force instead of ROCKET_WIDTH because the rocket is rotated 90 degrees
-        dodgeableBody.applyForce(-15.0f, 0, camera.viewportWidth + HEIGHT, rocketSpawnHeight - 5, true);
+        LaunchImpulse.apply(dodgeableBody, -15.0f, 0, camera.viewportWidth + HEIGHT, rocketSpawnHeight - 5);
         this.alive = true;
 
 
@@ -1,6 +1,5 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.Body;
@@ -12,7 +11,7 @@ import com.badlogic.gdx.utils.TimeUtils;
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyData;
-import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
+import io.github.patpatchpatrick.alphapigeon.resources.CollisionShapes;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 
 public class RocketExplosion extends Dodgeable {
@@ -29,7 +28,6 @@ public class RocketExplosion extends Dodgeable {
 
         rocketExplosionBodyDef.position.set(-100,-100);
         dodgeableBody = gameWorld.createBody(rocketExplosionBodyDef);
-        BodyEditorLoader loader = new BodyEditorLoader(Gdx.files.internal("json/RocketExplosion.json"));
         FixtureDef rocketExplosionFixtureDef = new FixtureDef();
         rocketExplosionFixtureDef.density = 0.001f;
         rocketExplosionFixtureDef.friction = 0.5f;
@@ -37,8 +35,8 @@ public class RocketExplosion extends Dodgeable {
         // set the rocket explosion filter categories and masks for collisions
         rocketExplosionFixtureDef.filter.categoryBits = GameVariables.CATEGORY_ROCKET_EXPLOSION;
         rocketExplosionFixtureDef.filter.maskBits = GameVariables.MASK_ROCKET_EXPLOSION;
-        loader.attachFixture(dodgeableBody, "RocketExplosion", rocketExplosionFixtureDef, WIDTH);
-        dodgeableBody.applyForceToCenter(0, 0, true);
+        CollisionShapes.attachFixture(dodgeableBody, "json/RocketExplosion.json", "RocketExplosion", rocketExplosionFixtureDef, WIDTH);
+        applyLaunchForce(0, 0);
 
     }
 
@@ -49,14 +47,13 @@ public class RocketExplosion extends Dodgeable {
 
         dodgeableBody.setActive(true);
         dodgeableBody.setTransform(explosionPositionX - WIDTH/2, explosionPositionY - HEIGHT/2, dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(0, 0, true);
+        applyLaunchForce(0, 0);
         this.alive = true;
 
         //Set the time the rocket was exploded on the rocket.  This is used in the update method
         //to destroy the rocket explosion after a set amount of time
-        BodyData rocketExplosionData = new BodyData(false);
+        BodyData rocketExplosionData = BodyData.reset(dodgeableBody);
         rocketExplosionData.setSpawnTime(Gameplay.totalGameTime);
-        dodgeableBody.setUserData(rocketExplosionData);
 
     }
 
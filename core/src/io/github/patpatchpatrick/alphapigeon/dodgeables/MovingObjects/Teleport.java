@@ -1,8 +1,6 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
@@ -10,8 +8,8 @@ import com.badlogic.gdx.physics.box2d.World;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.Teleports;
-import io.github.patpatchpatrick.alphapigeon.resources.BodyData;
-import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
+import io.github.patpatchpatrick.alphapigeon.resources.CollisionShapes;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 
 public class Teleport extends Dodgeable {
@@ -30,7 +28,6 @@ public class Teleport extends Dodgeable {
         teleportBodyDef.type = BodyDef.BodyType.DynamicBody;
         teleportBodyDef.position.set(0,0);
         dodgeableBody = gameWorld.createBody(teleportBodyDef);
-        BodyEditorLoader loader = new BodyEditorLoader(Gdx.files.internal("json/Teleport.json"));
         FixtureDef teleportFixtureDef = new FixtureDef();
         teleportFixtureDef.density = 0.001f;
         teleportFixtureDef.friction = 0.5f;
@@ -39,7 +36,7 @@ public class Teleport extends Dodgeable {
         teleportFixtureDef.filter.categoryBits = GameVariables.CATEGORY_TELEPORT;
         teleportFixtureDef.filter.maskBits = GameVariables.MASK_TELEPORT;
         //The JSON loader loaders a fixture 1 pixel by 1 pixel... the animation is 100 px x 100 px, so need to scale by a factor of 10
-        loader.attachFixture(dodgeableBody, "Teleport", teleportFixtureDef, HEIGHT);
+        CollisionShapes.attachFixture(dodgeableBody, "json/Teleport.json", "Teleport", teleportFixtureDef, HEIGHT);
 
     }
 
@@ -51,11 +48,11 @@ public class Teleport extends Dodgeable {
         if (spawnHeight == Teleports.VERT_POSITION_RANDOM){
 
             // Initialize first teleport (moves in different direction from second teleport)
-            yPosition = MathUtils.random(0, camera.viewportHeight - HEIGHT);
+            yPosition = GameRandom.random(0, camera.viewportHeight - HEIGHT);
 
             dodgeableBody.setActive(true);
             dodgeableBody.setTransform(camera.viewportWidth, yPosition, dodgeableBody.getAngle());
-            dodgeableBody.applyForceToCenter(FORCE_ONE, 0, true);
+            applyLaunchForce(FORCE_ONE, 0);
             this.alive = true;
 
         } else {
@@ -65,7 +62,7 @@ public class Teleport extends Dodgeable {
 
             dodgeableBody.setActive(true);
             dodgeableBody.setTransform(camera.viewportWidth, yPosition, dodgeableBody.getAngle());
-            dodgeableBody.applyForceToCenter(FORCE_ONE, 0, true);
+            applyLaunchForce(FORCE_ONE, 0);
             this.alive = true;
 
 
@@ -81,16 +78,8 @@ public class Teleport extends Dodgeable {
 
         dodgeableBody.setActive(true);
         dodgeableBody.setTransform(0, spawnHeight, dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(FORCE_TWO, 0, true);
+        applyLaunchForce(FORCE_TWO, 0);
         this.alive = true;
 
     }
-
-    public void setOppositeTeleportData(BodyData teleportData){
-
-        //Set the data for the opposite teleport
-
-        dodgeableBody.setUserData(teleportData);
-
-    }
 }
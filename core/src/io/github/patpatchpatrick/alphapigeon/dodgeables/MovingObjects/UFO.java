@@ -1,22 +1,22 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.TimeUtils;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.ufoEnergyBeam.UfoEnergyBeam;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.UFOs;
 import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
-import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
+import io.github.patpatchpatrick.alphapigeon.resources.CollisionShapes;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
-import io.github.patpatchpatrick.alphapigeon.resources.SettingsManager;
+import io.github.patpatchpatrick.alphapigeon.resources.SoundMixer;
 import io.github.patpatchpatrick.alphapigeon.resources.Sounds;
 
 public class UFO extends Dodgeable {
@@ -37,11 +37,20 @@ public class UFO extends Dodgeable {
     public float timeToHold = 0;
 
     //Sound associated with UFO
-    private Sound flyingSound;
+    private long flyingVoice = SoundMixer.NO_VOICE;
 
     public float spawnTime;
     //Energy balls associated with UFO
     public Array<EnergyBall> energyBalls = new Array<EnergyBall>();
+    //Energy balls that are not in use, a UFO has at most one energy ball in each direction
+    //They are created with the UFO, so spawning a UFO's energy balls doesn't allocate
+    private static final int MAX_ENERGY_BALLS = 4;
+    private final Pool<EnergyBall> energyBallPool = new Pool<EnergyBall>(MAX_ENERGY_BALLS) {
+        @Override
+        protected EnergyBall newObject() {
+            return new EnergyBall();
+        }
+    };
     //Energy beams associated with UFO
     public Array<UfoEnergyBeam> energyBeams = new Array<UfoEnergyBeam>();
 
@@ -56,7 +65,6 @@ public class UFO extends Dodgeable {
         //spawn ufo at random height
         ufoBodyDef.position.set(-100, -100);
         dodgeableBody = gameWorld.createBody(ufoBodyDef);
-        BodyEditorLoader loader = new BodyEditorLoader(Gdx.files.internal("json/Ufo.json"));
         FixtureDef ufoFixtureDef = new FixtureDef();
         ufoFixtureDef.density = 0.001f;
         ufoFixtureDef.friction = 0.5f;
@@ -64,7 +72,11 @@ public class UFO extends Dodgeable {
         // set the ufo filter categories and masks for collisions
         ufoFixtureDef.filter.categoryBits = GameVariables.CATEGORY_UFO;
         ufoFixtureDef.filter.maskBits = GameVariables.MASK_UFO;
-        loader.attachFixture(dodgeableBody, "Ufo", ufoFixtureDef, HEIGHT);
+        CollisionShapes.attachFixture(dodgeableBody, "json/Ufo.json", "Ufo", ufoFixtureDef, HEIGHT);
+
+        for (int i = 0; i < MAX_ENERGY_BALLS; i++) {
+            energyBallPool.free(new EnergyBall());
+        }
 
 
     }
@@ -75,17 +87,15 @@ public class UFO extends Dodgeable {
         this.direction = direction;
 
         dodgeableBody.setActive(true);
-        dodgeableBody.setTransform(camera.viewportWidth, MathUtils.random(0, camera.viewportHeight - HEIGHT), dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(FORCE_X, 0, true);
+        dodgeableBody.setTransform(camera.viewportWidth, GameRandom.random(0, camera.viewportHeight - HEIGHT), dodgeableBody.getAngle());
+        applyLaunchForce(FORCE_X, 0);
         this.alive = true;
 
         //keep track of time the ufo was spawned
         spawnTime = Gameplay.totalGameTime;
 
         //Play UFO Sound
-        this.flyingSound = Sounds.ufoFlyingSound;
-        this.flyingSound.loop(SettingsManager.gameVolume);
-        Sounds.activeSounds.add(this.flyingSound);
+        this.flyingVoice = SoundMixer.loop(Sounds.ufoFlyingSound, SoundMixer.PRIORITY_AMBIENT);
 
 
     }
@@ -97,16 +107,14 @@ public class UFO extends Dodgeable {
 
         dodgeableBody.setActive(true);
         dodgeableBody.setTransform(camera.viewportWidth, (camera.viewportHeight - HEIGHT) / 2, dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(FORCE_X, 0, true);
+        applyLaunchForce(FORCE_X, 0);
         this.alive = true;
 
         //keep track of time the ufo was spawned
         spawnTime = Gameplay.totalGameTime;
 
         //Play UFO Sound
-        this.flyingSound = Sounds.ufoFlyingSound;
-        this.flyingSound.loop(SettingsManager.gameVolume);
-        Sounds.activeSounds.add(this.flyingSound);
+        this.flyingVoice = SoundMixer.loop(Sounds.ufoFlyingSound, SoundMixer.PRIORITY_AMBIENT);
 
     }
 
@@ -116,16 +124,14 @@ public class UFO extends Dodgeable {
 
         dodgeableBody.setActive(true);
         dodgeableBody.setTransform(camera.viewportWidth/2 - WIDTH/2, camera.viewportHeight, dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(0, FORCE_Y, true);
+        applyLaunchForce(0, FORCE_Y);
         this.alive = true;
 
         //keep track of time the ufo was spawned
         spawnTime = Gameplay.totalGameTime;
 
         //Play UFO Sound
-        this.flyingSound = Sounds.ufoFlyingSound;
-        this.flyingSound.loop(SettingsManager.gameVolume);
-        Sounds.activeSounds.add(this.flyingSound);
+        this.flyingVoice = SoundMixer.loop(Sounds.ufoFlyingSound, SoundMixer.PRIORITY_AMBIENT);
 
     }
 
@@ -138,7 +144,7 @@ public class UFO extends Dodgeable {
 
         dodgeableBody.setActive(true);
         dodgeableBody.setTransform(camera.viewportWidth, (camera.viewportHeight - HEIGHT) / 2, dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(FORCE_X, 0, true);
+        applyLaunchForce(FORCE_X, 0);
         this.alive = true;
 
         //keep track of time the ufo was spawned
@@ -148,9 +154,7 @@ public class UFO extends Dodgeable {
         this.timeToHold = timeToHoldInCenter;
 
         //Play UFO Sound
-        this.flyingSound = Sounds.ufoFlyingSound;
-        this.flyingSound.loop(SettingsManager.gameVolume);
-        Sounds.activeSounds.add(this.flyingSound);
+        this.flyingVoice = SoundMixer.loop(Sounds.ufoFlyingSound, SoundMixer.PRIORITY_AMBIENT);
 
     }
 
@@ -163,7 +167,7 @@ public class UFO extends Dodgeable {
 
         dodgeableBody.setActive(true);
         dodgeableBody.setTransform(camera.viewportWidth, (camera.viewportHeight - HEIGHT) / 2, dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(FORCE_X, 0, true);
+        applyLaunchForce(FORCE_X, 0);
         this.alive = true;
 
         //keep track of time the ufo was spawned
@@ -173,9 +177,7 @@ public class UFO extends Dodgeable {
         this.timeToHold = timeToHoldInCenter;
 
         //Play UFO Sound
-        this.flyingSound = Sounds.ufoFlyingSound;
-        this.flyingSound.loop(SettingsManager.gameVolume);
-        Sounds.activeSounds.add(this.flyingSound);
+        this.flyingVoice = SoundMixer.loop(Sounds.ufoFlyingSound, SoundMixer.PRIORITY_AMBIENT);
 
     }
 
@@ -187,7 +189,7 @@ public class UFO extends Dodgeable {
 
         dodgeableBody.setActive(true);
         dodgeableBody.setTransform(camera.viewportWidth, camera.viewportHeight - HEIGHT, dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(FORCE_X, 0, true);
+        applyLaunchForce(FORCE_X, 0);
         this.alive = true;
 
         //keep track of time the ufo was spawned
@@ -197,9 +199,7 @@ public class UFO extends Dodgeable {
         this.timeToHold = timeToHold;
 
         //Play UFO Sound
-        this.flyingSound = Sounds.ufoFlyingSound;
-        this.flyingSound.loop(SettingsManager.gameVolume);
-        Sounds.activeSounds.add(this.flyingSound);
+        this.flyingVoice = SoundMixer.loop(Sounds.ufoFlyingSound, SoundMixer.PRIORITY_AMBIENT);
     }
 
     public void initStopInBottomLeftCorner(float direction, float timeToHold){
@@ -210,7 +210,7 @@ public class UFO extends Dodgeable {
 
         dodgeableBody.setActive(true);
         dodgeableBody.setTransform(0-WIDTH, 0 - HEIGHT/3, dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(-FORCE_X, 0, true);
+        applyLaunchForce(-FORCE_X, 0);
         this.alive = true;
 
         //keep track of time the ufo was spawned
@@ -220,9 +220,7 @@ public class UFO extends Dodgeable {
         this.timeToHold = timeToHold;
 
         //Play UFO Sound
-        this.flyingSound = Sounds.ufoFlyingSound;
-        this.flyingSound.loop(SettingsManager.gameVolume);
-        Sounds.activeSounds.add(this.flyingSound);
+        this.flyingVoice = SoundMixer.loop(Sounds.ufoFlyingSound, SoundMixer.PRIORITY_AMBIENT);
     }
 
     @Override
@@ -242,6 +240,11 @@ public class UFO extends Dodgeable {
         }
     }
 
+    public EnergyBall obtainEnergyBall() {
+        //Energy balls are returned to the pool when the UFO is reset
+        return energyBallPool.obtain();
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -251,6 +254,7 @@ public class UFO extends Dodgeable {
         for (EnergyBall energyBall : this.energyBalls){
             energyBall.reset();
         }
+        energyBallPool.freeAll(this.energyBalls);
         this.energyBalls.clear();
         for (UfoEnergyBeam energyBeam : this.energyBeams){
             energyBeam.reset();
@@ -263,8 +267,8 @@ public class UFO extends Dodgeable {
         this.stopInBottomLeftCornerOfScreen = false;
         this.timeToHold = 0;
 
-        this.flyingSound.stop();
-        Sounds.activeSounds.remove(this.flyingSound);
+        SoundMixer.stop(this.flyingVoice);
+        this.flyingVoice = SoundMixer.NO_VOICE;
 
     }
 }
@@ -1,18 +1,17 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.ufoEnergyBeam;
 
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.physics.box2d.World;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
-import io.github.patpatchpatrick.alphapigeon.resources.Sounds;
+import io.github.patpatchpatrick.alphapigeon.resources.SoundMixer;
 
 //Class shared by all UFO energy beams
 
 public abstract class UfoEnergyBeam extends Dodgeable {
 
-    protected Sound energyBeamSound;
+    protected long energyBeamVoice = SoundMixer.NO_VOICE;
     public float direction;
 
 
@@ -24,9 +23,9 @@ public abstract class UfoEnergyBeam extends Dodgeable {
     public void reset() {
         super.reset();
 
-        //Stop playing energy beam sound when it is no longer active and remove from active sounds
-        this.energyBeamSound.stop();
-        Sounds.activeSounds.remove(this.energyBeamSound);
+        //Stop playing energy beam sound when it is no longer active
+        SoundMixer.stop(this.energyBeamVoice);
+        this.energyBeamVoice = SoundMixer.NO_VOICE;
     }
 
 }
@@ -1,7 +1,5 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.ufoEnergyBeam;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
@@ -12,9 +10,9 @@ import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.UFO;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyData;
-import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
+import io.github.patpatchpatrick.alphapigeon.resources.CollisionShapes;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
-import io.github.patpatchpatrick.alphapigeon.resources.SettingsManager;
+import io.github.patpatchpatrick.alphapigeon.resources.SoundMixer;
 import io.github.patpatchpatrick.alphapigeon.resources.Sounds;
 
 public class UfoEnergyBeamDown extends UfoEnergyBeam {
@@ -37,7 +35,6 @@ public class UfoEnergyBeamDown extends UfoEnergyBeam {
         //spawn energybeam
         energyBeamBodyDef.position.set(0, 0);
         dodgeableBody = gameWorld.createBody(energyBeamBodyDef);
-        BodyEditorLoader loader = new BodyEditorLoader(Gdx.files.internal("json/EnergyBeamDown.json"));
         FixtureDef energyBeamFixtureDef = new FixtureDef();
         energyBeamFixtureDef.density = 0.001f;
         energyBeamFixtureDef.friction = 0.5f;
@@ -45,7 +42,7 @@ public class UfoEnergyBeamDown extends UfoEnergyBeam {
         // set the energybeam filter categories and masks for collisions
         energyBeamFixtureDef.filter.categoryBits = GameVariables.CATEGORY_UFO;
         energyBeamFixtureDef.filter.maskBits = GameVariables.MASK_UFO;
-        loader.attachFixture(dodgeableBody, "EnergyBeamDown", energyBeamFixtureDef, WIDTH);
+        CollisionShapes.attachFixture(dodgeableBody, "json/EnergyBeamDown.json", "EnergyBeamDown", energyBeamFixtureDef, WIDTH);
     }
 
     public void init(UFO ufo, float energyBeamDirection) {
@@ -58,7 +55,7 @@ public class UfoEnergyBeamDown extends UfoEnergyBeam {
 
         dodgeableBody.setActive(true);
         dodgeableBody.setTransform(energyBeamXPosition, energyBeamYPosition, dodgeableBody.getAngle());
-        dodgeableBody.applyForceToCenter(0, 0, true);
+        applyLaunchForce(0, 0);
         this.alive = true;
 
         //Make the energy beam velocity match the UFO velocity
@@ -67,18 +64,15 @@ public class UfoEnergyBeamDown extends UfoEnergyBeam {
         // set the ufo linked to the energy beam on the beam so the objects positions can stay in sync
         // via the update method
         // set the energy beam direction so the render method knows how to render the sprite image
-        BodyData energyBeamData = new BodyData(false);
+        BodyData energyBeamData = BodyData.reset(dodgeableBody);
         energyBeamData.setUfo(ufo);
         energyBeamData.setEnergyBeamDirection(energyBeamDirection);
         this.direction = energyBeamDirection;
-        dodgeableBody.setUserData(energyBeamData);
 
         this.ufo = ufo;
 
         //Set and play the energy beam sound
-        this.energyBeamSound = Sounds.ufoEnergyBeamSound;
-        this.energyBeamSound.loop(SettingsManager.gameVolume);
-        Sounds.activeSounds.add(this.energyBeamSound);
+        this.energyBeamVoice = SoundMixer.loop(Sounds.ufoEnergyBeamSound, SoundMixer.PRIORITY_AMBIENT);
 
     }
 
@@ -1,8 +1,6 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -14,7 +12,9 @@ import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.LevelOneBi
 import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
 import io.github.patpatchpatrick.alphapigeon.resources.SettingsManager;
+import io.github.patpatchpatrick.alphapigeon.resources.SoundMixer;
 import io.github.patpatchpatrick.alphapigeon.resources.Sounds;
+import io.github.patpatchpatrick.alphapigeon.resources.SpriteAtlas;
 
 public class Notifications {
 
@@ -27,7 +27,7 @@ public class Notifications {
     //Exclamation mark notification variables
     //Exclamation marks are used to notify of dodgeables coming from the left, top or bottom of screen
     //Dodgeable enemies normally don't come from these directions so it will notify the user to be ready
-    private Texture exclamationMarkSheet;
+    private TextureRegion exclamationMarkSheet;
     private Animation<TextureRegion> exclamationMarkAnimation;
     //Direction where exclamation mark will be spawned
     public static final float DIRECTION_LEFT = 0f;
@@ -84,15 +84,15 @@ public class Notifications {
 
     private void initializeExclamationMarkAnimation() {
 
-        // Load the exclamation mark sprite sheet as a Texture
-        exclamationMarkSheet = new Texture(Gdx.files.internal("sprites/ExclamationMarkSpriteSheet.png"));
+        // Get the exclamation mark sprite sheet from the sprite atlas
+        exclamationMarkSheet = SpriteAtlas.findRegion("ExclamationMarkSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmp = TextureRegion.split(exclamationMarkSheet,
-                exclamationMarkSheet.getWidth() / 2,
-                exclamationMarkSheet.getHeight() / 1);
+        TextureRegion[][] tmp = exclamationMarkSheet.split(
+                exclamationMarkSheet.getRegionWidth() / 2,
+                exclamationMarkSheet.getRegionHeight() / 1);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -111,7 +111,6 @@ public class Notifications {
     }
 
     public void dispose() {
-        exclamationMarkSheet.dispose();
     }
 
     public static class ExclamationMark {
@@ -186,7 +185,7 @@ public class Notifications {
                 lastExclamationMarkLeftSpawnTime = currentTime;
                 lastNotificationSpawnTime = currentTime;
                 notificationSpawned = true;
-                Sounds.notificationSound.play(SettingsManager.gameVolume);
+                SoundMixer.play(Sounds.notificationSound, SoundMixer.PRIORITY_EFFECT);
 
 
             } else if (direction == Notifications.DIRECTION_BOTTOM) {
@@ -197,7 +196,7 @@ public class Notifications {
                 lastExclamationMarkBottomSpawnTime = currentTime;
                 lastNotificationSpawnTime = currentTime;
                 notificationSpawned = true;
-                Sounds.notificationSound.play(SettingsManager.gameVolume);
+                SoundMixer.play(Sounds.notificationSound, SoundMixer.PRIORITY_EFFECT);
 
 
             } else if (direction == Notifications.DIRECTION_TOP) {
@@ -208,7 +207,7 @@ public class Notifications {
                 lastExclamationMarkTopSpawnTime = currentTime;
                 lastNotificationSpawnTime = currentTime;
                 notificationSpawned = true;
-                Sounds.notificationSound.play(SettingsManager.gameVolume);
+                SoundMixer.play(Sounds.notificationSound, SoundMixer.PRIORITY_EFFECT);
 
             }
 
@@ -0,0 +1,113 @@
+package io.github.patpatchpatrick.alphapigeon.dodgeables;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+public class PoolCapacityProfile {
+
+    //The most dodgeables of each type that are expected to be in use at the same time, for each level
+    //Before a game starts, every pool is filled to its largest capacity in the profile so that
+    //Box2D bodies and fixtures don't need to be created in the middle of a wave
+    //A profile can also be recorded while a game is played (see Gameplay) so the profile file can be tuned from real runs
+    //
+    //Profile file format: { "LevelOne": { "LevelOneBird": 12, ... }, "LevelTwo": { ... }, ... }
+
+    public static final String PROFILE_FILE = "profiles/poolCapacities.json";
+
+    public static final String LEVEL_ONE = "LevelOne";
+    public static final String LEVEL_TWO = "LevelTwo";
+    public static final String LEVEL_THREE = "LevelThree";
+    public static final String LEVEL_FOUR = "LevelFour";
+    public static final String LEVEL_FINAL = "LevelFinal";
+    private static final String[] LEVELS = {LEVEL_ONE, LEVEL_TWO, LEVEL_THREE, LEVEL_FOUR, LEVEL_FINAL};
+
+    //Capacity of each pool (by pool name), for each level
+    private final ObjectMap<String, ObjectIntMap<String>> capacitiesByLevel = new ObjectMap<String, ObjectIntMap<String>>();
+
+    public PoolCapacityProfile() {
+        for (String level : LEVELS) {
+            capacitiesByLevel.put(level, new ObjectIntMap<String>());
+        }
+    }
+
+    public static PoolCapacityProfile load(FileHandle file) {
+
+        //Read a profile from a json file
+        //Pools that are not in the file have a capacity of 0 and will grow as they are used
+
+        PoolCapacityProfile profile = new PoolCapacityProfile();
+        if (!file.exists()) {
+            return profile;
+        }
+
+        JsonValue levelElem = new JsonReader().parse(file).child();
+        for (; levelElem != null; levelElem = levelElem.next()) {
+            ObjectIntMap<String> capacities = profile.capacitiesByLevel.get(levelElem.name());
+            if (capacities == null) {
+                capacities = new ObjectIntMap<String>();
+                profile.capacitiesByLevel.put(levelElem.name(), capacities);
+            }
+            for (JsonValue poolElem = levelElem.child(); poolElem != null; poolElem = poolElem.next()) {
+                capacities.put(poolElem.name(), poolElem.asInt());
+            }
+        }
+        return profile;
+    }
+
+    public int getCapacity(String level, String poolName) {
+        ObjectIntMap<String> capacities = capacitiesByLevel.get(level);
+        return capacities == null ? 0 : capacities.get(poolName, 0);
+    }
+
+    public int getMaxCapacity(String poolName) {
+        //The largest capacity of the pool in any level
+        int maxCapacity = 0;
+        for (ObjectIntMap<String> capacities : capacitiesByLevel.values()) {
+            maxCapacity = Math.max(maxCapacity, capacities.get(poolName, 0));
+        }
+        return maxCapacity;
+    }
+
+    public void prewarm(Array<DodgeablePool<?>> pools) {
+        //Fill every pool to the largest capacity it needs in any level
+        for (DodgeablePool<?> pool : pools) {
+            pool.prewarm(getMaxCapacity(pool.name));
+        }
+    }
+
+    public void recordUsage(String level, Array<DodgeablePool<?>> pools) {
+
+        //Raise the capacities of the level to the most objects that each pool had in use since the last recording
+
+        ObjectIntMap<String> capacities = capacitiesByLevel.get(level);
+        for (int i = 0, n = pools.size; i < n; i++) {
+            DodgeablePool<?> pool = pools.get(i);
+            int peakInUse = pool.takeRecentPeakInUse();
+            if (peakInUse > capacities.get(pool.name, 0)) {
+                capacities.put(pool.name, peakInUse);
+            }
+        }
+    }
+
+    public String toJson(Array<DodgeablePool<?>> pools) {
+
+        //Write the profile in the profile file format, with the levels in order and the pools in the given order
+
+        StringBuilder json = new StringBuilder("{\n");
+        for (int i = 0; i < LEVELS.length; i++) {
+            json.append("  \"").append(LEVELS[i]).append("\": {\n");
+            for (int j = 0; j < pools.size; j++) {
+                String poolName = pools.get(j).name;
+                json.append("    \"").append(poolName).append("\": ").append(getCapacity(LEVELS[i], poolName));
+                json.append(j < pools.size - 1 ? ",\n" : "\n");
+            }
+            json.append(i < LEVELS.length - 1 ? "  },\n" : "  }\n");
+        }
+        return json.append("}\n").toString();
+    }
+
+}
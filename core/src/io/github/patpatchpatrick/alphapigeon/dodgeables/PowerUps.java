@@ -1,20 +1,20 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.World;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.PowerUp;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.CullingComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.Mappers;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.OffscreenComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.SpriteComponent;
 import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
+import io.github.patpatchpatrick.alphapigeon.resources.SpriteAtlas;
 
 public class PowerUps {
 
@@ -24,8 +24,7 @@ public class PowerUps {
     private Dodgeables dodgeables;
 
     //PowerUps
-    private final Array<PowerUp> activePowerUps = new Array<PowerUp>();
-    private final Pool<PowerUp> powerUpsPool;
+    private final DodgeablePool<PowerUp> powerUpsPool;
     public static final int POWER_UP_TYPE_NONE = 0;
     //Shields make the bird invincible and kill any enemy it touches
     public static final int POWER_UP_TYPE_SHIELD = 1;
@@ -39,12 +38,12 @@ public class PowerUps {
 
     //PowerUp Shield variables
     private Animation<TextureRegion> powerUpShieldAnimation;
-    private Texture powerUpShieldSheet;
+    private TextureRegion powerUpShieldSheet;
     public static float lastpowerUpShieldSpawnTime;
 
     //PowerUp Skull variables
     private Animation<TextureRegion> powerUpSkullAnimation;
-    private Texture powerUpSkullSheet;
+    private TextureRegion powerUpSkullSheet;
     public static float lastpowerUpSkullSpawnTime;
 
 
@@ -64,58 +63,23 @@ public class PowerUps {
         initializePowerUpShieldAnimation();
         initializePowerUpSkullAnimation();
 
-        powerUpsPool = new Pool<PowerUp>() {
+        powerUpsPool = new DodgeablePool<PowerUp>("PowerUp", dodgeables) {
             @Override
-            protected PowerUp newObject() {
+            protected PowerUp newDodgeable() {
                 return new PowerUp(gameWorld, game, camera);
             }
-        };
-
-        // set the initial shield spawn interval to a random number between 20 seconds and 60 seconds
-        randomSpawnIntervalTime = MathUtils.random(SHIELD_INITIAL_SPAWN_INTERVAL_START_RANGE, SHIELD_INITIAL_SPAWN_INTERVAL_END_RANGE);
-
-
-    }
 
-    public void render(float stateTime, SpriteBatch batch) {
-
-        TextureRegion powerUpShieldCurrentFrame = powerUpShieldAnimation.getKeyFrame(stateTime, true);
-        TextureRegion powerUpSkullCurrentFrame = powerUpSkullAnimation.getKeyFrame(stateTime, true);
-
-        // Render all active powerups
-        for (PowerUp powerUp : activePowerUps) {
-            if (powerUp.alive) {
-                switch (powerUp.powerUpType) {
-                    case PowerUps.POWER_UP_TYPE_SHIELD:
-                        batch.draw(powerUpShieldCurrentFrame, powerUp.getPosition().x, powerUp.getPosition().y,
-                                0, 0, powerUp.WIDTH, powerUp.HEIGHT, 1, 1, powerUp.getAngle());
-                        break;
-                    case PowerUps.POWER_UP_TYPE_SKULL:
-                        batch.draw(powerUpSkullCurrentFrame, powerUp.getPosition().x, powerUp.getPosition().y,
-                                0, 0, powerUp.WIDTH, powerUp.HEIGHT, 1, 1, powerUp.getAngle());
-                        break;
-                }
-
-            } else {
-                activePowerUps.removeValue(powerUp, false);
-                dodgeables.activeDodgeables.removeValue(powerUp, false);
+            @Override
+            protected void addComponents(PowerUp powerUp) {
+                powerUp.entity.add(new SpriteComponent(powerUpShieldAnimation, Dodgeables.LAYER_POWER_UPS, powerUp.WIDTH, powerUp.HEIGHT));
+                powerUp.entity.add(new OffscreenComponent(powerUp.WIDTH, OffscreenComponent.NO_LIMIT, OffscreenComponent.NO_LIMIT, OffscreenComponent.NO_LIMIT));
+                powerUp.entity.add(new CullingComponent(powerUp.WIDTH, powerUp.HEIGHT));
             }
-        }
-
-
-    }
-
-    public void update() {
+        };
 
-        //Remove all powerups that are off the screen
+        // set the initial shield spawn interval to a random number between 20 seconds and 60 seconds
+        randomSpawnIntervalTime = GameRandom.random(SHIELD_INITIAL_SPAWN_INTERVAL_START_RANGE, SHIELD_INITIAL_SPAWN_INTERVAL_END_RANGE);
 
-        for (PowerUp powerUp : activePowerUps) {
-            if (powerUp.getPosition().x < 0 - powerUp.WIDTH) {
-                activePowerUps.removeValue(powerUp, false);
-                dodgeables.activeDodgeables.removeValue(powerUp, false);
-                powerUpsPool.free(powerUp);
-            }
-        }
 
     }
 
@@ -125,8 +89,7 @@ public class PowerUps {
 
         PowerUp powerUp = powerUpsPool.obtain();
         powerUp.init(powerUpType);
-        activePowerUps.add(powerUp);
-        dodgeables.activeDodgeables.add(powerUp);
+        Mappers.sprite.get(powerUp.entity).animation = powerUpType == POWER_UP_TYPE_SKULL ? powerUpSkullAnimation : powerUpShieldAnimation;
 
         //keep track of time the PowerUp was spawned
         switch (powerUpType) {
@@ -153,15 +116,15 @@ public class PowerUps {
 
     private void initializePowerUpShieldAnimation() {
 
-        // Load the power up shield sprite sheet as a Texture
-        powerUpShieldSheet = new Texture(Gdx.files.internal("sprites/PowerUpShieldSpriteSheet.png"));
+        // Get the power up shield sprite sheet from the sprite atlas
+        powerUpShieldSheet = SpriteAtlas.findRegion("PowerUpShieldSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmp = TextureRegion.split(powerUpShieldSheet,
-                powerUpShieldSheet.getWidth() / 4,
-                powerUpShieldSheet.getHeight() / 1);
+        TextureRegion[][] tmp = powerUpShieldSheet.split(
+                powerUpShieldSheet.getRegionWidth() / 4,
+                powerUpShieldSheet.getRegionHeight() / 1);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -181,15 +144,15 @@ public class PowerUps {
 
     private void initializePowerUpSkullAnimation() {
 
-        // Load the power up shield sprite sheet as a Texture
-        powerUpSkullSheet = new Texture(Gdx.files.internal("sprites/PowerUpSkullSpriteSheet.png"));
+        // Get the power up shield sprite sheet from the sprite atlas
+        powerUpSkullSheet = SpriteAtlas.findRegion("PowerUpSkullSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmp = TextureRegion.split(powerUpSkullSheet,
-                powerUpSkullSheet.getWidth() / 4,
-                powerUpSkullSheet.getHeight() / 1);
+        TextureRegion[][] tmp = powerUpSkullSheet.split(
+                powerUpSkullSheet.getRegionWidth() / 4,
+                powerUpSkullSheet.getRegionHeight() / 1);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -207,21 +170,6 @@ public class PowerUps {
 
     }
 
-    public void sweepDeadBodies() {
-
-        // If the powerup is flagged for deletion due to a collision, free the powerup from the pool
-        // so that it moves off the screen and can be reused
-
-        for (PowerUp powerUp : activePowerUps) {
-            if (!powerUp.isActive()) {
-                activePowerUps.removeValue(powerUp, false);
-                dodgeables.activeDodgeables.removeValue(powerUp, false);
-                powerUpsPool.free(powerUp);
-            }
-        }
-
-    }
-
     public void resetSpawnTimes(){
         lastpowerUpShieldSpawnTime = 0;
         lastpowerUpSkullSpawnTime = 0;
@@ -229,8 +177,6 @@ public class PowerUps {
     }
 
     public void dispose() {
-        powerUpShieldSheet.dispose();
-        powerUpSkullSheet.dispose();
     }
 
 }
@@ -1,33 +1,33 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.World;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.IntFloatMap;
 import com.badlogic.gdx.utils.TimeUtils;
 
-import java.util.HashMap;
-
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.LevelOneBird;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Rocket;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.RocketExplosion;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.LifetimeComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.OffscreenComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.SpriteComponent;
 import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyData;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
+import io.github.patpatchpatrick.alphapigeon.resources.LaunchImpulse;
 import io.github.patpatchpatrick.alphapigeon.resources.SettingsManager;
+import io.github.patpatchpatrick.alphapigeon.resources.SoundMixer;
 import io.github.patpatchpatrick.alphapigeon.resources.Sounds;
+import io.github.patpatchpatrick.alphapigeon.resources.SpriteAtlas;
 
 public class Rockets {
 
@@ -37,19 +37,19 @@ public class Rockets {
     private Dodgeables dodgeables;
 
     //Rocket variables
-    private final Array<Rocket> activeRockets = new Array<Rocket>();
-    private final Pool<Rocket> rocketPool;
+    private final ActiveDodgeables<Rocket> activeRockets;
+    private final DodgeablePool<Rocket> rocketPool;
     private Animation<TextureRegion> rocketAnimation;
-    private Texture rocketSheet;
+    private TextureRegion rocketSheet;
     private float lastRocketSpawnTime;
-    private HashMap<Float, Float> lastSpawnTimeByLevel = new HashMap<Float, Float>();
+    //Keyed by level number, the levels look up the spawn time every frame so the keys and values aren't boxed
+    private final IntFloatMap lastSpawnTimeByLevel = new IntFloatMap();
     private final float ROCKET_ACCELERATION_TIME = 0.5f; //seconds
 
     //Rocket explosion variables
-    private final Array<RocketExplosion> activeRocketExplosions = new Array<RocketExplosion>();
-    private final Pool<RocketExplosion> rocketExplosionPool;
+    private final DodgeablePool<RocketExplosion> rocketExplosionPool;
     private Animation<TextureRegion> rocketExplosionAnimation;
-    private Texture rocketExplosionSheet;
+    private TextureRegion rocketExplosionSheet;
     private final float EXPLOSION_DURATION = 0.5f; //seconds
 
 
@@ -62,46 +62,34 @@ public class Rockets {
         initializeRocketAnimation();
         initializeRocketExplosionAnimation();
 
-        rocketPool = new Pool<Rocket>() {
+        rocketPool = new DodgeablePool<Rocket>("Rocket", dodgeables) {
             @Override
-            protected Rocket newObject() {
+            protected Rocket newDodgeable() {
                 return new Rocket(gameWorld, game, camera);
             }
-        };
 
-        rocketExplosionPool = new Pool<RocketExplosion>() {
             @Override
-            protected RocketExplosion newObject() {
-                return new RocketExplosion(gameWorld, game, camera);
+            protected void addComponents(Rocket rocket) {
+                rocket.entity.add(new SpriteComponent(rocketAnimation, Dodgeables.LAYER_ROCKETS, rocket.WIDTH, rocket.HEIGHT));
+                rocket.entity.add(new OffscreenComponent(rocket.WIDTH, OffscreenComponent.NO_LIMIT, OffscreenComponent.NO_LIMIT, OffscreenComponent.NO_LIMIT));
             }
         };
 
-    }
+        activeRockets = rocketPool.activeDodgeables;
 
-    public void render(float stateTime, SpriteBatch batch) {
-        TextureRegion rocketCurrentFrame = rocketAnimation.getKeyFrame(stateTime, true);
-        TextureRegion rocketExplosionCurrentFrame = rocketExplosionAnimation.getKeyFrame(stateTime, true);
-
-        // Render all active rockets
-        for (Rocket rocket : activeRockets) {
-            if (rocket.alive) {
-                batch.draw(rocketCurrentFrame, rocket.getPosition().x, rocket.getPosition().y, 0, 0, rocket.WIDTH, rocket.HEIGHT, 1, 1, rocket.getAngle());
-            } else {
-                activeRockets.removeValue(rocket, false);
-                dodgeables.activeDodgeables.removeValue(rocket, false);
+        rocketExplosionPool = new DodgeablePool<RocketExplosion>("RocketExplosion", dodgeables) {
+            @Override
+            protected RocketExplosion newDodgeable() {
+                return new RocketExplosion(gameWorld, game, camera);
             }
-        }
 
-        // Render all active rocket explosions
-        for (RocketExplosion rocketExplosion : activeRocketExplosions) {
-            if (rocketExplosion.alive) {
-                batch.draw(rocketExplosionCurrentFrame, rocketExplosion.getPosition().x, rocketExplosion.getPosition().y, 0, 0, rocketExplosion.WIDTH, rocketExplosion.HEIGHT, 1, 1, rocketExplosion.getAngle());
-            } else {
-                activeRocketExplosions.removeValue(rocketExplosion, false);
-                dodgeables.activeDodgeables.removeValue(rocketExplosion, false);
+            @Override
+            protected void addComponents(RocketExplosion rocketExplosion) {
+                rocketExplosion.entity.add(new SpriteComponent(rocketExplosionAnimation, Dodgeables.LAYER_ROCKETS, rocketExplosion.WIDTH, rocketExplosion.HEIGHT));
+                rocketExplosion.entity.add(new OffscreenComponent(rocketExplosion.WIDTH, OffscreenComponent.NO_LIMIT, OffscreenComponent.NO_LIMIT, OffscreenComponent.NO_LIMIT));
+                rocketExplosion.entity.add(new LifetimeComponent(EXPLOSION_DURATION));
             }
-        }
-
+        };
 
     }
 
@@ -112,6 +100,7 @@ public class Rockets {
         // ROCKETS
         // If rockets are spawned , accelerate them.  The X force is constant and the Y force
         // is stored on the rocket body data.  Y force depends on where the rocket was spawned (see spawnRockets method)
+        // The force is applied once per frame rather than once per physics step, so it is given as an impulse (see LaunchImpulse)
         // If data is null on the rocket, delete the rocket
         if (currentTimeInMillis - lastRocketSpawnTime > ROCKET_ACCELERATION_TIME) {
             for (Rocket rocket : activeRockets) {
@@ -119,49 +108,10 @@ public class Rockets {
                 BodyData rocketData = (BodyData) rocket.dodgeableBody.getUserData();
                 if (rocketData != null) {
                     float forceY = rocketData.getRocketYForce();
-                    rocket.dodgeableBody.applyForceToCenter(forceX, forceY, true);
+                    LaunchImpulse.applyToCenter(rocket.dodgeableBody, forceX, forceY);
                 } else {
-                    BodyData setRocketForDeletion = new BodyData(true);
-                    rocket.dodgeableBody.setUserData(setRocketForDeletion);
-                }
-            }
-        }
-
-        // ROCKET EXPLOSIONS
-        // If rocket explosions are active, check how long they've been active.
-        // If they have been active longer than set time,  destroy them.
-        for (RocketExplosion rocketExplosion : activeRocketExplosions) {
-            BodyData rocketExplosionData = (BodyData) rocketExplosion.dodgeableBody.getUserData();
-            if (rocketExplosionData != null) {
-                float rocketExplosionSpawnTime = rocketExplosionData.getSpawnTime();
-                if (currentTimeInMillis - rocketExplosionSpawnTime > EXPLOSION_DURATION) {
-                    rocketExplosionData.setFlaggedForDelete(true);
+                    BodyData.flagForDelete(rocket.dodgeableBody);
                 }
-            } else {
-                // If data on the rocket explosion is null, set new data on the explosion to mark it for deletion
-                BodyData flagRocketForDelete = new BodyData(true);
-                rocketExplosion.dodgeableBody.setUserData(flagRocketForDelete);
-            }
-        }
-
-
-        //RECYCLE ROCKETS AND EXPLOSIONS OUT OF PLAY
-        // If rockets or explosions are off the screen, free them from the pool and recycle them so they are ready
-        // for reuse
-
-        for (Rocket rocket : activeRockets) {
-            if (rocket.getPosition().x < 0 - rocket.WIDTH) {
-                activeRockets.removeValue(rocket, false);
-                dodgeables.activeDodgeables.removeValue(rocket, false);
-                rocketPool.free(rocket);
-            }
-        }
-
-        for (RocketExplosion rocketExplosion : activeRocketExplosions) {
-            if (rocketExplosion.getPosition().x < 0 - rocketExplosion.WIDTH) {
-                activeRocketExplosions.removeValue(rocketExplosion, false);
-                dodgeables.activeDodgeables.removeValue(rocketExplosion, false);
-                rocketExplosionPool.free(rocketExplosion);
             }
         }
 
@@ -173,15 +123,13 @@ public class Rockets {
 
         Rocket rocket = rocketPool.obtain();
         rocket.init();
-        activeRockets.add(rocket);
-        dodgeables.activeDodgeables.add(rocket);
 
         //keep track of time the rocket was spawned
         lastRocketSpawnTime = Gameplay.totalGameTime;
-        lastSpawnTimeByLevel.put(level, lastRocketSpawnTime);
+        lastSpawnTimeByLevel.put((int) level, lastRocketSpawnTime);
 
         //Play rocket spawn sounds
-        Sounds.rocketSpawnSound.play(SettingsManager.gameVolume);
+        SoundMixer.play(Sounds.rocketSpawnSound, SoundMixer.PRIORITY_EFFECT);
 
     }
 
@@ -191,26 +139,24 @@ public class Rockets {
 
         RocketExplosion rocketExplosion = rocketExplosionPool.obtain();
         rocketExplosion.init(explosionPositionX, explosionPositionY);
-        activeRocketExplosions.add(rocketExplosion);
-        dodgeables.activeDodgeables.add(rocketExplosion);
 
         //Play rocket explosion sound
-        Sounds.rocketExplosionSound.play(SettingsManager.gameVolume);
+        SoundMixer.play(Sounds.rocketExplosionSound, SoundMixer.PRIORITY_EFFECT);
 
 
     }
 
     private void initializeRocketAnimation() {
 
-        // Load the rocket sprite sheet as a Texture
-        rocketSheet = new Texture(Gdx.files.internal("sprites/RocketSpriteSheet.png"));
+        // Get the rocket sprite sheet from the sprite atlas
+        rocketSheet = SpriteAtlas.findRegion("RocketSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmp = TextureRegion.split(rocketSheet,
-                rocketSheet.getWidth() / 8,
-                rocketSheet.getHeight() / 8);
+        TextureRegion[][] tmp = rocketSheet.split(
+                rocketSheet.getRegionWidth() / 8,
+                rocketSheet.getRegionHeight() / 8);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -235,15 +181,15 @@ public class Rockets {
 
     private void initializeRocketExplosionAnimation() {
 
-        // Load the rocket explosion sprite sheet as a Texture
-        rocketExplosionSheet = new Texture(Gdx.files.internal("sprites/RocketExplosionSpriteSheet.png"));
+        // Get the rocket explosion sprite sheet from the sprite atlas
+        rocketExplosionSheet = SpriteAtlas.findRegion("RocketExplosionSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmp = TextureRegion.split(rocketExplosionSheet,
-                rocketExplosionSheet.getWidth() / 6,
-                rocketExplosionSheet.getHeight() / 1);
+        TextureRegion[][] tmp = rocketExplosionSheet.split(
+                rocketExplosionSheet.getRegionWidth() / 6,
+                rocketExplosionSheet.getRegionHeight() / 1);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -265,7 +211,7 @@ public class Rockets {
 
         //Return the last spawn time for a given level
 
-        if (lastSpawnTimeByLevel.get(level) == null){
+        if (!lastSpawnTimeByLevel.containsKey((int) level)){
             return 0;
         } else {
             return lastRocketSpawnTime;
@@ -273,35 +219,11 @@ public class Rockets {
 
     }
 
-    public void sweepDeadBodies() {
-
-        // If the rocket or rocket explosion is flagged for deletion due to a collision, free the object from the pool
-        // so that it moves off the screen and can be reused
-
-        for (Rocket rocket : activeRockets) {
-            if (!rocket.isActive()) {
-                activeRockets.removeValue(rocket, false);
-                dodgeables.activeDodgeables.removeValue(rocket, false);
-                rocketPool.free(rocket);
-            }
-        }
-
-        for (RocketExplosion rocketExplosion : activeRocketExplosions) {
-            if (!rocketExplosion.isActive()) {
-                activeRocketExplosions.removeValue(rocketExplosion, false);
-                dodgeables.activeDodgeables.removeValue(rocketExplosion, false);
-                rocketExplosionPool.free(rocketExplosion);
-            }
-        }
-    }
-
     public void resetSpawnTimes(){
         lastRocketSpawnTime = 0;
     }
 
     public void dispose() {
-        rocketExplosionSheet.dispose();
-        rocketSheet.dispose();
     }
 
 }
@@ -1,18 +1,13 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.World;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.TimeUtils;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
@@ -20,10 +15,14 @@ import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.LevelOneBird;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.LevelTwoBird;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Teleport;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.CullingComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.OffscreenComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.SpriteComponent;
 import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyData;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyEditorLoader;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
+import io.github.patpatchpatrick.alphapigeon.resources.SpriteAtlas;
 
 public class Teleports {
 
@@ -36,10 +35,9 @@ public class Teleports {
     public final static float VERT_POSITION_RANDOM = -1;
 
     //Teleport variables
-    private final Array<Teleport> activeTeleports = new Array<Teleport>();
-    private final Pool<Teleport> teleportsPool;
+    private final DodgeablePool<Teleport> teleportsPool;
     private Animation<TextureRegion> teleportAnimation;
-    private Texture teleportSheet;
+    private TextureRegion teleportSheet;
     private float lastTeleportSpawnTime;
 
     public Teleports(final World gameWorld, final AlphaPigeon game, final OrthographicCamera camera, Dodgeables dodgeables){
@@ -51,43 +49,19 @@ public class Teleports {
 
         initializeTeleportAnimation();
 
-        teleportsPool = new Pool<Teleport>() {
+        teleportsPool = new DodgeablePool<Teleport>("Teleport", dodgeables) {
             @Override
-            protected Teleport newObject() {
+            protected Teleport newDodgeable() {
                 return new Teleport(gameWorld, game, camera);
             }
-        };
-
-    }
-
-    public void render(float stateTime, SpriteBatch batch){
-        TextureRegion teleportCurrentFrame = teleportAnimation.getKeyFrame(stateTime, true);
-
-        // Render all active teleports
-        for (Teleport teleport : activeTeleports) {
-            if (teleport.alive) {
-                batch.draw(teleportCurrentFrame, teleport.getPosition().x, teleport.getPosition().y,
-                        0, 0, teleport.WIDTH, teleport.HEIGHT, 1, 1, teleport.getAngle());
-            } else {
-                activeTeleports.removeValue(teleport, false);
-                dodgeables.activeDodgeables.removeValue(teleport, false);
-            }
-        }
-
-    }
-
-    public void update(){
-
-        // For all teleports that are off the game screen, free the teleports in the pool
-        // so that they can be reused
 
-        for (Teleport teleport : activeTeleports){
-            if (teleport.getPosition().x < 0 -  2 * teleport.WIDTH || teleport.getPosition().x > camera.viewportWidth + 2 * teleport.WIDTH){
-                activeTeleports.removeValue(teleport, false);
-                dodgeables.activeDodgeables.removeValue(teleport, false);
-                teleportsPool.free(teleport);
+            @Override
+            protected void addComponents(Teleport teleport) {
+                teleport.entity.add(new SpriteComponent(teleportAnimation, Dodgeables.LAYER_TELEPORTS, teleport.WIDTH, teleport.HEIGHT));
+                teleport.entity.add(new OffscreenComponent(2 * teleport.WIDTH, 2 * teleport.WIDTH, OffscreenComponent.NO_LIMIT, OffscreenComponent.NO_LIMIT));
+                teleport.entity.add(new CullingComponent(teleport.WIDTH, teleport.HEIGHT));
             }
-        }
+        };
 
     }
 
@@ -101,26 +75,20 @@ public class Teleports {
 
         Teleport teleportOne = teleportsPool.obtain();
         teleportOne.initTeleportOne(spawnHeight);
-        activeTeleports.add(teleportOne);
-        dodgeables.activeDodgeables.add(teleportOne);
 
         //spawn second teleport
         // Spawn(obtain) a new teleport from the teleports pool and add to list of active teleports
 
         Teleport teleportTwo = teleportsPool.obtain();
         teleportTwo.initTeleportTwo(teleportOne.yPosition);
-        activeTeleports.add(teleportTwo);
-        dodgeables.activeDodgeables.add(teleportTwo);
 
         //Attach data of the opposite teleport to the teleport, so it can be used to transport the pigeon
         //to the opposite teleport's location
-        BodyData teleportOneData = new BodyData(false);
+        BodyData teleportOneData = BodyData.reset(teleportOne.dodgeableBody);
         teleportOneData.setOppositeTeleport(teleportTwo);
-        teleportOne.setOppositeTeleportData(teleportOneData);
 
-        BodyData teleportTwoData = new BodyData(false);
+        BodyData teleportTwoData = BodyData.reset(teleportTwo.dodgeableBody);
         teleportTwoData.setOppositeTeleport(teleportOne);
-        teleportTwo.setOppositeTeleportData(teleportTwoData);
 
         //keep track of time the teleport shield was spawned
         lastTeleportSpawnTime = Gameplay.totalGameTime;
@@ -129,15 +97,15 @@ public class Teleports {
 
     private void initializeTeleportAnimation() {
 
-        // Load the teleport sprite sheet as a Texture
-        teleportSheet = new Texture(Gdx.files.internal("sprites/TeleportSpriteSheet.png"));
+        // Get the teleport sprite sheet from the sprite atlas
+        teleportSheet = SpriteAtlas.findRegion("TeleportSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmp = TextureRegion.split(teleportSheet,
-                teleportSheet.getWidth() / 10,
-                teleportSheet.getHeight() / 9);
+        TextureRegion[][] tmp = teleportSheet.split(
+                teleportSheet.getRegionWidth() / 10,
+                teleportSheet.getRegionHeight() / 9);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -158,27 +126,11 @@ public class Teleports {
         return lastTeleportSpawnTime;
     }
 
-    public void sweepDeadBodies(){
-
-        // If the teleport is flagged for deletion, free the object from the pool
-        // so that it moves off the screen and can be reused
-
-        for (Teleport teleport : activeTeleports){
-            if (!teleport.isActive()){
-                activeTeleports.removeValue(teleport, false);
-                dodgeables.activeDodgeables.removeValue(teleport,false);
-                teleportsPool.free(teleport);
-            }
-        }
-
-    }
-
     public void resetSpawnTimes(){
         lastTeleportSpawnTime =  0;
     }
 
     public void dispose(){
-        teleportSheet.dispose();
     }
 
 
@@ -1,21 +1,15 @@
 package io.github.patpatchpatrick.alphapigeon.dodgeables;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.World;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.IntFloatMap;
 import com.badlogic.gdx.utils.TimeUtils;
 
-import java.util.HashMap;
-
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.EnergyBall;
@@ -24,9 +18,14 @@ import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.ufoEnergyB
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.ufoEnergyBeam.UfoEnergyBeamLeft;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.ufoEnergyBeam.UfoEnergyBeamRight;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.ufoEnergyBeam.UfoEnergyBeamUp;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.CullingComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.OffscreenComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.systems.CullingSystem;
 import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
 import io.github.patpatchpatrick.alphapigeon.resources.BodyData;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
+import io.github.patpatchpatrick.alphapigeon.resources.SpriteAtlas;
 
 public class UFOs {
 
@@ -36,39 +35,43 @@ public class UFOs {
     private OrthographicCamera camera;
 
     //UFO vehicle variables
-    private final Array<UFO> activeUFOs = new Array<UFO>();
-    private final Pool<UFO> ufoPool;
+    private final ActiveDodgeables<UFO> activeUFOs;
+    private final DodgeablePool<UFO> ufoPool;
     private Animation<TextureRegion> ufoAnimation;
-    private Texture ufoSheet;
+    private TextureRegion ufoSheet;
     private final float UFO_WIDTH = 15f;
     private final float UFO_HEIGHT = UFO_WIDTH;
+    //The UFO is drawn rotated about its body position, so it is never further from it than its diagonal
+    private final float UFO_CULLING_RADIUS = (float) Math.sqrt(UFO_WIDTH * UFO_WIDTH + UFO_HEIGHT * UFO_HEIGHT);
     private float lastUfoSpawnTime;
-    private HashMap<Float, Float> lastSpawnTimeByLevel = new HashMap<Float, Float>();
+    private final IntFloatMap lastSpawnTimeByLevel = new IntFloatMap();
 
     //UFO tracking variables
 
     //UFO Energy Ball variables
     private Animation<TextureRegion> energyBallAnimation;
-    private Texture energyBallSheet;
+    private TextureRegion energyBallSheet;
     private final float ENERGY_BALL_INITIAL_WIDTH = 5f;
     private final float ENERGY_BALL_INITIAL_HEIGHT = ENERGY_BALL_INITIAL_WIDTH / 2;
     private final float ENERGY_BALL_TIME_BEFORE_SPAWN  = 5f; //seconds
 
     //UFO Energy Beam variables
-    private final Array<UfoEnergyBeamLeft> activeEnergyBeamLefts = new Array<UfoEnergyBeamLeft>();
-    private final Pool<UfoEnergyBeamLeft> ufoEnergyBeamLeftPool;
-    private final Array<UfoEnergyBeamRight> activeEnergyBeamRights = new Array<UfoEnergyBeamRight>();
-    private final Pool<UfoEnergyBeamRight> ufoEnergyBeamRightPool;
-    private final Array<UfoEnergyBeamDown> activeEnergyBeamDowns = new Array<UfoEnergyBeamDown>();
-    private final Pool<UfoEnergyBeamDown> ufoEnergyBeamDownPool;
-    private final Array<UfoEnergyBeamUp> activeEnergyBeamUps = new Array<UfoEnergyBeamUp>();
-    private final Pool<UfoEnergyBeamUp> ufoEnergyBeamUpPool;
+    private final ActiveDodgeables<UfoEnergyBeamLeft> activeEnergyBeamLefts;
+    private final DodgeablePool<UfoEnergyBeamLeft> ufoEnergyBeamLeftPool;
+    private final ActiveDodgeables<UfoEnergyBeamRight> activeEnergyBeamRights;
+    private final DodgeablePool<UfoEnergyBeamRight> ufoEnergyBeamRightPool;
+    private final ActiveDodgeables<UfoEnergyBeamDown> activeEnergyBeamDowns;
+    private final DodgeablePool<UfoEnergyBeamDown> ufoEnergyBeamDownPool;
+    private final ActiveDodgeables<UfoEnergyBeamUp> activeEnergyBeamUps;
+    private final DodgeablePool<UfoEnergyBeamUp> ufoEnergyBeamUpPool;
     private Animation<TextureRegion> energyBeamAnimation;
-    private Texture energyBeamSheet;
+    private TextureRegion energyBeamSheet;
     private final float ENERGY_BEAM_WIDTH = 80f;
     private final float ENERGY_BEAM_HEIGHT = 40f;
     private final float ENERGY_BEAM_VERTICAL_WIDTH = 40f;
     private final float ENERGY_BEAM_VERTICAL_HEIGHT = 80f;
+    //The beam sprites are offset from the beam body position and rotated about their centers (see renderEnergyBeam)
+    private final float ENERGY_BEAM_CULLING_RADIUS = ENERGY_BEAM_WIDTH + ENERGY_BEAM_HEIGHT;
     //UFO Energy Beam Directions
     public final float ENERGY_BEAM_LEFT = 0f;
     public final float ENERGY_BEAM_RIGHT = 1f;
@@ -81,7 +84,11 @@ public class UFOs {
 
     //UFO Static Energy Beam variables
     private Animation<TextureRegion> energyBeamStaticAnimation;
-    private Texture energyBeamStaticSheet;
+    private TextureRegion energyBeamStaticSheet;
+
+    //Number of UFOs and energy beams drawn and culled (outside of the camera view) during the last render
+    public int drawnCount = 0;
+    public int culledCount = 0;
 
 
     public UFOs(final World gameWorld, final AlphaPigeon game, final OrthographicCamera camera, final Dodgeables dodgeables) {
@@ -99,41 +106,77 @@ public class UFOs {
         initializeEnergyBeamAnimation();
         initializeEnergyBeamStaticAnimation();
 
-        ufoPool = new Pool<UFO>() {
+        ufoPool = new DodgeablePool<UFO>("UFO", dodgeables) {
             @Override
-            protected UFO newObject() {
+            protected UFO newDodgeable() {
                 return new UFO(gameWorld, game, camera);
             }
+
+            @Override
+            protected void addComponents(UFO ufo) {
+                ufo.entity.add(new OffscreenComponent(ufo.WIDTH, 2 * ufo.WIDTH, ufo.HEIGHT, 2 * ufo.HEIGHT));
+                ufo.entity.add(new CullingComponent(ufo.WIDTH, ufo.HEIGHT));
+            }
         };
 
-        ufoEnergyBeamLeftPool = new Pool<UfoEnergyBeamLeft>() {
+        activeUFOs = ufoPool.activeDodgeables;
+
+        ufoEnergyBeamLeftPool = new DodgeablePool<UfoEnergyBeamLeft>("UfoEnergyBeamLeft", dodgeables) {
             @Override
-            protected UfoEnergyBeamLeft newObject() {
+            protected UfoEnergyBeamLeft newDodgeable() {
                 return new UfoEnergyBeamLeft(gameWorld, game, camera);
             }
+
+            @Override
+            protected void addComponents(UfoEnergyBeamLeft ufoEnergyBeamLeft) {
+                ufoEnergyBeamLeft.entity.add(new CullingComponent(ufoEnergyBeamLeft.WIDTH, ufoEnergyBeamLeft.HEIGHT));
+            }
         };
 
-        ufoEnergyBeamRightPool = new Pool<UfoEnergyBeamRight>() {
+        activeEnergyBeamLefts = ufoEnergyBeamLeftPool.activeDodgeables;
+
+        ufoEnergyBeamRightPool = new DodgeablePool<UfoEnergyBeamRight>("UfoEnergyBeamRight", dodgeables) {
             @Override
-            protected UfoEnergyBeamRight newObject() {
+            protected UfoEnergyBeamRight newDodgeable() {
                 return new UfoEnergyBeamRight(gameWorld, game, camera);
             }
+
+            @Override
+            protected void addComponents(UfoEnergyBeamRight ufoEnergyBeamRight) {
+                ufoEnergyBeamRight.entity.add(new CullingComponent(ufoEnergyBeamRight.WIDTH, ufoEnergyBeamRight.HEIGHT));
+            }
         };
 
-        ufoEnergyBeamDownPool = new Pool<UfoEnergyBeamDown>() {
+        activeEnergyBeamRights = ufoEnergyBeamRightPool.activeDodgeables;
+
+        ufoEnergyBeamDownPool = new DodgeablePool<UfoEnergyBeamDown>("UfoEnergyBeamDown", dodgeables) {
             @Override
-            protected UfoEnergyBeamDown newObject() {
+            protected UfoEnergyBeamDown newDodgeable() {
                 return new UfoEnergyBeamDown(gameWorld, game, camera);
             }
+
+            @Override
+            protected void addComponents(UfoEnergyBeamDown ufoEnergyBeamDown) {
+                ufoEnergyBeamDown.entity.add(new CullingComponent(ufoEnergyBeamDown.WIDTH, ufoEnergyBeamDown.HEIGHT));
+            }
         };
 
-        ufoEnergyBeamUpPool = new Pool<UfoEnergyBeamUp>() {
+        activeEnergyBeamDowns = ufoEnergyBeamDownPool.activeDodgeables;
+
+        ufoEnergyBeamUpPool = new DodgeablePool<UfoEnergyBeamUp>("UfoEnergyBeamUp", dodgeables) {
             @Override
-            protected UfoEnergyBeamUp newObject() {
+            protected UfoEnergyBeamUp newDodgeable() {
                 return new UfoEnergyBeamUp(gameWorld, game, camera);
             }
+
+            @Override
+            protected void addComponents(UfoEnergyBeamUp ufoEnergyBeamUp) {
+                ufoEnergyBeamUp.entity.add(new CullingComponent(ufoEnergyBeamUp.WIDTH, ufoEnergyBeamUp.HEIGHT));
+            }
         };
 
+        activeEnergyBeamUps = ufoEnergyBeamUpPool.activeDodgeables;
+
     }
 
     public void render(float stateTime, SpriteBatch batch) {
@@ -143,16 +186,29 @@ public class UFOs {
         TextureRegion energyBeamStaticCurrentFrame = energyBeamStaticAnimation.getKeyFrame(stateTime, true);
         TextureRegion energyBeamCurrentFrame = energyBeamAnimation.getKeyFrame(stateTime, true);
 
+        drawnCount = 0;
+        culledCount = 0;
+
         // Render all active ufos
         for (UFO ufo : activeUFOs) {
             if (ufo.alive) {
 
-                // draw the UFO vehicle at the UFO body position
-                batch.draw(ufoCurrentFrame, ufo.getPosition().x, ufo.getPosition().y, 0, 0, ufo.WIDTH, ufo.HEIGHT, 1, 1, ufo.getAngle());
+                // draw the UFO vehicle at the UFO body position, unless it is outside of the camera view
+                if (CullingSystem.isVisible(camera, ufo.getRenderPosition().x, ufo.getRenderPosition().y, UFO_CULLING_RADIUS)) {
+                    batch.draw(ufoCurrentFrame, ufo.getRenderPosition().x, ufo.getRenderPosition().y, 0, 0, ufo.WIDTH, ufo.HEIGHT, 1, 1, ufo.getRenderAngle());
+                    drawnCount++;
+                } else {
+                    culledCount++;
+                }
 
                 // Energy ball/beam render methods
                 if (ufo.energyBallIsSpawned) {
 
+                    // Energy ball positions are calculated from the UFO body position in the update method
+                    // Offset them by the UFO's render interpolation so they stay aligned with the drawn UFO
+                    float renderOffsetX = ufo.getRenderPosition().x - ufo.getPosition().x;
+                    float renderOffsetY = ufo.getRenderPosition().y - ufo.getPosition().y;
+
                     //Render all energy balls associated with the UFO
                     for (EnergyBall energyBall : ufo.energyBalls) {
 
@@ -163,16 +219,13 @@ public class UFOs {
                         // If the ball is fully charged, render the energy ball to beam transition animation
                         // If the transition animation is complete, render the energy beam
                         if (!energyBallIsCharged) {
-                            batch.draw(energyBallCurrentFrame, energyBall.energyBallXPosition, energyBall.energyBallYPosition, 0, 0, energyBall.getWidth(), energyBall.getHeight(), 1, 1, 0);
+                            batch.draw(energyBallCurrentFrame, energyBall.energyBallXPosition + renderOffsetX, energyBall.energyBallYPosition + renderOffsetY, 0, 0, energyBall.getWidth(), energyBall.getHeight(), 1, 1, 0);
                         } else if (!energyBallAnimationIsComplete) {
-                            batch.draw(energyBeamCurrentFrame, energyBall.energyBeamXPosition, energyBall.energyBeamYPosition, ENERGY_BEAM_WIDTH / 2, ENERGY_BEAM_HEIGHT / 2, ENERGY_BEAM_WIDTH, ENERGY_BEAM_HEIGHT, energyBall.energyBeamXScale, 1, energyBall.energyBeamRotation);
+                            batch.draw(energyBeamCurrentFrame, energyBall.energyBeamXPosition + renderOffsetX, energyBall.energyBeamYPosition + renderOffsetY, ENERGY_BEAM_WIDTH / 2, ENERGY_BEAM_HEIGHT / 2, ENERGY_BEAM_WIDTH, ENERGY_BEAM_HEIGHT, energyBall.energyBeamXScale, 1, energyBall.energyBeamRotation);
                         }
 
                     }
                 }
-            } else {
-                activeUFOs.removeValue(ufo, false);
-                dodgeables.activeDodgeables.removeValue(ufo, false);
             }
         }
 
@@ -180,9 +233,6 @@ public class UFOs {
         for (UfoEnergyBeamLeft ufoEnergyBeamLeft : activeEnergyBeamLefts) {
             if (ufoEnergyBeamLeft.alive) {
                 renderEnergyBeam(ufoEnergyBeamLeft, batch, energyBallCurrentFrame, energyBeamStaticCurrentFrame, energyBeamCurrentFrame);
-            } else {
-                activeEnergyBeamLefts.removeValue(ufoEnergyBeamLeft, false);
-                dodgeables.activeDodgeables.removeValue(ufoEnergyBeamLeft, false);
             }
         }
 
@@ -190,9 +240,6 @@ public class UFOs {
         for (UfoEnergyBeamRight ufoEnergyBeamRight : activeEnergyBeamRights) {
             if (ufoEnergyBeamRight.alive) {
                 renderEnergyBeam(ufoEnergyBeamRight, batch, energyBallCurrentFrame, energyBeamStaticCurrentFrame, energyBeamCurrentFrame);
-            } else {
-                activeEnergyBeamRights.removeValue(ufoEnergyBeamRight, false);
-                dodgeables.activeDodgeables.removeValue(ufoEnergyBeamRight, false);
             }
         }
 
@@ -200,9 +247,6 @@ public class UFOs {
         for (UfoEnergyBeamDown ufoEnergyBeamDown : activeEnergyBeamDowns) {
             if (ufoEnergyBeamDown.alive) {
                 renderEnergyBeam(ufoEnergyBeamDown, batch, energyBallCurrentFrame, energyBeamStaticCurrentFrame, energyBeamCurrentFrame);
-            } else {
-                activeEnergyBeamDowns.removeValue(ufoEnergyBeamDown, false);
-                dodgeables.activeDodgeables.removeValue(ufoEnergyBeamDown, false);
             }
         }
 
@@ -210,9 +254,6 @@ public class UFOs {
         for (UfoEnergyBeamUp ufoEnergyBeamUp : activeEnergyBeamUps) {
             if (ufoEnergyBeamUp.alive) {
                 renderEnergyBeam(ufoEnergyBeamUp, batch, energyBallCurrentFrame, energyBeamStaticCurrentFrame, energyBeamCurrentFrame);
-            } else {
-                activeEnergyBeamUps.removeValue(ufoEnergyBeamUp, false);
-                dodgeables.activeDodgeables.removeValue(ufoEnergyBeamUp, false);
             }
         }
 
@@ -221,13 +262,19 @@ public class UFOs {
 
     private void renderEnergyBeam(Dodgeable energyBeam, SpriteBatch batch, TextureRegion energyBallCurrentFrame, TextureRegion energyBeamStaticCurrentFrame, TextureRegion energyBeamCurrentFrame) {
 
+        if (!CullingSystem.isVisible(camera, energyBeam.getRenderPosition().x, energyBeam.getRenderPosition().y, ENERGY_BEAM_CULLING_RADIUS)) {
+            culledCount++;
+            return;
+        }
+        drawnCount++;
+
         BodyData energyBeamData = (BodyData) energyBeam.dodgeableBody.getUserData();
         float energyBeamDirection = 0;
         float energyBeamXScale;
         float energyBeamRotation = 0;
 
-        float energyBeamXPosition = energyBeam.getPosition().x;
-        float energyBeamYPosition = energyBeam.getPosition().y;
+        float energyBeamXPosition = energyBeam.getRenderPosition().x;
+        float energyBeamYPosition = energyBeam.getRenderPosition().y;
 
         // Based on the energy beams direction, determine what the image scale should be
         // determine if the image should be flipped or not depending on the direction of the beam
@@ -255,8 +302,11 @@ public class UFOs {
 
         // overlay the energy ball, the energy beam animation and the static energy beam to
         // complete the energy beam animation
-        batch.draw(energyBallCurrentFrame, energyBeamXPosition, energyBeamYPosition, ENERGY_BEAM_WIDTH / 2, ENERGY_BEAM_HEIGHT / 2, ENERGY_BEAM_WIDTH, ENERGY_BEAM_HEIGHT, energyBeamXScale, 1, energyBeamRotation);
-        batch.draw(energyBeamStaticCurrentFrame, energyBeamXPosition, energyBeamYPosition, ENERGY_BEAM_WIDTH / 2, ENERGY_BEAM_HEIGHT / 2, ENERGY_BEAM_WIDTH, ENERGY_BEAM_HEIGHT, energyBeamXScale, 1, energyBeamRotation);
+        // at lower quality only the animated beam is drawn, the layers under it fill the beam's area twice more
+        if (GameVariables.energyBeamLayersAreDrawn) {
+            batch.draw(energyBallCurrentFrame, energyBeamXPosition, energyBeamYPosition, ENERGY_BEAM_WIDTH / 2, ENERGY_BEAM_HEIGHT / 2, ENERGY_BEAM_WIDTH, ENERGY_BEAM_HEIGHT, energyBeamXScale, 1, energyBeamRotation);
+            batch.draw(energyBeamStaticCurrentFrame, energyBeamXPosition, energyBeamYPosition, ENERGY_BEAM_WIDTH / 2, ENERGY_BEAM_HEIGHT / 2, ENERGY_BEAM_WIDTH, ENERGY_BEAM_HEIGHT, energyBeamXScale, 1, energyBeamRotation);
+        }
         batch.draw(energyBeamCurrentFrame, energyBeamXPosition, energyBeamYPosition, ENERGY_BEAM_WIDTH / 2, ENERGY_BEAM_HEIGHT / 2, ENERGY_BEAM_WIDTH, ENERGY_BEAM_HEIGHT, energyBeamXScale, 1, energyBeamRotation);
 
 
@@ -329,11 +379,6 @@ public class UFOs {
                 ufo.holdPosition(ufo.timeToHold, -ufo.FORCE_X, 0);
             }
 
-            if (ufo.isHeld) {
-
-                ufo.checkIfCanBeUnheld();
-            }
-
         }
 
         // Update the positions of the active energy balls/beams to match the active UFO positions
@@ -386,25 +431,11 @@ public class UFOs {
 
                     }
                 }
-            } else {
-                activeUFOs.removeValue(renderedUfos, false);
-                dodgeables.activeDodgeables.removeValue(renderedUfos, false);
             }
         }
 
 
 
-        //REMOVE OFF SCREEN UFOs
-        for (UFO ufo : activeUFOs) {
-            if (ufo.getPosition().x < 0 - ufo.WIDTH || ufo.getPosition().x > camera.viewportWidth + 2 * ufo.WIDTH ||
-                    ufo.getPosition().y < 0 - ufo.HEIGHT || ufo.getPosition().y > camera.viewportHeight + 2 *ufo.HEIGHT) {
-                activeUFOs.removeValue(ufo, false);
-                dodgeables.activeDodgeables.removeValue(ufo, false);
-                ufoPool.free(ufo);
-            }
-        }
-
-
         //UPDATE ENERGY BEAMS ATTACHED TO UFOs
         //Ensure energy beam velocities match ufo velocities
         //Remove energy beams that are off screen
@@ -423,8 +454,6 @@ public class UFOs {
             }
 
             if (removeBeamFromPool) {
-                activeEnergyBeamLefts.removeValue(ufoEnergyBeamLeft, false);
-                dodgeables.activeDodgeables.removeValue(ufoEnergyBeamLeft, false);
                 ufoEnergyBeamLeftPool.free(ufoEnergyBeamLeft);
             }
         }
@@ -447,8 +476,6 @@ public class UFOs {
             }
 
             if (removeBeamFromPool) {
-                activeEnergyBeamRights.removeValue(ufoEnergyBeamRight, false);
-                dodgeables.activeDodgeables.removeValue(ufoEnergyBeamRight, false);
                 ufoEnergyBeamRightPool.free(ufoEnergyBeamRight);
             }
         }
@@ -471,8 +498,6 @@ public class UFOs {
             }
 
             if (removeBeamFromPool) {
-                activeEnergyBeamDowns.removeValue(ufoEnergyBeamDown, false);
-                dodgeables.activeDodgeables.removeValue(ufoEnergyBeamDown, false);
                 ufoEnergyBeamDownPool.free(ufoEnergyBeamDown);
             }
         }
@@ -495,8 +520,6 @@ public class UFOs {
             }
 
             if (removeBeamFromPool) {
-                activeEnergyBeamUps.removeValue(ufoEnergyBeamUp, false);
-                dodgeables.activeDodgeables.removeValue(ufoEnergyBeamUp,  false);
                 ufoEnergyBeamUpPool.free(ufoEnergyBeamUp);
             }
         }
@@ -509,13 +532,11 @@ public class UFOs {
 
         UFO ufo = ufoPool.obtain();
         ufo.init(direction);
-        activeUFOs.add(ufo);
-        dodgeables.activeDodgeables.add(ufo);
 
 
         //keep track of time the ufo was spawned
         lastUfoSpawnTime = Gameplay.totalGameTime;
-        lastSpawnTimeByLevel.put(level, lastUfoSpawnTime);
+        lastSpawnTimeByLevel.put((int) level, lastUfoSpawnTime);
 
     }
 
@@ -527,13 +548,11 @@ public class UFOs {
 
         UFO ufo = ufoPool.obtain();
         ufo.initHorizontal(direction);
-        activeUFOs.add(ufo);
-        dodgeables.activeDodgeables.add(ufo);
 
 
         //keep track of time the ufo was spawned
         lastUfoSpawnTime = Gameplay.totalGameTime;
-        lastSpawnTimeByLevel.put(level, lastUfoSpawnTime);
+        lastSpawnTimeByLevel.put((int) level, lastUfoSpawnTime);
 
     }
 
@@ -544,13 +563,11 @@ public class UFOs {
 
         UFO ufo = ufoPool.obtain();
         ufo.initVertical(direction);
-        activeUFOs.add(ufo);
-        dodgeables.activeDodgeables.add(ufo);
 
 
         //keep track of time the ufo was spawned
         lastUfoSpawnTime = Gameplay.totalGameTime;
-        lastSpawnTimeByLevel.put(level, lastUfoSpawnTime);
+        lastSpawnTimeByLevel.put((int) level, lastUfoSpawnTime);
     }
 
     public void spawnStopInCenterUfo(float direction, float timeToHoldInCenter, float level) {
@@ -561,13 +578,11 @@ public class UFOs {
 
         UFO ufo = ufoPool.obtain();
         ufo.initStopInCenter(direction, timeToHoldInCenter);
-        activeUFOs.add(ufo);
-        dodgeables.activeDodgeables.add(ufo);
 
 
         //keep track of time the ufo was spawned
         lastUfoSpawnTime = Gameplay.totalGameTime;
-        lastSpawnTimeByLevel.put(level, lastUfoSpawnTime);
+        lastSpawnTimeByLevel.put((int) level, lastUfoSpawnTime);
 
     }
 
@@ -580,13 +595,11 @@ public class UFOs {
 
         UFO ufo = ufoPool.obtain();
         ufo.initStopInRightCenter(direction, timeToHoldInRightCenter);
-        activeUFOs.add(ufo);
-        dodgeables.activeDodgeables.add(ufo);
 
 
         //keep track of time the ufo was spawned
         lastUfoSpawnTime = Gameplay.totalGameTime;
-        lastSpawnTimeByLevel.put(level, lastUfoSpawnTime);
+        lastSpawnTimeByLevel.put((int) level, lastUfoSpawnTime);
 
     }
 
@@ -597,13 +610,11 @@ public class UFOs {
 
         UFO ufo = ufoPool.obtain();
         ufo.initStopInTopRightCorner(direction, timeToHold);
-        activeUFOs.add(ufo);
-        dodgeables.activeDodgeables.add(ufo);
 
 
         //keep track of time the ufo was spawned
         lastUfoSpawnTime = Gameplay.totalGameTime;
-        lastSpawnTimeByLevel.put(level, lastUfoSpawnTime);
+        lastSpawnTimeByLevel.put((int) level, lastUfoSpawnTime);
 
     }
 
@@ -614,13 +625,11 @@ public class UFOs {
 
         UFO ufo = ufoPool.obtain();
         ufo.initStopInBottomLeftCorner(direction, timeToHold);
-        activeUFOs.add(ufo);
-        dodgeables.activeDodgeables.add(ufo);
 
 
         //keep track of time the ufo was spawned
         lastUfoSpawnTime = Gameplay.totalGameTime;
-        lastSpawnTimeByLevel.put(level, lastUfoSpawnTime);
+        lastSpawnTimeByLevel.put((int) level, lastUfoSpawnTime);
 
     }
 
@@ -637,31 +646,38 @@ public class UFOs {
         //Otherwise, spawn the ball in chosen direction
 
         if (ufo.direction == ENERGY_BEAM_RANDOM) {
-            float randomEnergyBeamDirection = MathUtils.random(0, 3);
-            ufo.energyBalls.add(new EnergyBall(ENERGY_BALL_INITIAL_WIDTH, ENERGY_BALL_INITIAL_HEIGHT, randomEnergyBeamDirection));
+            float randomEnergyBeamDirection = GameRandom.random(0, 3);
+            ufo.energyBalls.add(obtainEnergyBall(ufo, randomEnergyBeamDirection));
             ufo.energyBallIsSpawned = true;
         } else if (ufo.direction == ENERGY_BEAM_ALL_DIRECTIONS) {
-            ufo.energyBalls.add(new EnergyBall(ENERGY_BALL_INITIAL_WIDTH, ENERGY_BALL_INITIAL_HEIGHT, ENERGY_BEAM_LEFT));
-            ufo.energyBalls.add(new EnergyBall(ENERGY_BALL_INITIAL_WIDTH, ENERGY_BALL_INITIAL_HEIGHT, ENERGY_BEAM_UP));
-            ufo.energyBalls.add(new EnergyBall(ENERGY_BALL_INITIAL_WIDTH, ENERGY_BALL_INITIAL_HEIGHT, ENERGY_BEAM_RIGHT));
-            ufo.energyBalls.add(new EnergyBall(ENERGY_BALL_INITIAL_WIDTH, ENERGY_BALL_INITIAL_HEIGHT, ENERGY_BEAM_DOWN));
+            ufo.energyBalls.add(obtainEnergyBall(ufo, ENERGY_BEAM_LEFT));
+            ufo.energyBalls.add(obtainEnergyBall(ufo, ENERGY_BEAM_UP));
+            ufo.energyBalls.add(obtainEnergyBall(ufo, ENERGY_BEAM_RIGHT));
+            ufo.energyBalls.add(obtainEnergyBall(ufo, ENERGY_BEAM_DOWN));
             ufo.energyBallIsSpawned = true;
         } else if (ufo.direction == ENERGY_BEAM_HORIZONAL_DIRECTIONS) {
-            ufo.energyBalls.add(new EnergyBall(ENERGY_BALL_INITIAL_WIDTH, ENERGY_BALL_INITIAL_HEIGHT, ENERGY_BEAM_LEFT));
-            ufo.energyBalls.add(new EnergyBall(ENERGY_BALL_INITIAL_WIDTH, ENERGY_BALL_INITIAL_HEIGHT, ENERGY_BEAM_RIGHT));
+            ufo.energyBalls.add(obtainEnergyBall(ufo, ENERGY_BEAM_LEFT));
+            ufo.energyBalls.add(obtainEnergyBall(ufo, ENERGY_BEAM_RIGHT));
             ufo.energyBallIsSpawned = true;
         } else if (ufo.direction == ENERGY_BEAM_VERTICAL_DIRECTIONS) {
-            ufo.energyBalls.add(new EnergyBall(ENERGY_BALL_INITIAL_WIDTH, ENERGY_BALL_INITIAL_HEIGHT, ENERGY_BEAM_UP));
-            ufo.energyBalls.add(new EnergyBall(ENERGY_BALL_INITIAL_WIDTH, ENERGY_BALL_INITIAL_HEIGHT, ENERGY_BEAM_DOWN));
+            ufo.energyBalls.add(obtainEnergyBall(ufo, ENERGY_BEAM_UP));
+            ufo.energyBalls.add(obtainEnergyBall(ufo, ENERGY_BEAM_DOWN));
             ufo.energyBallIsSpawned = true;
         } else {
-            ufo.energyBalls.add(new EnergyBall(ENERGY_BALL_INITIAL_WIDTH, ENERGY_BALL_INITIAL_HEIGHT, ufo.direction));
+            ufo.energyBalls.add(obtainEnergyBall(ufo, ufo.direction));
             ufo.energyBallIsSpawned = true;
         }
 
 
     }
 
+    private EnergyBall obtainEnergyBall(UFO ufo, float direction) {
+        //Energy balls are reused from the UFO's pool, they are freed when their UFO is reset
+        EnergyBall energyBall = ufo.obtainEnergyBall();
+        energyBall.init(ENERGY_BALL_INITIAL_WIDTH, ENERGY_BALL_INITIAL_HEIGHT, direction);
+        return energyBall;
+    }
+
     private void spawnEnergyBeam(UFO ufo, EnergyBall energyBall) {
 
         // Spawn energy beam associated with the energy ball
@@ -675,8 +691,6 @@ public class UFOs {
 
             UfoEnergyBeamLeft ufoEnergyBeamLeft = ufoEnergyBeamLeftPool.obtain();
             ufoEnergyBeamLeft.init(ufo, energyBeamDirection);
-            activeEnergyBeamLefts.add(ufoEnergyBeamLeft);
-            dodgeables.activeDodgeables.add(ufoEnergyBeamLeft);
             ufo.energyBeams.add(ufoEnergyBeamLeft);
 
             //Energy ball has now spawned, so reset it
@@ -689,8 +703,6 @@ public class UFOs {
 
             UfoEnergyBeamRight ufoEnergyBeamRight = ufoEnergyBeamRightPool.obtain();
             ufoEnergyBeamRight.init(ufo, energyBeamDirection);
-            activeEnergyBeamRights.add(ufoEnergyBeamRight);
-            dodgeables.activeDodgeables.add(ufoEnergyBeamRight);
             ufo.energyBeams.add(ufoEnergyBeamRight);
 
             //Energy ball has now spawned, so reset it
@@ -702,8 +714,6 @@ public class UFOs {
 
             UfoEnergyBeamDown ufoEnergyBeamDown = ufoEnergyBeamDownPool.obtain();
             ufoEnergyBeamDown.init(ufo, energyBeamDirection);
-            activeEnergyBeamDowns.add(ufoEnergyBeamDown);
-            dodgeables.activeDodgeables.add(ufoEnergyBeamDown);
             ufo.energyBeams.add(ufoEnergyBeamDown);
 
             //Energy ball has now spawned, so reset it
@@ -715,8 +725,6 @@ public class UFOs {
 
             UfoEnergyBeamUp ufoEnergyBeamUp = ufoEnergyBeamUpPool.obtain();
             ufoEnergyBeamUp.init(ufo, energyBeamDirection);
-            activeEnergyBeamUps.add(ufoEnergyBeamUp);
-            dodgeables.activeDodgeables.add(ufoEnergyBeamUp);
             ufo.energyBeams.add(ufoEnergyBeamUp);
 
             //Energy ball has now spawned, so reset it
@@ -730,15 +738,15 @@ public class UFOs {
 
     private void initializeUfoAnimation() {
 
-        // Load the ufo sprite sheet as a Texture
-        ufoSheet = new Texture(Gdx.files.internal("sprites/UfoSpriteSheet.png"));
+        // Get the ufo sprite sheet from the sprite atlas
+        ufoSheet = SpriteAtlas.findRegion("UfoSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmp = TextureRegion.split(ufoSheet,
-                ufoSheet.getWidth() / 2,
-                ufoSheet.getHeight() / 1);
+        TextureRegion[][] tmp = ufoSheet.split(
+                ufoSheet.getRegionWidth() / 2,
+                ufoSheet.getRegionHeight() / 1);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -757,15 +765,15 @@ public class UFOs {
 
     private void initializeEnergyBallAnimation() {
 
-        // Load the energy ball sprite sheet as a Texture
-        energyBallSheet = new Texture(Gdx.files.internal("sprites/EnergyBallLongSpriteSheet.png"));
+        // Get the energy ball sprite sheet from the sprite atlas
+        energyBallSheet = SpriteAtlas.findRegion("EnergyBallLongSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmp = TextureRegion.split(energyBallSheet,
-                energyBallSheet.getWidth() / 3,
-                energyBallSheet.getHeight() / 2);
+        TextureRegion[][] tmp = energyBallSheet.split(
+                energyBallSheet.getRegionWidth() / 3,
+                energyBallSheet.getRegionHeight() / 2);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -785,15 +793,15 @@ public class UFOs {
 
     private void initializeEnergyBeamAnimation() {
 
-        // Load the energy beam sprite sheet as a Texture
-        energyBeamSheet = new Texture(Gdx.files.internal("sprites/EnergyBeamSpriteSheet.png"));
+        // Get the energy beam sprite sheet from the sprite atlas
+        energyBeamSheet = SpriteAtlas.findRegion("EnergyBeamSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmp = TextureRegion.split(energyBeamSheet,
-                energyBeamSheet.getWidth() / 3,
-                energyBeamSheet.getHeight() / 4);
+        TextureRegion[][] tmp = energyBeamSheet.split(
+                energyBeamSheet.getRegionWidth() / 3,
+                energyBeamSheet.getRegionHeight() / 4);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -813,17 +821,17 @@ public class UFOs {
 
     private void initializeEnergyBeamStaticAnimation() {
 
-        // Load the energy beam static sprite sheet as a Texture
+        // Get the energy beam static sprite sheet from the sprite atlas
         // The static energy beam is the energy beam animation after the energy beam has been shot
         // out of the laser and remains in a straight line
-        energyBeamStaticSheet = new Texture(Gdx.files.internal("sprites/EnergyBeamStaticSpriteSheet.png"));
+        energyBeamStaticSheet = SpriteAtlas.findRegion("EnergyBeamStaticSpriteSheet");
 
         // Use the split utility method to create a 2D array of TextureRegions. This is
         // possible because this sprite sheet contains frames of equal size and they are
         // all aligned.
-        TextureRegion[][] tmp = TextureRegion.split(energyBeamStaticSheet,
-                energyBeamStaticSheet.getWidth() / 3,
-                energyBeamStaticSheet.getHeight() / 3);
+        TextureRegion[][] tmp = energyBeamStaticSheet.split(
+                energyBeamStaticSheet.getRegionWidth() / 3,
+                energyBeamStaticSheet.getRegionHeight() / 3);
 
         // Place the regions into a 1D array in the correct order, starting from the top
         // left, going across first. The Animation constructor requires a 1D array.
@@ -843,7 +851,7 @@ public class UFOs {
 
     public float getLastUfoSpawnTime(float level) {
 
-        if (lastSpawnTimeByLevel.get(level) == null){
+        if (!lastSpawnTimeByLevel.containsKey((int) level)){
             return 0;
         } else {
             return lastUfoSpawnTime;
@@ -851,62 +859,11 @@ public class UFOs {
 
     }
 
-    public void sweepDeadBodies() {
-
-        // If any UFO objects are flagged for deletion, free them from the pool
-        // so that they move off the screen and can be reused
-
-        for (UFO ufo : activeUFOs) {
-            if (!ufo.isActive()) {
-                activeUFOs.removeValue(ufo, false);
-                dodgeables.activeDodgeables.removeValue(ufo, false);
-                ufoPool.free(ufo);
-            }
-        }
-
-        for (UfoEnergyBeamLeft ufoEnergyBeamLeft : activeEnergyBeamLefts) {
-            if (!ufoEnergyBeamLeft.isActive()) {
-                activeEnergyBeamLefts.removeValue(ufoEnergyBeamLeft, false);
-                dodgeables.activeDodgeables.removeValue(ufoEnergyBeamLeft, false);
-                ufoEnergyBeamLeftPool.free(ufoEnergyBeamLeft);
-            }
-        }
-
-        for (UfoEnergyBeamRight ufoEnergyBeamRight : activeEnergyBeamRights) {
-            if (!ufoEnergyBeamRight.isActive()) {
-                activeEnergyBeamRights.removeValue(ufoEnergyBeamRight, false);
-                dodgeables.activeDodgeables.removeValue(ufoEnergyBeamRight, false);
-                ufoEnergyBeamRightPool.free(ufoEnergyBeamRight);
-            }
-        }
-
-        for (UfoEnergyBeamDown ufoEnergyBeamDown : activeEnergyBeamDowns) {
-            if (!ufoEnergyBeamDown.isActive()) {
-                activeEnergyBeamDowns.removeValue(ufoEnergyBeamDown, false);
-                dodgeables.activeDodgeables.removeValue(ufoEnergyBeamDown, false);
-                ufoEnergyBeamDownPool.free(ufoEnergyBeamDown);
-            }
-        }
-
-        for (UfoEnergyBeamUp ufoEnergyBeamUp : activeEnergyBeamUps) {
-            if (!ufoEnergyBeamUp.isActive()) {
-                activeEnergyBeamUps.removeValue(ufoEnergyBeamUp, false);
-                dodgeables.activeDodgeables.removeValue(ufoEnergyBeamUp, false);
-                ufoEnergyBeamUpPool.free(ufoEnergyBeamUp);
-            }
-        }
-
-    }
-
     public void resetSpawnTimes(){
         lastUfoSpawnTime = 0;
     }
 
     public void dispose() {
-        ufoSheet.dispose();
-        energyBeamSheet.dispose();
-        energyBallSheet.dispose();
-        energyBeamStaticSheet.dispose();
 
     }
 
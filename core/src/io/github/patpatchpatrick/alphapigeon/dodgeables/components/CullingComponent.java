@@ -0,0 +1,22 @@
+package io.github.patpatchpatrick.alphapigeon.dodgeables.components;
+
+import com.badlogic.ashley.core.Component;
+
+public class CullingComponent implements Component {
+
+    //Size of the dodgeable's body, measured from the body position, used by the CullingSystem to decide
+    //when the body has left the screen for good and can be put to sleep
+    //Dodgeables that are pushed by a force every tick (rockets) can turn back and have no culling component
+
+    public final float width;
+    public final float height;
+    //Largest distance from the body position to any point of the body, whatever the body's angle
+    public final float radius;
+
+    public CullingComponent(float width, float height) {
+        this.width = width;
+        this.height = height;
+        this.radius = (float) Math.sqrt(width * width + height * height);
+    }
+
+}
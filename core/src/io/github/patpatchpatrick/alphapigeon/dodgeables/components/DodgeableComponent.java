@@ -0,0 +1,21 @@
+package io.github.patpatchpatrick.alphapigeon.dodgeables.components;
+
+import com.badlogic.ashley.core.Component;
+
+import io.github.patpatchpatrick.alphapigeon.dodgeables.DodgeablePool;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
+
+public class DodgeableComponent implements Component {
+
+    //Links an entity to its dodgeable (and the dodgeable's physics body) and to the pool the dodgeable is freed to
+    //Every dodgeable entity has this component
+
+    public final Dodgeable dodgeable;
+    public final DodgeablePool<?> pool;
+
+    public DodgeableComponent(Dodgeable dodgeable, DodgeablePool<?> pool) {
+        this.dodgeable = dodgeable;
+        this.pool = pool;
+    }
+
+}
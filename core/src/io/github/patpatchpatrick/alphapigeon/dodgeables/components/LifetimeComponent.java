@@ -0,0 +1,16 @@
+package io.github.patpatchpatrick.alphapigeon.dodgeables.components;
+
+import com.badlogic.ashley.core.Component;
+
+public class LifetimeComponent implements Component {
+
+    //Game time (seconds) a dodgeable stays in play after it is spawned
+    //The spawn time is stored in the BodyData of the dodgeable's body, see LifetimeSystem
+
+    public final float duration;
+
+    public LifetimeComponent(float duration) {
+        this.duration = duration;
+    }
+
+}
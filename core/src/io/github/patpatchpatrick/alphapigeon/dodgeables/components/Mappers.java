@@ -0,0 +1,15 @@
+package io.github.patpatchpatrick.alphapigeon.dodgeables.components;
+
+import com.badlogic.ashley.core.ComponentMapper;
+
+public class Mappers {
+
+    //Component mappers shared by the systems, for fast access to the components of an entity
+
+    public static final ComponentMapper<DodgeableComponent> dodgeable = ComponentMapper.getFor(DodgeableComponent.class);
+    public static final ComponentMapper<SpriteComponent> sprite = ComponentMapper.getFor(SpriteComponent.class);
+    public static final ComponentMapper<OffscreenComponent> offscreen = ComponentMapper.getFor(OffscreenComponent.class);
+    public static final ComponentMapper<LifetimeComponent> lifetime = ComponentMapper.getFor(LifetimeComponent.class);
+    public static final ComponentMapper<CullingComponent> culling = ComponentMapper.getFor(CullingComponent.class);
+
+}
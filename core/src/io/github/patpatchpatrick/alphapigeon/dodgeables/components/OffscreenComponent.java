@@ -0,0 +1,24 @@
+package io.github.patpatchpatrick.alphapigeon.dodgeables.components;
+
+import com.badlogic.ashley.core.Component;
+
+public class OffscreenComponent implements Component {
+
+    //How far past each edge of the screen the dodgeable's position can go before it is freed by the
+    //OffscreenReapingSystem (world units, NO_LIMIT if the dodgeable is never freed past that edge)
+
+    public static final float NO_LIMIT = Float.POSITIVE_INFINITY;
+
+    public final float left;
+    public final float right;
+    public final float bottom;
+    public final float top;
+
+    public OffscreenComponent(float left, float right, float bottom, float top) {
+        this.left = left;
+        this.right = right;
+        this.bottom = bottom;
+        this.top = top;
+    }
+
+}
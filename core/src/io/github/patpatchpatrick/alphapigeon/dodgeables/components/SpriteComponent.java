@@ -0,0 +1,36 @@
+package io.github.patpatchpatrick.alphapigeon.dodgeables.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+public class SpriteComponent implements Component {
+
+    //Animation drawn at the position of a dodgeable by the SpriteRenderSystem
+    //Sprites are drawn by layer, and in the order their dodgeables were spawned within a layer
+
+    public Animation<TextureRegion> animation;
+    public final int layer;
+    public final float width;
+    public final float height;
+    //Length of the sprite's diagonal, used to cull sprites outside of the camera view
+    public final float radius;
+
+    //Offset of the sprite from the body position, origin of the rotation and horizontal scale (-1 flips the sprite)
+    public float offsetX = 0;
+    public float offsetY = 0;
+    public float originX = 0;
+    public float originY = 0;
+    public float scaleX = 1;
+    //If false, the sprite is drawn upright regardless of the body angle
+    public boolean rotates = true;
+
+    public SpriteComponent(Animation<TextureRegion> animation, int layer, float width, float height) {
+        this.animation = animation;
+        this.layer = layer;
+        this.width = width;
+        this.height = height;
+        this.radius = (float) Math.sqrt(width * width + height * height);
+    }
+
+}
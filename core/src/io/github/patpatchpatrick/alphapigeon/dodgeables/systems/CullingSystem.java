@@ -0,0 +1,79 @@
+package io.github.patpatchpatrick.alphapigeon.dodgeables.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+
+import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.CullingComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.DodgeableComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.Mappers;
+
+public class CullingSystem extends IteratingSystem {
+
+    //Puts the bodies of dodgeables that can't interact with the pigeon anymore to sleep
+    //A dodgeable can't come back once it is completely outside of the camera view and moving away from it, so its
+    //body is deactivated and Box2D no longer moves it or tests it for collisions
+    //A sleeping dodgeable stays where it is until it is freed, by the OffscreenReapingSystem (which frees sleeping
+    //dodgeables right away) or by its own dodgeable class
+    //Bodies are activated again when their dodgeable is reused (see the init methods of the dodgeables)
+
+    private final OrthographicCamera camera;
+    //Number of dodgeables with sleeping bodies during the last update
+    public int sleepingCount = 0;
+
+    public CullingSystem(OrthographicCamera camera, int priority) {
+        super(Family.all(DodgeableComponent.class, CullingComponent.class).get(), priority);
+        this.camera = camera;
+    }
+
+    public static boolean isVisible(OrthographicCamera camera, float x, float y, float radius) {
+        //Determine if any part of a sprite is in the camera view, the sprite is inside of the square with the
+        //given half width (radius) around the given point
+        return camera.frustum.boundsInFrustum(x, y, 0, radius, radius, 0);
+    }
+
+    public static boolean isAsleep(Dodgeable dodgeable) {
+        return dodgeable.alive && !dodgeable.dodgeableBody.isActive();
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        sleepingCount = 0;
+        super.update(deltaTime);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+
+        Dodgeable dodgeable = Mappers.dodgeable.get(entity).dodgeable;
+        Body body = dodgeable.dodgeableBody;
+        if (!body.isActive()) {
+            sleepingCount++;
+            return;
+        }
+        if (dodgeable.isHeld) {
+            return;
+        }
+
+        float radius = Mappers.culling.get(entity).radius;
+        Vector2 position = body.getPosition();
+        Vector2 velocity = body.getLinearVelocity();
+        float viewLeft = camera.position.x - camera.viewportWidth / 2;
+        float viewBottom = camera.position.y - camera.viewportHeight / 2;
+
+        boolean isLeavingLeft = position.x + radius < viewLeft && velocity.x < 0;
+        boolean isLeavingRight = position.x - radius > viewLeft + camera.viewportWidth && velocity.x > 0;
+        boolean isLeavingBottom = position.y + radius < viewBottom && velocity.y < 0;
+        boolean isLeavingTop = position.y - radius > viewBottom + camera.viewportHeight && velocity.y > 0;
+
+        if (isLeavingLeft || isLeavingRight || isLeavingBottom || isLeavingTop) {
+            body.setActive(false);
+            sleepingCount++;
+        }
+    }
+
+}
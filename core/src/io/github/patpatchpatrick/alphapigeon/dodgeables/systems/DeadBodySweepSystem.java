@@ -0,0 +1,27 @@
+package io.github.patpatchpatrick.alphapigeon.dodgeables.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.DodgeableComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.Mappers;
+
+public class DeadBodySweepSystem extends IteratingSystem {
+
+    //If a dodgeable is flagged for deletion (due to a collision or because its lifetime is over), free it to its pool
+    //so that it moves off the screen and can be reused
+
+    public DeadBodySweepSystem(int priority) {
+        super(Family.all(DodgeableComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        DodgeableComponent dodgeableComponent = Mappers.dodgeable.get(entity);
+        if (!dodgeableComponent.dodgeable.isActive()) {
+            dodgeableComponent.pool.freeDodgeable(dodgeableComponent.dodgeable);
+        }
+    }
+
+}
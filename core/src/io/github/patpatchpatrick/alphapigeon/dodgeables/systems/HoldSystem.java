@@ -0,0 +1,27 @@
+package io.github.patpatchpatrick.alphapigeon.dodgeables.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.DodgeableComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.Mappers;
+
+public class HoldSystem extends IteratingSystem {
+
+    //Releases held dodgeables once their hold time is over (see Dodgeable.holdPosition)
+
+    public HoldSystem(int priority) {
+        super(Family.all(DodgeableComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Dodgeable dodgeable = Mappers.dodgeable.get(entity).dodgeable;
+        if (dodgeable.isHeld) {
+            dodgeable.checkIfCanBeUnheld();
+        }
+    }
+
+}
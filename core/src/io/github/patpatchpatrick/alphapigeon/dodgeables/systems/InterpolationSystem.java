@@ -0,0 +1,27 @@
+package io.github.patpatchpatrick.alphapigeon.dodgeables.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.DodgeableComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.Mappers;
+
+public class InterpolationSystem extends IteratingSystem {
+
+    //Saves the transform of every dodgeable body before the world is stepped, so the bodies can be drawn
+    //between the previous and current physics step
+    //The world can be stepped several times per frame, so this system is not updated by the engine,
+    //it is updated before every step instead (see Dodgeables.savePreviousTransforms)
+
+    public InterpolationSystem() {
+        super(Family.all(DodgeableComponent.class).get());
+        setProcessing(false);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Mappers.dodgeable.get(entity).dodgeable.savePreviousTransform();
+    }
+
+}
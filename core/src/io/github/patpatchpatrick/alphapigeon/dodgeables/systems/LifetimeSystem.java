@@ -0,0 +1,34 @@
+package io.github.patpatchpatrick.alphapigeon.dodgeables.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.DodgeableComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.LifetimeComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.Mappers;
+import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
+import io.github.patpatchpatrick.alphapigeon.resources.BodyData;
+
+public class LifetimeSystem extends IteratingSystem {
+
+    //Flags dodgeables for deletion once they have been in play for longer than their lifetime
+    //The flagged dodgeables are freed by the DeadBodySweepSystem
+
+    public LifetimeSystem(int priority) {
+        super(Family.all(DodgeableComponent.class, LifetimeComponent.class).get(), priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Dodgeable dodgeable = Mappers.dodgeable.get(entity).dodgeable;
+        BodyData data = (BodyData) dodgeable.dodgeableBody.getUserData();
+        if (data == null) {
+            BodyData.flagForDelete(dodgeable.dodgeableBody);
+        } else if (Gameplay.totalGameTime - data.getSpawnTime() > Mappers.lifetime.get(entity).duration) {
+            data.setFlaggedForDelete(true);
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package io.github.patpatchpatrick.alphapigeon.dodgeables.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.DodgeableComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.Mappers;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.OffscreenComponent;
+
+public class OffscreenReapingSystem extends IteratingSystem {
+
+    //Free the dodgeables that went far enough off the screen to their pools, so that they can be reused
+    //Dodgeables whose bodies were put to sleep by the CullingSystem are leaving the screen for good and are freed
+    //right away, since a sleeping body doesn't move any further
+
+    private final OrthographicCamera camera;
+
+    public OffscreenReapingSystem(OrthographicCamera camera, int priority) {
+        super(Family.all(DodgeableComponent.class, OffscreenComponent.class).get(), priority);
+        this.camera = camera;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        DodgeableComponent dodgeableComponent = Mappers.dodgeable.get(entity);
+        OffscreenComponent offscreen = Mappers.offscreen.get(entity);
+        Vector2 position = dodgeableComponent.dodgeable.getPosition();
+        if (CullingSystem.isAsleep(dodgeableComponent.dodgeable)
+                || position.x < -offscreen.left || position.x > camera.viewportWidth + offscreen.right
+                || position.y < -offscreen.bottom || position.y > camera.viewportHeight + offscreen.top) {
+            dodgeableComponent.pool.freeDodgeable(dodgeableComponent.dodgeable);
+        }
+    }
+
+}
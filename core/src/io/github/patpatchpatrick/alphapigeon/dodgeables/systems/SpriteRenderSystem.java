@@ -0,0 +1,80 @@
+package io.github.patpatchpatrick.alphapigeon.dodgeables.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.SortedIteratingSystem;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.Comparator;
+
+import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.DodgeableComponent;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.Mappers;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.components.SpriteComponent;
+
+public class SpriteRenderSystem extends SortedIteratingSystem {
+
+    //Draws the animation of every dodgeable that has a sprite, at the interpolated position of its body
+    //The entities are sorted by layer (only when entities are added), and the sort is stable so dodgeables
+    //in the same layer are drawn in the order they were spawned
+    //Rendering happens once per frame rather than once per tick, so this system is not updated by the engine,
+    //see render
+    //Sprites that are completely outside of the camera view are culled (not drawn)
+
+    private final OrthographicCamera camera;
+    private SpriteBatch batch;
+    private float stateTime;
+    //Number of sprites drawn and culled during the last render
+    public int drawnCount = 0;
+    public int culledCount = 0;
+
+    public SpriteRenderSystem(OrthographicCamera camera) {
+        super(Family.all(DodgeableComponent.class, SpriteComponent.class).get(), new Comparator<Entity>() {
+            @Override
+            public int compare(Entity entityOne, Entity entityTwo) {
+                return Mappers.sprite.get(entityOne).layer - Mappers.sprite.get(entityTwo).layer;
+            }
+        });
+        this.camera = camera;
+        setProcessing(false);
+    }
+
+    public void render(float stateTime, SpriteBatch batch) {
+        this.stateTime = stateTime;
+        this.batch = batch;
+        drawnCount = 0;
+        culledCount = 0;
+        update(0);
+        this.batch = null;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+
+        Dodgeable dodgeable = Mappers.dodgeable.get(entity).dodgeable;
+        if (!dodgeable.alive) {
+            return;
+        }
+
+        SpriteComponent sprite = Mappers.sprite.get(entity);
+        Vector2 renderPosition = dodgeable.getRenderPosition();
+
+        //Whatever its angle and scale, the sprite is never further from its origin than the length of its diagonal
+        float originX = renderPosition.x + sprite.offsetX + sprite.originX;
+        float originY = renderPosition.y + sprite.offsetY + sprite.originY;
+        if (!CullingSystem.isVisible(camera, originX, originY, sprite.radius)) {
+            culledCount++;
+            return;
+        }
+        drawnCount++;
+
+        TextureRegion currentFrame = sprite.animation.getKeyFrame(stateTime, true);
+        float angle = sprite.rotates ? dodgeable.getRenderAngle() : 0;
+        batch.draw(currentFrame, renderPosition.x + sprite.offsetX, renderPosition.y + sprite.offsetY, sprite.originX, sprite.originY,
+                sprite.width, sprite.height, sprite.scaleX, 1, angle);
+    }
+
+}
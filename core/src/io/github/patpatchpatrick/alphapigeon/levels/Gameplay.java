@@ -2,46 +2,75 @@ package io.github.patpatchpatrick.alphapigeon.levels;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
 
 import io.github.patpatchpatrick.alphapigeon.dodgeables.AlienMissiles;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.Birds;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.Dodgeables;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.Meteors;
-import io.github.patpatchpatrick.alphapigeon.dodgeables.MovingObjects.Dodgeable;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.Notifications;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.PowerUps;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.Rockets;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.Teleports;
 import io.github.patpatchpatrick.alphapigeon.dodgeables.UFOs;
+import io.github.patpatchpatrick.alphapigeon.resources.FrameProfiler;
+import io.github.patpatchpatrick.alphapigeon.resources.GameLog;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
 import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
+import io.github.patpatchpatrick.alphapigeon.resources.QualityGovernor;
 
-public class Gameplay extends Level {
+public class Gameplay {
 
     //Class to control the gameplay of the game.
     //Controls the game levels, and how enemies are spawned as the game time increases
+    //The levels and their waves are described in the waves file (see WaveTimeline), the spawn schedule plays them
+    //and calls the spawn actions below to spawn the dodgeables
+
+    // All dodgeables used in the game
+    private final Dodgeables dodgeables;
+    private final Birds birds;
+    private final Rockets rockets;
+    private final AlienMissiles alienMissiles;
+    private final Teleports teleports;
+    private final PowerUps powerUps;
+    private final Meteors meteors;
+    private final UFOs ufos;
 
     //Levels
-    private LevelOne levelOne;
-    private LevelTwo levelTwo;
-    private LevelThree levelThree;
-    private LevelFour levelFour;
-    private LevelFinal levelFinal;
+    private final SpawnSchedule spawnSchedule;
 
     //GAME TIMES
     private boolean gamePlayInitiated = false;
     private float startTime = 0f; //Used to track when gameplay was initiated
     public static float totalGameTime; //Used to track total game time. Primary time variable used in all levels classes and dodgeables.
 
+    //Level currently being played, used to record the pool usage of each level
+    private String currentLevel;
+
+    //The pigeon speed changes every frame, it is logged at most once a second
+    private static final String LOG_TAG_PIGEON_SPEED = "Pigeon Speed";
+
 
     public Gameplay(Dodgeables dodgeables) {
-        super(dodgeables);
 
-        levelOne = new LevelOne(dodgeables);
-        levelTwo = new LevelTwo(dodgeables);
-        levelThree = new LevelThree(dodgeables);
-        levelFour = new LevelFour(dodgeables);
-        levelFinal = new LevelFinal(dodgeables, levelOne, levelTwo, levelThree, levelFour);
+        this.dodgeables = dodgeables;
+        this.birds = dodgeables.getBirds();
+        this.rockets = dodgeables.getRockets();
+        this.alienMissiles = dodgeables.getAlienMissiles();
+        this.teleports = dodgeables.getTeleports();
+        this.powerUps = dodgeables.getPowerUps();
+        this.meteors = dodgeables.getMeteors();
+        this.ufos = dodgeables.getUfos();
+
+        // The pigeon speed is kept between games, start every game at the minimum speed
+        GameVariables.pigeonSpeed = 9f;
+
+        GameLog.setRateLimit(LOG_TAG_PIGEON_SPEED, 1f);
+
+        WaveTimeline timeline = WaveTimeline.load(Gdx.files.internal(WaveTimeline.WAVES_FILE), createSpawnActions());
+        spawnSchedule = new SpawnSchedule(timeline);
+        currentLevel = spawnSchedule.getCurrentLevel().name;
     }
 
 
@@ -49,7 +78,8 @@ public class Gameplay extends Level {
 
         // Render all the dodgeable objects
         // Use the total game time so that the dodgeables stay in sync with the levels (both use totalGameTime)
-        this.dodgeables.render(totalGameTime, batch);
+        // (stepped at the animation frame rate of the quality level, see QualityGovernor)
+        this.dodgeables.render(QualityGovernor.getAnimationTime(totalGameTime), batch);
 
     }
 
@@ -74,59 +104,294 @@ public class Gameplay extends Level {
             GameVariables.pigeonSpeed = GameVariables.PIGEON_MAX_SPEED;
         }
 
-        Gdx.app.log("Pigeon Speed", "" + GameVariables.pigeonSpeed);
+        if (GameLog.ENABLED) GameLog.debug(LOG_TAG_PIGEON_SPEED, "{}", GameVariables.pigeonSpeed);
 
 
         // Update all the dodgeable objects
         // The dodgeable objects are the enemies in the game that must be dodged
+        FrameProfiler.begin(FrameProfiler.SECTION_DODGEABLES);
         this.dodgeables.update();
+        FrameProfiler.end(FrameProfiler.SECTION_DODGEABLES);
+
+        // Record how many of each dodgeable were in use in the current level
+        this.dodgeables.poolUsage.recordUsage(currentLevel, this.dodgeables.pools);
 
     }
 
     private void updateLevels() {
 
-        // Method to keep track of which level to run based on how much time has passed
-
-        if (totalGameTime > LEVEL_ONE_START_TIME && totalGameTime <= LEVEL_ONE_END_TIME) {
-
-            levelOne.run(totalGameTime);
-            spawnRandomPowerUp();
-            Gdx.app.log("LEVEL ONE", "PLAYING");
+        // Start the levels and waves and spawn the dodgeables that are due
 
-        } else if (totalGameTime > LEVEL_TWO_START_TIME && totalGameTime <= LEVEL_TWO_END_TIME) {
+        spawnSchedule.update(totalGameTime);
+        currentLevel = spawnSchedule.getCurrentLevel().name;
 
-            levelTwo.run(true, NO_WAVE, totalGameTime, false);
-            spawnRandomPowerUp();
-            Gdx.app.log("LEVEL TWO", "PLAYING");
+    }
 
-        } else if (totalGameTime > LEVEL_THREE_START_TIME & totalGameTime <= LEVEL_THREE_END_TIME) {
+    private ObjectMap<String, SpawnAction> createSpawnActions() {
+
+        //Spawn actions used by the waves file, by name
+        //The spawn times kept by the dodgeables are used so that waves played at the same time share them
+
+        ObjectMap<String, SpawnAction> actions = new ObjectMap<String, SpawnAction>();
+
+        //BIRDS
+        actions.put("levelOneBird", new SpawnAction() {
+            @Override
+            public float getLastSpawnTime(Spawner spawner) {
+                return birds.getLastLevelOneBirdSpawnTime();
+            }
+
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                birds.spawnLevelOneBird(totalGameTime);
+            }
+        });
+        actions.put("levelTwoBird", new SpawnAction() {
+            @Override
+            public float getLastSpawnTime(Spawner spawner) {
+                return birds.getLastLevelTwoBirdSpawnTime();
+            }
+
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                birds.spawnLevelTwoBird(totalGameTime);
+            }
+        });
+        actions.put("levelOneBirdReverse", new SpawnAction() {
+            @Override
+            public float getLastSpawnTime(Spawner spawner) {
+                return birds.getLastLevelOneReverseBirdSpawnTime();
+            }
+
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                birds.spawnLevelOneBirdReverse(totalGameTime);
+            }
+        });
+        actions.put("levelTwoBirdReverse", new SpawnAction() {
+            @Override
+            public float getLastSpawnTime(Spawner spawner) {
+                return birds.getLastLevelTwoReverseBirdSpawnTime();
+            }
+
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                birds.spawnLevelTwoBirdReverse(totalGameTime);
+            }
+        });
+        actions.put("birdLine", new SpawnAction() {
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                //A vertical line of birds that must be jumped over with teleports
+                birds.spawnVerticalLineOfBirds(totalGameTime);
+            }
+        });
+
+        //ROCKETS, ALIEN MISSILES AND METEORS
+        actions.put("rocket", new SpawnAction() {
+            @Override
+            public float getLastSpawnTime(Spawner spawner) {
+                return rockets.getLastRocketSpawnTime(spawner.level);
+            }
+
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                rockets.spawnRocket(spawner.level);
+            }
+        });
+        actions.put("alienMissile", new SpawnAction() {
+            @Override
+            public float getLastSpawnTime(Spawner spawner) {
+                return alienMissiles.getLastAlienMissileSpawnTime(spawner.level);
+            }
+
+            @Override
+            public float getDirection(String directionName) {
+                return getAlienMissileDirection(directionName);
+            }
+
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                alienMissiles.spawnAlienMissile(direction, spawner.level);
+            }
+        });
+        actions.put("meteor", new SpawnAction() {
+            @Override
+            public float getLastSpawnTime(Spawner spawner) {
+                return meteors.getLastMeteorSpawnTime();
+            }
+
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                meteors.spawnMeteor();
+            }
+        });
+
+        //TELEPORTS
+        actions.put("teleport", new SpawnAction() {
+            @Override
+            public float getLastSpawnTime(Spawner spawner) {
+                return teleports.getLastTeleportSpawnTime();
+            }
+
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                teleports.spawnTeleports(spawner.height);
+            }
+        });
+
+        //UFOS
+        //Each kind of UFO moves differently, the direction is the direction of its energy beams
+        actions.put("ufo", new UfoSpawnAction() {
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                ufos.spawnUfo(direction, spawner.level);
+            }
+        });
+        actions.put("horizontalUfo", new UfoSpawnAction() {
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                ufos.spawnHorizontalUfo(direction, spawner.level);
+            }
+        });
+        actions.put("verticalUfo", new UfoSpawnAction() {
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                ufos.spawnVerticalUfo(direction, spawner.level);
+            }
+        });
+        actions.put("centerUfo", new UfoSpawnAction() {
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                ufos.spawnStopInCenterUfo(direction, spawner.holdTime, spawner.level);
+            }
+        });
+        actions.put("rightCenterUfo", new UfoSpawnAction() {
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                ufos.spawnStopInRightCenterUfo(direction, spawner.holdTime, spawner.level);
+            }
+        });
+        actions.put("topRightCornerUfo", new UfoSpawnAction() {
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                ufos.spawnTopRightCornerUfo(direction, spawner.holdTime, spawner.level);
+            }
+        });
+        actions.put("bottomLeftCornerUfo", new UfoSpawnAction() {
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                ufos.spawnBottomLeftCornerUfo(direction, spawner.holdTime, spawner.level);
+            }
+        });
+
+        //POWER UPS
+        //Power ups are spawned at the random power up interval of the game
+        actions.put("randomPowerUp", new PowerUpSpawnAction() {
+            @Override
+            public float getLastSpawnTime(Spawner spawner) {
+                return PowerUps.lastPowerUpSpawnTime;
+            }
+
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                powerUps.spawnPowerUp(GameRandom.random(PowerUps.POWER_UP_TYPE_SHIELD, PowerUps.POWER_UP_TYPE_SKULL));
+            }
+        });
+        actions.put("shieldPowerUp", new PowerUpSpawnAction() {
+            @Override
+            public float getLastSpawnTime(Spawner spawner) {
+                return PowerUps.lastpowerUpShieldSpawnTime;
+            }
+
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                powerUps.spawnPowerUp(PowerUps.POWER_UP_TYPE_SHIELD);
+            }
+        });
+
+        //NOTIFICATIONS
+        //Warning exclamation marks, shown before dodgeables come from an unusual direction
+        actions.put("warning", new SpawnAction() {
+            @Override
+            public float getDirection(String directionName) {
+                if (directionName.equals("LEFT")) {
+                    return Notifications.DIRECTION_LEFT;
+                } else if (directionName.equals("BOTTOM")) {
+                    return Notifications.DIRECTION_BOTTOM;
+                } else if (directionName.equals("TOP")) {
+                    return Notifications.DIRECTION_TOP;
+                }
+                return super.getDirection(directionName);
+            }
+
+            @Override
+            public void spawn(Spawner spawner, float direction) {
+                Notifications.ExclamationMark.spawnExclamationMark(direction);
+            }
+        });
+
+        return actions;
 
-            levelThree.run(true, NO_WAVE, totalGameTime, false);
-            spawnRandomPowerUp();
-            Gdx.app.log("LEVEL THREE", "PLAYING");
+    }
 
-        } else if (totalGameTime > LEVEL_FOUR_START_TIME & totalGameTime <= LEVEL_FOUR_END_TIME) {
+    private float getAlienMissileDirection(String directionName) {
+        if (directionName.equals("LEFTWARD")) {
+            return alienMissiles.SPAWN_DIRECTION_LEFTWARD;
+        } else if (directionName.equals("UPWARD")) {
+            return alienMissiles.SPAWN_DIRECTION_UPWARD;
+        } else if (directionName.equals("RIGHTWARD")) {
+            return alienMissiles.SPAWN_DIRECTION_RIGHTWARD;
+        } else if (directionName.equals("DOWNWARD")) {
+            return alienMissiles.SPAWN_DIRECTION_DOWNWARD;
+        }
+        throw new GdxRuntimeException("Unknown alien missile direction: " + directionName);
+    }
 
-            levelFour.run(true, NO_WAVE, totalGameTime, false);
-            spawnRandomPowerUp();
-            Gdx.app.log("LEVEL FOUR", "PLAYING");
+    private abstract class UfoSpawnAction extends SpawnAction {
 
-        } else if (totalGameTime > LEVEL_FINAL_START_TIME) {
+        //UFOs of a level share their spawn time, and are spawned with energy beams in the given directions
 
-            levelFinal.run(totalGameTime);
-            spawnRandomPowerUp();
-            Gdx.app.log("LEVEL FINAL", "PLAYING");
+        @Override
+        public float getLastSpawnTime(Spawner spawner) {
+            return ufos.getLastUfoSpawnTime(spawner.level);
         }
 
+        @Override
+        public float getDirection(String directionName) {
+            if (directionName.equals("LEFT")) {
+                return ufos.ENERGY_BEAM_LEFT;
+            } else if (directionName.equals("RIGHT")) {
+                return ufos.ENERGY_BEAM_RIGHT;
+            } else if (directionName.equals("UP")) {
+                return ufos.ENERGY_BEAM_UP;
+            } else if (directionName.equals("DOWN")) {
+                return ufos.ENERGY_BEAM_DOWN;
+            } else if (directionName.equals("RANDOM")) {
+                return ufos.ENERGY_BEAM_RANDOM;
+            } else if (directionName.equals("ALL")) {
+                return ufos.ENERGY_BEAM_ALL_DIRECTIONS;
+            } else if (directionName.equals("HORIZONTAL")) {
+                return ufos.ENERGY_BEAM_HORIZONAL_DIRECTIONS;
+            } else if (directionName.equals("VERTICAL")) {
+                return ufos.ENERGY_BEAM_VERTICAL_DIRECTIONS;
+            }
+            return super.getDirection(directionName);
+        }
 
     }
 
-    private void spawnRandomPowerUp() {
+    private abstract static class PowerUpSpawnAction extends SpawnAction {
 
-        //Spawn random power up if time between power ups has passed (Power Up Interval)
+        @Override
+        public float getInterval(Spawner spawner) {
+            return PowerUps.randomSpawnIntervalTime;
+        }
 
-        if (totalGameTime - PowerUps.lastPowerUpSpawnTime > PowerUps.randomSpawnIntervalTime) {
-            powerUps.spawnPowerUp(MathUtils.random(PowerUps.POWER_UP_TYPE_SHIELD, PowerUps.POWER_UP_TYPE_SKULL));
+        @Override
+        public boolean hasOwnInterval() {
+            return true;
         }
+
     }
 }
@@ -0,0 +1,29 @@
+package io.github.patpatchpatrick.alphapigeon.levels;
+
+import com.badlogic.gdx.utils.Array;
+
+public class LevelTimeline {
+
+    //A level of the game, played from its start time until the next level starts
+    //A level plays its waves one after the other, in a random order or in the order of the waves file
+    //The final level plays random waves of other levels instead, several at a time, and starts new waves
+    //when all of them have ended
+
+    public final String name;
+    //Level number used for the dodgeables' spawn times
+    public float number;
+    public float startTime;
+    public boolean playsWavesInOrder = false;
+    public final Array<Wave> waves = new Array<Wave>();
+    public final Array<LevelTimeline> wavesFrom = new Array<LevelTimeline>();
+    public int concurrentWaves = 1;
+
+    public LevelTimeline(String name) {
+        this.name = name;
+    }
+
+    public boolean playsOtherLevelsWaves() {
+        return wavesFrom.size > 0;
+    }
+
+}
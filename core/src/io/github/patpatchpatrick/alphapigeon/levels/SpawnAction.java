@@ -0,0 +1,34 @@
+package io.github.patpatchpatrick.alphapigeon.levels;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+public abstract class SpawnAction {
+
+    //Spawns one kind of dodgeable for the spawners of the waves file (see WaveTimeline)
+    //The actions are registered by name in Gameplay, and the waves file refers to them by that name
+
+    public float getLastSpawnTime(Spawner spawner) {
+        //Time the dodgeable was last spawned, a repeating spawner waits for its interval after that time
+        //Actions return the time kept by the dodgeables, so when two waves spawn the same dodgeable at the same
+        //time (on the final level), they don't spawn it twice as often
+        return spawner.lastSpawnTime;
+    }
+
+    public float getInterval(Spawner spawner) {
+        //Time between two spawns of a repeating spawner (seconds)
+        return spawner.interval;
+    }
+
+    public boolean hasOwnInterval() {
+        //Actions that always repeat, at an interval that isn't set in the waves file (power ups)
+        return false;
+    }
+
+    public float getDirection(String directionName) {
+        //Direction named in the waves file, for actions that spawn in a direction
+        throw new GdxRuntimeException("Spawns of this kind don't have a direction: " + directionName);
+    }
+
+    public abstract void spawn(Spawner spawner, float direction);
+
+}
@@ -0,0 +1,241 @@
+package io.github.patpatchpatrick.alphapigeon.levels;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BinaryHeap;
+import com.badlogic.gdx.utils.Pool;
+
+import io.github.patpatchpatrick.alphapigeon.resources.GameLog;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
+
+public class SpawnSchedule {
+
+    //Plays the wave timeline as a queue of events sorted by game time (the start of each level, the spawns of the
+    //waves being played and the end of those waves)
+    //Each update only takes the events that are due, so the levels don't check every dodgeable every frame
+    //A repeating spawn puts itself back in the queue for its next spawn, and a wave that ends starts the next wave
+    //
+    //Events of a wave that was stopped (because its level ended) are left in the queue and skipped when they are due
+
+    private static final int EVENT_LEVEL_START = 0;
+    private static final int EVENT_WAVE_END = 1;
+    private static final int EVENT_SPAWN = 2;
+
+    private static class Event extends BinaryHeap.Node implements Pool.Poolable {
+        int type;
+        LevelTimeline level;
+        Spawner spawner;
+        //Wave the event belongs to (null for the spawns of the whole game), and which play of the wave it belongs to
+        PlayingWave wave;
+        int wavePlay;
+
+        Event() {
+            super(0);
+        }
+
+        @Override
+        public void reset() {
+            level = null;
+            spawner = null;
+            wave = null;
+        }
+    }
+
+    private static class PlayingWave {
+        Wave wave;
+        int play;
+        boolean isPlaying = false;
+    }
+
+    private final BinaryHeap<Event> events;
+    private final Pool<Event> eventPool = new Pool<Event>() {
+        @Override
+        protected Event newObject() {
+            return new Event();
+        }
+    };
+
+    private LevelTimeline currentLevel;
+    private final Array<PlayingWave> playingWaves = new Array<PlayingWave>();
+    private int nextWaveInOrder = 0;
+    private int wavePlays = 0;
+    //Levels the final level takes its current waves from
+    private final Array<LevelTimeline> chosenLevels = new Array<LevelTimeline>();
+
+    private static final String LOG_TAG = "Waves";
+
+    public SpawnSchedule(WaveTimeline timeline) {
+
+        currentLevel = timeline.levels.first();
+
+        int maxConcurrentWaves = 1;
+        int maxWaveSpawners = 0;
+        for (LevelTimeline level : timeline.levels) {
+            maxConcurrentWaves = Math.max(maxConcurrentWaves, level.concurrentWaves);
+            for (Wave wave : level.waves) {
+                maxWaveSpawners = Math.max(maxWaveSpawners, wave.spawners.size);
+            }
+        }
+        for (int i = 0; i < maxConcurrentWaves; i++) {
+            playingWaves.add(new PlayingWave());
+        }
+
+        //Create the events now so queueing them during the game doesn't allocate
+        //At most the level starts, the spawns of the whole game and the end and spawns of every playing wave are queued,
+        //plus the events of the waves that were stopped or ended before their queued spawns were due
+        int maxQueuedEvents = timeline.levels.size + timeline.gameSpawners.size + 2 * maxConcurrentWaves * (maxWaveSpawners + 1);
+        events = new BinaryHeap<Event>(maxQueuedEvents, false);
+        for (int i = 0; i < maxQueuedEvents; i++) {
+            eventPool.free(new Event());
+        }
+
+        //Queue the start of every level and the spawns of the whole game
+        for (LevelTimeline level : timeline.levels) {
+            Event event = schedule(EVENT_LEVEL_START, level.startTime);
+            event.level = level;
+        }
+        for (Spawner spawner : timeline.gameSpawners) {
+            scheduleSpawn(spawner, null, spawner.startTime);
+        }
+
+    }
+
+    public void update(float totalGameTime) {
+
+        //Handle every event that is due
+        //Events are due once the game time has passed them (like the levels' "time since last spawn > interval" checks),
+        //so an event queued for the current time is handled on the next update
+
+        while (events.size > 0 && events.peek().getValue() < totalGameTime) {
+            Event event = events.pop();
+            if (event.wave == null || (event.wave.isPlaying && event.wave.play == event.wavePlay)) {
+                handle(event, totalGameTime);
+            }
+            eventPool.free(event);
+        }
+
+    }
+
+    public LevelTimeline getCurrentLevel() {
+        return currentLevel;
+    }
+
+    public int getQueuedEventCount() {
+        return events.size;
+    }
+
+    private void handle(Event event, float totalGameTime) {
+        switch (event.type) {
+            case EVENT_LEVEL_START:
+                startLevel(event.level, totalGameTime);
+                break;
+            case EVENT_WAVE_END:
+                event.wave.isPlaying = false;
+                if (!aWaveIsPlaying()) {
+                    startWaves(totalGameTime);
+                }
+                break;
+            case EVENT_SPAWN:
+                spawn(event.spawner, event.wave, totalGameTime);
+                break;
+        }
+    }
+
+    private void startLevel(LevelTimeline level, float totalGameTime) {
+        //Stop the waves of the previous level and start the level's first waves
+        for (int i = 0; i < playingWaves.size; i++) {
+            playingWaves.get(i).isPlaying = false;
+        }
+        currentLevel = level;
+        nextWaveInOrder = 0;
+        if (GameLog.ENABLED) GameLog.info(LOG_TAG, "{} playing", level.name);
+        startWaves(totalGameTime);
+    }
+
+    private void startWaves(float totalGameTime) {
+
+        if (!currentLevel.playsOtherLevelsWaves()) {
+            Wave wave;
+            if (currentLevel.playsWavesInOrder) {
+                wave = currentLevel.waves.get(nextWaveInOrder);
+                nextWaveInOrder = (nextWaveInOrder + 1) % currentLevel.waves.size;
+            } else {
+                wave = currentLevel.waves.get(GameRandom.random(currentLevel.waves.size - 1));
+            }
+            startWave(playingWaves.first(), wave, wave.duration, totalGameTime);
+            return;
+        }
+
+        //Play a random wave from each of several different levels
+        chosenLevels.clear();
+        for (int i = 0; i < currentLevel.concurrentWaves; i++) {
+            LevelTimeline level = GameRandom.random(currentLevel.wavesFrom);
+            while (chosenLevels.contains(level, true)) {
+                level = GameRandom.random(currentLevel.wavesFrom);
+            }
+            chosenLevels.add(level);
+            Wave wave = GameRandom.random(level.waves);
+            startWave(playingWaves.get(i), wave, wave.finalLevelDuration, totalGameTime);
+        }
+
+    }
+
+    private void startWave(PlayingWave playingWave, Wave wave, float duration, float totalGameTime) {
+
+        playingWave.wave = wave;
+        playingWave.play = ++wavePlays;
+        playingWave.isPlaying = true;
+
+        Event event = schedule(EVENT_WAVE_END, totalGameTime + duration);
+        event.wave = playingWave;
+        event.wavePlay = playingWave.play;
+        for (int i = 0; i < wave.spawners.size; i++) {
+            Spawner spawner = wave.spawners.get(i);
+            scheduleSpawn(spawner, playingWave, totalGameTime + spawner.startTime);
+        }
+
+        if (GameLog.ENABLED) GameLog.debug(LOG_TAG, "{} started", wave.name);
+
+    }
+
+    private void spawn(Spawner spawner, PlayingWave wave, float totalGameTime) {
+
+        if (!spawner.repeats) {
+            spawner.spawn(totalGameTime);
+            return;
+        }
+
+        //Spawn the dodgeable if its interval has passed since it was last spawned (by any wave), and queue the next spawn
+        float interval = spawner.action.getInterval(spawner);
+        float nextSpawnTime = spawner.action.getLastSpawnTime(spawner) + interval;
+        if (nextSpawnTime < totalGameTime) {
+            spawner.spawn(totalGameTime);
+            nextSpawnTime = totalGameTime + interval;
+        }
+        scheduleSpawn(spawner, wave, nextSpawnTime);
+
+    }
+
+    private boolean aWaveIsPlaying() {
+        for (int i = 0; i < playingWaves.size; i++) {
+            if (playingWaves.get(i).isPlaying) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void scheduleSpawn(Spawner spawner, PlayingWave wave, float time) {
+        Event event = schedule(EVENT_SPAWN, time);
+        event.spawner = spawner;
+        event.wave = wave;
+        event.wavePlay = wave == null ? 0 : wave.play;
+    }
+
+    private Event schedule(int type, float time) {
+        Event event = eventPool.obtain();
+        event.type = type;
+        events.add(event, time);
+        return event;
+    }
+
+}
@@ -0,0 +1,40 @@
+package io.github.patpatchpatrick.alphapigeon.levels;
+
+public class Spawner {
+
+    //A dodgeable that a wave spawns, once or repeatedly (one entry of a wave's spawns in the waves file)
+
+    public final SpawnAction action;
+    //Seconds after the start of the wave that the dodgeable is first spawned
+    public float startTime = 0;
+    //A repeating spawner spawns the dodgeable again every interval (seconds) until the wave ends
+    public boolean repeats = false;
+    public float interval = 0;
+    //Level of the wave, the dodgeables keep the spawn times of each level
+    public float level = 0;
+    //Arguments of the spawn, used by the actions that need them
+    public float holdTime = 0;
+    public float height = 0;
+    //The dodgeable is spawned in every direction at once, or in the next direction each time if the directions cycle
+    public float[] directions = {0};
+    public boolean cyclesDirections = false;
+    private int nextDirection = 0;
+    public float lastSpawnTime = 0;
+
+    public Spawner(SpawnAction action) {
+        this.action = action;
+    }
+
+    public void spawn(float totalGameTime) {
+        if (cyclesDirections) {
+            action.spawn(this, directions[nextDirection]);
+            nextDirection = (nextDirection + 1) % directions.length;
+        } else {
+            for (int i = 0; i < directions.length; i++) {
+                action.spawn(this, directions[i]);
+            }
+        }
+        lastSpawnTime = totalGameTime;
+    }
+
+}
@@ -0,0 +1,19 @@
+package io.github.patpatchpatrick.alphapigeon.levels;
+
+import com.badlogic.gdx.utils.Array;
+
+public class Wave {
+
+    //A wave (puzzle) of dodgeables, played for a duration (seconds)
+    //Waves last longer or shorter when the final level plays them alongside a wave of another level
+
+    public final String name;
+    public float duration;
+    public float finalLevelDuration;
+    public final Array<Spawner> spawners = new Array<Spawner>();
+
+    public Wave(String name) {
+        this.name = name;
+    }
+
+}
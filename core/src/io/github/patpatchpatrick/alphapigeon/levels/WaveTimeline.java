@@ -0,0 +1,157 @@
+package io.github.patpatchpatrick.alphapigeon.levels;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import io.github.patpatchpatrick.alphapigeon.dodgeables.Notifications;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.Teleports;
+
+public class WaveTimeline {
+
+    //The levels and waves of the game, read from the waves file
+    //The file is checked and compiled when the game starts (spawn names and directions become actions and numbers),
+    //the SpawnSchedule then plays it without reading anything by name
+    //
+    //Waves file format (see the file for every field):
+    //{
+    //  "spawns": [ spawns played during the whole game ],
+    //  "levels": [
+    //    { "name": "LevelOne", "number": 1, "start": 0, "order": "sequence", "waves": [
+    //      { "name": "Warm up", "duration": 10, "spawns": [ { "spawn": "levelOneBird", "every": 2 }, ... ] }, ... ] },
+    //    ...
+    //    { "name": "LevelFinal", "start": 260, "wavesFrom": [ "LevelTwo", ... ], "concurrentWaves": 2 }
+    //  ]
+    //}
+
+    public static final String WAVES_FILE = "levels/waves.json";
+
+    public final Array<LevelTimeline> levels = new Array<LevelTimeline>();
+    public final Array<Spawner> gameSpawners = new Array<Spawner>();
+
+    public static WaveTimeline load(FileHandle file, ObjectMap<String, SpawnAction> actions) {
+
+        WaveTimeline timeline = new WaveTimeline();
+        JsonValue root = new JsonReader().parse(file);
+
+        JsonValue gameSpawnsElem = root.get("spawns");
+        if (gameSpawnsElem != null) {
+            readSpawners(gameSpawnsElem, 0, actions, timeline.gameSpawners);
+        }
+
+        float previousStartTime = -1;
+        for (JsonValue levelElem = root.get("levels").child(); levelElem != null; levelElem = levelElem.next()) {
+            LevelTimeline level = new LevelTimeline(levelElem.getString("name"));
+            level.number = levelElem.getFloat("number", 0);
+            level.startTime = levelElem.getFloat("start");
+            level.playsWavesInOrder = levelElem.getString("order", "random").equals("sequence");
+            level.concurrentWaves = levelElem.getInt("concurrentWaves", 1);
+            if (level.startTime <= previousStartTime) {
+                throw new GdxRuntimeException("Level " + level.name + " must start after the level before it.");
+            }
+            previousStartTime = level.startTime;
+
+            JsonValue wavesElem = levelElem.get("waves");
+            if (wavesElem != null) {
+                for (JsonValue waveElem = wavesElem.child(); waveElem != null; waveElem = waveElem.next()) {
+                    level.waves.add(readWave(waveElem, level.number, actions));
+                }
+            }
+
+            JsonValue wavesFromElem = levelElem.get("wavesFrom");
+            if (wavesFromElem != null) {
+                for (JsonValue nameElem = wavesFromElem.child(); nameElem != null; nameElem = nameElem.next()) {
+                    level.wavesFrom.add(timeline.getLevel(nameElem.asString()));
+                }
+                if (level.concurrentWaves > level.wavesFrom.size) {
+                    throw new GdxRuntimeException("Level " + level.name + " plays more waves at a time than it has levels to take them from.");
+                }
+            } else if (level.waves.size == 0) {
+                throw new GdxRuntimeException("Level " + level.name + " has no waves.");
+            }
+
+            timeline.levels.add(level);
+        }
+
+        if (timeline.levels.size == 0) {
+            throw new GdxRuntimeException("The waves file has no levels.");
+        }
+        return timeline;
+
+    }
+
+    public LevelTimeline getLevel(String name) {
+        //Levels can only refer to the levels before them
+        for (LevelTimeline level : levels) {
+            if (level.name.equals(name)) {
+                return level;
+            }
+        }
+        throw new GdxRuntimeException("Unknown level: " + name);
+    }
+
+    private static Wave readWave(JsonValue waveElem, float levelNumber, ObjectMap<String, SpawnAction> actions) {
+        Wave wave = new Wave(waveElem.getString("name"));
+        wave.duration = waveElem.getFloat("duration");
+        wave.finalLevelDuration = waveElem.getFloat("finalLevelDuration", wave.duration);
+        if (!waveElem.has("spawns")) {
+            throw new GdxRuntimeException("Wave " + wave.name + " has no spawns.");
+        }
+        readSpawners(waveElem.get("spawns"), levelNumber, actions, wave.spawners);
+        return wave;
+    }
+
+    private static void readSpawners(JsonValue spawnsElem, float levelNumber, ObjectMap<String, SpawnAction> actions, Array<Spawner> spawners) {
+
+        //Every spawn names its action, and can have:
+        //  "at": seconds after the start of the wave that the dodgeable is first spawned (0 by default)
+        //  "afterWarning": true to wait until the warning notifications of the wave have been shown
+        //  "every": seconds between spawns, the dodgeable is spawned once if there is no interval
+        //  "direction", "directions" (spawned in all of them each time) or "cycleDirections" (in the next one each time)
+        //  "hold": seconds a UFO stays in place, "height": height of a teleport (random by default)
+
+        for (JsonValue spawnElem = spawnsElem.child(); spawnElem != null; spawnElem = spawnElem.next()) {
+            String actionName = spawnElem.getString("spawn");
+            SpawnAction action = actions.get(actionName);
+            if (action == null) {
+                throw new GdxRuntimeException("Unknown spawn: " + actionName);
+            }
+
+            Spawner spawner = new Spawner(action);
+            spawner.level = levelNumber;
+            spawner.startTime = spawnElem.getFloat("at", 0);
+            if (spawnElem.getBoolean("afterWarning", false)) {
+                spawner.startTime += Notifications.ExclamationMark.DURATION;
+            }
+            spawner.interval = spawnElem.getFloat("every", 0);
+            spawner.repeats = spawner.interval > 0 || action.hasOwnInterval();
+            spawner.holdTime = spawnElem.getFloat("hold", 0);
+            spawner.height = spawnElem.getFloat("height", Teleports.VERT_POSITION_RANDOM);
+
+            JsonValue directionsElem = spawnElem.get("directions");
+            if (directionsElem == null) {
+                directionsElem = spawnElem.get("cycleDirections");
+                spawner.cyclesDirections = directionsElem != null;
+            }
+            if (directionsElem != null) {
+                spawner.directions = new float[directionsElem.size];
+                int i = 0;
+                for (JsonValue directionElem = directionsElem.child(); directionElem != null; directionElem = directionElem.next()) {
+                    spawner.directions[i++] = action.getDirection(directionElem.asString());
+                }
+            } else if (spawnElem.has("direction")) {
+                spawner.directions = new float[]{action.getDirection(spawnElem.getString("direction"))};
+            }
+            if (spawner.directions.length == 0) {
+                throw new GdxRuntimeException("Spawn " + actionName + " has no directions.");
+            }
+
+            spawners.add(spawner);
+        }
+
+    }
+
+}
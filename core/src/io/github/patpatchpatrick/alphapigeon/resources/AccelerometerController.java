@@ -20,6 +20,11 @@ public class AccelerometerController {
 
     private Boolean accelerometerAvailable;
 
+    //Accelerometer sample of the current frame
+    private boolean isSampled = false;
+    private float accelX = 0;
+    private float accelY = 0;
+
     public AccelerometerController(Pigeon pigeon){
         this.pigeon = pigeon;
         pigeonBody = this.pigeon.getBody();
@@ -30,13 +35,27 @@ public class AccelerometerController {
     }
 
 
-    public void processAccelerometerInput(){
+    public void sampleAccelerometer(){
+        //Read the accelerometer once at the start of every frame
+        //The same sample is applied at every physics step of the frame, so a replay only needs one sample per frame
         //If the accelerometer is available in the mobile device and is turned on in user settings
         // process accelerometer user input
-        if (accelerometerAvailable && SettingsManager.accelerometerSettingIsOn){
-            float accelX = Gdx.input.getAccelerometerX();
-            float accelY = Gdx.input.getAccelerometerY();
+        isSampled = accelerometerAvailable && SettingsManager.accelerometerSettingIsOn;
+        if (isSampled){
+            accelX = Gdx.input.getAccelerometerX();
+            accelY = Gdx.input.getAccelerometerY();
+        }
+    }
+
+    public void setSample(boolean isSampled, float accelX, float accelY){
+        //Use a recorded sample instead of reading the accelerometer (used to play replays)
+        this.isSampled = isSampled;
+        this.accelX = accelX;
+        this.accelY = accelY;
+    }
 
+    public void processAccelerometerInput(){
+        if (isSampled){
             //Set accelerometer forces based on user touch sensitivity settings
             float yForce = -accelX * 3 * SettingsManager.accelSensitivity;
             float xForce = accelY * 3 * SettingsManager.accelSensitivity;
@@ -47,9 +66,16 @@ public class AccelerometerController {
 
     }
 
+    public boolean isSampled(){
+        return isSampled;
+    }
 
+    public float getAccelerometerX(){
+        return accelX;
+    }
 
-
-
+    public float getAccelerometerY(){
+        return accelY;
+    }
 
 }
@@ -0,0 +1,149 @@
+package io.github.patpatchpatrick.alphapigeon.resources;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGeneratorLoader;
+import com.badlogic.gdx.graphics.g2d.freetype.FreetypeFontLoader;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.async.ThreadUtils;
+
+public class Assets {
+
+    //Central asset service built on the libGDX AssetManager
+    //Files are read and decoded on the asset manager's background thread, and only the GL uploads are done on the
+    //render thread, a few milliseconds per frame, while the LoadingScreen shows the progress
+    //
+    //Every screen lists the assets it uses. A screen takes a reference to its assets when it is created and
+    //releases it when it is disposed. The asset manager counts the references, so assets shared by several screens
+    //are only loaded once and are only disposed when no screen uses them anymore
+    //
+    //The global assets (sounds and the sprite atlas) are used everywhere and are kept until the game is closed
+
+    //Time the asset manager may spend on the render thread each frame (milliseconds)
+    private static final int FRAME_LOADING_BUDGET = 10;
+
+    //UI skin shared by the menu screens
+    public static final AssetDescriptor<Skin> SKIN = new AssetDescriptor<Skin>("skin/uiskin.json", Skin.class);
+
+    private static AssetManager manager;
+    private static AssetDescriptor<?>[] globalAssets;
+    private static boolean globalAssetsAreLoaded = false;
+
+    private static AssetManager getManager() {
+        if (manager == null) {
+            FileHandleResolver resolver = new InternalFileHandleResolver();
+            manager = new AssetManager(resolver);
+            manager.setLoader(FreeTypeFontGenerator.class, new FreeTypeFontGeneratorLoader(resolver));
+            manager.setLoader(BitmapFont.class, ".ttf", new FreetypeFontLoader(resolver));
+        }
+        return manager;
+    }
+
+    public static AssetDescriptor<BitmapFont> freeTypeFont(String fontName, String fontFile, int size) {
+
+        //Descriptor of a font generated from a FreeType font file by the asset manager
+        //The font name only identifies the generated font and doesn't need to exist, it must end in .ttf
+
+        FreetypeFontLoader.FreeTypeFontLoaderParameter parameter = new FreetypeFontLoader.FreeTypeFontLoaderParameter();
+        parameter.fontFileName = fontFile;
+        parameter.fontParameters.size = size;
+        parameter.fontParameters.minFilter = Texture.TextureFilter.Linear;
+        parameter.fontParameters.magFilter = Texture.TextureFilter.Linear;
+        return new AssetDescriptor<BitmapFont>(fontName, BitmapFont.class, parameter);
+    }
+
+    public static void loadGlobalAssets() {
+
+        //Queue the global assets (called once at startup)
+        //The sounds can be played once they are loaded (see update)
+
+        if (globalAssets == null) {
+            globalAssets = new AssetDescriptor<?>[Sounds.ASSETS.length + 1];
+            System.arraycopy(Sounds.ASSETS, 0, globalAssets, 0, Sounds.ASSETS.length);
+            globalAssets[Sounds.ASSETS.length] = SpriteAtlas.ATLAS;
+            load(globalAssets);
+        }
+    }
+
+    public static boolean globalAssetsAreLoaded() {
+        return globalAssetsAreLoaded;
+    }
+
+    public static void load(AssetDescriptor<?>[] assets) {
+        //Queue the assets to be loaded, or add a reference to them if they are already loaded
+        for (AssetDescriptor<?> asset : assets) {
+            getManager().load(asset);
+        }
+    }
+
+    public static void loadNow(AssetDescriptor<?>[] assets) {
+
+        //Load the assets (and the global assets) and wait until they are loaded
+        //Screens call this when they are created, to take their reference to their assets
+        //The LoadingScreen has normally loaded the assets already, so this only waits if a screen is created
+        //without one (the desktop headless simulation and benchmarks)
+
+        loadGlobalAssets();
+        load(assets);
+        while (!globalAssetsAreLoaded || !isLoaded(assets)) {
+            update();
+            ThreadUtils.yield();
+        }
+    }
+
+    public static void unload(AssetDescriptor<?>[] assets) {
+        //Release a reference to the assets, they are disposed when nothing references them anymore
+        for (AssetDescriptor<?> asset : assets) {
+            getManager().unload(asset.fileName);
+        }
+    }
+
+    public static boolean update() {
+
+        //Continue loading the queued assets for up to the frame loading budget
+        //Returns true when all queued assets are loaded
+
+        boolean loadingIsComplete = getManager().update(FRAME_LOADING_BUDGET);
+
+        if (!globalAssetsAreLoaded && globalAssets != null && isLoaded(globalAssets)) {
+            Sounds.initialize();
+            globalAssetsAreLoaded = true;
+        }
+
+        return loadingIsComplete;
+    }
+
+    public static boolean isLoaded(AssetDescriptor<?>[] assets) {
+        for (AssetDescriptor<?> asset : assets) {
+            if (!getManager().isLoaded(asset.fileName, asset.type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static float getProgress() {
+        //Progress of all queued assets, from 0 to 1
+        return getManager().getProgress();
+    }
+
+    public static <T> T get(AssetDescriptor<T> asset) {
+        return getManager().get(asset);
+    }
+
+    public static void dispose() {
+        //Dispose every loaded asset, called when the game is closed
+        if (manager != null) {
+            manager.dispose();
+            manager = null;
+        }
+        globalAssets = null;
+        globalAssetsAreLoaded = false;
+    }
+
+}
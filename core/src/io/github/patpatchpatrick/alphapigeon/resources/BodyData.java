@@ -33,6 +33,37 @@ public class BodyData {
         flaggedForDelete = flagForDelete;
     }
 
+    public static BodyData reset(Body body) {
+
+        //Return the data attached to the body, cleared back to its defaults
+        //Pooled bodies keep their data when they are freed, so spawning and destroying them doesn't create new data
+        //Data is only created the first time a body needs it
+
+        BodyData data = (BodyData) body.getUserData();
+        if (data == null) {
+            data = new BodyData(false);
+            body.setUserData(data);
+        } else {
+            data.clear();
+        }
+        return data;
+    }
+
+    public static void flagForDelete(Body body) {
+        //Clear the data attached to the body and flag the body for delete
+        reset(body).setFlaggedForDelete(true);
+    }
+
+    private void clear() {
+        flaggedForDelete = false;
+        spawnTime = 9999f;
+        oppositeTeleport = null;
+        rocketYForce = 0f;
+        energyBeamDirection = 0f;
+        ufo = null;
+        powerUpType = 0;
+    }
+
     public Boolean isFlaggedForDelete() {
         if (flaggedForDelete != null) {
             return flaggedForDelete;
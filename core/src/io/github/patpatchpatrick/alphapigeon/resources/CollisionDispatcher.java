@@ -0,0 +1,171 @@
+package io.github.patpatchpatrick.alphapigeon.resources;
+
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.Manifold;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+public class CollisionDispatcher implements ContactListener {
+
+    //Contact listener that calls the collision handler registered for the categories of the two colliding fixtures
+    //Every collision category is a single bit (see GameVariables), so each category has an index from 0 to 15 and
+    //the handlers are stored in a 16 x 16 matrix indexed by the categories of the two fixtures
+    //Beginning a contact is a single lookup in the matrix
+    //
+    //A handler is registered for an ordered pair of categories, and is also called when the fixtures of the contact
+    //are in the reverse order, so the first fixture given to a handler always has the first category of the pair
+    //
+    //The game also declares the handler it expects for each pair (a table separate from the registrations), so
+    //validate catches a handler registered for the wrong pair or with its categories in the wrong order
+
+    public interface CollisionHandler {
+        void handle(Fixture fixture, Fixture otherFixture);
+    }
+
+    private static final int CATEGORY_COUNT = 16;
+
+    private final CollisionHandler[] handlers = new CollisionHandler[CATEGORY_COUNT * CATEGORY_COUNT];
+    //True if the handler at an index was registered for the reverse pair of categories, and the fixtures of
+    //the contact must be swapped before calling it
+    private final boolean[] fixturesAreSwapped = new boolean[CATEGORY_COUNT * CATEGORY_COUNT];
+    //Handler expected for each ordered pair of categories, checked by validate
+    private final CollisionHandler[] expectedHandlers = new CollisionHandler[CATEGORY_COUNT * CATEGORY_COUNT];
+
+    public void register(short category, short otherCategory, CollisionHandler handler) {
+
+        //Register the handler called when a fixture of the category collides with a fixture of the other category
+
+        int index = index(category, otherCategory);
+        int reverseIndex = index(otherCategory, category);
+        if (handlers[index] != null) {
+            throw new GdxRuntimeException("A collision handler is already registered for categories "
+                    + categoryName(category) + " and " + categoryName(otherCategory) + ".");
+        }
+        handlers[index] = handler;
+        fixturesAreSwapped[index] = false;
+        if (reverseIndex != index) {
+            handlers[reverseIndex] = handler;
+            fixturesAreSwapped[reverseIndex] = true;
+        }
+    }
+
+    public void expect(short category, short otherCategory, CollisionHandler handler) {
+
+        //Declare the handler that must be registered for the categories, in this order
+
+        int index = index(category, otherCategory);
+        if (expectedHandlers[index] != null || expectedHandlers[index(otherCategory, category)] != null) {
+            throw new GdxRuntimeException("A collision handler is already expected for categories "
+                    + categoryName(category) + " and " + categoryName(otherCategory) + ".");
+        }
+        expectedHandlers[index] = handler;
+    }
+
+    public CollisionHandler getHandler(short category, short otherCategory) {
+        return handlers[index(category, otherCategory)];
+    }
+
+    public void validate() {
+
+        //Check the collision categories and masks of GameVariables against the registered handlers, called at startup
+        //Every category must be a different single bit, every pair of categories that Box2D lets collide
+        //(each category is in the mask of the other) must have a handler, and no handler can be registered for
+        //categories that never collide
+        //Every registered handler must be the expected one for its pair of categories, in both orders of the categories
+
+        short[] categories = GameVariables.CATEGORIES;
+        short[] masks = GameVariables.MASKS;
+        if (categories.length != masks.length) {
+            throw new GdxRuntimeException("Every collision category needs a mask.");
+        }
+
+        int usedBits = 0;
+        for (short category : categories) {
+            if (Integer.bitCount(category & 0xFFFF) != 1) {
+                throw new GdxRuntimeException("Collision category " + categoryName(category) + " is not a single bit.");
+            }
+            if ((usedBits & category) != 0) {
+                throw new GdxRuntimeException("Collision category " + categoryName(category) + " is used twice.");
+            }
+            usedBits |= category;
+        }
+
+        for (int i = 0; i < categories.length; i++) {
+            for (int j = 0; j < categories.length; j++) {
+                boolean categoriesCollide = (masks[i] & categories[j]) != 0 && (masks[j] & categories[i]) != 0;
+                boolean handlerIsRegistered = getHandler(categories[i], categories[j]) != null;
+                if (categoriesCollide && !handlerIsRegistered) {
+                    throw new GdxRuntimeException("No collision handler is registered for categories "
+                            + categoryName(categories[i]) + " and " + categoryName(categories[j]) + ".");
+                }
+                if (!categoriesCollide && handlerIsRegistered) {
+                    throw new GdxRuntimeException("The collision handler for categories " + categoryName(categories[i])
+                            + " and " + categoryName(categories[j]) + " is never called, the categories don't collide.");
+                }
+
+                CollisionHandler expectedHandler = expectedHandlers[index(categories[i], categories[j])];
+                if (expectedHandler != null) {
+                    checkHandler(categories[i], categories[j], expectedHandler, false);
+                    if (i != j) {
+                        checkHandler(categories[j], categories[i], expectedHandler, true);
+                    }
+                } else if (handlerIsRegistered && expectedHandlers[index(categories[j], categories[i])] == null) {
+                    throw new GdxRuntimeException("No collision handler is expected for categories "
+                            + categoryName(categories[i]) + " and " + categoryName(categories[j]) + ".");
+                }
+            }
+        }
+    }
+
+    private void checkHandler(short category, short otherCategory, CollisionHandler expectedHandler,
+                              boolean fixturesMustBeSwapped) {
+        //The handler of the categories must be the expected one, and get the fixtures in the expected order
+        if (getHandler(category, otherCategory) != expectedHandler) {
+            throw new GdxRuntimeException("The collision handler registered for categories " + categoryName(category)
+                    + " and " + categoryName(otherCategory) + " is not the expected one.");
+        }
+        if (fixturesAreSwapped[index(category, otherCategory)] != fixturesMustBeSwapped) {
+            throw new GdxRuntimeException("The collision handler for categories " + categoryName(category) + " and "
+                    + categoryName(otherCategory) + " is registered with its categories in the wrong order.");
+        }
+    }
+
+    @Override
+    public void beginContact(Contact contact) {
+        Fixture fixtureA = contact.getFixtureA();
+        Fixture fixtureB = contact.getFixtureB();
+        int index = index(fixtureA.getFilterData().categoryBits, fixtureB.getFilterData().categoryBits);
+        CollisionHandler handler = handlers[index];
+        if (handler == null) {
+            return;
+        }
+        if (fixturesAreSwapped[index]) {
+            handler.handle(fixtureB, fixtureA);
+        } else {
+            handler.handle(fixtureA, fixtureB);
+        }
+    }
+
+    @Override
+    public void endContact(Contact contact) {
+    }
+
+    @Override
+    public void preSolve(Contact contact, Manifold oldManifold) {
+    }
+
+    @Override
+    public void postSolve(Contact contact, ContactImpulse impulse) {
+    }
+
+    private static int index(short category, short otherCategory) {
+        return Integer.numberOfTrailingZeros(category & 0xFFFF) * CATEGORY_COUNT + Integer.numberOfTrailingZeros(otherCategory & 0xFFFF);
+    }
+
+    private static String categoryName(short category) {
+        return "0x" + Integer.toHexString(category & 0xFFFF);
+    }
+
+}
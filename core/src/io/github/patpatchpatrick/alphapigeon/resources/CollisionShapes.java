@@ -0,0 +1,162 @@
+package io.github.patpatchpatrick.alphapigeon.resources;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+public class CollisionShapes {
+
+    //Registry of the collision shapes created with the Physics Body Editor (json files in assets/json)
+    //Every json file is parsed once, and the vertices of each shape are scaled once per scale used
+    //Fixtures are then attached from the cached vertices, so creating new dodgeables (when a pool grows)
+    //does not read any files or allocate any vectors
+
+    private static final String[] SHAPE_FILES = {
+            "json/AlienMissile.json",
+            "json/AlienMissileCorner.json",
+            "json/AlienMissileExplosion.json",
+            "json/AlphaPigeonBody.json",
+            "json/EnergyBeam.json",
+            "json/EnergyBeamDown.json",
+            "json/EnergyBeamRight.json",
+            "json/EnergyBeamUp.json",
+            "json/LevelOneBirdReverse.json",
+            "json/LevelOnePigeon.json",
+            "json/LevelTwoBird.json",
+            "json/LevelTwoBirdReverse.json",
+            "json/Meteor.json",
+            "json/PowerUpShield.json",
+            "json/Rocket.json",
+            "json/RocketExplosion.json",
+            "json/SpeedPigeon.json",
+            "json/Teleport.json",
+            "json/Ufo.json"
+    };
+
+    //Parsed models for each json file
+    private static final ObjectMap<String, BodyEditorLoader.Model> models = new ObjectMap<String, BodyEditorLoader.Model>();
+    //Scaled shapes for each rigid body, keyed by the bits of the scale
+    private static final ObjectMap<BodyEditorLoader.RigidBodyModel, IntMap<ScaledShape>> scaledShapes = new ObjectMap<BodyEditorLoader.RigidBodyModel, IntMap<ScaledShape>>();
+
+    //Box2D copies the shape when a fixture is created, so the same shapes are reused for every fixture
+    private static PolygonShape polygonShape;
+    private static CircleShape circleShape;
+    private static final Vector2 circlePosition = new Vector2();
+
+    private static boolean shapesAreLoaded = false;
+
+    public static void load() {
+
+        //Parse all of the shape files
+        //Called at startup, or the first time a fixture is attached if the game was not started normally
+
+        if (shapesAreLoaded) {
+            return;
+        }
+
+        for (String shapeFile : SHAPE_FILES) {
+            models.put(shapeFile, new BodyEditorLoader(Gdx.files.internal(shapeFile)).getInternalModel());
+        }
+        polygonShape = new PolygonShape();
+        circleShape = new CircleShape();
+        shapesAreLoaded = true;
+    }
+
+    public static void attachFixture(Body body, String shapeFile, String name, FixtureDef fixtureDef, float scale) {
+
+        //Create fixtures on the body for every polygon and circle of the named shape in the shape file
+        //The shape is scaled by the scale (the width of the shape in the editor is 1)
+        //and positioned relative to the origin set in the editor
+
+        ScaledShape shape = getScaledShape(shapeFile, name, scale);
+
+        for (float[] polygonVertices : shape.polygons) {
+            polygonShape.set(polygonVertices);
+            fixtureDef.shape = polygonShape;
+            body.createFixture(fixtureDef);
+        }
+
+        for (float[] circle : shape.circles) {
+            circleShape.setPosition(circlePosition.set(circle[0], circle[1]));
+            circleShape.setRadius(circle[2]);
+            fixtureDef.shape = circleShape;
+            body.createFixture(fixtureDef);
+        }
+
+        fixtureDef.shape = null;
+    }
+
+    private static ScaledShape getScaledShape(String shapeFile, String name, float scale) {
+
+        //Return the cached scaled shape, scaling the shape the first time it is used at this scale
+
+        load();
+
+        BodyEditorLoader.Model model = models.get(shapeFile);
+        if (model == null) throw new RuntimeException("Shape file '" + shapeFile + "' was not loaded.");
+        BodyEditorLoader.RigidBodyModel rigidBodyModel = model.rigidBodies.get(name);
+        if (rigidBodyModel == null) throw new RuntimeException("Name '" + name + "' was not found in " + shapeFile + ".");
+
+        IntMap<ScaledShape> shapesByScale = scaledShapes.get(rigidBodyModel);
+        if (shapesByScale == null) {
+            shapesByScale = new IntMap<ScaledShape>();
+            scaledShapes.put(rigidBodyModel, shapesByScale);
+        }
+
+        int scaleKey = Float.floatToIntBits(scale);
+        ScaledShape shape = shapesByScale.get(scaleKey);
+        if (shape == null) {
+            shape = new ScaledShape(rigidBodyModel, scale);
+            shapesByScale.put(scaleKey, shape);
+        }
+        return shape;
+    }
+
+    public static void dispose() {
+        if (shapesAreLoaded) {
+            polygonShape.dispose();
+            circleShape.dispose();
+            models.clear();
+            scaledShapes.clear();
+            shapesAreLoaded = false;
+        }
+    }
+
+    private static class ScaledShape {
+
+        //Vertices of a rigid body model after scaling and moving them relative to the origin
+        //Polygons are stored as x,y pairs and circles are stored as x,y,radius
+
+        private final float[][] polygons;
+        private final float[][] circles;
+
+        private ScaledShape(BodyEditorLoader.RigidBodyModel rigidBodyModel, float scale) {
+
+            float originX = rigidBodyModel.origin.x * scale;
+            float originY = rigidBodyModel.origin.y * scale;
+
+            polygons = new float[rigidBodyModel.polygons.size()][];
+            for (int i = 0; i < polygons.length; i++) {
+                BodyEditorLoader.PolygonModel polygon = rigidBodyModel.polygons.get(i);
+                float[] vertices = new float[polygon.vertices.size() * 2];
+                for (int j = 0; j < polygon.vertices.size(); j++) {
+                    vertices[j * 2] = polygon.vertices.get(j).x * scale - originX;
+                    vertices[j * 2 + 1] = polygon.vertices.get(j).y * scale - originY;
+                }
+                polygons[i] = vertices;
+            }
+
+            circles = new float[rigidBodyModel.circles.size()][];
+            for (int i = 0; i < circles.length; i++) {
+                BodyEditorLoader.CircleModel circle = rigidBodyModel.circles.get(i);
+                circles[i] = new float[]{circle.center.x * scale, circle.center.y * scale, circle.radius * scale};
+            }
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package io.github.patpatchpatrick.alphapigeon.resources;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.loaders.BitmapFontLoader;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+
+public class Fonts {
+
+    //Fonts drawn by the game, shared by every screen that uses them (the asset manager loads each font once)
+    //The fonts are baked into bitmap fonts (.fnt and .png) by the desktop FontBaker (gradlew desktop:bakeFonts), so
+    //loading them is only reading an image, instead of rasterising every glyph with FreeType when a game starts
+    //A font that wasn't baked is still generated with FreeType by the asset manager
+    //Run the baker after adding a font or a size below and commit the baked fonts
+
+    public static final String BAKED_FONTS_DIRECTORY = "fonts/baked/";
+
+    //Font files and sizes to bake, a font file is listed once for each of its sizes
+    public static final String[] BAKED_FONT_FILES = {"fonts/univers.ttf", "fonts/univers.ttf"};
+    public static final int[] BAKED_FONT_SIZES = {14, 20};
+
+    //Distance display and performance overlay
+    public static final AssetDescriptor<BitmapFont> UNIVERS_14 = font("fonts/univers.ttf", 14);
+    //Game over score
+    public static final AssetDescriptor<BitmapFont> UNIVERS_20 = font("fonts/univers.ttf", 20);
+
+    public static String getBakedFontName(String fontFile, int size) {
+        //Name of the baked font file and its pages, without the extension (ex: univers-14)
+        String fileName = fontFile.substring(fontFile.lastIndexOf('/') + 1);
+        return fileName.substring(0, fileName.lastIndexOf('.')) + "-" + size;
+    }
+
+    public static AssetDescriptor<BitmapFont> font(String fontFile, int size) {
+
+        //Descriptor of the font file in the given size, the baked font if there is one
+
+        String bakedFontFile = BAKED_FONTS_DIRECTORY + getBakedFontName(fontFile, size) + ".fnt";
+        if (Gdx.files.internal(bakedFontFile).exists()) {
+            BitmapFontLoader.BitmapFontParameter parameter = new BitmapFontLoader.BitmapFontParameter();
+            parameter.minFilter = Texture.TextureFilter.Linear;
+            parameter.magFilter = Texture.TextureFilter.Linear;
+            return new AssetDescriptor<BitmapFont>(bakedFontFile, BitmapFont.class, parameter);
+        }
+
+        //The generated font is named after the font file and size (ex: fonts/univers14.ttf)
+        String generatedFontName = fontFile.substring(0, fontFile.lastIndexOf('.')) + size + ".ttf";
+        return Assets.freeTypeFont(generatedFontName, fontFile, size);
+
+    }
+
+}
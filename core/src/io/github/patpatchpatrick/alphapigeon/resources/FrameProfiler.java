@@ -0,0 +1,97 @@
+package io.github.patpatchpatrick.alphapigeon.resources;
+
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.Arrays;
+
+public class FrameProfiler {
+
+    //Measures how long the parts (sections) of the game loop take, and keeps the most recent frame times
+    //Shown by the PerformanceHud
+    //Sections are only timed while the profiler is enabled, otherwise begin and end return right away
+    //Sections can be nested, the time of a nested section is also counted in the section around it
+
+    public static final int SECTION_PHYSICS = 0;
+    public static final int SECTION_SYSTEMS = 1;
+    public static final int SECTION_GAMEPLAY = 2;
+    public static final int SECTION_DODGEABLES = 3;
+    public static final int SECTION_RENDER = 4;
+    public static final int SECTION_COUNT = 5;
+
+    //Number of frames whose frame times are kept for the percentiles
+    //Small enough for the frame times to be sorted in place without allocating
+    public static final int FRAME_HISTORY = 240;
+
+    public static boolean enabled = false;
+
+    private static final long[] sectionStartTimes = new long[SECTION_COUNT];
+    //Time spent in each section (nanoseconds) and number of frames since the averages were last taken
+    private static final long[] sectionTotalTimes = new long[SECTION_COUNT];
+    private static int totalFrames = 0;
+
+    //Frame times (seconds) of the most recent frames, in a ring buffer
+    private static final float[] frameTimes = new float[FRAME_HISTORY];
+    private static final float[] sortedFrameTimes = new float[FRAME_HISTORY];
+    private static int frameTimeCount = 0;
+    private static int nextFrameTime = 0;
+    private static int sortedFrameTimeCount = 0;
+
+    public static void begin(int section) {
+        if (enabled) {
+            sectionStartTimes[section] = TimeUtils.nanoTime();
+        }
+    }
+
+    public static void end(int section) {
+        if (enabled) {
+            sectionTotalTimes[section] += TimeUtils.nanoTime() - sectionStartTimes[section];
+        }
+    }
+
+    public static void endFrame(float frameTime) {
+        //Record the time of the frame that just ended (seconds)
+        if (!enabled) {
+            return;
+        }
+        frameTimes[nextFrameTime] = frameTime;
+        nextFrameTime = (nextFrameTime + 1) % FRAME_HISTORY;
+        if (frameTimeCount < FRAME_HISTORY) {
+            frameTimeCount++;
+        }
+        totalFrames++;
+    }
+
+    public static void takeAverageSectionTimes(float[] averageTimes) {
+        //Set the average time (milliseconds) per frame of each section since the averages were last taken
+        for (int section = 0; section < SECTION_COUNT; section++) {
+            averageTimes[section] = totalFrames == 0 ? 0 : sectionTotalTimes[section] / 1000000f / totalFrames;
+            sectionTotalTimes[section] = 0;
+        }
+        totalFrames = 0;
+    }
+
+    public static void sortFrameTimes() {
+        //Sort the recent frame times, called before getting the percentiles
+        System.arraycopy(frameTimes, 0, sortedFrameTimes, 0, frameTimeCount);
+        Arrays.sort(sortedFrameTimes, 0, frameTimeCount);
+        sortedFrameTimeCount = frameTimeCount;
+    }
+
+    public static float getFrameTimePercentile(float percentile) {
+        //Frame time (seconds) that the given percentage of the recent frames are faster than
+        if (sortedFrameTimeCount == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100f * sortedFrameTimeCount) - 1;
+        return sortedFrameTimes[Math.max(0, Math.min(index, sortedFrameTimeCount - 1))];
+    }
+
+    public static void reset() {
+        Arrays.fill(sectionTotalTimes, 0);
+        totalFrames = 0;
+        frameTimeCount = 0;
+        nextFrameTime = 0;
+        sortedFrameTimeCount = 0;
+    }
+
+}
@@ -0,0 +1,228 @@
+package io.github.patpatchpatrick.alphapigeon.resources;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.ObjectFloatMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+public class GameLog {
+
+    //Logging for the game, used in place of Gdx.app.log/debug/error
+    //
+    //A message is only built if its level is enabled by the application's log level (Gdx.app.setLogLevel)
+    //The message is a format where every {} is replaced by the next argument. The arguments are floats (whole numbers
+    //are written without decimals) or strings, so nothing is allocated (no string concatenation or boxing) when the
+    //level is disabled
+    //Tags that are logged every frame can be rate limited, their messages are dropped until the interval has passed
+    //The most recent messages are kept in a ring buffer so they can be printed when the game crashes
+    //
+    //Call sites are written as "if (GameLog.ENABLED) GameLog.debug(...)"
+    //ENABLED is set by the build (see core/build.gradle), it is false in release builds and the compiler removes every
+    //call site and its arguments
+
+    public static final boolean ENABLED = BuildConfig.LOGGING_ENABLED;
+
+    //Number of recent messages kept, and their maximum length
+    private static final int RECENT_MESSAGE_COUNT = 64;
+    private static final int MAX_MESSAGE_LENGTH = 160;
+
+    private static final StringBuilder message = new StringBuilder(MAX_MESSAGE_LENGTH);
+    private static final StringBuilder[] recentMessages = new StringBuilder[RECENT_MESSAGE_COUNT];
+    private static int nextRecentMessage = 0;
+    private static int recentMessageCount = 0;
+
+    //Minimum time between two messages of a tag, and the time of the tag's last message (seconds)
+    private static final ObjectFloatMap<String> rateLimits = new ObjectFloatMap<String>();
+    private static final ObjectFloatMap<String> lastMessageTimes = new ObjectFloatMap<String>();
+    private static final long startTime = TimeUtils.nanoTime();
+
+    static {
+        for (int i = 0; i < RECENT_MESSAGE_COUNT; i++) {
+            recentMessages[i] = new StringBuilder(MAX_MESSAGE_LENGTH);
+        }
+    }
+
+    public static void setRateLimit(String tag, float minimumInterval) {
+        //Log at most one message of the tag every minimumInterval seconds
+        rateLimits.put(tag, minimumInterval);
+    }
+
+    public static boolean isEnabled(int level) {
+        return Gdx.app != null && Gdx.app.getLogLevel() >= level;
+    }
+
+    //DEBUG
+
+    public static void debug(String tag, String format) {
+        if (start(Application.LOG_DEBUG, tag)) {
+            appendFormat(format, 0);
+            finish(Application.LOG_DEBUG, tag);
+        }
+    }
+
+    public static void debug(String tag, String format, float argument) {
+        if (start(Application.LOG_DEBUG, tag)) {
+            int formatIndex = appendFormat(format, 0);
+            appendNumber(argument);
+            appendFormat(format, formatIndex);
+            finish(Application.LOG_DEBUG, tag);
+        }
+    }
+
+    public static void debug(String tag, String format, String argument) {
+        if (start(Application.LOG_DEBUG, tag)) {
+            int formatIndex = appendFormat(format, 0);
+            message.append(argument);
+            appendFormat(format, formatIndex);
+            finish(Application.LOG_DEBUG, tag);
+        }
+    }
+
+    public static void debug(String tag, String format, float argument, float otherArgument) {
+        if (start(Application.LOG_DEBUG, tag)) {
+            int formatIndex = appendFormat(format, 0);
+            appendNumber(argument);
+            formatIndex = appendFormat(format, formatIndex);
+            appendNumber(otherArgument);
+            appendFormat(format, formatIndex);
+            finish(Application.LOG_DEBUG, tag);
+        }
+    }
+
+    //INFO
+
+    public static void info(String tag, String format) {
+        if (start(Application.LOG_INFO, tag)) {
+            appendFormat(format, 0);
+            finish(Application.LOG_INFO, tag);
+        }
+    }
+
+    public static void info(String tag, String format, String argument) {
+        if (start(Application.LOG_INFO, tag)) {
+            int formatIndex = appendFormat(format, 0);
+            message.append(argument);
+            appendFormat(format, formatIndex);
+            finish(Application.LOG_INFO, tag);
+        }
+    }
+
+    public static void info(String tag, String format, String argument, float otherArgument) {
+        if (start(Application.LOG_INFO, tag)) {
+            int formatIndex = appendFormat(format, 0);
+            message.append(argument);
+            formatIndex = appendFormat(format, formatIndex);
+            appendNumber(otherArgument);
+            appendFormat(format, formatIndex);
+            finish(Application.LOG_INFO, tag);
+        }
+    }
+
+    public static void info(String tag, String format, float argument, float otherArgument) {
+        if (start(Application.LOG_INFO, tag)) {
+            int formatIndex = appendFormat(format, 0);
+            appendNumber(argument);
+            formatIndex = appendFormat(format, formatIndex);
+            appendNumber(otherArgument);
+            appendFormat(format, formatIndex);
+            finish(Application.LOG_INFO, tag);
+        }
+    }
+
+    //ERROR
+
+    public static void error(String tag, String format) {
+        if (start(Application.LOG_ERROR, tag)) {
+            appendFormat(format, 0);
+            finish(Application.LOG_ERROR, tag);
+        }
+    }
+
+    public static void error(String tag, String format, String argument) {
+        if (start(Application.LOG_ERROR, tag)) {
+            int formatIndex = appendFormat(format, 0);
+            message.append(argument);
+            appendFormat(format, formatIndex);
+            finish(Application.LOG_ERROR, tag);
+        }
+    }
+
+    public static void appendRecentMessages(StringBuilder out) {
+        //Append the recent messages, oldest first, one per line (used to report crashes)
+        int first = (nextRecentMessage - recentMessageCount + RECENT_MESSAGE_COUNT) % RECENT_MESSAGE_COUNT;
+        for (int i = 0; i < recentMessageCount; i++) {
+            out.append(recentMessages[(first + i) % RECENT_MESSAGE_COUNT]).append('\n');
+        }
+    }
+
+    private static boolean start(int level, String tag) {
+
+        //Determine if a message of the tag is logged, and if so start building it
+
+        if (!isEnabled(level)) {
+            return false;
+        }
+        float rateLimit = rateLimits.get(tag, 0);
+        if (rateLimit > 0) {
+            float currentTime = (TimeUtils.nanoTime() - startTime) / 1000000000f;
+            float lastMessageTime = lastMessageTimes.get(tag, -rateLimit);
+            if (currentTime - lastMessageTime < rateLimit) {
+                return false;
+            }
+            lastMessageTimes.put(tag, currentTime);
+        }
+        message.setLength(0);
+        return true;
+
+    }
+
+    private static int appendFormat(String format, int formatIndex) {
+        //Append the format from the given index up to the next {}, return the index after the {}
+        //(or the length of the format if there is no {} left)
+        int placeholder = format.indexOf("{}", formatIndex);
+        if (placeholder == -1) {
+            message.append(format, formatIndex, format.length());
+            return format.length();
+        }
+        message.append(format, formatIndex, placeholder);
+        return placeholder + 2;
+    }
+
+    private static void appendNumber(float number) {
+        if (number == (int) number) {
+            message.append((int) number);
+        } else {
+            message.append(number);
+        }
+    }
+
+    private static void finish(int level, String tag) {
+
+        //Keep the message in the recent messages, then write it to the application log
+        //The application log takes a string, the message is only copied to one when it is written
+
+        StringBuilder recentMessage = recentMessages[nextRecentMessage];
+        recentMessage.setLength(0);
+        recentMessage.append(level == Application.LOG_ERROR ? "E " : level == Application.LOG_INFO ? "I " : "D ");
+        recentMessage.append(tag).append(": ");
+        recentMessage.append(message, 0, Math.min(message.length(), MAX_MESSAGE_LENGTH));
+        nextRecentMessage = (nextRecentMessage + 1) % RECENT_MESSAGE_COUNT;
+        if (recentMessageCount < RECENT_MESSAGE_COUNT) {
+            recentMessageCount++;
+        }
+
+        switch (level) {
+            case Application.LOG_ERROR:
+                Gdx.app.error(tag, message.toString());
+                break;
+            case Application.LOG_INFO:
+                Gdx.app.log(tag, message.toString());
+                break;
+            default:
+                Gdx.app.debug(tag, message.toString());
+                break;
+        }
+
+    }
+
+}
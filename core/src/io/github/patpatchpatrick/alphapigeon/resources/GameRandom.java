@@ -0,0 +1,46 @@
+package io.github.patpatchpatrick.alphapigeon.resources;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+
+public class GameRandom {
+
+    //Random numbers used by the gameplay (spawn positions, waves, power ups...), same methods as MathUtils
+    //The gameplay has its own generator because MathUtils.random is also used by the libGDX maps, including the maps of
+    //the Box2D world that are keyed by native addresses, so the numbers drawn from it change from one run to the next
+    //With its own generator, a game is the same every time it is played from the same seed (see ReplayRecorder)
+
+    private static final RandomXS128 random = new RandomXS128();
+
+    public static void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    public static long nextSeed() {
+        return random.nextLong();
+    }
+
+    public static int random(int range) {
+        //Random number between 0 and range (inclusive)
+        return random.nextInt(range + 1);
+    }
+
+    public static int random(int start, int end) {
+        //Random number between start and end (inclusive)
+        return start + random.nextInt(end - start + 1);
+    }
+
+    public static float random(float start, float end) {
+        //Random number between start (inclusive) and end (exclusive)
+        return start + random.nextFloat() * (end - start);
+    }
+
+    public static <T> T random(Array<T> array) {
+        //Random item of the array, or null if it is empty
+        if (array.size == 0) {
+            return null;
+        }
+        return array.get(random.nextInt(array.size));
+    }
+
+}
@@ -17,18 +17,49 @@ public class GameVariables {
     public static float pigeonSpeed = 9;
     public static final float PIGEON_MAX_SPEED = 300;
 
+    //Physics Variables
+        // The world is stepped in fixed increments of 1 / physicsStepRate seconds, independent of the display refresh rate
+        // One-shot pushes (launches, the pigeon's key and touch input) are applied as impulses over PHYSICS_REFERENCE_STEP
+        // (see LaunchImpulse), so the step rate can be lowered on weak hardware without changing the speed of the gameplay
+        // The number of steps taken in a single frame is capped to avoid a "spiral of death" on very slow frames
+        // The interpolation alpha (0 to 1) is how far the render is between the previous and current physics step
+    public static float physicsStepRate = 60;
+    public static final float PHYSICS_REFERENCE_STEP = 1 / 60f;
+    public static final int MAX_PHYSICS_STEPS_PER_FRAME = 5;
+        // The constraint solver iterations of each step, lowered by the QualityGovernor on slow devices
+    public static final int PHYSICS_VELOCITY_ITERATIONS = 6;
+    public static final int PHYSICS_POSITION_ITERATIONS = 2;
+    public static int physicsVelocityIterations = PHYSICS_VELOCITY_ITERATIONS;
+    public static int physicsPositionIterations = PHYSICS_POSITION_ITERATIONS;
+    public static float physicsInterpolationAlpha = 1;
+        // Dodgeables that only move at the velocity they are launched with (birds, UFOs, teleports, ...) can be kinematic bodies
+        // Their trajectories are then computed from their velocity and Box2D only detects their contacts with the pigeon
+        // Rockets (pushed every step) and meteors (which need to collide with birds) are always dynamic
+    public static boolean kinematicDodgeables = false;
+
+    //Quality Variables
+        // Set by the QualityGovernor for its current quality level, full quality by default
+        // The energy beams can be drawn without the energy ball and static beam layered under the animated beam
+        // Animations can be stepped at a lower frame rate (0 plays every animation at its own frame rate)
+        // The game can be drawn at a fraction of the screen resolution and stretched over the screen
+    public static boolean energyBeamLayersAreDrawn = true;
+    public static float animationFrameTime = 0;
+    public static float renderScale = 1;
+
     //Collisions
         // Filter Categories
+        // Every category is a single bit, so fixtures can be in only one category and masks can combine them
+        // (the collision handlers are looked up by bit, see CollisionDispatcher)
     public final static short CATEGORY_PIGEON = 0x0001;
     public final static short CATEGORY_LEVEL_ONE_BIRD = 0x0002;
     public final static short CATEGORY_METEOR = 0x0004;
     public final static short CATEGORY_LEVEL_TWO_BIRD = 0x0008;
-    public final static short CATEGORY_POWERUP = 0x0016;
-    public final static short CATEGORY_TELEPORT = 0x0032;
-    public final static short CATEGORY_ROCKET = 0x0064;
-    public final static short CATEGORY_ROCKET_EXPLOSION = 0x0128;
-    public final static short CATEGORY_ALIEN_MISSILE = 0x0256;
-    public final static short CATEGORY_UFO = 0x0512;
+    public final static short CATEGORY_POWERUP = 0x0010;
+    public final static short CATEGORY_TELEPORT = 0x0020;
+    public final static short CATEGORY_ROCKET = 0x0040;
+    public final static short CATEGORY_ROCKET_EXPLOSION = 0x0080;
+    public final static short CATEGORY_ALIEN_MISSILE = 0x0100;
+    public final static short CATEGORY_UFO = 0x0200;
 
         // Filter Masks
     public final  static short MASK_PIGEON = CATEGORY_LEVEL_ONE_BIRD | CATEGORY_METEOR | CATEGORY_LEVEL_TWO_BIRD
@@ -44,5 +75,13 @@ public class GameVariables {
     public final static short MASK_ALIEN_MISSILE = CATEGORY_PIGEON;
     public final static short MASK_UFO = CATEGORY_PIGEON;
 
+        // Every category and its mask, in the same order, used to validate the collision handlers at startup
+    public final static short[] CATEGORIES = {CATEGORY_PIGEON, CATEGORY_LEVEL_ONE_BIRD, CATEGORY_METEOR,
+            CATEGORY_LEVEL_TWO_BIRD, CATEGORY_POWERUP, CATEGORY_TELEPORT, CATEGORY_ROCKET, CATEGORY_ROCKET_EXPLOSION,
+            CATEGORY_ALIEN_MISSILE, CATEGORY_UFO};
+    public final static short[] MASKS = {MASK_PIGEON, MASK_LEVEL_ONE_BIRD, MASK_METEOR,
+            MASK_LEVEL_TWO_BIRD, MASK_POWERUP, MASK_TELEPORT, MASK_ROCKET, MASK_ROCKET_EXPLOSION,
+            MASK_ALIEN_MISSILE, MASK_UFO};
+
 
 }
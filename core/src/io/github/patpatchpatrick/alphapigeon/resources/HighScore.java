@@ -1,10 +1,8 @@
 package io.github.patpatchpatrick.alphapigeon.resources;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
 
@@ -14,12 +12,13 @@ public class HighScore {
     public AlphaPigeon game;
     public static float currentScore;
     public static float currentHighScore = 0;
-    private String scoreString;
+    //The score text is only laid out again when the displayed distance changes
+    private NumberText scoreText;
     private static boolean newHighScore = false;
 
     //Fonts
+    public static final AssetDescriptor<BitmapFont> FONT = Fonts.UNIVERS_14;
     private BitmapFont font;
-    FreeTypeFontGenerator generator;
     private Boolean pigeonHasNotCrashed = true;
 
     public HighScore(AlphaPigeon game) {
@@ -27,19 +26,15 @@ public class HighScore {
         this.game = game;
         // set default currentScore and create and set up the font used for the high currentScore display
         currentScore = 0;
-        scoreString = "Distance: 0";
 
         //Initialize FONTS
 
-        generator = new FreeTypeFontGenerator(Gdx.files.internal("fonts/univers.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 14;
-        parameter.minFilter = Texture.TextureFilter.Linear;
-        parameter.magFilter = Texture.TextureFilter.Linear;
-        font = generator.generateFont(parameter);
+        //The font is generated by the asset manager when the game screen is loaded
+        font = Assets.get(FONT);
         font.setColor(1.0f, 1.0f, 1.0f, 1.0f);
         font.getData().setScale(0.1f);
         font.setUseIntegerPositions(false);
+        scoreText = new NumberText(font, "Distance    ", "  m", 0);
     }
 
 
@@ -49,11 +44,11 @@ public class HighScore {
         // if the pigeon has not crashed, keep increasing the currentScore
         // after the pigeon crashes, stop increasing currentScore
         //DecimalFormat df = new DecimalFormat("#.##");
-        float formattedScore = (int) currentScore;
+        int formattedScore = (int) currentScore;
 
         if (pigeonHasNotCrashed) {
             currentScore = currentScore + GameVariables.pigeonSpeed * deltaTime;
-            scoreString = "Distance    " + (int) formattedScore + "  m";
+            scoreText.setValue(formattedScore);
         }
 
     }
@@ -61,7 +56,7 @@ public class HighScore {
     public void render(SpriteBatch batch) {
 
         // display currentScore
-        font.draw(batch, scoreString, 60, 45);
+        scoreText.draw(batch, 60, 45);
     }
 
     public static boolean checkForNewHighScoreAndUpdateNetworkAndDatabase(AlphaPigeon game, DatabaseManager databaseManager) {
@@ -114,8 +109,7 @@ public class HighScore {
     }
 
     public void dispose() {
-
-        font.dispose();
+        //The font is disposed by the asset manager with the game screen assets
     }
 
     public void stopCounting() {
@@ -0,0 +1,28 @@
+package io.github.patpatchpatrick.alphapigeon.resources;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+
+public class LaunchImpulse {
+
+    //One-shot pushes (launching dodgeables, the pigeon's key and touch input) are tuned as forces that act for a single
+    //physics step at 60 steps per second. A force only acts for the step it is applied in, so the velocity it gives
+    //would shrink when the step rate is raised and grow when it is lowered
+    //They are applied as impulses of force * PHYSICS_REFERENCE_STEP instead, which give the same velocity at any step rate
+
+    public static void applyToCenter(Body body, float forceX, float forceY) {
+        Vector2 center = body.getWorldCenter();
+        body.applyLinearImpulse(forceX * GameVariables.PHYSICS_REFERENCE_STEP, forceY * GameVariables.PHYSICS_REFERENCE_STEP,
+                center.x, center.y, true);
+    }
+
+    public static void apply(Body body, float forceX, float forceY, float pointX, float pointY) {
+        body.applyLinearImpulse(forceX * GameVariables.PHYSICS_REFERENCE_STEP, forceY * GameVariables.PHYSICS_REFERENCE_STEP,
+                pointX, pointY, true);
+    }
+
+    public static void applyTorque(Body body, float torque) {
+        body.applyAngularImpulse(torque * GameVariables.PHYSICS_REFERENCE_STEP, true);
+    }
+
+}
@@ -0,0 +1,62 @@
+package io.github.patpatchpatrick.alphapigeon.resources;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+public class NumberText {
+
+    //Text made of a fixed prefix, a whole number and a fixed suffix (ex: "Distance    120  m") that is drawn every frame
+    //Drawing a string with BitmapFont.draw lays out the glyphs again every frame
+    //This text is only laid out when the number changes, the glyph vertices are kept in a font cache and
+    //are only moved when the text is drawn somewhere else, so drawing it doesn't allocate or lay out anything
+    //The font's scale and color must be set before the text is created
+
+    private final BitmapFont font;
+    private final String prefix;
+    private final String suffix;
+    private final StringBuilder text = new StringBuilder();
+    private final GlyphLayout layout = new GlyphLayout();
+    private final BitmapFontCache cache;
+    private int value;
+
+    public NumberText(BitmapFont font, String prefix, String suffix, int value) {
+        this.font = font;
+        this.prefix = prefix;
+        this.suffix = suffix;
+        cache = font.newFontCache();
+        //Lay out the longest number first, so the glyph and vertex arrays don't grow when the number gets more digits
+        layOut(Integer.MIN_VALUE);
+        layOut(value);
+    }
+
+    public void setValue(int value) {
+        if (value != this.value) {
+            layOut(value);
+        }
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public float getWidth() {
+        return layout.width;
+    }
+
+    public void draw(SpriteBatch batch, float x, float y) {
+        //The cache was laid out at (0, 0), move it to the position (nothing is done if it is already there)
+        cache.setPosition(x, y);
+        cache.draw(batch);
+    }
+
+    private void layOut(int value) {
+        this.value = value;
+        text.setLength(0);
+        text.append(prefix).append(value).append(suffix);
+        layout.setText(font, text);
+        cache.setText(layout, 0, 0);
+    }
+
+}
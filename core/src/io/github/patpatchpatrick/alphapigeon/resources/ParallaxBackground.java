@@ -0,0 +1,91 @@
+package io.github.patpatchpatrick.alphapigeon.resources;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+
+public class ParallaxBackground {
+
+    //Background made of layers that scroll to the left to give the illusion of movement
+    //Each layer scrolls at a part of the pigeon's speed (layers further away scroll slower), so the background
+    //accelerates with the pigeon and visually indicates how fast it is flying
+    //
+    //Each layer is a single quad covering the whole world, with a repeating texture whose texture coordinates are
+    //offset as it scrolls, so nothing is moved or recycled and the layers are the same at any screen resolution
+    //Repeating a texture whose size is not a power of two isn't supported by every GLES 2 device or by WebGL, there the
+    //tiles of the layer that are on screen are drawn one by one instead
+
+    public static final AssetDescriptor<Texture> CLOUDS = new AssetDescriptor<Texture>("textures/CloudPixelArtDark.png", Texture.class);
+
+    private static class Layer {
+        Texture texture;
+        //Part of the pigeon's speed the layer scrolls at
+        float speed;
+        //Width of one repetition of the texture (world units), the texture covers the height of the world
+        float tileWidth;
+        //How far the layer has scrolled, in tiles (0 to 1)
+        float scroll = 0;
+        boolean textureRepeats;
+    }
+
+    private final Array<Layer> layers = new Array<Layer>();
+
+    public void addLayer(AssetDescriptor<Texture> texture, float speed, float tileWidth) {
+
+        //Add a layer in front of the layers added before it, its texture must be loaded
+
+        Layer layer = new Layer();
+        layer.texture = Assets.get(texture);
+        layer.speed = speed;
+        layer.tileWidth = tileWidth;
+        layer.textureRepeats = canRepeat(layer.texture);
+        if (layer.textureRepeats) {
+            layer.texture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.ClampToEdge);
+        }
+        layers.add(layer);
+
+    }
+
+    public void update(float deltaTime) {
+        for (int i = 0; i < layers.size; i++) {
+            Layer layer = layers.get(i);
+            layer.scroll = (layer.scroll + GameVariables.pigeonSpeed * layer.speed * deltaTime / layer.tileWidth) % 1;
+        }
+    }
+
+    public void render(SpriteBatch batch) {
+
+        for (int i = 0; i < layers.size; i++) {
+            Layer layer = layers.get(i);
+
+            if (layer.textureRepeats) {
+                //The texture is flipped vertically in texture coordinates (v = 0 is the top of the image)
+                float u = layer.scroll;
+                float u2 = u + GameVariables.WORLD_WIDTH / layer.tileWidth;
+                batch.draw(layer.texture, 0, 0, GameVariables.WORLD_WIDTH, GameVariables.WORLD_HEIGHT, u, 1, u2, 0);
+            } else {
+                for (float x = -layer.scroll * layer.tileWidth; x < GameVariables.WORLD_WIDTH; x += layer.tileWidth) {
+                    batch.draw(layer.texture, x, 0, layer.tileWidth, GameVariables.WORLD_HEIGHT);
+                }
+            }
+        }
+
+    }
+
+    public void dispose() {
+        //The layer textures are owned by the asset manager
+    }
+
+    private static boolean canRepeat(Texture texture) {
+        if (MathUtils.isPowerOfTwo(texture.getWidth()) && MathUtils.isPowerOfTwo(texture.getHeight())) {
+            return true;
+        }
+        return Gdx.app.getType() == Application.ApplicationType.Desktop || Gdx.graphics.isGL30Available()
+                || Gdx.graphics.supportsExtension("GL_OES_texture_npot");
+    }
+
+}
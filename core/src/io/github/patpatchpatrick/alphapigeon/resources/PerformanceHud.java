@@ -0,0 +1,162 @@
+package io.github.patpatchpatrick.alphapigeon.resources;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.physics.box2d.World;
+
+import io.github.patpatchpatrick.alphapigeon.dodgeables.DodgeablePool;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.Dodgeables;
+
+public class PerformanceHud {
+
+    //Overlay showing how the game performs, toggled with F3 during a game
+    //Shows the frame rate, the frame time percentiles, the time spent in each part of the frame (see FrameProfiler),
+    //the Box2D body and contact counts, the dodgeables drawn, culled and sleeping, the GL draw calls and
+    //texture bindings, the quality level (see QualityGovernor) and the number of dodgeables in use and created by each pool
+    //The text is rebuilt every half second, so the numbers can be read
+
+    private final float REFRESH_TIME = 0.5f; //seconds
+    private final float TEXT_X = 5f;
+    private final float TEXT_Y = 44f;
+    private final int POOLS_PER_LINE = 4;
+
+    private final World world;
+    private final Dodgeables dodgeables;
+    private final BitmapFont font;
+    private GLProfiler glProfiler;
+    private boolean isShown = false;
+
+    private final StringBuilder text = new StringBuilder();
+    //The text is laid out when it is rebuilt, not every frame
+    private final GlyphLayout textLayout = new GlyphLayout();
+    private final float[] sectionTimes = new float[FrameProfiler.SECTION_COUNT];
+    private float timeSinceRefresh = 0;
+    //GL calls of the most recent frame
+    private int drawCalls = 0;
+    private int textureBindings = 0;
+
+    public PerformanceHud(World world, Dodgeables dodgeables) {
+        this.world = world;
+        this.dodgeables = dodgeables;
+        //Share the font of the distance display, it is already scaled to the world
+        font = Assets.get(HighScore.FONT);
+    }
+
+    public void toggle() {
+
+        //Show or hide the overlay, the frame is only profiled while the overlay is shown
+
+        isShown = !isShown;
+        FrameProfiler.enabled = isShown;
+        FrameProfiler.reset();
+        if (glProfiler == null) {
+            glProfiler = new GLProfiler(Gdx.graphics);
+        }
+        if (isShown) {
+            glProfiler.enable();
+            timeSinceRefresh = REFRESH_TIME;
+        } else {
+            glProfiler.disable();
+        }
+
+    }
+
+    public boolean isShown() {
+        return isShown;
+    }
+
+    public void update(float deltaTime) {
+
+        //Called at the end of every frame, after everything is drawn
+
+        if (!isShown) {
+            return;
+        }
+        drawCalls = glProfiler.getDrawCalls();
+        textureBindings = glProfiler.getTextureBindings();
+        glProfiler.reset();
+
+        timeSinceRefresh += deltaTime;
+        if (timeSinceRefresh >= REFRESH_TIME) {
+            timeSinceRefresh = 0;
+            buildText();
+        }
+
+    }
+
+    public void render(SpriteBatch batch) {
+        if (isShown) {
+            font.draw(batch, textLayout, TEXT_X, TEXT_Y);
+        }
+    }
+
+    private void buildText() {
+
+        FrameProfiler.takeAverageSectionTimes(sectionTimes);
+        FrameProfiler.sortFrameTimes();
+
+        text.setLength(0);
+        text.append("FPS ").append(Gdx.graphics.getFramesPerSecond());
+        text.append("   frame p50 ");
+        appendMillis(FrameProfiler.getFrameTimePercentile(50) * 1000);
+        text.append("  p95 ");
+        appendMillis(FrameProfiler.getFrameTimePercentile(95) * 1000);
+        text.append("  p99 ");
+        appendMillis(FrameProfiler.getFrameTimePercentile(99) * 1000);
+        text.append(" ms\n");
+
+        //The dodgeables are updated during the gameplay update, the levels are the rest of the gameplay update
+        text.append("world.step ");
+        appendMillis(sectionTimes[FrameProfiler.SECTION_PHYSICS]);
+        text.append("  systems ");
+        appendMillis(sectionTimes[FrameProfiler.SECTION_SYSTEMS]);
+        text.append("  levels ");
+        appendMillis(sectionTimes[FrameProfiler.SECTION_GAMEPLAY] - sectionTimes[FrameProfiler.SECTION_DODGEABLES]);
+        text.append("  dodgeables ");
+        appendMillis(sectionTimes[FrameProfiler.SECTION_DODGEABLES]);
+        text.append("  render ");
+        appendMillis(sectionTimes[FrameProfiler.SECTION_RENDER]);
+        text.append(" ms\n");
+
+        text.append("bodies ").append(world.getBodyCount());
+        text.append("  contacts ").append(world.getContactCount());
+        text.append("  drawn ").append(dodgeables.drawnCount);
+        text.append("  culled ").append(dodgeables.culledCount);
+        text.append("  sleeping ").append(dodgeables.getSleepingBodyCount());
+        text.append("  draw calls ").append(drawCalls);
+        text.append("  texture binds ").append(textureBindings);
+        text.append("  quality ").append(QualityGovernor.getQualityLevel());
+        text.append('\n');
+
+        //Dodgeables in use / created by each pool
+        for (int i = 0; i < dodgeables.pools.size; i++) {
+            DodgeablePool<?> pool = dodgeables.pools.get(i);
+            text.append(pool.name).append(' ').append(pool.getInUse()).append('/').append(pool.getTotalCreated());
+            text.append(i % POOLS_PER_LINE == POOLS_PER_LINE - 1 ? "\n" : "   ");
+        }
+        textLayout.setText(font, text);
+
+    }
+
+    private void appendMillis(float millis) {
+        //Append the time with two decimals without formatting a string
+        int hundredths = Math.round(Math.max(0, millis) * 100);
+        text.append(hundredths / 100).append('.');
+        if (hundredths % 100 < 10) {
+            text.append('0');
+        }
+        text.append(hundredths % 100);
+    }
+
+    public void dispose() {
+        //Stop intercepting the GL calls, the font belongs to the asset manager
+        if (glProfiler != null) {
+            glProfiler.disable();
+        }
+        FrameProfiler.enabled = false;
+    }
+
+}
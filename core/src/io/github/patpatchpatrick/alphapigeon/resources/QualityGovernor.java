@@ -0,0 +1,160 @@
+package io.github.patpatchpatrick.alphapigeon.resources;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+
+public class QualityGovernor {
+
+    //Lowers the quality of the game one level at a time while the frames take longer than the frame budget, and raises
+    //it again when there is headroom, so the game stays playable on slow devices (the final level plays two waves at once)
+    //
+    //Quality levels, each one keeps the reductions of the levels before it:
+    //  0 full quality
+    //  1 the energy beams are drawn without their layers, and the animations are stepped at 10 frames per second
+    //  2 the physics use fewer solver iterations
+    //  3 the game is drawn at 75% of the screen resolution
+    //  4 the game is drawn at 50% of the screen resolution
+    //
+    //The frame budget is one refresh of the display (a 30 Hz display gets twice the budget of a 60 Hz one)
+    //The quality is lowered when the average time between frames stays over budget while the game itself spends more
+    //than the headroom part of the budget on a frame, and raised when the average time the game spends on a frame
+    //(without waiting for the display) stays under the headroom part. A display or an OS that caps the frame rate below
+    //the refresh rate makes the frames long but leaves the game idle, so it doesn't lower the quality (lowering it
+    //wouldn't make the frames any shorter). Raising the quality takes longer, and if it has to be lowered again right
+    //away the next raise waits twice as long, so it doesn't flicker between two levels
+    //
+    //The level is kept between games. Lower physics iterations change the gameplay, so the level is recorded in replays
+
+    public static final int QUALITY_FULL = 0;
+    public static final int QUALITY_LOWEST = 4;
+
+    //Refresh rate used for the frame budget when the display doesn't report one
+    private static final int DEFAULT_REFRESH_RATE = 60;
+    //The average frame time is over budget above this part of the budget (under 48 frames per second at 60 Hz)
+    private static final float OVER_BUDGET = 1.25f;
+    //There is headroom when the game spends less than this part of the budget on a frame, and the quality is only
+    //lowered when the game spends more than this part
+    private static final float HEADROOM = 0.5f;
+    //Weight of the newest frame in the averages
+    private static final float SMOOTHING = 0.1f;
+    //Longer frames (loading, the app coming back from the background) are not counted
+    private static final float MAX_MEASURED_FRAME_TIME = 0.25f;
+
+    //Seconds the frames must stay over budget before the quality is lowered
+    private static final float LOWER_DELAY = 1f;
+    //Seconds there must be headroom before the quality is raised, doubled each time a raise is undone
+    private static final float MIN_RAISE_DELAY = 4f;
+    private static final float MAX_RAISE_DELAY = 64f;
+    //A raise is undone if the quality is lowered again within this many seconds
+    private static final float RAISE_PROBATION_TIME = 5f;
+
+    //Physics solver iterations at reduced quality
+    private static final int REDUCED_VELOCITY_ITERATIONS = 4;
+    private static final int REDUCED_POSITION_ITERATIONS = 1;
+    //Time of an animation frame at reduced quality (10 frames per second)
+    private static final float REDUCED_ANIMATION_FRAME_TIME = 0.1f;
+
+    private static final String LOG_TAG = "Quality";
+
+    //Turned off by the desktop benchmark so builds are compared at the same quality
+    //The governor is not updated while a replay is played, the replay sets the levels it was recorded with
+    public static boolean enabled = true;
+    private static int qualityLevel = QUALITY_FULL;
+
+    //Frame time (seconds) the game aims for, the time between two refreshes of the display
+    private static float frameBudget = 1f / DEFAULT_REFRESH_RATE;
+    private static float averageFrameTime = frameBudget;
+    private static float averageWorkTime = 0;
+    private static float timeOverBudget = 0;
+    private static float timeWithHeadroom = 0;
+    private static float timeSinceChange = 0;
+    private static boolean lastChangeWasRaise = false;
+    private static float raiseDelay = MIN_RAISE_DELAY;
+
+    public static void reset() {
+        //Start measuring again, called when a game starts (the level is kept)
+        frameBudget = 1f / getRefreshRate();
+        averageFrameTime = frameBudget;
+        averageWorkTime = 0;
+        timeOverBudget = 0;
+        timeWithHeadroom = 0;
+        timeSinceChange = 0;
+        lastChangeWasRaise = false;
+    }
+
+    public static void update(float frameTime, float workTime) {
+
+        //Called at the end of every frame with the time since the last frame and the time the game spent on it (seconds)
+
+        if (!enabled || frameTime > MAX_MEASURED_FRAME_TIME) {
+            return;
+        }
+
+        averageFrameTime += (frameTime - averageFrameTime) * SMOOTHING;
+        averageWorkTime += (workTime - averageWorkTime) * SMOOTHING;
+        timeSinceChange += frameTime;
+        boolean gameHasHeadroom = averageWorkTime < frameBudget * HEADROOM;
+        timeOverBudget = averageFrameTime > frameBudget * OVER_BUDGET && !gameHasHeadroom ? timeOverBudget + frameTime : 0;
+        timeWithHeadroom = gameHasHeadroom ? timeWithHeadroom + frameTime : 0;
+
+        if (timeOverBudget > LOWER_DELAY && qualityLevel < QUALITY_LOWEST) {
+            if (lastChangeWasRaise && timeSinceChange < RAISE_PROBATION_TIME) {
+                raiseDelay = Math.min(raiseDelay * 2, MAX_RAISE_DELAY);
+            }
+            changeQualityLevel(qualityLevel + 1, false);
+        } else if (timeWithHeadroom > raiseDelay && qualityLevel > QUALITY_FULL) {
+            changeQualityLevel(qualityLevel - 1, true);
+        }
+
+    }
+
+    private static int getRefreshRate() {
+        //Refresh rate of the display, the headless backend has no display and some devices report 0
+        Graphics.DisplayMode displayMode = Gdx.graphics != null ? Gdx.graphics.getDisplayMode() : null;
+        if (displayMode == null || displayMode.refreshRate <= 0) {
+            return DEFAULT_REFRESH_RATE;
+        }
+        return displayMode.refreshRate;
+    }
+
+    private static void changeQualityLevel(int level, boolean isRaise) {
+        setQualityLevel(level);
+        lastChangeWasRaise = isRaise;
+        timeSinceChange = 0;
+        timeOverBudget = 0;
+        timeWithHeadroom = 0;
+        if (GameLog.ENABLED) GameLog.info(LOG_TAG, "Level {} (average frame time {} ms)", level, averageFrameTime * 1000);
+    }
+
+    public static int getQualityLevel() {
+        return qualityLevel;
+    }
+
+    public static void setQualityLevel(int level) {
+
+        //Set the game variables of the quality level
+
+        qualityLevel = level;
+        GameVariables.energyBeamLayersAreDrawn = level < 1;
+        GameVariables.animationFrameTime = level < 1 ? 0 : REDUCED_ANIMATION_FRAME_TIME;
+        GameVariables.physicsVelocityIterations = level < 2 ? GameVariables.PHYSICS_VELOCITY_ITERATIONS : REDUCED_VELOCITY_ITERATIONS;
+        GameVariables.physicsPositionIterations = level < 2 ? GameVariables.PHYSICS_POSITION_ITERATIONS : REDUCED_POSITION_ITERATIONS;
+        if (level < 3) {
+            GameVariables.renderScale = 1;
+        } else if (level == 3) {
+            GameVariables.renderScale = 0.75f;
+        } else {
+            GameVariables.renderScale = 0.5f;
+        }
+
+    }
+
+    public static float getAnimationTime(float time) {
+        //Time to get the animation frames at, rounded down to the animation frame time of the quality level
+        if (GameVariables.animationFrameTime == 0) {
+            return time;
+        }
+        return time - time % GameVariables.animationFrameTime;
+    }
+
+}
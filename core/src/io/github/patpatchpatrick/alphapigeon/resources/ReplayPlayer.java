@@ -0,0 +1,147 @@
+package io.github.patpatchpatrick.alphapigeon.resources;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+public class ReplayPlayer {
+
+    //Plays a game recorded by the ReplayRecorder (see the recorder for the file format)
+    //The game screen reads one frame from the player at the start of every frame instead of using the player's input
+    //and the frame time, so the game is played exactly as it was recorded
+    //
+    //The player must be created just before the game screen, it seeds the random numbers of the game and sets the
+    //game variables that the game screen uses when it is created
+
+    public interface InputListener {
+        void keyDown(int keycode);
+
+        void touchDown(float worldX, float worldY);
+    }
+
+    public final long seed;
+    public final boolean touchSettingIsOn;
+    public final float touchSensitivity;
+    public final float accelSensitivity;
+    public final int autopilotMode;
+    public final boolean pigeonIsInvincible;
+    public final int frameCount;
+    public final float gameTime;
+
+    private final DataInput records;
+    private int framesPlayed = 0;
+
+    //The current frame
+    private float delta = 0;
+    private boolean frameIsPaused = false;
+    private boolean frameHasAccelerometerSample = false;
+    private float accelerometerX = 0;
+    private float accelerometerY = 0;
+
+    public ReplayPlayer(FileHandle file) {
+
+        records = new DataInput(new ByteArrayInputStream(file.readBytes()));
+
+        try {
+            if (records.readInt() != ReplayRecorder.MAGIC) {
+                throw new GdxRuntimeException("Not a replay file: " + file);
+            }
+            int version = records.readInt();
+            if (version < 1 || version > ReplayRecorder.VERSION) {
+                throw new GdxRuntimeException("Unsupported replay version " + version + ": " + file);
+            }
+            seed = records.readLong();
+            GameVariables.physicsStepRate = records.readFloat();
+            GameVariables.kinematicDodgeables = records.readBoolean();
+            touchSettingIsOn = records.readBoolean();
+            touchSensitivity = records.readFloat();
+            accelSensitivity = records.readFloat();
+            autopilotMode = records.readInt();
+            pigeonIsInvincible = records.readBoolean();
+            frameCount = records.readInt(true);
+            gameTime = records.readFloat();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Unable to read the replay: " + file, e);
+        }
+
+        GameRandom.setSeed(seed);
+        //The quality level the game starts at is the replay's first record (version 1 replays are at full quality)
+        QualityGovernor.setQualityLevel(QualityGovernor.QUALITY_FULL);
+
+    }
+
+    public void applySettings() {
+        //Use the settings the game was recorded with (the game screen reads the user's settings when it is created)
+        SettingsManager.touchSettingIsOn = touchSettingIsOn;
+        SettingsManager.touchSensitivity = touchSensitivity;
+        SettingsManager.accelSensitivity = accelSensitivity;
+    }
+
+    public boolean isFinished() {
+        return framesPlayed == frameCount;
+    }
+
+    public void nextFrame(InputListener inputListener, AccelerometerController accelerometerController) {
+
+        //Send the input that came before the next frame to the input listener and read the frame
+        //The quality level is set if it changed before the frame
+        //The accelerometer sample of the frame is given to the accelerometer controller
+
+        if (isFinished()) {
+            throw new GdxRuntimeException("The replay has no more frames.");
+        }
+
+        try {
+            int type = records.readUnsignedByte();
+            while ((type & ReplayRecorder.RECORD_FRAME) == 0) {
+                if (type == ReplayRecorder.RECORD_KEY_DOWN) {
+                    inputListener.keyDown(records.readInt(true));
+                } else if (type == ReplayRecorder.RECORD_TOUCH_DOWN) {
+                    float worldX = records.readFloat();
+                    inputListener.touchDown(worldX, records.readFloat());
+                } else if (type == ReplayRecorder.RECORD_QUALITY_LEVEL) {
+                    QualityGovernor.setQualityLevel(records.readInt(true));
+                } else {
+                    throw new GdxRuntimeException("Unknown replay record: " + type);
+                }
+                type = records.readUnsignedByte();
+            }
+
+            frameIsPaused = (type & ReplayRecorder.FRAME_PAUSED) != 0;
+            if ((type & ReplayRecorder.FRAME_NEW_DELTA) != 0) {
+                delta = records.readFloat();
+            }
+            frameHasAccelerometerSample = (type & ReplayRecorder.FRAME_ACCELEROMETER) != 0;
+            if (frameHasAccelerometerSample) {
+                accelerometerX = records.readFloat();
+                accelerometerY = records.readFloat();
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("The replay ended before its last frame.", e);
+        }
+
+        accelerometerController.setSample(frameHasAccelerometerSample, accelerometerX, accelerometerY);
+        framesPlayed++;
+        if (isFinished()) {
+            StreamUtils.closeQuietly(records);
+        }
+
+    }
+
+    public float getDelta() {
+        return delta;
+    }
+
+    public boolean frameIsPaused() {
+        return frameIsPaused;
+    }
+
+    public int getFramesPlayed() {
+        return framesPlayed;
+    }
+
+}
@@ -0,0 +1,176 @@
+package io.github.patpatchpatrick.alphapigeon.resources;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.DataBuffer;
+import com.badlogic.gdx.utils.DataOutput;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.IOException;
+
+public class ReplayRecorder {
+
+    //Records a game so it can be played again exactly (see ReplayPlayer)
+    //The game is deterministic apart from the random numbers (see GameRandom), the player's input, the frame times and
+    //the quality level (which changes the physics, see QualityGovernor), so the replay is the random seed, the settings
+    //that change the gameplay, and for every frame its delta time, the accelerometer sample, the keys and touches that
+    //came before it and the quality level when it changed
+    //
+    //The recorder must be created just before the game screen, it seeds the random numbers of the game
+    //The records are kept in memory while the game is played and written to the file when the replay is saved
+    //
+    //Replay file format (big endian, "varint" is a variable length positive int):
+    //  header: magic int, version int, seed long, physicsStepRate float, kinematicDodgeables boolean,
+    //          touchSettingIsOn boolean, touchSensitivity float, accelSensitivity float, autopilot mode int,
+    //          pigeon is invincible boolean, frame count varint, game time float
+    //  records until the end of the file, each one starts with its type byte:
+    //    key down:   keycode varint
+    //    touch down: world x float, world y float
+    //    quality:    quality level varint (before the first frame, and before every frame where it changed)
+    //    frame:      the type byte also has the frame flags, followed by the delta time float if it changed since
+    //                the last frame, and the accelerometer x and y floats if the accelerometer was used
+
+    public static final String LAST_GAME_FILE = "replays/last-game.replay";
+
+    static final int MAGIC = 0x41505250;
+    //Version 2 added the quality records, version 1 replays are played at full quality
+    static final int VERSION = 2;
+    public static final int NO_AUTOPILOT = -1;
+
+    static final int RECORD_KEY_DOWN = 0;
+    static final int RECORD_TOUCH_DOWN = 1;
+    static final int RECORD_QUALITY_LEVEL = 2;
+    static final int RECORD_FRAME = 0x80;
+    static final int FRAME_PAUSED = 0x01;
+    static final int FRAME_ACCELEROMETER = 0x02;
+    static final int FRAME_NEW_DELTA = 0x04;
+
+    //A full game at 60 frames per second is a few hundred kilobytes, the buffer grows if it is longer
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final FileHandle file;
+    public final long seed;
+    private final float physicsStepRate;
+    private final boolean kinematicDodgeables;
+    //Set by the game screen when the replay is saved
+    public int autopilotMode = NO_AUTOPILOT;
+    public boolean pigeonIsInvincible = false;
+
+    private final DataBuffer records = new DataBuffer(INITIAL_BUFFER_SIZE);
+    private int frameCount = 0;
+    private float gameTime = 0;
+    private float lastDelta = -1;
+    private int lastQualityLevel = -1;
+
+    public ReplayRecorder(FileHandle file) {
+        this.file = file;
+
+        //Start the game from a new seed that is saved in the replay
+        seed = GameRandom.nextSeed();
+        GameRandom.setSeed(seed);
+
+        physicsStepRate = GameVariables.physicsStepRate;
+        kinematicDodgeables = GameVariables.kinematicDodgeables;
+    }
+
+    public void recordKeyDown(int keycode) {
+        try {
+            records.writeByte(RECORD_KEY_DOWN);
+            records.writeInt(keycode, true);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Unable to record the replay.", e);
+        }
+    }
+
+    public void recordTouchDown(float worldX, float worldY) {
+        try {
+            records.writeByte(RECORD_TOUCH_DOWN);
+            records.writeFloat(worldX);
+            records.writeFloat(worldY);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Unable to record the replay.", e);
+        }
+    }
+
+    public void recordFrame(float delta, boolean isPaused, AccelerometerController accelerometerController) {
+
+        //Called at the start of every frame, after the input of the frame has been recorded
+
+        if (QualityGovernor.getQualityLevel() != lastQualityLevel) {
+            lastQualityLevel = QualityGovernor.getQualityLevel();
+            try {
+                records.writeByte(RECORD_QUALITY_LEVEL);
+                records.writeInt(lastQualityLevel, true);
+            } catch (IOException e) {
+                throw new GdxRuntimeException("Unable to record the replay.", e);
+            }
+        }
+
+        int flags = RECORD_FRAME;
+        if (isPaused) {
+            flags |= FRAME_PAUSED;
+        }
+        if (accelerometerController.isSampled()) {
+            flags |= FRAME_ACCELEROMETER;
+        }
+        if (delta != lastDelta) {
+            flags |= FRAME_NEW_DELTA;
+        }
+
+        try {
+            records.writeByte(flags);
+            if (delta != lastDelta) {
+                records.writeFloat(delta);
+            }
+            if (accelerometerController.isSampled()) {
+                records.writeFloat(accelerometerController.getAccelerometerX());
+                records.writeFloat(accelerometerController.getAccelerometerY());
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Unable to record the replay.", e);
+        }
+
+        lastDelta = delta;
+        frameCount++;
+        if (!isPaused) {
+            gameTime += delta;
+        }
+
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public void save() {
+
+        //Write the header and the records of the game to the replay file
+        //The settings can't be changed while a game is played, so they are read when the replay is saved
+
+        DataOutput output = null;
+        try {
+            output = new DataOutput(file.write(false));
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(seed);
+            output.writeFloat(physicsStepRate);
+            output.writeBoolean(kinematicDodgeables);
+            output.writeBoolean(SettingsManager.touchSettingIsOn);
+            output.writeFloat(SettingsManager.touchSensitivity);
+            output.writeFloat(SettingsManager.accelSensitivity);
+            output.writeInt(autopilotMode);
+            output.writeBoolean(pigeonIsInvincible);
+            output.writeInt(frameCount, true);
+            output.writeFloat(gameTime);
+            output.write(records.getBuffer(), 0, records.size());
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Unable to save the replay: " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(output);
+        }
+
+        if (GameLog.ENABLED) GameLog.info("Replay", "Saved to {} ({} frames)", file.path(), frameCount);
+
+    }
+
+}
@@ -0,0 +1,287 @@
+package io.github.patpatchpatrick.alphapigeon.resources;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.TimeUtils;
+
+public class SoundMixer {
+
+    //Plays the game sound effects as voices (single playing instances of a sound) and keeps track of them
+    //The number of voices playing at the same time is limited for each sound and for the whole game, because
+    //mobile sound pools stutter when too many sounds are played at once
+    //When a limit is reached, the lowest priority voice (the oldest one if several have the same priority) is stopped
+    //to make room for the new voice, unless all of the voices have a higher priority, then the new voice is not played
+    //
+    //Playing a sound returns a voice handle that is used to stop, pause or resume the voice, the handle of a voice that
+    //was stopped by the mixer is ignored
+    //Sounds that are played once (not looped) are forgotten when their length has elapsed
+
+    //Priorities of the voices
+    //..Looping background effects (UFOs, energy balls, meteors)
+    public static final int PRIORITY_AMBIENT = 0;
+    //..Short effects of dodgeables (birds, rockets, explosions)
+    public static final int PRIORITY_EFFECT = 1;
+    //..Effects of the player's actions and the game state (power-ups, game over)
+    public static final int PRIORITY_IMPORTANT = 2;
+
+    //Handle returned when no voice is played
+    public static final long NO_VOICE = -1;
+
+    //Most voices playing at the same time in the game
+    //Android's sound pool plays 16 voices, keep a few free for the sounds played without the mixer
+    public static final int MAX_VOICES = 12;
+    private static final float DEFAULT_SOUND_LENGTH = 2f; //seconds
+
+    private static class SoundSettings {
+        int maxVoices;
+        long lengthInMillis;
+    }
+
+    private static class Voice implements Pool.Poolable {
+        Sound sound;
+        long soundId;
+        long handle;
+        int priority;
+        boolean isLooping;
+        long startTime;
+        long endTime;
+        boolean isPaused;
+        long pauseTime;
+
+        @Override
+        public void reset() {
+            sound = null;
+        }
+    }
+
+    private static final ObjectMap<Sound, SoundSettings> soundSettings = new ObjectMap<Sound, SoundSettings>();
+    private static final SoundSettings defaultSettings = new SoundSettings();
+    private static final Array<Voice> voices = new Array<Voice>(false, MAX_VOICES);
+    private static final Pool<Voice> voicePool = new Pool<Voice>(MAX_VOICES) {
+        @Override
+        protected Voice newObject() {
+            return new Voice();
+        }
+    };
+    private static long nextHandle = 0;
+    private static boolean isPaused = false;
+
+    static {
+        defaultSettings.maxVoices = MAX_VOICES;
+        defaultSettings.lengthInMillis = (long) (DEFAULT_SOUND_LENGTH * 1000);
+        //Fill the voice pool, so playing more voices at once than before doesn't allocate during the game
+        for (int i = 0; i < MAX_VOICES; i++) {
+            voicePool.free(new Voice());
+        }
+    }
+
+    public static void configure(Sound sound, int maxVoices, float length) {
+        //Set the number of voices of the sound that can play at the same time, and the length of the sound in seconds
+        SoundSettings settings = new SoundSettings();
+        settings.maxVoices = maxVoices;
+        settings.lengthInMillis = (long) (length * 1000);
+        soundSettings.put(sound, settings);
+    }
+
+    public static long play(Sound sound, int priority) {
+        return start(sound, priority, false);
+    }
+
+    public static long loop(Sound sound, int priority) {
+        return start(sound, priority, true);
+    }
+
+    private static long start(Sound sound, int priority, boolean isLooping) {
+
+        //Play a new voice of the sound if there is room for it, or if a lower priority voice can be stopped
+
+        removeFinishedVoices();
+        SoundSettings settings = soundSettings.get(sound, defaultSettings);
+
+        //Make room for the voice, first under the limit of the sound, then under the global limit
+        if (countVoices(sound) >= settings.maxVoices && !stealVoice(sound, priority)) {
+            return NO_VOICE;
+        }
+        if (voices.size >= MAX_VOICES && !stealVoice(null, priority)) {
+            return NO_VOICE;
+        }
+
+        long soundId = isLooping ? sound.loop(SettingsManager.gameVolume) : sound.play(SettingsManager.gameVolume);
+        if (soundId == -1) {
+            //The audio backend had no free voice
+            return NO_VOICE;
+        }
+
+        Voice voice = voicePool.obtain();
+        voice.sound = sound;
+        voice.soundId = soundId;
+        voice.handle = nextHandle++;
+        voice.priority = priority;
+        voice.isLooping = isLooping;
+        voice.startTime = TimeUtils.millis();
+        voice.endTime = voice.startTime + settings.lengthInMillis;
+        voice.isPaused = false;
+        voices.add(voice);
+        if (isPaused) {
+            //Voices started while the game is paused start when the game is resumed
+            pauseVoice(voice);
+        }
+        return voice.handle;
+
+    }
+
+    public static void stop(long handle) {
+        //Stop the voice, unless it was already stopped
+        int index = indexOfVoice(handle);
+        if (index != -1) {
+            stopVoice(index);
+        }
+    }
+
+    public static void pause(long handle) {
+        //Pause the voice, unless it was already stopped or paused
+        int index = indexOfVoice(handle);
+        if (index != -1) {
+            pauseVoice(voices.get(index));
+        }
+    }
+
+    public static void resume(long handle) {
+        //Resume the paused voice, unless it was stopped
+        //While the game is paused the voice stays paused, and is resumed with the game
+        int index = indexOfVoice(handle);
+        if (index != -1 && !isPaused) {
+            resumeVoice(voices.get(index));
+        }
+    }
+
+    public static void stopAll() {
+        for (int i = voices.size - 1; i >= 0; i--) {
+            stopVoice(i);
+        }
+    }
+
+    public static void pause() {
+        //Pause every voice that is playing
+        isPaused = true;
+        for (int i = 0; i < voices.size; i++) {
+            pause(voices.get(i).handle);
+        }
+    }
+
+    public static void resume() {
+        //Resume every paused voice
+        if (!isPaused) {
+            return;
+        }
+        isPaused = false;
+        for (int i = 0; i < voices.size; i++) {
+            resume(voices.get(i).handle);
+        }
+    }
+
+    public static int getVoiceCount() {
+        removeFinishedVoices();
+        return voices.size;
+    }
+
+    private static boolean stealVoice(Sound sound, int priority) {
+
+        //Stop the lowest priority and oldest voice (of the given sound, or of any sound if the sound is null)
+        //whose priority is not higher than the given priority
+        //Return false if there is no such voice
+
+        int stolenIndex = -1;
+        for (int i = 0; i < voices.size; i++) {
+            Voice voice = voices.get(i);
+            if ((sound != null && voice.sound != sound) || voice.priority > priority) {
+                continue;
+            }
+            if (stolenIndex == -1) {
+                stolenIndex = i;
+                continue;
+            }
+            Voice stolenVoice = voices.get(stolenIndex);
+            if (voice.priority < stolenVoice.priority
+                    || (voice.priority == stolenVoice.priority && voice.startTime < stolenVoice.startTime)) {
+                stolenIndex = i;
+            }
+        }
+        if (stolenIndex == -1) {
+            return false;
+        }
+        stopVoice(stolenIndex);
+        return true;
+
+    }
+
+    private static int indexOfVoice(long handle) {
+        if (handle == NO_VOICE) {
+            return -1;
+        }
+        for (int i = 0; i < voices.size; i++) {
+            if (voices.get(i).handle == handle) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int countVoices(Sound sound) {
+        int count = 0;
+        for (int i = 0; i < voices.size; i++) {
+            if (voices.get(i).sound == sound) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void removeFinishedVoices() {
+        //Forget the sounds played once that have reached their end (paused voices can't end until they are resumed)
+        long currentTime = TimeUtils.millis();
+        for (int i = voices.size - 1; i >= 0; i--) {
+            Voice voice = voices.get(i);
+            if (!voice.isLooping && !voice.isPaused && voice.endTime <= currentTime) {
+                voicePool.free(voices.removeIndex(i));
+            }
+        }
+    }
+
+    private static void pauseVoice(Voice voice) {
+        if (voice.isPaused) {
+            return;
+        }
+        voice.sound.pause(voice.soundId);
+        voice.isPaused = true;
+        voice.pauseTime = TimeUtils.millis();
+    }
+
+    private static void resumeVoice(Voice voice) {
+        //Sounds that are played once play the rest of their length, so they end as much later as they were paused
+        if (!voice.isPaused) {
+            return;
+        }
+        voice.sound.resume(voice.soundId);
+        voice.isPaused = false;
+        voice.endTime += TimeUtils.millis() - voice.pauseTime;
+    }
+
+    private static void stopVoice(int index) {
+        Voice voice = voices.removeIndex(index);
+        voice.sound.stop(voice.soundId);
+        voicePool.free(voice);
+    }
+
+    public static void dispose() {
+        //The sounds are disposed by the asset manager (see Assets), only forget the voices and settings
+        for (int i = voices.size - 1; i >= 0; i--) {
+            voicePool.free(voices.removeIndex(i));
+        }
+        soundSettings.clear();
+        isPaused = false;
+    }
+
+}
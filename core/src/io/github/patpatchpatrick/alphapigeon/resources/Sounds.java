@@ -1,46 +1,118 @@
 package io.github.patpatchpatrick.alphapigeon.resources;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 
-import java.util.ArrayList;
-
 public class Sounds {
 
     private static Boolean backgroundMusicInitialized = false;
 
     //SOUNDS (Game Sound Effects and Background Music)
-    //Array list of all of the active sounds currently playing in the game
-    public static ArrayList<Sound> activeSounds = new ArrayList<Sound>();
+    //The sound effects are played by the SoundMixer, which keeps track of the voices playing in the game
     //..Background Music
-    public static Music backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("sounds/backgroundMusic.mp3"));
+    public static Music backgroundMusic;
     //..Bird
-    public static Sound birdSound = Gdx.audio.newSound(Gdx.files.internal("sounds/birdSound.mp3"));
+    public static Sound birdSound;
     //..PowerUps
-    public static Sound powerUpSkullSound = Gdx.audio.newSound(Gdx.files.internal("sounds/powerUpSkull.mp3"));
-    public static Sound powerUpShieldSound = Gdx.audio.newSound(Gdx.files.internal("sounds/powerUpShield.mp3"));
-    public static Sound powerUpShieldZapSound = Gdx.audio.newSound(Gdx.files.internal("sounds/powerUpShieldZap.mp3"));
+    public static Sound powerUpSkullSound;
+    public static Sound powerUpShieldSound;
+    public static Sound powerUpShieldZapSound;
     //..Teleports
-    public static Sound teleportSound = Gdx.audio.newSound(Gdx.files.internal("sounds/teleportSound.mp3"));
+    public static Sound teleportSound;
     //..Notifications
-    public static Sound notificationSound = Gdx.audio.newSound(Gdx.files.internal("sounds/notification.mp3"));
+    public static Sound notificationSound;
     //..Game Over
-    public static Sound gameOverSound = Gdx.audio.newSound(Gdx.files.internal("sounds/gameOver.mp3"));
+    public static Sound gameOverSound;
     //..High Score
-    public static Sound newHighScoreSound = Gdx.audio.newSound(Gdx.files.internal("sounds/newHighScore.mp3"));
+    public static Sound newHighScoreSound;
     //..UFO
-    public static Sound ufoFlyingSound = Gdx.audio.newSound(Gdx.files.internal("sounds/ufoFlying.mp3"));
-    public static Sound ufoEnergyBallSound = Gdx.audio.newSound(Gdx.files.internal("sounds/ufoEnergyBall.mp3"));
-    public static Sound ufoEnergyBeamSound = Gdx.audio.newSound(Gdx.files.internal("sounds/ufoEnergyBeam.mp3"));
+    public static Sound ufoFlyingSound;
+    public static Sound ufoEnergyBallSound;
+    public static Sound ufoEnergyBeamSound;
     //..Rockets
-    public static Sound rocketSpawnSound = Gdx.audio.newSound(Gdx.files.internal("sounds/rocketSpawn.wav"));
-    public static Sound rocketExplosionSound = Gdx.audio.newSound(Gdx.files.internal("sounds/rocketExplosion.wav"));
+    public static Sound rocketSpawnSound;
+    public static Sound rocketExplosionSound;
     //..Meteors
-    public static Sound meteorSound = Gdx.audio.newSound(Gdx.files.internal("sounds/meteor.mp3"));
+    public static Sound meteorSound;
     //..Alien Missiles
-    public static Sound alienMissileExplosionSound = Gdx.audio.newSound(Gdx.files.internal("sounds/alienMissileExplosion.mp3"));
-
+    public static Sound alienMissileExplosionSound;
+
+    //Sound and music files, loaded by the asset manager with the other global assets (see Assets)
+    private static final AssetDescriptor<Music> BACKGROUND_MUSIC = new AssetDescriptor<Music>("sounds/backgroundMusic.mp3", Music.class);
+    private static final AssetDescriptor<Sound> BIRD_SOUND = new AssetDescriptor<Sound>("sounds/birdSound.mp3", Sound.class);
+    private static final AssetDescriptor<Sound> POWER_UP_SKULL_SOUND = new AssetDescriptor<Sound>("sounds/powerUpSkull.mp3", Sound.class);
+    private static final AssetDescriptor<Sound> POWER_UP_SHIELD_SOUND = new AssetDescriptor<Sound>("sounds/powerUpShield.mp3", Sound.class);
+    private static final AssetDescriptor<Sound> POWER_UP_SHIELD_ZAP_SOUND = new AssetDescriptor<Sound>("sounds/powerUpShieldZap.mp3", Sound.class);
+    private static final AssetDescriptor<Sound> TELEPORT_SOUND = new AssetDescriptor<Sound>("sounds/teleportSound.mp3", Sound.class);
+    private static final AssetDescriptor<Sound> NOTIFICATION_SOUND = new AssetDescriptor<Sound>("sounds/notification.mp3", Sound.class);
+    private static final AssetDescriptor<Sound> GAME_OVER_SOUND = new AssetDescriptor<Sound>("sounds/gameOver.mp3", Sound.class);
+    private static final AssetDescriptor<Sound> NEW_HIGH_SCORE_SOUND = new AssetDescriptor<Sound>("sounds/newHighScore.mp3", Sound.class);
+    private static final AssetDescriptor<Sound> UFO_FLYING_SOUND = new AssetDescriptor<Sound>("sounds/ufoFlying.mp3", Sound.class);
+    private static final AssetDescriptor<Sound> UFO_ENERGY_BALL_SOUND = new AssetDescriptor<Sound>("sounds/ufoEnergyBall.mp3", Sound.class);
+    private static final AssetDescriptor<Sound> UFO_ENERGY_BEAM_SOUND = new AssetDescriptor<Sound>("sounds/ufoEnergyBeam.mp3", Sound.class);
+    private static final AssetDescriptor<Sound> ROCKET_SPAWN_SOUND = new AssetDescriptor<Sound>("sounds/rocketSpawn.wav", Sound.class);
+    private static final AssetDescriptor<Sound> ROCKET_EXPLOSION_SOUND = new AssetDescriptor<Sound>("sounds/rocketExplosion.wav", Sound.class);
+    private static final AssetDescriptor<Sound> METEOR_SOUND = new AssetDescriptor<Sound>("sounds/meteor.mp3", Sound.class);
+    private static final AssetDescriptor<Sound> ALIEN_MISSILE_EXPLOSION_SOUND = new AssetDescriptor<Sound>("sounds/alienMissileExplosion.mp3", Sound.class);
+
+    public static final AssetDescriptor<?>[] ASSETS = {
+            BACKGROUND_MUSIC,
+            BIRD_SOUND,
+            POWER_UP_SKULL_SOUND,
+            POWER_UP_SHIELD_SOUND,
+            POWER_UP_SHIELD_ZAP_SOUND,
+            TELEPORT_SOUND,
+            NOTIFICATION_SOUND,
+            GAME_OVER_SOUND,
+            NEW_HIGH_SCORE_SOUND,
+            UFO_FLYING_SOUND,
+            UFO_ENERGY_BALL_SOUND,
+            UFO_ENERGY_BEAM_SOUND,
+            ROCKET_SPAWN_SOUND,
+            ROCKET_EXPLOSION_SOUND,
+            METEOR_SOUND,
+            ALIEN_MISSILE_EXPLOSION_SOUND
+    };
+
+    public static void initialize() {
+        //Called once the sound files are loaded
+        backgroundMusic = Assets.get(BACKGROUND_MUSIC);
+        birdSound = Assets.get(BIRD_SOUND);
+        powerUpSkullSound = Assets.get(POWER_UP_SKULL_SOUND);
+        powerUpShieldSound = Assets.get(POWER_UP_SHIELD_SOUND);
+        powerUpShieldZapSound = Assets.get(POWER_UP_SHIELD_ZAP_SOUND);
+        teleportSound = Assets.get(TELEPORT_SOUND);
+        notificationSound = Assets.get(NOTIFICATION_SOUND);
+        gameOverSound = Assets.get(GAME_OVER_SOUND);
+        newHighScoreSound = Assets.get(NEW_HIGH_SCORE_SOUND);
+        ufoFlyingSound = Assets.get(UFO_FLYING_SOUND);
+        ufoEnergyBallSound = Assets.get(UFO_ENERGY_BALL_SOUND);
+        ufoEnergyBeamSound = Assets.get(UFO_ENERGY_BEAM_SOUND);
+        rocketSpawnSound = Assets.get(ROCKET_SPAWN_SOUND);
+        rocketExplosionSound = Assets.get(ROCKET_EXPLOSION_SOUND);
+        meteorSound = Assets.get(METEOR_SOUND);
+        alienMissileExplosionSound = Assets.get(ALIEN_MISSILE_EXPLOSION_SOUND);
+
+        //Set how many voices of each sound can play at the same time, and the length of each sound (seconds)
+        //The looping sounds of the dodgeables are limited the most, in the final level many UFOs and energy balls
+        //are on screen at the same time
+        SoundMixer.configure(birdSound, 3, 0.41f);
+        SoundMixer.configure(powerUpSkullSound, 1, 1.67f);
+        SoundMixer.configure(powerUpShieldSound, 1, 20.09f);
+        SoundMixer.configure(powerUpShieldZapSound, 2, 0.88f);
+        SoundMixer.configure(teleportSound, 1, 1.28f);
+        SoundMixer.configure(notificationSound, 1, 0.34f);
+        SoundMixer.configure(gameOverSound, 1, 1.01f);
+        SoundMixer.configure(newHighScoreSound, 1, 2.06f);
+        SoundMixer.configure(ufoFlyingSound, 2, 29.25f);
+        SoundMixer.configure(ufoEnergyBallSound, 2, 20.5f);
+        SoundMixer.configure(ufoEnergyBeamSound, 2, 6f);
+        SoundMixer.configure(rocketSpawnSound, 2, 2f);
+        SoundMixer.configure(rocketExplosionSound, 3, 1.59f);
+        SoundMixer.configure(meteorSound, 2, 8.36f);
+        SoundMixer.configure(alienMissileExplosionSound, 3, 1.28f);
+    }
 
     public static void initializeBackgroundMusic() {
         //If background music has not been initialized, initialize it
@@ -69,9 +141,7 @@ public class Sounds {
 
     public static void pause(){
         //When game is paused, pause all actively playing sounds
-        for (Sound sound : activeSounds){
-            sound.pause();
-        }
+        SoundMixer.pause();
         if (SettingsManager.musicSettingIsOn){
             backgroundMusic.pause();
         }
@@ -79,9 +149,7 @@ public class Sounds {
 
     public static void resume(){
         //When game is resumed, resume all actively playing sounds
-        for (Sound sound: activeSounds){
-            sound.resume();
-        }
+        SoundMixer.resume();
         if (SettingsManager.musicSettingIsOn){
             backgroundMusic.play();
         }
@@ -93,23 +161,9 @@ public class Sounds {
     }
 
     public static void dispose() {
-        backgroundMusic.dispose();
-        birdSound.dispose();
-        powerUpSkullSound.dispose();
-        powerUpShieldSound.dispose();
-        powerUpShieldZapSound.dispose();
-        teleportSound.dispose();
-        notificationSound.dispose();
-        gameOverSound.dispose();
-        newHighScoreSound.dispose();
-        ufoFlyingSound.dispose();
-        ufoEnergyBallSound.dispose();
-        ufoEnergyBeamSound.dispose();
-        rocketSpawnSound.dispose();
-        rocketExplosionSound.dispose();
-        meteorSound.dispose();
-        alienMissileExplosionSound.dispose();
-
+        //The sound files are disposed by the asset manager (see Assets), only forget the playing sounds
+        SoundMixer.dispose();
+        backgroundMusicInitialized = false;
     }
 
 
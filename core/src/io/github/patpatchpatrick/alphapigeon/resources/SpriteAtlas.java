@@ -0,0 +1,28 @@
+package io.github.patpatchpatrick.alphapigeon.resources;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+public class SpriteAtlas {
+
+    //Texture atlas holding every sprite sheet and in-game icon (packed with the desktop SpritePacker)
+    //All game sprites are drawn from the same one or two textures, so the SpriteBatch doesn't need
+    //to flush and bind a new texture for every type of dodgeable it draws
+
+    public static final String ATLAS_FILE = "atlas/sprites.atlas";
+
+    //The atlas is a global asset, loaded at startup and kept until the game is closed (see Assets)
+    public static final AssetDescriptor<TextureAtlas> ATLAS = new AssetDescriptor<TextureAtlas>(ATLAS_FILE, TextureAtlas.class);
+
+    public static TextureRegion findRegion(String name) {
+
+        //Return the region packed from the image with the given name (the image file name without the extension)
+        //The region can be split into animation frames like a texture
+
+        TextureRegion region = Assets.get(ATLAS).findRegion(name);
+        if (region == null) throw new RuntimeException("Sprite '" + name + "' was not found in " + ATLAS_FILE + ".");
+        return region;
+    }
+
+}
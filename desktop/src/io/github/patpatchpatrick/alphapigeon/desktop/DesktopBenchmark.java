@@ -0,0 +1,206 @@
+package io.github.patpatchpatrick.alphapigeon.desktop;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.backends.lwjgl.LwjglApplication;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.FloatArray;
+
+import java.io.File;
+
+import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
+import io.github.patpatchpatrick.alphapigeon.Screens.GameScreen;
+import io.github.patpatchpatrick.alphapigeon.Screens.LoadingScreen;
+import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
+import io.github.patpatchpatrick.alphapigeon.resources.QualityGovernor;
+import io.github.patpatchpatrick.alphapigeon.resources.ReplayRecorder;
+
+public class DesktopBenchmark extends AlphaPigeon {
+
+    //The desktop game started straight into a game, for benchmarking a build in a real window (see DesktopLauncher)
+    //The game is seeded so every run plays the same waves, and can be flown by the autopilot with an invincible pigeon
+    //
+    //With a start time, the game is simulated without drawing until it reaches that game time, so a later level can
+    //be benchmarked without playing up to it. Frames are measured from then on
+    //
+    //When the game is closed (or quits after the benchmark duration, or when the game is over), the frame times are
+    //written as a report: a json summary, or the time of every frame if the report file ends in .csv
+
+    private static final float TICK_TIME = 1 / 60f;
+    //Time spent simulating each frame while fast forwarding, so the window stays responsive
+    private static final long FAST_FORWARD_TIME_PER_FRAME = 16000000;
+
+    private final long seed;
+    private final float startTime;
+    private final int autopilotMode;
+    private final boolean pigeonIsInvincible;
+    private final float quitAfter;
+    private final String reportFile;
+
+    private GameScreen gameScreen;
+    private long benchmarkStartTime = -1;
+    //Times (ms) of every measured frame: the time since the last frame, and the time spent in the game's render
+    private final FloatArray frameTimes = new FloatArray();
+    private final FloatArray renderTimes = new FloatArray();
+    private final FloatArray gameTimes = new FloatArray();
+
+    public DesktopBenchmark(long seed, float startTime, int autopilotMode, boolean pigeonIsInvincible, float quitAfter,
+                            String reportFile) {
+        this.seed = seed;
+        this.startTime = startTime;
+        this.autopilotMode = autopilotMode;
+        this.pigeonIsInvincible = pigeonIsInvincible;
+        this.quitAfter = quitAfter;
+        this.reportFile = reportFile;
+    }
+
+    @Override
+    protected void showFirstScreen() {
+
+        //Skip the main menu, and start the game as soon as its assets are loaded
+
+        setScreen(new LoadingScreen(this, GameScreen.ASSETS, new LoadingScreen.NextScreen() {
+            @Override
+            public Screen create() {
+                GameRandom.setSeed(seed);
+                MathUtils.random.setSeed(seed);
+                //Every run is measured at full quality, so the frame times of two builds can be compared
+                QualityGovernor.enabled = false;
+                QualityGovernor.setQualityLevel(QualityGovernor.QUALITY_FULL);
+                gameScreen = new GameScreen(DesktopBenchmark.this, null, null);
+                if (autopilotMode != ReplayRecorder.NO_AUTOPILOT) {
+                    gameScreen.setAutopilot(autopilotMode);
+                }
+                gameScreen.setPigeonInvincible(pigeonIsInvincible);
+                return gameScreen;
+            }
+        }));
+
+    }
+
+    @Override
+    public void render() {
+
+        if (gameScreen == null) {
+            //Loading
+            super.render();
+            return;
+        }
+
+        if (getScreen() != gameScreen) {
+            //The game is over (the pigeon crashed), which ends the benchmark like the benchmark duration does
+            Gdx.app.exit();
+            super.render();
+            return;
+        }
+
+        if (Gameplay.totalGameTime < startTime) {
+            fastForward();
+            return;
+        }
+
+        if (benchmarkStartTime < 0) {
+            //The time since the last frame includes the fast forward, start measuring from the next frame
+            benchmarkStartTime = System.nanoTime();
+            super.render();
+            return;
+        }
+
+        long renderStartTime = System.nanoTime();
+        super.render();
+        renderTimes.add((System.nanoTime() - renderStartTime) / 1000000f);
+        frameTimes.add(Gdx.graphics.getDeltaTime() * 1000);
+        gameTimes.add(Gameplay.totalGameTime);
+
+        if (quitAfter > 0 && (System.nanoTime() - benchmarkStartTime) / 1000000000f >= quitAfter) {
+            Gdx.app.exit();
+        }
+
+    }
+
+    private void fastForward() {
+
+        //Advance the game in fixed ticks without drawing, running the runnables posted by each tick like the
+        //application does between frames
+
+        long fastForwardEndTime = System.nanoTime() + FAST_FORWARD_TIME_PER_FRAME;
+        while (Gameplay.totalGameTime < startTime && System.nanoTime() < fastForwardEndTime && getScreen() == gameScreen) {
+            gameScreen.simulate(TICK_TIME);
+            ((LwjglApplication) Gdx.app).executeRunnables();
+        }
+
+        Gdx.gl.glClearColor(0, 0, 0.2f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+    }
+
+    @Override
+    public void dispose() {
+        if (frameTimes.size > 0) {
+            printReport();
+            if (reportFile != null) {
+                writeReport();
+            }
+        }
+        super.dispose();
+    }
+
+    private void printReport() {
+
+        float elapsedSeconds = (System.nanoTime() - benchmarkStartTime) / 1000000000f;
+
+        System.out.println("Benchmark complete");
+        System.out.println(String.format("  seed                   %d", seed));
+        System.out.println(String.format("  game time              %.1f s to %.1f s", gameTimes.first(), gameTimes.peek()));
+        System.out.println(String.format("  frames                 %d", frameTimes.size));
+        System.out.println(String.format("  frames per second      %.0f", frameTimes.size / elapsedSeconds));
+        System.out.println(String.format("  mean frame time        %.3f ms", getMean(frameTimes)));
+        System.out.println(String.format("  p95 frame time         %.3f ms", HeadlessSimulation.getPercentile(frameTimes, 0.95f)));
+        System.out.println(String.format("  p99 frame time         %.3f ms", HeadlessSimulation.getPercentile(frameTimes, 0.99f)));
+        System.out.println(String.format("  mean render time       %.3f ms", getMean(renderTimes)));
+
+    }
+
+    private void writeReport() {
+
+        //Times are in ms, the render time is the time spent in the game's render (the frame time also includes
+        //swapping the buffers and waiting for vsync when it is on)
+
+        StringBuilder report = new StringBuilder();
+        if (reportFile.endsWith(".csv")) {
+            report.append("frame,gameTime,frameTime,renderTime\n");
+            for (int i = 0; i < frameTimes.size; i++) {
+                report.append(i).append(',').append(gameTimes.get(i)).append(',').append(frameTimes.get(i)).append(',')
+                        .append(renderTimes.get(i)).append('\n');
+            }
+        } else {
+            report.append("{\n");
+            report.append("  \"seed\": ").append(seed).append(",\n");
+            report.append("  \"startTime\": ").append(gameTimes.first()).append(",\n");
+            report.append("  \"endTime\": ").append(gameTimes.peek()).append(",\n");
+            report.append("  \"frames\": ").append(frameTimes.size).append(",\n");
+            report.append("  \"meanFrameTime\": ").append(getMean(frameTimes)).append(",\n");
+            report.append("  \"p50FrameTime\": ").append(HeadlessSimulation.getPercentile(frameTimes, 0.5f)).append(",\n");
+            report.append("  \"p95FrameTime\": ").append(HeadlessSimulation.getPercentile(frameTimes, 0.95f)).append(",\n");
+            report.append("  \"p99FrameTime\": ").append(HeadlessSimulation.getPercentile(frameTimes, 0.99f)).append(",\n");
+            report.append("  \"maxFrameTime\": ").append(HeadlessSimulation.getPercentile(frameTimes, 1f)).append(",\n");
+            report.append("  \"meanRenderTime\": ").append(getMean(renderTimes)).append(",\n");
+            report.append("  \"p95RenderTime\": ").append(HeadlessSimulation.getPercentile(renderTimes, 0.95f)).append("\n");
+            report.append("}\n");
+        }
+
+        Gdx.files.absolute(new File(reportFile).getAbsolutePath()).writeString(report.toString(), false);
+        System.out.println("Benchmark report written to " + reportFile);
+    }
+
+    private static float getMean(FloatArray times) {
+        float total = 0;
+        for (int i = 0; i < times.size; i++) {
+            total += times.get(i);
+        }
+        return total / times.size;
+    }
+
+}
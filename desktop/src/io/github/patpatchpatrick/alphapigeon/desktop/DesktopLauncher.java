@@ -3,13 +3,159 @@ package io.github.patpatchpatrick.alphapigeon.desktop;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplication;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
 import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
+import io.github.patpatchpatrick.alphapigeon.PigeonAutopilot;
+import io.github.patpatchpatrick.alphapigeon.resources.GameLog;
+import io.github.patpatchpatrick.alphapigeon.resources.ReplayRecorder;
 
 public class DesktopLauncher {
+
+	//Benchmark options (see DesktopBenchmark), the game starts on the main menu without them:
+	//  --uncapped             turn vsync off and don't limit the frame rate (can also be used without a benchmark)
+	//  --seed N               seed of the game's random numbers (0 by default)
+	//  --start-time SECONDS   start the game at this game time
+	//  --pilot ai|scripted    fly the pigeon with the autopilot
+	//  --invincible           collisions don't end the game
+	//  --quit-after SECONDS   quit after benchmarking for this many seconds
+	//  --write-report FILE    write the frame times when the game is closed (.json summary or .csv of every frame)
+	//  --benchmark            same as --uncapped --pilot ai --invincible --quit-after 60 (the other options can be added)
+	//An unknown option, or an option without a valid value, prints the usage and exits with code 1
+
+	private static final String USAGE = "Usage: DesktopLauncher [--uncapped] [--seed N] [--start-time SECONDS] [--pilot ai|scripted]\n"
+			+ "                      [--invincible] [--quit-after SECONDS] [--write-report FILE] [--benchmark]";
+
 	public static void main (String[] arg) {
 		LwjglApplicationConfiguration config = new LwjglApplicationConfiguration();
 		config.title = "AlphaPigeon";
 		config.width = 800;
 		config.height = 480;
-		new LwjglApplication(new AlphaPigeon(), config);
+
+		boolean benchmark = false;
+		long seed = 0;
+		float startTime = 0;
+		int autopilotMode = ReplayRecorder.NO_AUTOPILOT;
+		boolean pigeonIsInvincible = false;
+		float quitAfter = 0;
+		String reportFile = null;
+
+		for (int i = 0; i < arg.length; i++) {
+			if (arg[i].equals("--uncapped")) {
+				uncapFrameRate(config);
+			} else if (arg[i].equals("--invincible")) {
+				benchmark = true;
+				pigeonIsInvincible = true;
+			} else if (arg[i].equals("--benchmark")) {
+				benchmark = true;
+				uncapFrameRate(config);
+				autopilotMode = autopilotMode == ReplayRecorder.NO_AUTOPILOT ? PigeonAutopilot.MODE_AI : autopilotMode;
+				pigeonIsInvincible = true;
+				quitAfter = quitAfter == 0 ? 60 : quitAfter;
+			} else if (arg[i].equals("--seed")) {
+				benchmark = true;
+				seed = parseLong(arg, ++i, USAGE);
+			} else if (arg[i].equals("--start-time")) {
+				benchmark = true;
+				startTime = parseFloat(arg, ++i, USAGE);
+			} else if (arg[i].equals("--pilot")) {
+				benchmark = true;
+				autopilotMode = parsePilot(arg, ++i, USAGE);
+			} else if (arg[i].equals("--quit-after")) {
+				benchmark = true;
+				quitAfter = parseFloat(arg, ++i, USAGE);
+			} else if (arg[i].equals("--write-report")) {
+				benchmark = true;
+				reportFile = getValue(arg, ++i, USAGE);
+			} else {
+				exitWithUsage("Unknown option " + arg[i], USAGE);
+			}
+		}
+
+		printRecentLogMessagesOnCrash();
+		if (benchmark) {
+			new LwjglApplication(new DesktopBenchmark(seed, startTime, autopilotMode, pigeonIsInvincible, quitAfter, reportFile), config);
+		} else {
+			new LwjglApplication(new AlphaPigeon(), config);
+		}
+	}
+
+	static void uncapFrameRate(LwjglApplicationConfiguration config) {
+		//Render as many frames as possible, also when the window is in the background
+		config.vSyncEnabled = false;
+		config.foregroundFPS = 0;
+		config.backgroundFPS = 0;
+	}
+
+	//Command line parsing, shared with the other desktop tools
+	//A value is read at index i, just after its option at i - 1
+
+	static String getValue(String[] arg, int i, String usage) {
+		if (i >= arg.length) {
+			exitWithUsage(arg[i - 1] + " needs a value", usage);
+		}
+		return arg[i];
+	}
+
+	static long parseLong(String[] arg, int i, String usage) {
+		String value = getValue(arg, i, usage);
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			exitWithUsage(arg[i - 1] + " needs a whole number, not " + value, usage);
+			return 0;
+		}
+	}
+
+	static int parseInt(String[] arg, int i, String usage) {
+		String value = getValue(arg, i, usage);
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			exitWithUsage(arg[i - 1] + " needs a whole number, not " + value, usage);
+			return 0;
+		}
+	}
+
+	static float parseFloat(String[] arg, int i, String usage) {
+		String value = getValue(arg, i, usage);
+		try {
+			return Float.parseFloat(value);
+		} catch (NumberFormatException e) {
+			exitWithUsage(arg[i - 1] + " needs a number, not " + value, usage);
+			return 0;
+		}
+	}
+
+	static int parsePilot(String[] arg, int i, String usage) {
+		String value = getValue(arg, i, usage);
+		if (value.equals("ai")) {
+			return PigeonAutopilot.MODE_AI;
+		} else if (value.equals("scripted")) {
+			return PigeonAutopilot.MODE_SCRIPTED;
+		}
+		exitWithUsage(arg[i - 1] + " needs ai or scripted, not " + value, usage);
+		return ReplayRecorder.NO_AUTOPILOT;
+	}
+
+	static void exitWithUsage(String error, String usage) {
+		System.out.println(error);
+		System.out.println(usage);
+		System.exit(1);
+	}
+
+	static void printRecentLogMessagesOnCrash() {
+		//When the game crashes, print the most recent log messages before the stack trace
+		final Thread.UncaughtExceptionHandler defaultHandler = Thread.getDefaultUncaughtExceptionHandler();
+		Thread.setDefaultUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+			@Override
+			public void uncaughtException(Thread thread, Throwable exception) {
+				StringBuilder recentMessages = new StringBuilder("Recent log messages:\n");
+				GameLog.appendRecentMessages(recentMessages);
+				System.err.print(recentMessages);
+				if (defaultHandler != null) {
+					defaultHandler.uncaughtException(thread, exception);
+				} else {
+					exception.printStackTrace();
+				}
+			}
+		});
 	}
 }
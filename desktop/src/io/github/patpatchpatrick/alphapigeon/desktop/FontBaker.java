@@ -0,0 +1,62 @@
+package io.github.patpatchpatrick.alphapigeon.desktop;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.tools.bmfont.BitmapFontWriter;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+import java.io.File;
+
+import io.github.patpatchpatrick.alphapigeon.resources.Fonts;
+
+public class FontBaker {
+
+    //Bakes every font and size the game draws (see Fonts) into a bitmap font (.fnt and .png pages)
+    //The game loads the baked fonts instead of rasterising them with FreeType while it runs
+    //The fonts are generated with the same parameters the game would use to generate them
+    //Run this after adding a font or a size to Fonts and commit the baked fonts
+    //
+    //Usage: FontBaker [ASSETS DIRECTORY]  (gradlew desktop:bakeFonts)
+
+    private static final int PAGE_SIZE = 512;
+
+    public static void main(String[] arg) {
+
+        //The font descriptors in Fonts look for the baked fonts when they are created, so they need the files
+        GdxNativesLoader.load();
+        Gdx.files = new HeadlessFiles();
+        File assetsDirectory = new File(arg.length > 0 ? arg[0] : "../android/assets");
+        FileHandle outputDirectory = new FileHandle(new File(assetsDirectory, Fonts.BAKED_FONTS_DIRECTORY));
+        BitmapFontWriter.setOutputFormat(BitmapFontWriter.OutputFormat.Text);
+
+        for (int i = 0; i < Fonts.BAKED_FONT_FILES.length; i++) {
+            String fontFile = Fonts.BAKED_FONT_FILES[i];
+            int size = Fonts.BAKED_FONT_SIZES[i];
+            String fontName = Fonts.getBakedFontName(fontFile, size);
+
+            FreeTypeFontGenerator generator = new FreeTypeFontGenerator(new FileHandle(new File(assetsDirectory, fontFile)));
+            PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 2, false);
+            FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+            parameter.size = size;
+            parameter.minFilter = Texture.TextureFilter.Linear;
+            parameter.magFilter = Texture.TextureFilter.Linear;
+            parameter.packer = packer;
+            FreeTypeFontGenerator.FreeTypeBitmapFontData fontData = generator.generateData(parameter);
+
+            String[] pageFiles = BitmapFontWriter.writePixmaps(packer.getPages(), outputDirectory, fontName);
+            BitmapFontWriter.FontInfo fontInfo = new BitmapFontWriter.FontInfo(fontName, size);
+            BitmapFontWriter.writeFont(fontData, pageFiles, outputDirectory.child(fontName + ".fnt"), fontInfo, PAGE_SIZE, PAGE_SIZE);
+
+            System.out.println("Baked " + fontName + " (" + pageFiles.length + " pages)");
+            packer.dispose();
+            generator.dispose();
+        }
+
+    }
+
+}
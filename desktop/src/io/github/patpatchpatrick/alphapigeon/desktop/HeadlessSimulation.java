@@ -0,0 +1,479 @@
+package io.github.patpatchpatrick.alphapigeon.desktop;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import io.github.patpatchpatrick.alphapigeon.AlphaPigeon;
+import io.github.patpatchpatrick.alphapigeon.PigeonAutopilot;
+import io.github.patpatchpatrick.alphapigeon.Screens.GameScreen;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.DodgeablePool;
+import io.github.patpatchpatrick.alphapigeon.dodgeables.Notifications;
+import io.github.patpatchpatrick.alphapigeon.levels.Gameplay;
+import io.github.patpatchpatrick.alphapigeon.resources.GameRandom;
+import io.github.patpatchpatrick.alphapigeon.resources.GameVariables;
+import io.github.patpatchpatrick.alphapigeon.resources.QualityGovernor;
+import io.github.patpatchpatrick.alphapigeon.resources.ReplayPlayer;
+import io.github.patpatchpatrick.alphapigeon.resources.ReplayRecorder;
+
+public class HeadlessSimulation extends ApplicationAdapter {
+
+    //Runs a full game without a window, GL context or audio
+    //The game is advanced in fixed ticks as fast as possible with an autopilot flying an invincible pigeon
+    //When the game time reaches the requested duration, a report of the tick rate, body counts and pool sizes is printed
+    //
+    //The most dodgeables of each type in use in each level can be written as a pool capacity profile
+    //
+    //With --check-allocations, the heap memory allocated by the render thread is measured for every tick (including
+    //the runnables posted by the game during the tick and the drawing). Once the game is warmed up, the frame loop must
+    //not allocate: any tick that allocates fails the simulation with exit code 1, unless it is one of these known
+    //exceptions, which are listed in the report
+    //..A dodgeable pool grew, because more dodgeables of a type were in use than its pool capacity profile expected
+    //  (a new dodgeable is created with its body and fixtures)
+    //Run the check with -XX:TieredStopAtLevel=1 (only the C1 compiler): when HotSpot queues a C2 compilation, it first
+    //creates all the string literals of the method's class on the thread that asked for it, so they would be counted
+    //as allocations of the game tick in which a method got hot enough
+    //
+    //With --kinematic-dodgeables, the dodgeables that keep their launch velocity are kinematic bodies (see GameVariables)
+    //
+    //With --record, the simulated game is saved as a replay
+    //With --replay, a recorded game (from a simulation or a player's device) is played instead of flying the autopilot,
+    //until the end of the replay. The seed, pilot, duration and kinematic dodgeables options are then ignored
+    //A slow moment of a player's game can be played again this way under a profiler
+    //
+    //With --render, the game is also drawn every tick with a SpriteBatch (on the GL implementation that does nothing),
+    //so the drawing code is timed and checked for allocations and the draw calls of each frame are counted
+    //
+    //With --quality, the game is played at a fixed quality level (see QualityGovernor), the default is full quality
+    //
+    //With --write-report, the tick times, draw calls, body counts and allocations are written as a json report
+    //(the reports of the replays in desktop/perf are compared to a baseline by PerformanceBaseline)
+    //
+    //An unknown option, or an option without a valid value, prints the usage and exits with code 1
+
+    private static final String USAGE = "Usage: HeadlessSimulation [--seed N] [--duration SECONDS] [--pilot ai|scripted] [--write-profile FILE] [--check-allocations]\n"
+            + "                          [--kinematic-dodgeables] [--record FILE | --replay FILE] [--render] [--quality LEVEL]\n"
+            + "                          [--write-report FILE]";
+
+    private static final float TICK_TIME = 1 / 60f;
+
+    //Game time (seconds) before ticks are checked for allocations
+    //The first seconds load the level and fill the pools, which is allowed to allocate
+    private static final float ALLOCATION_CHECK_WARM_UP_TIME = 5f;
+
+    private final long seed;
+    private final float duration;
+    private final int autopilotMode;
+    private final String profileFile;
+    private final boolean checkAllocations;
+    private final String recordFile;
+    private final String replayFile;
+    private final boolean render;
+    private final String reportFile;
+
+    private AlphaPigeon game;
+    private GameScreen gameScreen;
+    private ReplayPlayer replayPlayer;
+    private boolean simulationIsComplete = false;
+    //With --check-allocations, the game is first played once without being measured
+    //Code that runs for the first time allocates in the JVM (classes are loaded and initialized, string constants are
+    //resolved), so the game is played a second time from the start to check that the game itself doesn't allocate
+    private boolean isWarmingUp = false;
+    private long ticks = 0;
+    private long startTime;
+    private long totalTickTime = 0;
+    private long maxTickTime = 0;
+    //Time (ms) of every tick, to find the slowest ticks for the report
+    //A frame is the tick and the drawing of the tick
+    private final FloatArray tickTimes = new FloatArray();
+    private final FloatArray frameTimes = new FloatArray();
+    private long totalFrameTime = 0;
+    private long totalDrawCalls = 0;
+    private int peakDrawCalls = 0;
+    private int peakBodyCount = 0;
+    private int peakActiveDodgeables = 0;
+    private int peakSleepingBodies = 0;
+
+    //ALLOCATION CHECK
+    private com.sun.management.ThreadMXBean threadBean;
+    private long renderThreadId;
+    private long allocationMeasurementOverhead = 0;
+    private long allocatedBytesAtTickStart = -1;
+    private long checkedTicks = 0;
+    //Ticks that allocated, other than the known exceptions
+    private long allocatingTicks = 0;
+    //The ticks that allocated because of a known exception, with the reason
+    private final Array<String> excusedTicks = new Array<String>();
+    //Number of objects each dodgeable pool had created when the tick started
+    private int[] poolSizesAtTickStart;
+    private long maxTickAllocation = 0;
+    private long totalTickAllocation = 0;
+    private float firstAllocatingTickTime = -1;
+
+    public HeadlessSimulation(long seed, float duration, int autopilotMode, String profileFile, boolean checkAllocations,
+                              String recordFile, String replayFile, boolean render, String reportFile) {
+        this.seed = seed;
+        this.duration = duration;
+        this.autopilotMode = autopilotMode;
+        this.profileFile = profileFile;
+        this.checkAllocations = checkAllocations;
+        this.recordFile = recordFile;
+        this.replayFile = replayFile;
+        this.render = render;
+        this.reportFile = reportFile;
+    }
+
+    public static void main(String[] arg) {
+
+        long seed = 0;
+        float duration = 400;
+        int autopilotMode = PigeonAutopilot.MODE_AI;
+        String profileFile = null;
+        boolean checkAllocations = false;
+        String recordFile = null;
+        String replayFile = null;
+        boolean render = false;
+        String reportFile = null;
+
+        for (int i = 0; i < arg.length; i++) {
+            if (arg[i].equals("--check-allocations")) {
+                checkAllocations = true;
+            } else if (arg[i].equals("--kinematic-dodgeables")) {
+                GameVariables.kinematicDodgeables = true;
+            } else if (arg[i].equals("--render")) {
+                render = true;
+            } else if (arg[i].equals("--seed")) {
+                seed = DesktopLauncher.parseLong(arg, ++i, USAGE);
+            } else if (arg[i].equals("--duration")) {
+                duration = DesktopLauncher.parseFloat(arg, ++i, USAGE);
+            } else if (arg[i].equals("--pilot")) {
+                autopilotMode = DesktopLauncher.parsePilot(arg, ++i, USAGE);
+            } else if (arg[i].equals("--write-profile")) {
+                profileFile = DesktopLauncher.getValue(arg, ++i, USAGE);
+            } else if (arg[i].equals("--record")) {
+                recordFile = DesktopLauncher.getValue(arg, ++i, USAGE);
+            } else if (arg[i].equals("--replay")) {
+                replayFile = DesktopLauncher.getValue(arg, ++i, USAGE);
+            } else if (arg[i].equals("--write-report")) {
+                reportFile = DesktopLauncher.getValue(arg, ++i, USAGE);
+            } else if (arg[i].equals("--quality")) {
+                int qualityLevel = DesktopLauncher.parseInt(arg, ++i, USAGE);
+                if (qualityLevel < QualityGovernor.QUALITY_FULL || qualityLevel > QualityGovernor.QUALITY_LOWEST) {
+                    DesktopLauncher.exitWithUsage("--quality needs a level from " + QualityGovernor.QUALITY_FULL + " to "
+                            + QualityGovernor.QUALITY_LOWEST + ", not " + qualityLevel, USAGE);
+                }
+                QualityGovernor.setQualityLevel(qualityLevel);
+            } else {
+                DesktopLauncher.exitWithUsage("Unknown option " + arg[i], USAGE);
+            }
+        }
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        //Don't wait between ticks, run the simulation as fast as possible
+        config.renderInterval = 0;
+        new HeadlessApplication(new HeadlessSimulation(seed, duration, autopilotMode, profileFile, checkAllocations, recordFile, replayFile, render, reportFile), config);
+    }
+
+    @Override
+    public void create() {
+
+        //The gameplay classes log every frame, only show errors
+        Gdx.app.setLogLevel(Application.LOG_ERROR);
+
+        //There is no GL context, so textures are uploaded to a GL implementation that does nothing
+        Gdx.gl = Gdx.gl20 = new NoOpGL20();
+
+        game = new AlphaPigeon();
+        if (render) {
+            game.batch = new SpriteBatch();
+        }
+
+        //The allocations are checked on a second play of the same game, see isWarmingUp
+        isWarmingUp = checkAllocations;
+        startGame();
+    }
+
+    private void startGame() {
+
+        GameRandom.setSeed(seed);
+
+        //The replay recorder and player seed the game, so they are created just before the game screen
+        ReplayRecorder replayRecorder = null;
+        if (replayFile != null) {
+            replayPlayer = new ReplayPlayer(Gdx.files.absolute(new File(replayFile).getAbsolutePath()));
+        } else if (recordFile != null && !isWarmingUp) {
+            replayRecorder = new ReplayRecorder(Gdx.files.absolute(new File(recordFile).getAbsolutePath()));
+        }
+
+        gameScreen = new GameScreen(game, null, null);
+        if (replayPlayer != null) {
+            gameScreen.playReplay(replayPlayer);
+        } else {
+            gameScreen.setAutopilot(autopilotMode);
+            if (replayRecorder != null) {
+                gameScreen.recordReplay(replayRecorder);
+            }
+        }
+        //A replay that ended with a collision is played until its last frame instead of opening the game over screen
+        gameScreen.setPigeonInvincible(true);
+
+        if (isWarmingUp) {
+            return;
+        }
+
+        //Make room for the time of every tick so recording them doesn't allocate
+        //The game time is a sum of float tick times that can fall a little behind, so leave room for some extra ticks
+        int expectedTicks = replayPlayer != null ? replayPlayer.frameCount : MathUtils.ceil(duration / TICK_TIME * 1.01f) + 1;
+        tickTimes.ensureCapacity(expectedTicks);
+        frameTimes.ensureCapacity(expectedTicks);
+
+        if (checkAllocations) {
+            startAllocationCheck();
+        }
+
+        startTime = System.nanoTime();
+    }
+
+    @Override
+    public void render() {
+
+        //Each render call is one game tick
+        //Runnables posted by the game (collisions, explosions, teleports) are run by the application between ticks
+
+        if (simulationIsComplete) {
+            return;
+        }
+
+        if (isWarmingUp) {
+            gameScreen.simulate(TICK_TIME);
+            if (render) {
+                gameScreen.draw();
+            }
+            if (isGameComplete()) {
+                gameScreen.dodgeables.resetSpawnTimes();
+                Notifications.ExclamationMark.resetNotifications();
+                gameScreen.dispose();
+                isWarmingUp = false;
+                startGame();
+            }
+            return;
+        }
+
+        if (checkAllocations) {
+            //The allocations of the previous tick include the runnables it posted, which were run just before this call
+            checkTickAllocations();
+        }
+
+        long tickStartTime = System.nanoTime();
+        gameScreen.simulate(TICK_TIME);
+        long tickTime = System.nanoTime() - tickStartTime;
+        if (render) {
+            gameScreen.draw();
+            int drawCalls = game.batch.renderCalls;
+            totalDrawCalls += drawCalls;
+            peakDrawCalls = Math.max(peakDrawCalls, drawCalls);
+        }
+        long frameTime = System.nanoTime() - tickStartTime;
+
+        ticks++;
+        totalTickTime += tickTime;
+        maxTickTime = Math.max(maxTickTime, tickTime);
+        totalFrameTime += frameTime;
+        tickTimes.add(tickTime / 1000000f);
+        frameTimes.add(frameTime / 1000000f);
+        peakBodyCount = Math.max(peakBodyCount, gameScreen.getWorld().getBodyCount());
+        peakActiveDodgeables = Math.max(peakActiveDodgeables, gameScreen.dodgeables.activeDodgeables.size());
+        peakSleepingBodies = Math.max(peakSleepingBodies, gameScreen.dodgeables.getSleepingBodyCount());
+
+        if (isGameComplete()) {
+            simulationIsComplete = true;
+            printReport();
+            if (recordFile != null) {
+                gameScreen.saveReplay();
+                System.out.println("Replay written to " + recordFile);
+            }
+            if (profileFile != null) {
+                writeProfile();
+            }
+            if (reportFile != null) {
+                writeReport();
+            }
+            if (checkAllocations) {
+                printAllocationReport();
+                if (allocationCheckFailed()) {
+                    System.exit(1);
+                }
+            }
+            Gdx.app.exit();
+        }
+    }
+
+    private boolean isGameComplete() {
+        return replayPlayer != null ? gameScreen.isReplayFinished() : Gameplay.totalGameTime >= duration;
+    }
+
+    private void startAllocationCheck() {
+
+        //Measuring the allocated bytes allocates a little itself, measure how much so it can be subtracted
+
+        threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        renderThreadId = Thread.currentThread().getId();
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 100; i++) {
+            long before = threadBean.getThreadAllocatedBytes(renderThreadId);
+            long after = threadBean.getThreadAllocatedBytes(renderThreadId);
+            overhead = Math.min(overhead, after - before);
+        }
+        allocationMeasurementOverhead = overhead;
+        poolSizesAtTickStart = new int[gameScreen.dodgeables.pools.size];
+    }
+
+    private void checkTickAllocations() {
+
+        long allocatedBytes = threadBean.getThreadAllocatedBytes(renderThreadId);
+        if (allocatedBytesAtTickStart >= 0 && Gameplay.totalGameTime > ALLOCATION_CHECK_WARM_UP_TIME) {
+            long tickAllocation = allocatedBytes - allocatedBytesAtTickStart - allocationMeasurementOverhead;
+            checkedTicks++;
+            if (tickAllocation > 0) {
+                totalTickAllocation += tickAllocation;
+                maxTickAllocation = Math.max(maxTickAllocation, tickAllocation);
+                String grownPools = getGrownPools();
+                if (grownPools != null) {
+                    excusedTicks.add(String.format("%.2f s  %d bytes  pool grew: %s", Gameplay.totalGameTime, tickAllocation, grownPools));
+                } else {
+                    allocatingTicks++;
+                    if (firstAllocatingTickTime < 0) {
+                        firstAllocatingTickTime = Gameplay.totalGameTime;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < poolSizesAtTickStart.length; i++) {
+            poolSizesAtTickStart[i] = gameScreen.dodgeables.pools.get(i).getTotalCreated();
+        }
+        //Measure again so the measurement itself is not counted in the next tick
+        allocatedBytesAtTickStart = threadBean.getThreadAllocatedBytes(renderThreadId);
+    }
+
+    private String getGrownPools() {
+        //Names of the dodgeable pools that created objects during the tick, or null if none did
+        String grownPools = null;
+        for (int i = 0; i < poolSizesAtTickStart.length; i++) {
+            DodgeablePool<?> pool = gameScreen.dodgeables.pools.get(i);
+            if (pool.getTotalCreated() > poolSizesAtTickStart[i]) {
+                String grownPool = pool.name + " (" + poolSizesAtTickStart[i] + " to " + pool.getTotalCreated() + ")";
+                grownPools = grownPools == null ? grownPool : grownPools + ", " + grownPool;
+            }
+        }
+        return grownPools;
+    }
+
+    private boolean allocationCheckFailed() {
+        return allocatingTicks > 0;
+    }
+
+    private void printAllocationReport() {
+        System.out.println("Allocation check");
+        System.out.println(String.format("  checked ticks          %d", checkedTicks));
+        System.out.println(String.format("  allocating ticks       %d", allocatingTicks));
+        System.out.println(String.format("  excused ticks          %d", excusedTicks.size));
+        System.out.println(String.format("  max tick allocation    %d bytes", maxTickAllocation));
+        if (allocatingTicks > 0) {
+            System.out.println(String.format("  first allocating tick  %.2f s", firstAllocatingTickTime));
+        }
+        for (String excusedTick : excusedTicks) {
+            System.out.println("  excused: " + excusedTick);
+        }
+        if (allocationCheckFailed()) {
+            System.out.println("FAILED: the game allocated memory during steady-state ticks");
+        }
+    }
+
+    private void printReport() {
+
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1000000000.0;
+
+        System.out.println("Headless simulation complete");
+        if (replayPlayer != null) {
+            System.out.println(String.format("  replay                 %s (%d frames)", replayFile, replayPlayer.frameCount));
+        } else {
+            System.out.println(String.format("  seed                   %d", seed));
+        }
+        System.out.println(String.format("  game time              %.1f s", Gameplay.totalGameTime));
+        System.out.println(String.format("  ticks                  %d", ticks));
+        System.out.println(String.format("  wall time              %.2f s", elapsedSeconds));
+        System.out.println(String.format("  ticks per second       %.0f", ticks / elapsedSeconds));
+        System.out.println(String.format("  mean tick time         %.3f ms", totalTickTime / (double) ticks / 1000000.0));
+        System.out.println(String.format("  max tick time          %.3f ms", maxTickTime / 1000000.0));
+        if (render) {
+            System.out.println(String.format("  mean frame time        %.3f ms (tick and drawing)", totalFrameTime / (double) ticks / 1000000.0));
+            System.out.println(String.format("  mean draw calls        %.1f", totalDrawCalls / (double) ticks));
+            System.out.println(String.format("  peak draw calls        %d", peakDrawCalls));
+        }
+        System.out.println(String.format("  peak body count        %d", peakBodyCount));
+        System.out.println(String.format("  peak active dodgeables %d", peakActiveDodgeables));
+        System.out.println(String.format("  peak sleeping bodies   %d", peakSleepingBodies));
+        //The final pigeon position shows whether two runs (a game and its replay) played the same game
+        System.out.println(String.format("  final pigeon position  %.5f, %.5f", gameScreen.getPigeon().getBody().getPosition().x,
+                gameScreen.getPigeon().getBody().getPosition().y));
+        System.out.println("  pool                         created   peak in use");
+        for (DodgeablePool<?> pool : gameScreen.dodgeables.pools) {
+            System.out.println(String.format("  %-28s %7d %13d", pool.name, pool.getTotalCreated(), pool.getPeakInUse()));
+        }
+    }
+
+    private void writeProfile() {
+        //Write the pool usage of each level, in the format read by the game to pre-warm its pools
+        String profile = gameScreen.dodgeables.poolUsage.toJson(gameScreen.dodgeables.pools);
+        Gdx.files.absolute(new File(profileFile).getAbsolutePath()).writeString(profile, false);
+        System.out.println("Pool capacity profile written to " + profileFile);
+    }
+
+    private void writeReport() {
+
+        //Write the performance of the run as json
+        //Times are in ms, the allocations are only measured with --check-allocations and the draw calls with --render
+
+        StringBuilder json = new StringBuilder("{\n");
+        json.append("  \"ticks\": ").append(ticks).append(",\n");
+        json.append("  \"meanTickTime\": ").append(totalTickTime / (double) ticks / 1000000.0).append(",\n");
+        json.append("  \"p95TickTime\": ").append(getPercentile(tickTimes, 0.95f)).append(",\n");
+        json.append("  \"p99TickTime\": ").append(getPercentile(tickTimes, 0.99f)).append(",\n");
+        json.append("  \"maxTickTime\": ").append(maxTickTime / 1000000.0).append(",\n");
+        json.append("  \"meanFrameTime\": ").append(totalFrameTime / (double) ticks / 1000000.0).append(",\n");
+        json.append("  \"p95FrameTime\": ").append(getPercentile(frameTimes, 0.95f)).append(",\n");
+        json.append("  \"peakBodyCount\": ").append(peakBodyCount).append(",\n");
+        json.append("  \"peakActiveDodgeables\": ").append(peakActiveDodgeables);
+        if (render) {
+            json.append(",\n  \"meanDrawCalls\": ").append(totalDrawCalls / (double) ticks);
+            json.append(",\n  \"peakDrawCalls\": ").append(peakDrawCalls);
+        }
+        if (checkAllocations) {
+            json.append(",\n  \"allocatingTicks\": ").append(allocatingTicks);
+            json.append(",\n  \"meanTickAllocation\": ").append(checkedTicks == 0 ? 0 : totalTickAllocation / (double) checkedTicks);
+        }
+        json.append("\n}\n");
+
+        Gdx.files.absolute(new File(reportFile).getAbsolutePath()).writeString(json.toString(), false);
+        System.out.println("Performance report written to " + reportFile);
+    }
+
+    static float getPercentile(FloatArray times, float percentile) {
+        //The time that the given fraction of the ticks (or frames) were faster than
+        float[] sortedTimes = times.toArray();
+        Arrays.sort(sortedTimes);
+        return sortedTimes[Math.min(MathUtils.floor(percentile * sortedTimes.length), sortedTimes.length - 1)];
+    }
+
+}
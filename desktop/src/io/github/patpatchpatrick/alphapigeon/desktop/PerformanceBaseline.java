@@ -0,0 +1,178 @@
+package io.github.patpatchpatrick.alphapigeon.desktop;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+public class PerformanceBaseline {
+
+    //Compares the performance reports of the replays in desktop/perf/replays (written by HeadlessSimulation) to the
+    //baseline stored in desktop/perf/baseline.json, and fails with exit code 1 if a metric got worse than its threshold
+    //The reports are named after their replays (early.json is the report of early.replay)
+    //
+    //A metric fails when it is more than baseline * ratio + allowance. The allowance keeps metrics that are near 0
+    //(the mean tick allocation) from failing on noise. Metrics without a threshold are only printed
+    //The allocating ticks have no allowance: a replay fails as soon as one tick allocates after warm-up
+    //
+    //The tick and frame times depend on the machine, so their thresholds are marked "timing" and only fail the check
+    //with --gate-timing, against a baseline recorded with --update on the machine that runs the check (the CI runner).
+    //Otherwise they are printed with their limit, and only the machine-independent metrics (bodies, draw calls,
+    //allocations) can fail
+    //
+    //Baseline format:
+    //{
+    //  "thresholds": { "meanTickTime": { "ratio": 1.5, "allowance": 0.02, "timing": true }, ... },
+    //  "replays": { "early": { "meanTickTime": 0.08, ... }, ... }
+    //}
+    //
+    //Usage: PerformanceBaseline BASELINE_FILE REPORT_FILE... [--update] [--gate-timing]
+
+    //Time of a frame at 60 frames per second, the slowest frames are reported as a part of it
+    private static final float FRAME_BUDGET = 1000 / 60f;
+
+    public static void main(String[] arg) {
+
+        String baselineFile = null;
+        Array<File> reportFiles = new Array<File>();
+        boolean update = false;
+        boolean gateTiming = false;
+        for (String argument : arg) {
+            if (argument.equals("--update")) {
+                update = true;
+            } else if (argument.equals("--gate-timing")) {
+                gateTiming = true;
+            } else if (baselineFile == null) {
+                baselineFile = argument;
+            } else {
+                reportFiles.add(new File(argument));
+            }
+        }
+        if (baselineFile == null || reportFiles.size == 0) {
+            System.out.println("Usage: PerformanceBaseline BASELINE_FILE REPORT_FILE... [--update] [--gate-timing]");
+            System.exit(1);
+        }
+
+        JsonValue baseline = new JsonReader().parse(new FileHandle(baselineFile));
+        if (update) {
+            writeBaseline(baselineFile, baseline.get("thresholds"), reportFiles);
+            System.out.println("Baseline of " + reportFiles.size + " replays written to " + baselineFile);
+            return;
+        }
+
+        boolean regressed = false;
+        for (File reportFile : reportFiles) {
+            String replay = getReplayName(reportFile);
+            JsonValue report = new JsonReader().parse(new FileHandle(reportFile));
+            JsonValue replayBaseline = baseline.get("replays").get(replay);
+            if (replayBaseline == null) {
+                System.out.println("Replay " + replay + " has no baseline, update the baseline with --update");
+                regressed = true;
+                continue;
+            }
+            if (!compare(replay, report, replayBaseline, baseline.get("thresholds"), gateTiming)) {
+                regressed = true;
+            }
+        }
+
+        if (regressed) {
+            System.out.println("FAILED: the performance of a replay got worse than its baseline");
+            System.exit(1);
+        }
+        System.out.println("Every replay is within its baseline");
+
+    }
+
+    private static boolean compare(String replay, JsonValue report, JsonValue replayBaseline, JsonValue thresholds,
+                                   boolean gateTiming) {
+
+        //Print the metrics of the replay next to their baseline, and return false if a metric failed
+        //Timing metrics over their limit are reported as "slower" and only fail when they are gated
+
+        boolean passed = true;
+        System.out.println(String.format("Replay %s (%d ticks)", replay, report.getInt("ticks")));
+        System.out.println("  metric                  baseline     current   change       limit");
+        for (JsonValue metric = report.child(); metric != null; metric = metric.next()) {
+            if (metric.name().equals("ticks") || !replayBaseline.has(metric.name())) {
+                continue;
+            }
+            double baselineValue = replayBaseline.getDouble(metric.name());
+            double value = metric.asDouble();
+            String change = baselineValue == 0 ? "" : String.format("%+.0f%%", (value - baselineValue) / baselineValue * 100);
+
+            JsonValue threshold = thresholds.get(metric.name());
+            if (threshold == null) {
+                System.out.println(String.format("  %-22s %9.3f   %9.3f   %6s", metric.name(), baselineValue, value, change));
+                continue;
+            }
+            double limit = baselineValue * threshold.getDouble("ratio") + threshold.getDouble("allowance", 0);
+            boolean metricPassed = value <= limit;
+            boolean gated = gateTiming || !threshold.getBoolean("timing", false);
+            System.out.println(String.format("  %-22s %9.3f   %9.3f   %6s   %9.3f   %s", metric.name(), baselineValue, value,
+                    change, limit, metricPassed ? "ok" : gated ? "REGRESSED" : "slower"));
+            passed &= metricPassed || !gated;
+        }
+
+        //The slowest frames (drawing included when the replay was rendered) as a part of the frame budget
+        if (report.has("p95FrameTime")) {
+            System.out.println(String.format("  95%% of the frames use less than %.1f%% of the %.1f ms frame budget",
+                    report.getFloat("p95FrameTime") / FRAME_BUDGET * 100, FRAME_BUDGET));
+        }
+        return passed;
+
+    }
+
+    private static void writeBaseline(String baselineFile, JsonValue thresholds, Array<File> reportFiles) {
+
+        //Write the thresholds and the current reports as the new baseline
+
+        StringBuilder json = new StringBuilder("{\n  \"thresholds\": {\n");
+        for (JsonValue threshold = thresholds.child(); threshold != null; threshold = threshold.next()) {
+            json.append("    \"").append(threshold.name()).append("\": { \"ratio\": ").append(threshold.getDouble("ratio"))
+                    .append(", \"allowance\": ").append(threshold.getDouble("allowance", 0));
+            if (threshold.getBoolean("timing", false)) {
+                json.append(", \"timing\": true");
+            }
+            json.append(" }");
+            json.append(threshold.next() != null ? ",\n" : "\n");
+        }
+        json.append("  },\n  \"replays\": {\n");
+        for (int i = 0; i < reportFiles.size; i++) {
+            JsonValue report = new JsonReader().parse(new FileHandle(reportFiles.get(i)));
+            json.append("    \"").append(getReplayName(reportFiles.get(i))).append("\": {\n");
+            for (JsonValue metric = report.child(); metric != null; metric = metric.next()) {
+                json.append("      \"").append(metric.name()).append("\": ").append(metric.asString());
+                json.append(metric.next() != null ? ",\n" : "\n");
+            }
+            json.append(i < reportFiles.size - 1 ? "    },\n" : "    }\n");
+        }
+        json.append("  }\n}\n");
+
+        FileWriter writer = null;
+        try {
+            writer = new FileWriter(baselineFile);
+            writer.write(json.toString());
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Unable to write the baseline: " + baselineFile, e);
+        } finally {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+
+    }
+
+    private static String getReplayName(File reportFile) {
+        String name = reportFile.getName();
+        return name.endsWith(".json") ? name.substring(0, name.length() - ".json".length()) : name;
+    }
+
+}
@@ -0,0 +1,61 @@
+package io.github.patpatchpatrick.alphapigeon.desktop;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+import io.github.patpatchpatrick.alphapigeon.resources.SpriteAtlas;
+
+public class SpritePacker {
+
+    //Packs the sprite sheets and in-game icons into the texture atlas that the game draws from
+    //Drawing every sprite from one or two atlas pages means the SpriteBatch rarely has to switch textures (and flush)
+    //Run this after adding or changing a sprite sheet and commit the generated atlas
+    //
+    //Usage: SpritePacker [ASSETS DIRECTORY]  (gradlew desktop:packSprites)
+
+    //Directories (in the assets directory) with images to pack
+    //Regions in the atlas are named after the image file name, without the extension
+    private static final String[] INPUT_DIRECTORIES = {"sprites", "textures/icons"};
+
+    public static void main(String[] arg) throws IOException {
+
+        File assetsDirectory = new File(arg.length > 0 ? arg[0] : "../android/assets");
+
+        TexturePacker.Settings settings = new TexturePacker.Settings();
+        settings.maxWidth = 2048;
+        settings.maxHeight = 2048;
+        //Padding around each sprite sheet, filled with its edge pixels so neighbouring sheets never bleed into a frame
+        settings.paddingX = 2;
+        settings.paddingY = 2;
+        settings.duplicatePadding = true;
+        //Sprite sheets are split into equal sized frames at runtime, so they must be packed unchanged
+        settings.rotation = false;
+        settings.stripWhitespaceX = false;
+        settings.stripWhitespaceY = false;
+        settings.filterMin = Texture.TextureFilter.Nearest;
+        settings.filterMag = Texture.TextureFilter.Nearest;
+
+        TexturePacker packer = new TexturePacker(settings);
+        for (String inputDirectory : INPUT_DIRECTORIES) {
+            File[] files = new File(assetsDirectory, inputDirectory).listFiles();
+            Arrays.sort(files);
+            for (File file : files) {
+                String fileName = file.getName();
+                if (fileName.endsWith(".png")) {
+                    packer.addImage(ImageIO.read(file), fileName.substring(0, fileName.length() - ".png".length()));
+                }
+            }
+        }
+
+        File atlasFile = new File(assetsDirectory, SpriteAtlas.ATLAS_FILE);
+        String atlasName = atlasFile.getName().substring(0, atlasFile.getName().lastIndexOf('.'));
+        packer.pack(atlasFile.getParentFile(), atlasName);
+    }
+
+}